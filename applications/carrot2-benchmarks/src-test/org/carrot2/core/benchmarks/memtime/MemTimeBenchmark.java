@@ -25,6 +25,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
@@ -205,6 +206,18 @@ public class MemTimeBenchmark
      */
     protected void evalShortDocs(String resultPrefix,
         Class<? extends IProcessingComponent> algorithm, int MIN, int MAX, int STEP)
+    {
+        evalShortDocs(resultPrefix, algorithm, new HashMap<String, Object>(), MIN, MAX,
+            STEP);
+    }
+
+    /**
+     * Perform the time/memory evaluation for a single algorithm, passing the provided
+     * <code>extraAttributes</code> to each processing request.
+     */
+    protected void evalShortDocs(String resultPrefix,
+        Class<? extends IProcessingComponent> algorithm,
+        Map<String, Object> extraAttributes, int MIN, int MAX, int STEP)
     {
         final Logger logger = LoggerFactory.getLogger(resultPrefix);
 
@@ -226,6 +239,7 @@ public class MemTimeBenchmark
 
                 final long start = now();
                 final HashMap<String, Object> attributes = Maps.newHashMap();
+                attributes.putAll(extraAttributes);
                 final List<Document> inputList = documents.subList(0, Math.min(docs,
                     documents.size()));
                 attributes.put(AttributeNames.DOCUMENTS, inputList);
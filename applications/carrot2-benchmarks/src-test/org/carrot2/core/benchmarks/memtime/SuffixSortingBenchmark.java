@@ -0,0 +1,53 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.core.benchmarks.memtime;
+
+import java.util.Map;
+
+import org.carrot2.text.preprocessing.ISuffixSorter;
+import org.carrot2.text.preprocessing.PhraseExtractor;
+import org.carrot2.text.preprocessing.SaisSuffixSorter;
+import org.carrot2.text.preprocessing.SuffixSorter;
+import org.carrot2.util.attribute.AttributeUtils;
+import org.junit.Test;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Compares the {@link ISuffixSorter} implementations used by {@link PhraseExtractor}
+ * by running {@link CompletePreprocessing} with each of them.
+ */
+public class SuffixSortingBenchmark extends MemTimeBenchmark
+{
+    @Test
+    public void evalComparatorSuffixSorter()
+    {
+        evalShortDocs("suffix-sorter-comparator", CompletePreprocessing.class,
+            suffixSorter(SuffixSorter.class), MIN, MAX, STEP);
+    }
+
+    @Test
+    public void evalSaisSuffixSorter()
+    {
+        evalShortDocs("suffix-sorter-sais", CompletePreprocessing.class,
+            suffixSorter(SaisSuffixSorter.class), MIN, MAX, STEP);
+    }
+
+    private static Map<String, Object> suffixSorter(
+        Class<? extends ISuffixSorter> suffixSorterClass)
+    {
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeUtils.getKey(PhraseExtractor.class, "suffixSorter"),
+            suffixSorterClass);
+        return attributes;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import java.util.Random;
+
+import org.apache.mahout.math.matrix.DoubleFactory2D;
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.junit.*;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.h2.*;
+
+/**
+ * Compares Colt's matrix multiplication with the pure Java and native implementations
+ * used by {@link NNIDenseDoubleMatrix2D}. Each round performs the matrix products of a
+ * few iterations of the Euclidean distance non-negative matrix factorization, which
+ * Lingo uses by default, for term-document matrices of typical sizes.
+ */
+@SuppressWarnings("deprecation")
+@AxisRange(min = 0)
+@BenchmarkMethodChart(filePrefix = "matrix-multiplication")
+@BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 10)
+public class MatrixMultiplicationBenchmark extends AbstractBenchmark
+{
+    /** Number of factorization iterations per benchmark round */
+    private static final int ITERATIONS = 5;
+
+    /** 100 documents, the default maximum term-document matrix size */
+    private static final Shape SMALL = new Shape(375, 100, 15);
+
+    /** 200 documents, the default maximum term-document matrix size */
+    private static final Shape MEDIUM = new Shape(187, 200, 25);
+
+    /** 500 documents, a larger matrix, e.g. sparse one */
+    private static final Shape LARGE = new Shape(1500, 500, 40);
+
+    @AfterClass
+    public static void enableNNI()
+    {
+        NNIInterface.suppressNNI(false);
+    }
+
+    @Test
+    public void testColtSmall()
+    {
+        colt(SMALL);
+    }
+
+    @Test
+    public void testJavaSmall()
+    {
+        java(SMALL);
+    }
+
+    @Test
+    public void testNativeSmall()
+    {
+        nativeBlas(SMALL);
+    }
+
+    @Test
+    public void testColtMedium()
+    {
+        colt(MEDIUM);
+    }
+
+    @Test
+    public void testJavaMedium()
+    {
+        java(MEDIUM);
+    }
+
+    @Test
+    public void testNativeMedium()
+    {
+        nativeBlas(MEDIUM);
+    }
+
+    @Test
+    public void testColtLarge()
+    {
+        colt(LARGE);
+    }
+
+    @Test
+    public void testJavaLarge()
+    {
+        java(LARGE);
+    }
+
+    @Test
+    public void testNativeLarge()
+    {
+        nativeBlas(LARGE);
+    }
+
+    private static void colt(Shape shape)
+    {
+        shape.iterate(DoubleFactory2D.dense);
+    }
+
+    private static void java(Shape shape)
+    {
+        NNIInterface.suppressNNI(true);
+        shape.iterate(NNIDoubleFactory2D.nni);
+    }
+
+    private static void nativeBlas(Shape shape)
+    {
+        NNIInterface.suppressNNI(false);
+        Assume.assumeTrue(NNIInterface.isNativeBlasAvailable());
+        shape.iterate(NNIDoubleFactory2D.nni);
+    }
+
+    /**
+     * Term-document matrix and its factors of a given size.
+     */
+    private static class Shape
+    {
+        final double [][] A;
+        final double [][] U;
+        final double [][] V;
+
+        Shape(int terms, int documents, int k)
+        {
+            final Random random = new Random(0);
+            A = new double [terms][documents];
+            for (int d = 0; d < documents; d++)
+            {
+                // Around 2% of non-zero elements, like in real term-document matrices
+                for (int i = 0; i < terms / 50 + 1; i++)
+                {
+                    A[random.nextInt(terms)][d] = random.nextDouble();
+                }
+            }
+            U = DoubleFactory2D.dense.random(terms, k).toArray();
+            V = DoubleFactory2D.dense.random(documents, k).toArray();
+        }
+
+        /**
+         * Performs the products of {@link #ITERATIONS} iterations of the Euclidean
+         * distance non-negative matrix factorization on matrices created by the
+         * provided factory.
+         */
+        void iterate(DoubleFactory2D factory)
+        {
+            final DoubleMatrix2D A = factory.make(this.A);
+            final DoubleMatrix2D U = factory.make(this.U);
+            final DoubleMatrix2D V = factory.make(this.V);
+
+            final int k = U.columns();
+            final DoubleMatrix2D T = factory.make(k, k);
+            final DoubleMatrix2D UT1 = factory.make(A.rows(), k);
+            final DoubleMatrix2D UT2 = factory.make(A.rows(), k);
+            final DoubleMatrix2D VT1 = factory.make(A.columns(), k);
+            final DoubleMatrix2D VT2 = factory.make(A.columns(), k);
+
+            for (int i = 0; i < ITERATIONS; i++)
+            {
+                U.zMult(U, T, 1, 0, true, false);
+                A.zMult(U, VT1, 1, 0, true, false);
+                V.zMult(T, VT2);
+
+                V.zMult(V, T, 1, 0, true, false);
+                A.zMult(V, UT1);
+                U.zMult(T, UT2);
+            }
+        }
+    }
+}
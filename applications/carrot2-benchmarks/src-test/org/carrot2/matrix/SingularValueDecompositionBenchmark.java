@@ -0,0 +1,182 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import java.util.Random;
+
+import org.apache.mahout.math.function.Functions;
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.apache.mahout.math.matrix.linalg.Algebra;
+import org.carrot2.matrix.factorization.*;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.h2.*;
+
+/**
+ * Compares the full SVD computed by {@link PartialSingularValueDecomposition} (native
+ * LAPACK if available, Colt otherwise) with the {@link RandomizedSingularValueDecomposition}
+ * on dense and sparse term-document matrices of typical sizes. The accuracy of the
+ * randomized decomposition, relative to the optimal rank-k approximation, is logged
+ * after the benchmarks.
+ */
+@SuppressWarnings("deprecation")
+@AxisRange(min = 0)
+@BenchmarkMethodChart(filePrefix = "singular-value-decomposition")
+@BenchmarkOptions(benchmarkRounds = 5, warmupRounds = 2)
+public class SingularValueDecompositionBenchmark extends AbstractBenchmark
+{
+    /** The number of base vectors Lingo uses by default */
+    private static final int K = 30;
+
+    /** 100 documents */
+    private static final Shape SMALL = new Shape(375, 100);
+
+    /** 200 documents, the default maximum term-document matrix size */
+    private static final Shape MEDIUM = new Shape(1000, 200);
+
+    /** 500 documents, a larger matrix, e.g. sparse one */
+    private static final Shape LARGE = new Shape(1500, 500);
+
+    @Test
+    public void testFullSmall()
+    {
+        full(SMALL.dense);
+    }
+
+    @Test
+    public void testRandomizedSmall()
+    {
+        randomized(SMALL.dense);
+    }
+
+    @Test
+    public void testRandomizedSparseSmall()
+    {
+        randomized(SMALL.sparse);
+    }
+
+    @Test
+    public void testFullMedium()
+    {
+        full(MEDIUM.dense);
+    }
+
+    @Test
+    public void testRandomizedMedium()
+    {
+        randomized(MEDIUM.dense);
+    }
+
+    @Test
+    public void testRandomizedSparseMedium()
+    {
+        randomized(MEDIUM.sparse);
+    }
+
+    @Test
+    public void testFullLarge()
+    {
+        full(LARGE.dense);
+    }
+
+    @Test
+    public void testRandomizedLarge()
+    {
+        randomized(LARGE.dense);
+    }
+
+    @Test
+    public void testRandomizedSparseLarge()
+    {
+        randomized(LARGE.sparse);
+    }
+
+    @AfterClass
+    public static void logAccuracy()
+    {
+        final Logger logger = LoggerFactory
+            .getLogger(SingularValueDecompositionBenchmark.class);
+        for (Shape shape : new Shape []
+        {
+            SMALL, MEDIUM, LARGE
+        })
+        {
+            final double fullError = error(shape.dense, full(shape.dense));
+            final double randomizedError = error(shape.dense, randomized(shape.sparse));
+            logger.info(String.format("%dx%d: rank-%d approximation error: full %.4f, "
+                + "randomized %.4f (%.2f%% more)", shape.dense.rows(), shape.dense
+                .columns(), K, fullError, randomizedError,
+                (randomizedError / fullError - 1) * 100));
+        }
+    }
+
+    private static PartialSingularValueDecomposition full(DoubleMatrix2D A)
+    {
+        final PartialSingularValueDecompositionFactory factory = new PartialSingularValueDecompositionFactory();
+        factory.setK(K);
+        return (PartialSingularValueDecomposition) factory.factorize(A);
+    }
+
+    private static RandomizedSingularValueDecomposition randomized(DoubleMatrix2D A)
+    {
+        final RandomizedSingularValueDecompositionFactory factory = new RandomizedSingularValueDecompositionFactory();
+        factory.setK(K);
+        return (RandomizedSingularValueDecomposition) factory.factorize(A);
+    }
+
+    /**
+     * Returns the Frobenius norm of <code>A - U * S * V'</code>.
+     */
+    private static double error(DoubleMatrix2D A, IMatrixFactorization factorization)
+    {
+        final double [] S = (factorization instanceof RandomizedSingularValueDecomposition)
+            ? ((RandomizedSingularValueDecomposition) factorization).getSingularValues()
+            : ((PartialSingularValueDecomposition) factorization).getSingularValues();
+        final DoubleMatrix2D US = factorization.getU().copy();
+        for (int c = 0; c < S.length; c++)
+        {
+            US.viewColumn(c).assign(Functions.mult(S[c]));
+        }
+        return Algebra.normF(US.zMult(factorization.getV(), null, 1, 0, false, true)
+            .assign(A, Functions.minus));
+    }
+
+    /**
+     * A term-document matrix of a given size, in the dense and sparse representation.
+     */
+    private static class Shape
+    {
+        final DoubleMatrix2D dense;
+        final DoubleMatrix2D sparse;
+
+        Shape(int terms, int documents)
+        {
+            final Random random = new Random(0);
+            dense = NNIDoubleFactory2D.nni.make(terms, documents);
+            for (int d = 0; d < documents; d++)
+            {
+                // Around 2% of non-zero elements, like in real term-document matrices
+                for (int i = 0; i < terms / 50 + 1; i++)
+                {
+                    dense.setQuick(random.nextInt(terms), d, random.nextDouble());
+                }
+            }
+            MatrixUtils.normalizeColumnL2(dense, null);
+            sparse = new CompressedSparseDoubleMatrix2D(dense);
+        }
+    }
+}
@@ -112,6 +112,11 @@ public class UsingCustomLanguageModel
                 return STOP_WORDS.contains(word.toString());
             }
 
+            public boolean isCommonWord(char [] buffer, int start, int length)
+            {
+                return isCommonWord(new String(buffer, start, length).toLowerCase());
+            }
+
             public IStemmer getStemmer()
             {
                 return new IStemmer()
@@ -127,7 +127,7 @@ public class ClusterDocumentAssignerTest extends LingoProcessingComponentTestBas
         for (int i = 0; i < expectedDocumentIndices.length; i++)
         {
             assertThat(
-                lingoContext.clusterDocuments[i].asIntLookupContainer().toArray()).as(
+                lingoContext.clusterDocuments[i].toArray()).as(
                 "clusterDocuments[" + i + "]").containsOnly(expectedDocumentIndices[i]);
         }
     }
@@ -0,0 +1,117 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.clustering.lingo;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Random;
+
+import org.apache.mahout.math.matrix.DoubleFactory2D;
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.carrot2.core.Document;
+import org.carrot2.text.preprocessing.PreprocessingContext;
+import org.carrot2.text.vsm.VectorSpaceModelContext;
+import org.junit.Test;
+
+import com.carrotsearch.hppc.IntIntOpenHashMap;
+
+/**
+ * Test cases for {@link HeapUniqueLabelAssigner}.
+ */
+@SuppressWarnings("deprecation")
+public class HeapUniqueLabelAssignerTest
+{
+    @Test
+    public void testSameAssignmentAsUniqueLabelAssigner()
+    {
+        final Random random = new Random(0x5eed);
+        for (int round = 0; round < 500; round++)
+        {
+            final int stems = 1 + random.nextInt(30);
+            final int phrases = random.nextInt(30);
+            final int baseVectors = 1 + random.nextInt(10);
+
+            // Few distinct values to test the resolution of ties
+            final DoubleMatrix2D stemCos = randomMatrix(random, stems, baseVectors);
+            final DoubleMatrix2D phraseCos = phrases > 0 ? randomMatrix(random, phrases,
+                baseVectors) : null;
+
+            final LingoProcessingContext expected = assign(new UniqueLabelAssigner(),
+                stemCos, phraseCos);
+            final LingoProcessingContext actual = assign(new HeapUniqueLabelAssigner(),
+                stemCos, phraseCos);
+
+            assertThat(actual.clusterLabelFeatureIndex).isEqualTo(
+                expected.clusterLabelFeatureIndex);
+            assertThat(actual.clusterLabelScore).isEqualTo(expected.clusterLabelScore);
+        }
+    }
+
+    @Test
+    public void testNoPositiveValues()
+    {
+        final LingoProcessingContext context = assign(new HeapUniqueLabelAssigner(),
+            DoubleFactory2D.dense.make(3, 2), DoubleFactory2D.dense.make(2, 2, -1));
+
+        assertThat(context.clusterLabelFeatureIndex).isEmpty();
+        assertThat(context.clusterLabelScore).isEmpty();
+    }
+
+    /**
+     * Assigns labels to copies of the provided matrices. Stems and phrases are assigned
+     * consecutive feature indices.
+     */
+    private static LingoProcessingContext assign(ILabelAssigner assigner,
+        DoubleMatrix2D stemCos, DoubleMatrix2D phraseCos)
+    {
+        final int stems = stemCos.rows();
+        final int phrases = phraseCos != null ? phraseCos.rows() : 0;
+
+        final PreprocessingContext preprocessingContext = new PreprocessingContext(null,
+            Collections.<Document> emptyList(), null);
+        preprocessingContext.allLabels.firstPhraseIndex = stems;
+        preprocessingContext.allLabels.featureIndex = new int [stems + phrases];
+        for (int i = 0; i < stems + phrases; i++)
+        {
+            preprocessingContext.allLabels.featureIndex[i] = i;
+        }
+
+        // Filtered stem rows are mapped to stems in the reverse order
+        final IntIntOpenHashMap filteredRowToStemIndex = new IntIntOpenHashMap();
+        preprocessingContext.allStems.mostFrequentOriginalWordIndex = new int [stems];
+        for (int i = 0; i < stems; i++)
+        {
+            filteredRowToStemIndex.put(i, stems - 1 - i);
+            preprocessingContext.allStems.mostFrequentOriginalWordIndex[i] = i;
+        }
+
+        final LingoProcessingContext context = new LingoProcessingContext(
+            new VectorSpaceModelContext(preprocessingContext));
+        assigner.assignLabels(context, stemCos.copy(), filteredRowToStemIndex,
+            phraseCos != null ? phraseCos.copy() : null);
+        return context;
+    }
+
+    private static DoubleMatrix2D randomMatrix(Random random, int rows, int columns)
+    {
+        final DoubleMatrix2D matrix = DoubleFactory2D.dense.make(rows, columns);
+        for (int r = 0; r < rows; r++)
+        {
+            for (int c = 0; c < columns; c++)
+            {
+                matrix.setQuick(r, c, (random.nextInt(7) - 2) / 4.0);
+            }
+        }
+        return matrix;
+    }
+}
@@ -12,22 +12,37 @@
 
 package org.carrot2.clustering.lingo;
 
+import static org.carrot2.core.test.assertions.Carrot2CoreAssertions.assertThatClusters;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.junit.Assert.*;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.carrot2.core.*;
 import org.carrot2.core.attribute.AttributeNames;
 import org.carrot2.core.test.ClusteringAlgorithmTestBase;
 import org.carrot2.core.test.SampleDocumentData;
+import org.carrot2.matrix.factorization.*;
+import org.carrot2.matrix.factorization.seeding.KMeansSeedingStrategyFactory;
+import org.carrot2.output.metrics.*;
+import org.carrot2.source.ambient.AmbientDocumentSource;
+import org.carrot2.source.ambient.AmbientDocumentSource.AmbientTopic;
+import org.carrot2.text.clustering.MultilingualClustering;
+import org.carrot2.text.clustering.MultilingualClustering.LanguageAggregationStrategy;
 import org.carrot2.text.preprocessing.CaseNormalizer;
+import org.carrot2.text.vsm.TermDocumentMatrixBuilder;
 import org.carrot2.util.attribute.AttributeUtils;
+import org.fest.assertions.Delta;
 import org.junit.Test;
 
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 /**
  * Test cases for the {@link LingoClusteringAlgorithm}
@@ -69,6 +84,390 @@ public class LingoClusteringAlgorithmTest extends
         assertThat(clustersWithThreshold.size()).isGreaterThan(0);
     }
 
+    @Test
+    public void testSparseTermDocumentMatrix()
+    {
+        final Controller controller = getCachingController(initAttributes);
+
+        // Make the limit large enough for all terms to fit in both matrices
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeNames.DOCUMENTS, SampleDocumentData.DOCUMENTS_DATA_MINING);
+        attributes.put(AttributeUtils.getKey(TermDocumentMatrixBuilder.class,
+            "maximumMatrixSize"), 1000 * 1000);
+        final List<Cluster> denseClusters = controller.process(attributes,
+            getComponentClass()).getClusters();
+
+        attributes.put(AttributeUtils.getKey(TermDocumentMatrixBuilder.class,
+            "sparseMatrix"), true);
+        final List<Cluster> sparseClusters = controller.process(attributes,
+            getComponentClass()).getClusters();
+
+        assertThat(sparseClusters.size()).isEqualTo(denseClusters.size());
+        for (int i = 0; i < denseClusters.size(); i++)
+        {
+            assertThat(sparseClusters.get(i).getLabel()).isEqualTo(
+                denseClusters.get(i).getLabel());
+            assertThat(sparseClusters.get(i).size()).isEqualTo(
+                denseClusters.get(i).size());
+        }
+    }
+
+    @Test
+    public void testSinglePrecisionTermDocumentMatrix()
+    {
+        final Controller controller = getCachingController(initAttributes);
+
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeNames.DOCUMENTS, SampleDocumentData.DOCUMENTS_DATA_MINING);
+        attributes.put(AttributeUtils.getKey(TermDocumentMatrixReducer.class,
+            "factorizationFactory"), new NonnegativeMatrixFactorizationEDFactory());
+        final List<Cluster> doubleClusters = controller.process(attributes,
+            getComponentClass()).getClusters();
+
+        attributes.put(AttributeUtils.getKey(TermDocumentMatrixBuilder.class,
+            "singlePrecision"), true);
+        for (boolean sparse : new boolean []
+        {
+            false, true
+        })
+        {
+            attributes.put(AttributeUtils.getKey(TermDocumentMatrixBuilder.class,
+                "sparseMatrix"), sparse);
+            final List<Cluster> floatClusters = controller.process(attributes,
+                getComponentClass()).getClusters();
+
+            assertThat(floatClusters.size()).isEqualTo(doubleClusters.size());
+            for (int i = 0; i < doubleClusters.size(); i++)
+            {
+                assertThat(floatClusters.get(i).getLabel()).isEqualTo(
+                    doubleClusters.get(i).getLabel());
+                assertThat(floatClusters.get(i).size()).isEqualTo(
+                    doubleClusters.get(i).size());
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSinglePrecisionClusteringQuality()
+    {
+        final Controller controller = getCachingController(initAttributes,
+            AmbientDocumentSource.class);
+        final String [] metricKeys = new String []
+        {
+            AttributeUtils.getKey(NormalizedMutualInformationMetric.class,
+                "normalizedMutualInformation"),
+            AttributeUtils.getKey(PrecisionRecallMetric.class, "weightedAverageFMeasure"),
+            AttributeUtils.getKey(ContaminationMetric.class,
+                "weightedAverageContamination")
+        };
+
+        final Map<String, Object> attributes = Maps.newHashMap();
+        final double [] doubleMetrics = averageMetrics(controller, attributes, metricKeys);
+
+        attributes.put(AttributeUtils.getKey(TermDocumentMatrixBuilder.class,
+            "singlePrecision"), true);
+        for (boolean sparse : new boolean []
+        {
+            false, true
+        })
+        {
+            attributes.put(AttributeUtils.getKey(TermDocumentMatrixBuilder.class,
+                "sparseMatrix"), sparse);
+            final double [] floatMetrics = averageMetrics(controller, attributes,
+                metricKeys);
+            for (int i = 0; i < metricKeys.length; i++)
+            {
+                assertThat(floatMetrics[i]).as(metricKeys[i]).isEqualTo(
+                    doubleMetrics[i], Delta.delta(0.01));
+            }
+        }
+    }
+
+    /**
+     * Returns the values of the provided metrics for clusters of all Ambient topics,
+     * averaged over the topics.
+     */
+    private double [] averageMetrics(Controller controller,
+        Map<String, Object> attributes, String [] metricKeys)
+    {
+        final double [] averages = new double [metricKeys.length];
+        final AmbientTopic [] topics = AmbientTopic.values();
+        for (AmbientTopic topic : topics)
+        {
+            attributes.put(AttributeUtils.getKey(AmbientDocumentSource.class, "topic"),
+                topic);
+            final Map<String, Object> results = controller.process(attributes,
+                AmbientDocumentSource.class, getComponentClass(),
+                ClusteringMetricsCalculator.class).getAttributes();
+            for (int i = 0; i < metricKeys.length; i++)
+            {
+                averages[i] += ((Number) results.get(metricKeys[i])).doubleValue()
+                    / topics.length;
+            }
+        }
+        return averages;
+    }
+
+    @Test
+    public void testRandomizedSvdFactorization()
+    {
+        processingAttributes.put(AttributeUtils.getKey(TermDocumentMatrixReducer.class,
+            "factorizationFactory"), new RandomizedSingularValueDecompositionFactory());
+        final Collection<Cluster> clusters = cluster(
+            SampleDocumentData.DOCUMENTS_DATA_MINING).getClusters();
+
+        assertThat(clusters.size()).isGreaterThan(1);
+    }
+
+    @Test
+    public void testParallelFactorization()
+    {
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeNames.DOCUMENTS, SampleDocumentData.DOCUMENTS_DATA_MINING);
+        attributes.put(AttributeUtils.getKey(TermDocumentMatrixBuilder.class,
+            "maximumMatrixSize"), 1000 * 1000);
+        final List<Cluster> sequentialClusters = getCachingController(initAttributes)
+            .process(attributes, getComponentClass()).getClusters();
+
+        final Map<String, Object> parallelInitAttributes = Maps.newHashMap(initAttributes);
+        parallelInitAttributes.put(AttributeUtils.getKey(TermDocumentMatrixReducer.class,
+            "factorizationThreads"), 4);
+        final Controller parallelController = ControllerFactory.createSimple();
+        try
+        {
+            parallelController.init(parallelInitAttributes);
+            final List<Cluster> parallelClusters = parallelController.process(
+                attributes, getComponentClass()).getClusters();
+
+            assertThat(parallelClusters.size()).isEqualTo(sequentialClusters.size());
+            for (int i = 0; i < sequentialClusters.size(); i++)
+            {
+                assertThat(parallelClusters.get(i).getLabel()).isEqualTo(
+                    sequentialClusters.get(i).getLabel());
+                assertThat(parallelClusters.get(i).getDocuments()).isEqualTo(
+                    sequentialClusters.get(i).getDocuments());
+            }
+        }
+        finally
+        {
+            parallelController.dispose();
+        }
+    }
+
+    @Test
+    public void testParallelLanguageClustering()
+    {
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeNames.DOCUMENTS,
+            SampleDocumentData.DOCUMENTS_SALSA_MULTILINGUAL);
+        attributes.put(AttributeUtils.getKey(TermDocumentMatrixReducer.class,
+            "desiredClusterCountBase"), 10);
+        attributes.put(AttributeUtils.getKey(MultilingualClustering.class,
+            "languageAggregationStrategy"), LanguageAggregationStrategy.FLATTEN_NONE);
+        final List<Cluster> sequentialClusters = getCachingController(initAttributes)
+            .process(attributes, getComponentClass()).getClusters();
+
+        final Map<String, Object> parallelInitAttributes = Maps.newHashMap(initAttributes);
+        parallelInitAttributes.put(AttributeUtils.getKey(MultilingualClustering.class,
+            "languageThreads"), 3);
+        final Controller parallelController = ControllerFactory.createSimple();
+        try
+        {
+            parallelController.init(parallelInitAttributes);
+            final List<Cluster> parallelClusters = parallelController.process(
+                attributes, getComponentClass()).getClusters();
+
+            assertThat(sequentialClusters.size()).isEqualTo(5);
+            assertThatClusters(parallelClusters).isEquivalentTo(sequentialClusters);
+        }
+        finally
+        {
+            parallelController.dispose();
+        }
+    }
+
+    @Test
+    public void testParallelLanguageClusteringWithConfiguredFactorization()
+    {
+        final List<Document> documents = Lists.newArrayList();
+        for (Document document : SampleDocumentData.DOCUMENTS_DATA_MINING)
+        {
+            documents.add(new Document(document.getTitle(), document.getSummary(),
+                documents.size() % 2 == 0 ? LanguageCode.ENGLISH : LanguageCode.GERMAN));
+        }
+
+        final NonnegativeMatrixFactorizationEDFactory factory =
+            new NonnegativeMatrixFactorizationEDFactory();
+        factory.setMaxIterations(1);
+        factory.setSeedingFactory(new KMeansSeedingStrategyFactory());
+
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeNames.DOCUMENTS, documents);
+        attributes.put(AttributeUtils.getKey(TermDocumentMatrixReducer.class,
+            "factorizationFactory"), factory);
+        attributes.put(AttributeUtils.getKey(MultilingualClustering.class,
+            "languageAggregationStrategy"), LanguageAggregationStrategy.FLATTEN_NONE);
+        final List<Cluster> sequentialClusters = getCachingController(initAttributes)
+            .process(attributes, getComponentClass()).getClusters();
+
+        final Map<String, Object> parallelInitAttributes = Maps.newHashMap(initAttributes);
+        parallelInitAttributes.put(AttributeUtils.getKey(MultilingualClustering.class,
+            "languageThreads"), 2);
+        final Controller parallelController = ControllerFactory.createPooling();
+        try
+        {
+            parallelController.init(parallelInitAttributes);
+
+            // The second request reuses the copies prepared for the first one
+            for (int i = 0; i < 2; i++)
+            {
+                final List<Cluster> parallelClusters = parallelController.process(
+                    attributes, getComponentClass()).getClusters();
+                assertThatClusters(parallelClusters).isEquivalentTo(sequentialClusters);
+            }
+            assertThat(factory.getMaxIterations()).isEqualTo(1);
+        }
+        finally
+        {
+            parallelController.dispose();
+        }
+    }
+
+    @Test
+    public void testIncrementalFactorization()
+    {
+        final RecordingFactorizationFactory factory = new RecordingFactorizationFactory();
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeUtils.getKey(TermDocumentMatrixReducer.class,
+            "factorizationFactory"), factory);
+        attributes.put(AttributeNames.QUERY, "data mining");
+        initAttributes.put(AttributeUtils.getKey(TermDocumentMatrixReducer.class,
+            "incrementalFactorization"), true);
+
+        final List<Document> documents = SampleDocumentData.DOCUMENTS_DATA_MINING;
+        final Controller controller = ControllerFactory.createSimple();
+        try
+        {
+            controller.init(initAttributes);
+
+            attributes.put(AttributeNames.DOCUMENTS, documents);
+            controller.process(attributes, getComponentClass());
+            final int coldIterations = factory.iterations;
+
+            // All documents were factorized before
+            final List<Document> reversed = Lists.newArrayList(documents);
+            Collections.reverse(reversed);
+            attributes.put(AttributeNames.DOCUMENTS, reversed);
+            final List<Cluster> clusters = controller.process(attributes,
+                getComponentClass()).getClusters();
+            assertThat(factory.iterations).isLessThan(coldIterations);
+            assertThat(clusters.size()).isGreaterThan(1);
+
+            // Half of the documents were factorized before
+            attributes.put(AttributeNames.DOCUMENTS, documents.subList(0,
+                documents.size() / 2));
+            controller.process(attributes, getComponentClass());
+            attributes.put(AttributeNames.DOCUMENTS, documents);
+            final List<Cluster> extendedClusters = controller.process(attributes,
+                getComponentClass()).getClusters();
+            assertThat(factory.iterations).isLessThan(coldIterations);
+            assertThat(extendedClusters.size()).isGreaterThan(1);
+        }
+        finally
+        {
+            controller.dispose();
+        }
+    }
+
+    @Test
+    public void testFactorizationCacheCreatedOnlyForIncrementalFactorization()
+    {
+        final DummyControllerContext context = new DummyControllerContext();
+        try
+        {
+            final LingoClusteringAlgorithm lingo = new LingoClusteringAlgorithm();
+            lingo.init(context);
+            assertThat(lingo.matrixReducer.factorizationCache).isNull();
+
+            final LingoClusteringAlgorithm incremental = new LingoClusteringAlgorithm();
+            incremental.matrixReducer.incrementalFactorization = true;
+            incremental.init(context);
+            assertThat(incremental.matrixReducer.factorizationCache).isNotNull();
+        }
+        finally
+        {
+            context.dispose();
+        }
+    }
+
+    @Test
+    public void testIncrementalFactorizationOfSparseMatrix()
+    {
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeNames.QUERY, "data mining");
+        attributes.put(AttributeUtils.getKey(TermDocumentMatrixBuilder.class,
+            "sparseMatrix"), true);
+        initAttributes.put(AttributeUtils.getKey(TermDocumentMatrixReducer.class,
+            "incrementalFactorization"), true);
+
+        final List<Document> documents = SampleDocumentData.DOCUMENTS_DATA_MINING;
+        final Controller controller = ControllerFactory.createSimple();
+        try
+        {
+            controller.init(initAttributes);
+            for (IMatrixFactorizationFactory factory : new IMatrixFactorizationFactory []
+            {
+                new NonnegativeMatrixFactorizationEDFactory(),
+                new NonnegativeMatrixFactorizationKLFactory(),
+                new LocalNonnegativeMatrixFactorizationFactory()
+            })
+            {
+                attributes.put(AttributeUtils.getKey(TermDocumentMatrixReducer.class,
+                    "factorizationFactory"), factory);
+                for (boolean singlePrecision : new boolean []
+                {
+                    false, true
+                })
+                {
+                    attributes.put(AttributeUtils.getKey(TermDocumentMatrixBuilder.class,
+                        "singlePrecision"), singlePrecision);
+
+                    // The second request starts from the factorization of the first
+                    attributes.put(AttributeNames.DOCUMENTS, documents.subList(0,
+                        documents.size() / 2));
+                    controller.process(attributes, getComponentClass());
+                    attributes.put(AttributeNames.DOCUMENTS, documents);
+                    final List<Cluster> clusters = controller.process(attributes,
+                        getComponentClass()).getClusters();
+                    assertThat(clusters.size()).isGreaterThan(1);
+                }
+            }
+        }
+        finally
+        {
+            controller.dispose();
+        }
+    }
+
+    /**
+     * Records the number of iterations of the most recent factorization.
+     */
+    static class RecordingFactorizationFactory extends
+        NonnegativeMatrixFactorizationEDFactory
+    {
+        int iterations;
+
+        @Override
+        public IMatrixFactorization factorize(DoubleMatrix2D A)
+        {
+            final IMatrixFactorization factorization = super.factorize(A);
+            iterations = ((IIterativeMatrixFactorization) factorization)
+                .getIterationsCompleted();
+            return factorization;
+        }
+    }
+
     @Test
     public void testNoLabelCandidates()
     {
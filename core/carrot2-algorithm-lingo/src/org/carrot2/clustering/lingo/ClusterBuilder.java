@@ -23,6 +23,7 @@ import org.carrot2.text.vsm.ITermWeighting;
 import org.carrot2.text.vsm.VectorSpaceModelContext;
 import org.carrot2.util.GraphUtils;
 import org.carrot2.util.LinearApproximation;
+import org.carrot2.util.SortedIntSet;
 import org.carrot2.util.attribute.*;
 import org.carrot2.util.attribute.constraint.*;
 
@@ -118,7 +119,7 @@ public class ClusterBuilder
     @Required
     @ImplementingClasses(classes =
     {
-        UniqueLabelAssigner.class, SimpleLabelAssigner.class
+        UniqueLabelAssigner.class, HeapUniqueLabelAssigner.class, SimpleLabelAssigner.class
     })
     public ILabelAssigner labelAssigner = new UniqueLabelAssigner();
 
@@ -143,7 +144,7 @@ public class ClusterBuilder
         final int [] labelsFeatureIndex = preprocessingContext.allLabels.featureIndex;
         final int [] mostFrequentOriginalWordIndex = preprocessingContext.allStems.mostFrequentOriginalWordIndex;
         final int [][] phrasesWordIndices = preprocessingContext.allPhrases.wordIndices;
-        final BitSet [] labelsDocumentIndices = preprocessingContext.allLabels.documentIndices;
+        final SortedIntSet [] labelsDocumentIndices = preprocessingContext.allLabels.documentIndices;
         final int wordCount = preprocessingContext.allWords.image.length;
         final int documentCount = preprocessingContext.documents.size();
 
@@ -264,10 +265,10 @@ public class ClusterBuilder
     }
 
     private double getDocumentCountPenalty(int labelIndex, int documentCount,
-        BitSet [] labelsDocumentIndices)
+        SortedIntSet [] labelsDocumentIndices)
     {
         return documentSizeCoefficients.getValue(
-            labelsDocumentIndices[labelIndex].cardinality() / (double) documentCount);
+            labelsDocumentIndices[labelIndex].size() / (double) documentCount);
     }
 
     /**
@@ -276,10 +277,10 @@ public class ClusterBuilder
     void assignDocuments(LingoProcessingContext context)
     {
         final int [] clusterLabelFeatureIndex = context.clusterLabelFeatureIndex;
-        final BitSet [] clusterDocuments = new BitSet [clusterLabelFeatureIndex.length];
+        final SortedIntSet [] clusterDocuments = new SortedIntSet [clusterLabelFeatureIndex.length];
 
         final int [] labelsFeatureIndex = context.preprocessingContext.allLabels.featureIndex;
-        final BitSet [] documentIndices = context.preprocessingContext.allLabels.documentIndices;
+        final SortedIntSet [] documentIndices = context.preprocessingContext.allLabels.documentIndices;
         final IntIntOpenHashMap featureValueToIndex = new IntIntOpenHashMap();
 
         for (int i = 0; i < labelsFeatureIndex.length; i++)
@@ -302,44 +303,35 @@ public class ClusterBuilder
      */
     void merge(LingoProcessingContext context)
     {
-        final BitSet [] clusterDocuments = context.clusterDocuments;
+        final SortedIntSet [] clusterDocuments = context.clusterDocuments;
         final int [] clusterLabelFeatureIndex = context.clusterLabelFeatureIndex;
         final double [] clusterLabelScore = context.clusterLabelScore;
 
+        // Clusters of very different sizes cannot overlap enough to be merged
+        final int [] clusterSizes = new int [clusterDocuments.length];
+        for (int i = 0; i < clusterDocuments.length; i++)
+        {
+            clusterSizes[i] = clusterDocuments[i].size();
+        }
+
         final List<IntArrayList> mergedClusters = GraphUtils.findCoherentSubgraphs(
             clusterDocuments.length, new GraphUtils.IArcPredicate()
             {
-                private BitSet temp = new BitSet();
-
                 public boolean isArcPresent(int clusterA, int clusterB)
                 {
-                    temp.clear();
-                    int size;
-                    BitSet setA = clusterDocuments[clusterA];
-                    BitSet setB = clusterDocuments[clusterB];
+                    final SortedIntSet setA = clusterDocuments[clusterA];
+                    final SortedIntSet setB = clusterDocuments[clusterB];
 
                     // Suitable for flat clustering
                     // A small subgroup contained within a bigger group
                     // will give small overlap ratio. Big ratios will
                     // be produced only for balanced group sizes.
-                    if (setA.cardinality() < setB.cardinality())
-                    {
-                        // addAll == or
-                        // reiatinAll == and | intersect
-                        temp.or(setA);
-                        temp.intersect(setB);
-                        size = (int) setB.cardinality();
-                    }
-                    else
-                    {
-                        temp.or(setB);
-                        temp.intersect(setA);
-                        size = (int) setA.cardinality();
-                    }
-
-                    return temp.cardinality() / (double) size >= clusterMergingThreshold;
+                    final int size = Math.max(clusterSizes[clusterA],
+                        clusterSizes[clusterB]);
+                    return setA.intersectionSize(setB) / (double) size >= clusterMergingThreshold;
                 }
-            }, true);
+            }, new GraphUtils.SizeRatioFilter(clusterSizes, clusterMergingThreshold),
+            true);
 
         
         // For each merge group, choose the cluster with the highest score and
@@ -366,8 +358,8 @@ public class ClusterBuilder
                 final int clusterIndex = buf[i];
                 if (clusterIndex != mergeBaseClusterIndex)
                 {
-                    clusterDocuments[mergeBaseClusterIndex].or(
-                        clusterDocuments[clusterIndex]);
+                    clusterDocuments[mergeBaseClusterIndex] = clusterDocuments[mergeBaseClusterIndex]
+                        .union(clusterDocuments[clusterIndex]);
                     clusterLabelFeatureIndex[clusterIndex] = -1;
                     clusterDocuments[clusterIndex] = null;
                 }
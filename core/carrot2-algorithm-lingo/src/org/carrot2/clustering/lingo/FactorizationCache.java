@@ -0,0 +1,257 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.clustering.lingo;
+
+import java.util.*;
+
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.carrot2.core.Document;
+import org.carrot2.matrix.factorization.IMatrixFactorization;
+import org.carrot2.matrix.factorization.seeding.ISeedingStrategyFactory;
+import org.carrot2.matrix.factorization.seeding.WarmStartSeedingStrategyFactory;
+import org.carrot2.text.preprocessing.PreprocessingContext;
+import org.carrot2.text.preprocessing.TokenizedDocuments;
+import org.carrot2.text.vsm.VectorSpaceModelContext;
+
+import com.carrotsearch.hppc.ObjectIntOpenHashMap;
+import com.carrotsearch.hppc.cursors.IntIntCursor;
+
+/**
+ * Remembers the factorizations of term-document matrices and the tokenized documents for
+ * the most recently clustered queries. When the same query is clustered again, for
+ * example with more documents, the factorization can be started from the remembered one,
+ * which requires fewer iterations than starting from scratch. Rows of the matrices are
+ * matched by stem images, columns are matched by document contents. Documents clustered
+ * before are not tokenized again. Instances of this class are thread-safe and shared by
+ * all instances of the algorithm created by one controller.
+ */
+@SuppressWarnings("deprecation")
+final class FactorizationCache
+{
+    /** Cached data by query and language, in the access order */
+    private final Map<String, CachedQuery> entries;
+
+    /**
+     * Creates a cache of factorizations and tokenized documents for at most
+     * <code>maxSize</code> queries. The least recently used queries are removed first.
+     */
+    FactorizationCache(final int maxSize)
+    {
+        this.entries = Collections
+            .synchronizedMap(new LinkedHashMap<String, CachedQuery>(16, 0.75f, true)
+            {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedQuery> eldest)
+                {
+                    return size() > maxSize;
+                }
+            });
+    }
+
+    /**
+     * Returns a seeding strategy factory that starts the factorization of the provided
+     * term-document matrix from the factorization remembered for the same query, or
+     * <code>null</code> if there is no such factorization or it has no rows or no
+     * documents in common with the matrix.
+     *
+     * @param fallbackFactory seeding strategy factory for the rows and columns that
+     *            have no counterpart in the remembered factorization
+     */
+    ISeedingStrategyFactory getWarmStart(VectorSpaceModelContext vsmContext,
+        ISeedingStrategyFactory fallbackFactory)
+    {
+        final CachedQuery cachedQuery = entries
+            .get(getKey(vsmContext.preprocessingContext));
+        final CachedFactorization cached = (cachedQuery != null
+            ? cachedQuery.factorization : null);
+        if (cached == null)
+        {
+            return null;
+        }
+
+        final int [] rowMapping = getMapping(cached.rows, getRows(vsmContext));
+        final int [] columnMapping = getMapping(cached.documents,
+            getDocuments(vsmContext.preprocessingContext));
+        if (rowMapping == null || columnMapping == null)
+        {
+            return null;
+        }
+
+        final WarmStartSeedingStrategyFactory warmStart = new WarmStartSeedingStrategyFactory(
+            cached, rowMapping, columnMapping);
+        warmStart.setFallbackFactory(fallbackFactory);
+        return warmStart;
+    }
+
+    /**
+     * Remembers the factorization of the term-document matrix of the provided context.
+     */
+    void put(VectorSpaceModelContext vsmContext, IMatrixFactorization factorization)
+    {
+        final CachedFactorization cached = new CachedFactorization(getRows(vsmContext),
+            getDocuments(vsmContext.preprocessingContext), factorization);
+        final String key = getKey(vsmContext.preprocessingContext);
+        synchronized (entries)
+        {
+            final CachedQuery cachedQuery = entries.get(key);
+            entries.put(key, new CachedQuery(
+                cachedQuery != null ? cachedQuery.tokenizedDocuments : null, cached));
+        }
+    }
+
+    /**
+     * Returns the documents tokenized for the same query as the provided context or
+     * <code>null</code> if there are no such documents.
+     */
+    TokenizedDocuments getTokenizedDocuments(PreprocessingContext context)
+    {
+        final CachedQuery cachedQuery = entries.get(getKey(context));
+        return cachedQuery != null ? cachedQuery.tokenizedDocuments : null;
+    }
+
+    /**
+     * Remembers the documents tokenized for the query of the provided context.
+     */
+    void putTokenizedDocuments(PreprocessingContext context,
+        TokenizedDocuments tokenizedDocuments)
+    {
+        final String key = getKey(context);
+        synchronized (entries)
+        {
+            final CachedQuery cachedQuery = entries.get(key);
+            entries.put(key, new CachedQuery(tokenizedDocuments,
+                cachedQuery != null ? cachedQuery.factorization : null));
+        }
+    }
+
+    /**
+     * Returns the number of queries for which data is remembered.
+     */
+    int size()
+    {
+        return entries.size();
+    }
+
+    private static String getKey(PreprocessingContext context)
+    {
+        return context.language.getLanguageCode() + "\u0000"
+            + (context.query != null ? context.query : "");
+    }
+
+    /**
+     * Returns the stem images of the rows of the term-document matrix.
+     */
+    private static String [] getRows(VectorSpaceModelContext vsmContext)
+    {
+        final char [][] stemImages = vsmContext.preprocessingContext.allStems.image;
+        final String [] rows = new String [vsmContext.termDocumentMatrix.rows()];
+        for (IntIntCursor it : vsmContext.stemToRowIndex)
+        {
+            rows[it.value] = new String(stemImages[it.key]);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the keys of the documents corresponding to the columns of the
+     * term-document matrix.
+     */
+    private static String [] getDocuments(PreprocessingContext context)
+    {
+        final String [] documents = new String [context.documents.size()];
+        for (int i = 0; i < documents.length; i++)
+        {
+            final Document document = context.documents.get(i);
+            documents[i] = document.getTitle() + "\u0000" + document.getSummary()
+                + "\u0000" + document.getContentUrl();
+        }
+        return documents;
+    }
+
+    /**
+     * For each current key, returns the index of the same key among the previous keys
+     * or -1. Returns <code>null</code> if no keys are shared.
+     */
+    private static int [] getMapping(String [] previous, String [] current)
+    {
+        final ObjectIntOpenHashMap<String> previousIndices = new ObjectIntOpenHashMap<String>(
+            previous.length);
+        for (int i = 0; i < previous.length; i++)
+        {
+            previousIndices.put(previous[i], i);
+        }
+
+        final int [] mapping = new int [current.length];
+        int shared = 0;
+        for (int i = 0; i < current.length; i++)
+        {
+            if (previousIndices.containsKey(current[i]))
+            {
+                mapping[i] = previousIndices.lget();
+                shared++;
+            }
+            else
+            {
+                mapping[i] = -1;
+            }
+        }
+        return shared > 0 ? mapping : null;
+    }
+
+    /**
+     * Data remembered for one query.
+     */
+    private static final class CachedQuery
+    {
+        final TokenizedDocuments tokenizedDocuments;
+        final CachedFactorization factorization;
+
+        CachedQuery(TokenizedDocuments tokenizedDocuments,
+            CachedFactorization factorization)
+        {
+            this.tokenizedDocuments = tokenizedDocuments;
+            this.factorization = factorization;
+        }
+    }
+
+    /**
+     * Copies of the results of a factorization along with the stem images of rows and
+     * keys of documents of the factorized matrix.
+     */
+    private static final class CachedFactorization implements IMatrixFactorization
+    {
+        final String [] rows;
+        final String [] documents;
+        private final DoubleMatrix2D U;
+        private final DoubleMatrix2D V;
+
+        CachedFactorization(String [] rows, String [] documents,
+            IMatrixFactorization factorization)
+        {
+            this.rows = rows;
+            this.documents = documents;
+            this.U = factorization.getU().copy();
+            this.V = factorization.getV().copy();
+        }
+
+        public DoubleMatrix2D getU()
+        {
+            return U;
+        }
+
+        public DoubleMatrix2D getV()
+        {
+            return V;
+        }
+    }
+}
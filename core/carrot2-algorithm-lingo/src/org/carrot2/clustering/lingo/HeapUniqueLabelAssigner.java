@@ -0,0 +1,239 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.clustering.lingo;
+
+import org.apache.mahout.math.matrix.*;
+import org.carrot2.text.preprocessing.PreprocessingContext;
+import org.carrot2.util.attribute.Bindable;
+
+import com.carrotsearch.hppc.*;
+
+/**
+ * Assigns unique labels to each base vector using the same greedy algorithm as
+ * {@link UniqueLabelAssigner}, but without rescanning the cosine matrices for each
+ * label. The candidate labels of each base vector are put on a heap once, and labels
+ * and base vectors that have been selected are skipped when they reach the top of the
+ * heaps. The assignment is exactly the same as {@link UniqueLabelAssigner}'s, but this
+ * method is faster for large numbers of label candidates and base vectors.
+ */
+@SuppressWarnings("deprecation")
+@Bindable
+public class HeapUniqueLabelAssigner implements ILabelAssigner
+{
+    public void assignLabels(LingoProcessingContext context, DoubleMatrix2D stemCos,
+        IntIntOpenHashMap filteredRowToStemIndex, DoubleMatrix2D phraseCos)
+    {
+        final PreprocessingContext preprocessingContext = context.preprocessingContext;
+        final int firstPhraseIndex = preprocessingContext.allLabels.firstPhraseIndex;
+        final int [] labelsFeatureIndex = preprocessingContext.allLabels.featureIndex;
+        final int [] mostFrequentOriginalWordIndex = preprocessingContext.allStems.mostFrequentOriginalWordIndex;
+        final int desiredClusterCount = stemCos.columns();
+
+        final CandidateHeap [] stemHeaps = createHeaps(stemCos);
+        final CandidateHeap [] phraseHeaps = createHeaps(phraseCos);
+        final boolean [] usedStems = new boolean [stemCos.rows()];
+        final boolean [] usedPhrases = new boolean [phraseCos != null ? phraseCos
+            .rows() : 0];
+        final boolean [] usedBaseVectors = new boolean [desiredClusterCount];
+
+        final IntArrayList clusterLabelFeatureIndex = new IntArrayList(
+            desiredClusterCount);
+        final DoubleArrayList clusterLabelScore = new DoubleArrayList(desiredClusterCount);
+        for (int label = 0; label < desiredClusterCount; label++)
+        {
+            final int stemColumn = max(stemHeaps, usedStems, usedBaseVectors);
+            final int phraseColumn = max(phraseHeaps, usedPhrases, usedBaseVectors);
+
+            if (stemColumn < 0 && phraseColumn < 0)
+            {
+                break;
+            }
+
+            final double stemScore = stemColumn >= 0 ? stemHeaps[stemColumn].topValue()
+                : -1;
+            final double phraseScore = phraseColumn >= 0 ? phraseHeaps[phraseColumn]
+                .topValue() : -1;
+
+            if (phraseScore > stemScore)
+            {
+                final int phrase = phraseHeaps[phraseColumn].top();
+                usedPhrases[phrase] = true;
+                usedBaseVectors[phraseColumn] = true;
+
+                clusterLabelFeatureIndex
+                    .add(labelsFeatureIndex[phrase + firstPhraseIndex]);
+                clusterLabelScore.add(phraseScore);
+            }
+            else
+            {
+                final int stem = stemHeaps[stemColumn].top();
+                usedStems[stem] = true;
+                usedBaseVectors[stemColumn] = true;
+
+                clusterLabelFeatureIndex
+                    .add(mostFrequentOriginalWordIndex[filteredRowToStemIndex.get(stem)]);
+                clusterLabelScore.add(stemScore);
+            }
+        }
+
+        context.clusterLabelFeatureIndex = clusterLabelFeatureIndex.toArray();
+        context.clusterLabelScore = clusterLabelScore.toArray();
+    }
+
+    /**
+     * Creates candidate heaps for all columns of the matrix, <code>null</code> if the
+     * matrix is <code>null</code>.
+     */
+    private static CandidateHeap [] createHeaps(DoubleMatrix2D matrix)
+    {
+        if (matrix == null)
+        {
+            return null;
+        }
+
+        final CandidateHeap [] heaps = new CandidateHeap [matrix.columns()];
+        for (int c = 0; c < heaps.length; c++)
+        {
+            heaps[c] = new CandidateHeap(matrix.viewColumn(c));
+        }
+        return heaps;
+    }
+
+    /**
+     * Returns the column containing the maximum value among the rows and columns not used
+     * yet, or <code>-1</code> if there are no positive values left. Ties are resolved in
+     * the row-major order, like in {@link UniqueLabelAssigner}.
+     */
+    private static int max(CandidateHeap [] heaps, boolean [] usedRows,
+        boolean [] usedColumns)
+    {
+        if (heaps == null)
+        {
+            return -1;
+        }
+
+        int column = -1;
+        for (int c = 0; c < heaps.length; c++)
+        {
+            if (usedColumns[c] || heaps[c].skip(usedRows) < 0)
+            {
+                continue;
+            }
+
+            if (column < 0 || heaps[c].precedes(heaps[column]))
+            {
+                column = c;
+            }
+        }
+        return column;
+    }
+
+    /**
+     * A max-heap of rows with positive values in one column of a cosine matrix. Rows with
+     * equal values are ordered by increasing index.
+     */
+    private static final class CandidateHeap
+    {
+        /** Values of the column, indexed by row */
+        private final double [] values;
+
+        /** Rows on the heap */
+        private final int [] heap;
+
+        /** The number of rows on the heap */
+        private int size;
+
+        CandidateHeap(DoubleMatrix1D column)
+        {
+            values = column.toArray();
+            heap = new int [values.length];
+            for (int row = 0; row < values.length; row++)
+            {
+                if (values[row] > 0)
+                {
+                    heap[size++] = row;
+                }
+            }
+
+            for (int i = size / 2 - 1; i >= 0; i--)
+            {
+                siftDown(i);
+            }
+        }
+
+        /**
+         * Removes used rows from the top of the heap and returns the top row,
+         * <code>-1</code> if the heap is empty.
+         */
+        int skip(boolean [] usedRows)
+        {
+            while (size > 0 && usedRows[heap[0]])
+            {
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return top();
+        }
+
+        int top()
+        {
+            return size > 0 ? heap[0] : -1;
+        }
+
+        double topValue()
+        {
+            return values[heap[0]];
+        }
+
+        /**
+         * Returns <code>true</code> if the top of this heap should be selected before
+         * the top of the other heap, which must be a heap of a preceding column.
+         */
+        boolean precedes(CandidateHeap other)
+        {
+            final double value = topValue();
+            final double otherValue = other.topValue();
+            return value > otherValue || (value == otherValue && heap[0] < other.heap[0]);
+        }
+
+        private boolean greater(int rowA, int rowB)
+        {
+            return values[rowA] > values[rowB]
+                || (values[rowA] == values[rowB] && rowA < rowB);
+        }
+
+        private void siftDown(int i)
+        {
+            final int row = heap[i];
+            while (true)
+            {
+                int child = 2 * i + 1;
+                if (child >= size)
+                {
+                    break;
+                }
+                if (child + 1 < size && greater(heap[child + 1], heap[child]))
+                {
+                    child++;
+                }
+                if (!greater(heap[child], row))
+                {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = row;
+        }
+    }
+}
@@ -14,6 +14,7 @@ package org.carrot2.clustering.lingo;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.carrot2.core.*;
 import org.carrot2.core.attribute.*;
@@ -25,11 +26,11 @@ import org.carrot2.text.preprocessing.PreprocessingContext;
 import org.carrot2.text.preprocessing.pipeline.CompletePreprocessingPipeline;
 import org.carrot2.text.vsm.TermDocumentMatrixBuilder;
 import org.carrot2.text.vsm.VectorSpaceModelContext;
+import org.carrot2.util.SortedIntSet;
 import org.carrot2.util.attribute.*;
 import org.carrot2.util.attribute.constraint.DoubleRange;
 import org.slf4j.Logger;
 
-import com.carrotsearch.hppc.BitSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Ordering;
 
@@ -135,9 +136,46 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
      */
     public final MultilingualClustering multilingualClustering = new MultilingualClustering();
 
+    /**
+     * Executor service for clustering languages in parallel, <code>null</code> if
+     * languages should be clustered one by one in the calling thread.
+     */
+    private ExecutorService languageExecutorService;
+
     @Override
     public void init(IControllerContext context)
     {
+        super.init(context);
+
+        if (matrixReducer.factorizationThreads > 1)
+        {
+            matrixReducer.executorService = getSharedExecutor(
+                matrixReducer.factorizationThreads, TermDocumentMatrixReducer.class);
+        }
+
+        if (multilingualClustering.languageThreads > 1)
+        {
+            languageExecutorService = getSharedExecutor(
+                multilingualClustering.languageThreads, MultilingualClustering.class);
+        }
+
+        if (matrixReducer.incrementalFactorization)
+        {
+            synchronized (context)
+            {
+                final String contextKey = FactorizationCache.class.getName();
+                FactorizationCache cache = (FactorizationCache) context
+                    .getAttribute(contextKey);
+                if (cache == null)
+                {
+                    cache = new FactorizationCache(
+                        matrixReducer.incrementalFactorizationCacheSize);
+                    context.setAttribute(contextKey, cache);
+                }
+                matrixReducer.factorizationCache = cache;
+            }
+        }
+
         synchronized (LingoClusteringAlgorithm.class)
         {
             if (!nativeLibrariesReported)
@@ -166,9 +204,13 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
         // IMonolingualClusteringAlgorithm implementation below. This is safe because
         // processing components are not thread-safe by definition and
         // IMonolingualClusteringAlgorithm forbids concurrent execution by contract.
+        // When languages are clustered in parallel, each language is clustered by
+        // a separate copy of this component instead.
         final List<Document> originalDocuments = documents;
-        clusters = multilingualClustering.process(documents,
-            new IMonolingualClusteringAlgorithm()
+        final IMonolingualClusteringAlgorithm algorithm;
+        if (languageExecutorService == null)
+        {
+            algorithm = new IMonolingualClusteringAlgorithm()
             {
                 public List<Cluster> process(List<Document> documents,
                     LanguageCode language)
@@ -177,7 +219,31 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
                     LingoClusteringAlgorithm.this.cluster(language);
                     return LingoClusteringAlgorithm.this.clusters;
                 }
-            });
+            };
+        }
+        else
+        {
+            algorithm = new IMonolingualClusteringAlgorithm()
+            {
+                public List<Cluster> process(List<Document> documents,
+                    LanguageCode language)
+                {
+                    final LingoClusteringAlgorithm copy = borrowCopy();
+                    try
+                    {
+                        copy.documents = documents;
+                        copy.cluster(language);
+                        return copy.clusters;
+                    }
+                    finally
+                    {
+                        returnCopy(copy);
+                    }
+                }
+            };
+        }
+        clusters = multilingualClustering.process(documents, algorithm,
+            languageExecutorService);
         documents = originalDocuments;
 
         if (multilingualClustering.languageAggregationStrategy == LanguageAggregationStrategy.FLATTEN_ALL)
@@ -188,6 +254,26 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
         }
     }
 
+    /**
+     * Preprocesses {@link #documents}. With incremental factorization, the documents
+     * tokenized for the same query before are not tokenized again.
+     */
+    private PreprocessingContext preprocess(LanguageCode language)
+    {
+        final FactorizationCache cache = matrixReducer.factorizationCache;
+        if (!matrixReducer.incrementalFactorization || cache == null)
+        {
+            return preprocessingPipeline.preprocess(documents, query, language);
+        }
+
+        final PreprocessingContext context = new PreprocessingContext(
+            preprocessingPipeline.languageModelFactory.getLanguageModel(language),
+            documents, query);
+        cache.putTokenizedDocuments(context, preprocessingPipeline.preprocess(context,
+            cache.getTokenizedDocuments(context)));
+        return context;
+    }
+
     /**
      * Performs the actual clustering with an assumption that all documents are written in
      * one <code>language</code>.
@@ -195,8 +281,7 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
     private void cluster(LanguageCode language)
     {
         // Preprocessing of documents
-        final PreprocessingContext context = preprocessingPipeline.preprocess(documents,
-            query, language);
+        final PreprocessingContext context = preprocess(language);
 
         // Further processing only if there are words to process
         clusters = Lists.newArrayList();
@@ -222,7 +307,7 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
 
             // Format final clusters
             final int [] clusterLabelIndex = lingoContext.clusterLabelFeatureIndex;
-            final BitSet [] clusterDocuments = lingoContext.clusterDocuments;
+            final SortedIntSet [] clusterDocuments = lingoContext.clusterDocuments;
             final double [] clusterLabelScore = lingoContext.clusterLabelScore;
             for (int i = 0; i < clusterLabelIndex.length; i++)
             {
@@ -240,10 +325,10 @@ public class LingoClusteringAlgorithm extends ProcessingComponentBase implements
                 cluster.setAttribute(Cluster.SCORE, clusterLabelScore[i]);
 
                 // Add documents
-                final BitSet bs = clusterDocuments[i];
-                for (int bit = bs.nextSetBit(0); bit >= 0; bit = bs.nextSetBit(bit + 1))
+                final SortedIntSet documentIndices = clusterDocuments[i];
+                for (int j = 0; j < documentIndices.size(); j++)
                 {
-                    cluster.addDocuments(documents.get(bit));
+                    cluster.addDocuments(documents.get(documentIndices.get(j)));
                 }
 
                 // Add cluster
@@ -16,8 +16,7 @@ import org.apache.mahout.math.matrix.*;
 import org.carrot2.text.preprocessing.PreprocessingContext;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllLabels;
 import org.carrot2.text.vsm.VectorSpaceModelContext;
-
-import com.carrotsearch.hppc.BitSet;
+import org.carrot2.util.SortedIntSet;
 
 /**
  * Stores intermediate data required during Lingo clustering.
@@ -41,7 +40,7 @@ public class LingoProcessingContext
     double [] clusterLabelScore;
 
     /** Documents assigned to clusters */
-    BitSet [] clusterDocuments;
+    SortedIntSet [] clusterDocuments;
 
     LingoProcessingContext(VectorSpaceModelContext vsmContext)
     {
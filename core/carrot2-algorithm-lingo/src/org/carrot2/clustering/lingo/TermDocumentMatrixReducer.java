@@ -12,10 +12,15 @@
 
 package org.carrot2.clustering.lingo;
 
+import java.util.concurrent.ExecutorService;
+
+import org.carrot2.core.attribute.Init;
 import org.carrot2.core.attribute.Processing;
+import org.carrot2.matrix.FloatFactory2D;
 import org.carrot2.matrix.MatrixUtils;
 import org.carrot2.matrix.factorization.*;
 import org.carrot2.matrix.factorization.IterationNumberGuesser.FactorizationQuality;
+import org.carrot2.matrix.factorization.seeding.ISeedingStrategyFactory;
 import org.carrot2.text.vsm.VectorSpaceModelContext;
 import org.carrot2.util.attribute.*;
 import org.carrot2.util.attribute.constraint.ImplementingClasses;
@@ -46,6 +51,7 @@ public class TermDocumentMatrixReducer
     @ImplementingClasses(classes =
     {
         PartialSingularValueDecompositionFactory.class,
+        RandomizedSingularValueDecompositionFactory.class,
         NonnegativeMatrixFactorizationEDFactory.class,
         NonnegativeMatrixFactorizationKLFactory.class,
         LocalNonnegativeMatrixFactorizationFactory.class,
@@ -83,6 +89,80 @@ public class TermDocumentMatrixReducer
     @IntRange(min = 2, max = 100)
     public int desiredClusterCountBase = 30;
 
+    /**
+     * Factorization threads. The number of threads to use for computing the matrix
+     * factorization. The threads are shared by all instances of the algorithm created by
+     * one controller. Parallel computations pay off only for large term-document
+     * matrices, such as sparse matrices built from thousands of documents. The results
+     * do not depend on the number of threads. Only iterative factorization methods
+     * support parallel computations.
+     * 
+     * @level Advanced
+     * @group Matrix model
+     * @label Factorization threads
+     */
+    @Init
+    @Input
+    @Attribute
+    @IntRange(min = 1)
+    public int factorizationThreads = 1;
+
+    /**
+     * Incremental factorization. If enabled, the factorization of the term-document
+     * matrix is remembered for each query and the next factorization for the same query
+     * starts from the remembered one, for example when more documents are fetched for
+     * the query. In such cases, the factorization stops as soon as it converges, which
+     * usually takes a fraction of the iterations needed otherwise. The tokens of the
+     * documents are remembered as well and are not computed again for the documents
+     * that were clustered before. Only iterative factorization methods support
+     * incremental factorization. The factorizations are remembered only if this
+     * attribute is enabled at initialization time.
+     * 
+     * @level Advanced
+     * @group Matrix model
+     * @label Incremental factorization
+     */
+    @Input
+    @Init
+    @Processing
+    @Attribute
+    @Required
+    public boolean incrementalFactorization = false;
+
+    /**
+     * Incremental factorization cache size. The maximum number of queries for which
+     * factorizations are remembered when incremental factorization is enabled. The
+     * factorizations are shared by all instances of the algorithm created by one
+     * controller.
+     * 
+     * @level Advanced
+     * @group Matrix model
+     * @label Incremental factorization cache size
+     */
+    @Init
+    @Input
+    @Attribute
+    @IntRange(min = 1)
+    public int incrementalFactorizationCacheSize = 32;
+
+    /**
+     * The relative change of the factors between iterations below which a factorization
+     * started from a remembered one is considered converged.
+     */
+    static final double WARM_START_CONVERGENCE_THRESHOLD = 0.03;
+
+    /**
+     * Executor service for parallel factorization, <code>null</code> if the
+     * factorization should be computed in the calling thread.
+     */
+    ExecutorService executorService;
+
+    /**
+     * Cache of factorizations for incremental factorization, <code>null</code> if
+     * incremental factorization was not enabled at initialization time.
+     */
+    FactorizationCache factorizationCache;
+
     /**
      * Performs the reduction.
      */
@@ -100,13 +180,25 @@ public class TermDocumentMatrixReducer
         {
             ((IterativeMatrixFactorizationFactory) factorizationFactory)
                 .setK(getDesiredClusterCount(context));
+            if (executorService != null)
+            {
+                ((IterativeMatrixFactorizationFactory) factorizationFactory)
+                    .setExecutorService(executorService);
+            }
             IterationNumberGuesser.setEstimatedIterationsNumber(
                 (IterativeMatrixFactorizationFactory) factorizationFactory,
                 vsmContext.termDocumentMatrix, factorizationQuality);
         }
 
+        if (factorizationFactory instanceof RandomizedSingularValueDecompositionFactory)
+        {
+            // Compute only the base vectors that will be used
+            ((RandomizedSingularValueDecompositionFactory) factorizationFactory)
+                .setK(desiredClusterCountBase);
+        }
+
         MatrixUtils.normalizeColumnL2(vsmContext.termDocumentMatrix, null);
-        context.baseMatrix = factorizationFactory.factorize(vsmContext.termDocumentMatrix).getU();
+        context.baseMatrix = factorize(vsmContext).getU();
 
         if (!(factorizationFactory instanceof IterativeMatrixFactorizationFactory)
             && context.baseMatrix.columns() > desiredClusterCountBase)
@@ -116,6 +208,72 @@ public class TermDocumentMatrixReducer
         }
     }
 
+    /**
+     * Factorizes the term-document matrix. Iterative factorizations of a single precision
+     * term-document matrix are computed in single precision.
+     */
+    private IMatrixFactorization factorize(VectorSpaceModelContext vsmContext)
+    {
+        if (!(factorizationFactory instanceof IterativeMatrixFactorizationFactory))
+        {
+            return factorizationFactory.factorize(vsmContext.termDocumentMatrix);
+        }
+
+        final IterativeMatrixFactorizationFactory factory =
+            (IterativeMatrixFactorizationFactory) factorizationFactory;
+        final DoubleFactory2D doubleFactory2D = factory.getDoubleFactory2D();
+        try
+        {
+            if (MatrixUtils.isSinglePrecision(vsmContext.termDocumentMatrix))
+            {
+                factory.setDoubleFactory2D(FloatFactory2D.dense);
+            }
+
+            if (incrementalFactorization && factorizationCache != null)
+            {
+                return factorizeIncrementally(vsmContext, factory);
+            }
+            return factory.factorize(vsmContext.termDocumentMatrix);
+        }
+        finally
+        {
+            factory.setDoubleFactory2D(doubleFactory2D);
+        }
+    }
+
+    /**
+     * Factorizes the term-document matrix starting from the factorization remembered for
+     * the same query, if any, and remembers the result.
+     */
+    private IMatrixFactorization factorizeIncrementally(VectorSpaceModelContext vsmContext,
+        IterativeMatrixFactorizationFactory factory)
+    {
+        final ISeedingStrategyFactory seedingFactory = factory.getSeedingFactory();
+        final double convergenceThreshold = factory.getConvergenceThreshold();
+        final ISeedingStrategyFactory warmStart = factorizationCache.getWarmStart(
+            vsmContext, seedingFactory);
+
+        final IMatrixFactorization factorization;
+        try
+        {
+            if (warmStart != null)
+            {
+                factory.setSeedingFactory(warmStart);
+                factory.setConvergenceThreshold(Math.max(convergenceThreshold,
+                    WARM_START_CONVERGENCE_THRESHOLD));
+            }
+            factorization = factory.factorize(vsmContext.termDocumentMatrix);
+        }
+        finally
+        {
+            factory.setSeedingFactory(seedingFactory);
+            factory.setConvergenceThreshold(convergenceThreshold);
+        }
+
+        factorizationCache.put(vsmContext, factorization);
+        return factorization;
+    }
+
     /**
      * Calculates the desired cluster count using a very simple model.
      */
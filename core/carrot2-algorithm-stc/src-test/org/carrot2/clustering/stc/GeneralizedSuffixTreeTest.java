@@ -39,6 +39,11 @@ public class GeneralizedSuffixTreeTest
             super(sb, 2);
         }
 
+        public TestGST(SequenceBuilder sb, int maxPathLength)
+        {
+            super(sb, 2, maxPathLength);
+        }
+
         protected void visit(int state, int card, BitSet bset, IntStack edges)
         {
             final StringBuilder b = new StringBuilder();
@@ -107,6 +112,49 @@ public class GeneralizedSuffixTreeTest
         }, gst.nodes.toArray());        
     }
 
+    @Test
+    public void testMaxPathLength()
+    {
+        final SequenceBuilder sb = new SequenceBuilder();
+        sb.addPhrase(0, 1, 2, 3);
+        sb.endDocument();
+        sb.addPhrase(0, 1, 2, 3);
+        sb.endDocument();
+        sb.addPhrase(0, 1, 5);
+        sb.endDocument();
+
+        sb.buildSuffixTree();
+
+        // States below "0 1" are not visited, but their documents are counted.
+        TestGST gst = new TestGST(sb, 2);
+        gst.visit();
+
+        Collections.sort(gst.nodes);
+        assertArrayEquals(new Object [] {
+            "0 1 [3]",
+            "1 2 3 [2]",
+            "1 [3]",
+            "2 3 [2]",
+            "3 [2]",
+        }, gst.nodes.toArray());
+
+        // Only states with more than two occurrences are candidates.
+        gst = new TestGST(sb)
+        {
+            protected boolean isCandidate(int occurrences, int pathLength)
+            {
+                return occurrences > 2;
+            }
+        };
+        gst.visit();
+
+        Collections.sort(gst.nodes);
+        assertArrayEquals(new Object [] {
+            "0 1 [3]",
+            "1 [3]",
+        }, gst.nodes.toArray());
+    }
+
     /**
      * 
      */
@@ -0,0 +1,238 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.clustering.stc;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.carrot2.clustering.stc.STCClusteringAlgorithm.PhraseCandidate;
+import org.carrot2.core.Document;
+import org.carrot2.text.preprocessing.PreprocessingContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.carrotsearch.hppc.BitSet;
+
+/**
+ * Test cases for marking sub/super phrases and overlapping phrases of merged clusters in
+ * {@link STCClusteringAlgorithm}.
+ */
+public class PhraseMarkingTest
+{
+    private STCClusteringAlgorithm stc;
+
+    @Before
+    public void createAlgorithm()
+    {
+        stc = new STCClusteringAlgorithm();
+        stc.context = new PreprocessingContext(null, Collections.<Document> emptyList(),
+            null);
+    }
+
+    @Test
+    public void testRepeatedSubphrases()
+    {
+        final ArrayList<PhraseCandidate> phrases = phrases(new float []
+        {
+            0.2f, 1.0f, 0.4f
+        }, new int []
+        {
+            5, 6, 5
+        }, new int []
+        {
+            5
+        }, new int []
+        {
+            6, 5
+        });
+        stc.markSubSuperPhrases(phrases);
+
+        assertMostGeneral(phrases, false, true, false);
+        assertMostSpecific(phrases, true, false, false);
+        assertSelected(phrases, true, true, false);
+    }
+
+    @Test
+    public void testIdenticalPhrases()
+    {
+        final ArrayList<PhraseCandidate> phrases = phrases(new float []
+        {
+            0.5f, 0.5f, 0.3f
+        }, new int []
+        {
+            1, 2
+        }, new int []
+        {
+            1, 2
+        }, new int []
+        {
+            3
+        });
+        stc.markSubSuperPhrases(phrases);
+
+        assertMostGeneral(phrases, false, false, true);
+        assertMostSpecific(phrases, false, false, true);
+        assertSelected(phrases, false, false, true);
+    }
+
+    @Test
+    public void testHashCollision()
+    {
+        // All three phrases hash to 31, only the last one is a subphrase of another
+        final ArrayList<PhraseCandidate> phrases = phrases(new float []
+        {
+            0.5f, 0.5f, 0.4f
+        }, new int []
+        {
+            1, 0
+        }, new int []
+        {
+            0, 31
+        }, new int []
+        {
+            31
+        });
+        stc.markSubSuperPhrases(phrases);
+
+        assertMostGeneral(phrases, true, false, true);
+        assertMostSpecific(phrases, true, true, false);
+        assertSelected(phrases, true, true, false);
+    }
+
+    @Test
+    public void testNoOverlapAllowed()
+    {
+        stc.maxPhraseOverlap = 0;
+        final ArrayList<PhraseCandidate> phrases = overlappingPhrases();
+        stc.markOverlappingPhrases(phrases);
+
+        assertSelected(phrases, true, false, true, false, true);
+    }
+
+    @Test
+    public void testHalfOverlapAllowed()
+    {
+        stc.maxPhraseOverlap = 0.5;
+        final ArrayList<PhraseCandidate> phrases = overlappingPhrases();
+        stc.markOverlappingPhrases(phrases);
+
+        assertSelected(phrases, true, true, true, false, true);
+    }
+
+    @Test
+    public void testFullOverlapAllowed()
+    {
+        stc.maxPhraseOverlap = 1;
+        final ArrayList<PhraseCandidate> phrases = overlappingPhrases();
+        stc.markOverlappingPhrases(phrases);
+
+        assertSelected(phrases, true, true, true, true, true);
+    }
+
+    /**
+     * Phrases sharing one of two words, phrases sharing their only unique word and a
+     * phrase sharing no words.
+     */
+    private ArrayList<PhraseCandidate> overlappingPhrases()
+    {
+        return phrases(new float []
+        {
+            0.5f, 0.4f, 0.3f, 0.2f, 0.1f
+        }, new int []
+        {
+            1, 2
+        }, new int []
+        {
+            2, 3
+        }, new int []
+        {
+            4, 4
+        }, new int []
+        {
+            4
+        }, new int []
+        {
+            5
+        });
+    }
+
+    /**
+     * Creates phrase candidates with the provided coverages and words. Words of all
+     * phrases are concatenated into the algorithm's input.
+     */
+    private ArrayList<PhraseCandidate> phrases(float [] coverages, int []... words)
+    {
+        int length = 0;
+        int maxWord = 0;
+        for (int [] phrase : words)
+        {
+            length += phrase.length;
+            for (int word : phrase)
+            {
+                maxWord = Math.max(maxWord, word);
+            }
+        }
+
+        stc.input = new int [length];
+        stc.context.allWords.type = new short [maxWord + 1];
+
+        final ArrayList<PhraseCandidate> phrases = new ArrayList<PhraseCandidate>();
+        int start = 0;
+        for (int i = 0; i < words.length; i++)
+        {
+            System.arraycopy(words[i], 0, stc.input, start, words[i].length);
+            final ClusterCandidate cluster = new ClusterCandidate(new int []
+            {
+                start, start + words[i].length - 1
+            }, new BitSet(), 0, 0);
+            phrases.add(new PhraseCandidate(cluster, coverages[i]));
+            start += words[i].length;
+        }
+        return phrases;
+    }
+
+    private static void assertSelected(ArrayList<PhraseCandidate> phrases,
+        boolean... expected)
+    {
+        final boolean [] actual = new boolean [phrases.size()];
+        for (int i = 0; i < actual.length; i++)
+        {
+            actual[i] = phrases.get(i).selected;
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private static void assertMostGeneral(ArrayList<PhraseCandidate> phrases,
+        boolean... expected)
+    {
+        final boolean [] actual = new boolean [phrases.size()];
+        for (int i = 0; i < actual.length; i++)
+        {
+            actual[i] = phrases.get(i).mostGeneral;
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private static void assertMostSpecific(ArrayList<PhraseCandidate> phrases,
+        boolean... expected)
+    {
+        final boolean [] actual = new boolean [phrases.size()];
+        for (int i = 0; i < actual.length; i++)
+        {
+            actual[i] = phrases.get(i).mostSpecific;
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+}
@@ -12,19 +12,32 @@
 
 package org.carrot2.clustering.stc;
 
+import static org.carrot2.core.test.assertions.Carrot2CoreAssertions.assertThatClusters;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.carrot2.core.Cluster;
+import org.carrot2.core.Controller;
+import org.carrot2.core.ControllerFactory;
+import org.carrot2.core.Document;
+import org.carrot2.core.attribute.AttributeNames;
 import org.carrot2.core.test.ClusteringAlgorithmTestBase;
 import org.carrot2.core.test.SampleDocumentData;
+import org.carrot2.text.clustering.MultilingualClustering;
+import org.carrot2.text.clustering.MultilingualClustering.LanguageAggregationStrategy;
 import org.carrot2.text.preprocessing.CaseNormalizer;
 import org.carrot2.util.attribute.AttributeUtils;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
 /**
  * Test cases for the {@link STCClusteringAlgorithm}.
  */
@@ -62,6 +75,68 @@ public class STCClusteringAlgorithmTest extends
         assertThat(clusters.size()).isEqualTo(9 + 1);
     }
 
+    @Test
+    public void testParallelLanguageClustering()
+    {
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeNames.DOCUMENTS,
+            SampleDocumentData.DOCUMENTS_SALSA_MULTILINGUAL);
+        attributes.put(AttributeUtils.getKey(STCClusteringAlgorithm.class,
+            "maxClusters"), 5);
+        attributes.put(AttributeUtils.getKey(MultilingualClustering.class,
+            "languageAggregationStrategy"), LanguageAggregationStrategy.FLATTEN_NONE);
+        final List<Cluster> sequentialClusters = getCachingController(initAttributes)
+            .process(attributes, getComponentClass()).getClusters();
+
+        final Map<String, Object> parallelInitAttributes = Maps.newHashMap(initAttributes);
+        parallelInitAttributes.put(AttributeUtils.getKey(MultilingualClustering.class,
+            "languageThreads"), 3);
+        final Controller parallelController = ControllerFactory.createSimple();
+        try
+        {
+            parallelController.init(parallelInitAttributes);
+            final List<Cluster> parallelClusters = parallelController.process(
+                attributes, getComponentClass()).getClusters();
+
+            assertThat(sequentialClusters.size()).isEqualTo(5);
+            assertThatClusters(parallelClusters).isEquivalentTo(sequentialClusters);
+        }
+        finally
+        {
+            parallelController.dispose();
+        }
+    }
+
+    @Test
+    public void testSuffixArrayBaseClusters()
+    {
+        final Controller controller = getCachingController(initAttributes);
+
+        // Make the limits large enough for clusters with equal scores not to be cut off
+        final Map<String, Object> attributes = Maps.newHashMap();
+        attributes.put(AttributeUtils.getKey(STCClusteringAlgorithm.class,
+            "maxBaseClusters"), 10000);
+        attributes.put(AttributeUtils.getKey(STCClusteringAlgorithm.class,
+            "maxClusters"), 10000);
+
+        for (List<Document> documents : SampleDocumentData.ALL)
+        {
+            attributes.put(AttributeNames.DOCUMENTS, documents);
+            attributes.put(AttributeUtils.getKey(STCClusteringAlgorithm.class,
+                "suffixArrayBaseClusters"), false);
+            final Map<String, Set<Document>> treeClusters = toMap(controller.process(
+                attributes, getComponentClass()).getClusters());
+
+            attributes.put(AttributeUtils.getKey(STCClusteringAlgorithm.class,
+                "suffixArrayBaseClusters"), true);
+            final Map<String, Set<Document>> suffixArrayClusters = toMap(controller
+                .process(attributes, getComponentClass()).getClusters());
+
+            assertThat(treeClusters.size()).isGreaterThan(1);
+            assertThat(suffixArrayClusters).isEqualTo(treeClusters);
+        }
+    }
+
     @Test @Ignore
     public void testSampleClustering()
     {
@@ -96,4 +171,18 @@ public class STCClusteringAlgorithmTest extends
         t1 = new int [] {0, 1, 2,   0};
         assertEquals(1, STCClusteringAlgorithm.computeIntersection(t1, 0, 3, t1, 3, 1));
     }
+
+    /**
+     * Maps cluster labels to sets of documents, disregarding the order of clusters with
+     * equal scores.
+     */
+    private static Map<String, Set<Document>> toMap(List<Cluster> clusters)
+    {
+        final Map<String, Set<Document>> map = Maps.newHashMap();
+        for (Cluster cluster : clusters)
+        {
+            map.put(cluster.getLabel(), Sets.newHashSet(cluster.getAllDocuments()));
+        }
+        return map;
+    }
 }
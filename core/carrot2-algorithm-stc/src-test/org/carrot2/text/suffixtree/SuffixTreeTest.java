@@ -87,6 +87,40 @@ public class SuffixTreeTest
         }
     }
 
+    @Test
+    public void checkWideStates()
+    {
+        // Enough distinct symbols for some states to exceed the edge list limit
+        final int [] input = new int [5000];
+        final Random rnd = new Random(0x11223344);
+        for (int i = 0; i < input.length; i++)
+        {
+            input[i] = rnd.nextInt(SuffixTree.MAX_LIST_EDGES * 10);
+        }
+        input[input.length - 1] = Integer.MAX_VALUE;
+
+        final IntegerSequence sequence = new IntegerSequence(input, 0, input.length);
+        final SuffixTree stree = SuffixTreeBuilder.from(sequence).build();
+
+        for (int i = 0; i < input.length; i++)
+        {
+            assertTrue(stree.containsSuffix(new IntegerSequence(input, i, input.length
+                - i)));
+        }
+
+        // Every edge must be found by its first symbol
+        stree.visit(new VisitorAdapter()
+        {
+            public boolean edge(int fromState, int toState, int startIndex, int endIndex)
+            {
+                final int edge = stree.findEdge(fromState, sequence.objectAt(startIndex));
+                assertEquals(toState, stree.getToState(edge));
+                assertEquals(startIndex, stree.getStartIndex(edge));
+                return true;
+            }
+        });
+    }
+
     @Test
     public void testContainsSuffix()
     {
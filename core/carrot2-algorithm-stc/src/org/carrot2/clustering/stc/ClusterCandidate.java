@@ -33,7 +33,7 @@ final class ClusterCandidate
     BitSet documents;
 
     /**
-     * Pairs of integers denoting a range of indices in {@link GeneralizedSuffixTree.SequenceBuilder#input}
+     * Pairs of integers denoting a range of indices in {@link STCClusteringAlgorithm#input}
      * forming this cluster's label.
      */
     final ArrayList<int[]> phrases;
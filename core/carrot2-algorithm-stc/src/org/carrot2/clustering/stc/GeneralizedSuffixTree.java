@@ -143,13 +143,25 @@ final class GeneralizedSuffixTree
         /** Minimum cardinality (inclusive) in an internal state to visit it. */
         private int minCardinality;
 
+        /**
+         * States below a state with a path of at least this many symbols are not
+         * visited, only their documents are collected.
+         */
+        private final int maxPathLength;
+
         public Visitor(SequenceBuilder sb, int minCardinality)
+        {
+            this(sb, minCardinality, Integer.MAX_VALUE);
+        }
+
+        public Visitor(SequenceBuilder sb, int minCardinality, int maxPathLength)
         {
             assert minCardinality > 1;
 
             this.stree = sb.stree;
             this.sb = sb;
             this.minCardinality = minCardinality;
+            this.maxPathLength = maxPathLength;
         }
 
         public void visit()
@@ -158,14 +170,19 @@ final class GeneralizedSuffixTree
             if (stree.isLeaf(stree.getRootState()))
                 return;
 
-            countDocs(0, stree.getRootState());
+            countDocs(0, stree.getRootState(), 0);
         }
 
-        private void countDocs(int level, int state)
+        /**
+         * Collects the documents of a state's subtree in the bit set of its level and
+         * visits the state. Returns the number of leaves in the subtree.
+         */
+        private int countDocs(int level, int state, int pathLength)
         {
             assert !stree.isLeaf(state);
 
             final BitSet me = getBitSet(level);
+            int leaves = 0;
             for (int edge = stree.firstEdge(state); edge != NO_EDGE; edge = stree.nextEdge(edge))
             {
                 final int childState = stree.getToState(edge);
@@ -173,19 +190,30 @@ final class GeneralizedSuffixTree
                 {
                     final int documentIndex = sb.stateOriginDocument.get(childState);
                     me.set(documentIndex);
+                    leaves++;
+                }
+                else if (pathLength >= maxPathLength)
+                {
+                    leaves += collectDocs(childState, me);
                 }
                 else
                 {
                     final BitSet child = getBitSet(level + 1);
                     child.clear();
-                    edges.push(stree.getStartIndex(edge), stree.getEndIndex(edge));
-                    countDocs(level + 1, childState);
+                    final int startIndex = stree.getStartIndex(edge);
+                    final int endIndex = stree.getEndIndex(edge);
+                    edges.push(startIndex, endIndex);
+                    leaves += countDocs(level + 1, childState, 
+                        pathLength + endIndex - startIndex + 1);
                     edges.discard(2);
                     me.or(child);
                 }
             }
 
-            if (stree.getRootState() != state)
+            // Each document in the state has at least one leaf, skip counting them if
+            // the state can't be accepted anyway.
+            if (stree.getRootState() != state && leaves >= minCardinality
+                && isCandidate(leaves, pathLength))
             {
                 final int card = (int) me.cardinality();
                 if (card >= minCardinality)
@@ -193,6 +221,40 @@ final class GeneralizedSuffixTree
                     visit(state, card, me, edges);
                 }
             }
+            return leaves;
+        }
+
+        /**
+         * Collects the documents of a state's subtree in <code>documents</code> without
+         * visiting any states. Returns the number of leaves in the subtree.
+         */
+        private int collectDocs(int state, BitSet documents)
+        {
+            int leaves = 0;
+            for (int edge = stree.firstEdge(state); edge != NO_EDGE; edge = stree.nextEdge(edge))
+            {
+                final int childState = stree.getToState(edge);
+                if (stree.isLeaf(childState))
+                {
+                    documents.set(sb.stateOriginDocument.get(childState));
+                    leaves++;
+                }
+                else
+                {
+                    leaves += collectDocs(childState, documents);
+                }
+            }
+            return leaves;
+        }
+
+        /**
+         * Returns <code>false</code> if a state with <code>occurrences</code> leaves in
+         * its subtree and a path of <code>pathLength</code> symbols need not be visited.
+         * Called before the documents of the state are counted.
+         */
+        protected boolean isCandidate(int occurrences, int pathLength)
+        {
+            return true;
         }
 
         protected abstract void visit(int state, int cardinality, BitSet documents, IntStack path);
@@ -18,11 +18,13 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
 
 import org.carrot2.clustering.stc.GeneralizedSuffixTree.SequenceBuilder;
 import org.carrot2.core.Cluster;
 import org.carrot2.core.Document;
 import org.carrot2.core.IClusteringAlgorithm;
+import org.carrot2.core.IControllerContext;
 import org.carrot2.core.LanguageCode;
 import org.carrot2.core.ProcessingComponentBase;
 import org.carrot2.core.ProcessingException;
@@ -34,6 +36,7 @@ import org.carrot2.text.clustering.MultilingualClustering;
 import org.carrot2.text.clustering.MultilingualClustering.LanguageAggregationStrategy;
 import org.carrot2.text.preprocessing.LabelFormatter;
 import org.carrot2.text.preprocessing.PreprocessingContext;
+import org.carrot2.text.preprocessing.SaisSuffixSorter;
 import org.carrot2.text.preprocessing.pipeline.BasicPreprocessingPipeline;
 import org.carrot2.util.PriorityQueue;
 import org.carrot2.util.attribute.Attribute;
@@ -152,6 +155,20 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
     @IntRange(min = 2, max = 20)
     public int minBaseClusterSize = 2;
 
+    /**
+     * Discover base clusters using a suffix array. If <code>true</code>, frequently
+     * recurring phrases are found by enumerating the intervals of the suffix array and
+     * the LCP array of all input tokens, without building a generalized suffix tree. This
+     * requires less memory and time, especially for large numbers of documents.
+     * 
+     * @group Base clusters
+     * @level Advanced
+     */
+    @Processing
+    @Input
+    @Attribute
+    public boolean suffixArrayBaseClusters = false;
+
     /**
      * Maximum final clusters.
      * 
@@ -288,22 +305,35 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
      */
     public final MultilingualClustering multilingualClustering = new MultilingualClustering();
 
+    /**
+     * Executor service for clustering languages in parallel, <code>null</code> if
+     * languages should be clustered one by one in the calling thread.
+     */
+    private ExecutorService languageExecutorService;
+
     /**
      * Stores the preprocessing context during {@link #process()}.
      */
     PreprocessingContext context;
     
     /**
-     * Suffix tree and suffix tree input during {@link #process()}.
+     * Suffix tree and suffix tree input during {@link #process()}, <code>null</code> if
+     * {@link #suffixArrayBaseClusters} are discovered.
      */
     GeneralizedSuffixTree.SequenceBuilder sb;
 
+    /**
+     * Word indices of the input during {@link #process()}. Phrases of
+     * {@link ClusterCandidate}s are ranges of indices in this array.
+     */
+    int [] input;
+
     /**
      * Helper class for computing merged cluster labels.
      * 
      * @see STCClusteringAlgorithm#merge
      */
-    private static final class PhraseCandidate
+    static final class PhraseCandidate
     {
         final ClusterCandidate cluster;
         final float coverage;
@@ -365,6 +395,18 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
         }
     }
 
+    @Override
+    public void init(IControllerContext context)
+    {
+        super.init(context);
+
+        if (multilingualClustering.languageThreads > 1)
+        {
+            languageExecutorService = getSharedExecutor(
+                multilingualClustering.languageThreads, MultilingualClustering.class);
+        }
+    }
+
     /**
      * Performs STC clustering of {@link #documents}.
      */
@@ -377,9 +419,13 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
         // IMonolingualClusteringAlgorithm implementation below. This is safe because
         // processing components are not thread-safe by definition and 
         // IMonolingualClusteringAlgorithm forbids concurrent execution by contract.
+        // When languages are clustered in parallel, each language is clustered by
+        // a separate copy of this component instead.
         final List<Document> originalDocuments = documents;
-        clusters = multilingualClustering.process(documents,
-            new IMonolingualClusteringAlgorithm()
+        final IMonolingualClusteringAlgorithm algorithm;
+        if (languageExecutorService == null)
+        {
+            algorithm = new IMonolingualClusteringAlgorithm()
             {
                 public List<Cluster> process(List<Document> documents,
                     LanguageCode language)
@@ -388,7 +434,31 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
                     STCClusteringAlgorithm.this.cluster(language);
                     return STCClusteringAlgorithm.this.clusters;
                 }
-            });
+            };
+        }
+        else
+        {
+            algorithm = new IMonolingualClusteringAlgorithm()
+            {
+                public List<Cluster> process(List<Document> documents,
+                    LanguageCode language)
+                {
+                    final STCClusteringAlgorithm copy = borrowCopy();
+                    try
+                    {
+                        copy.documents = documents;
+                        copy.cluster(language);
+                        return copy.clusters;
+                    }
+                    finally
+                    {
+                        returnCopy(copy);
+                    }
+                }
+            };
+        }
+        clusters = multilingualClustering.process(documents, algorithm,
+            languageExecutorService);
         documents = originalDocuments;
 
         // TODO: be consistent here with Lingo implementation (sort with a compound).
@@ -421,10 +491,61 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
          */
         context = preprocessingPipeline.preprocess(documents, query, language);
 
+        final ArrayList<ClusterCandidate> baseClusters;
+        if (suffixArrayBaseClusters)
+        {
+            /*
+             * Steps 2 and 3: Find "base" clusters by looking up frequently recurring
+             * phrases in the suffix array of all input tokens.
+             */
+            input = context.allTokens.wordIndex;
+            baseClusters = createBaseClustersFromSuffixArray();
+        }
+        else
+        {
+            /*
+             * Step 2: Create a generalized suffix tree from phrases in the input.
+             */
+            sb = buildSuffixTree();
+            input = sb.input.buffer;
+
+            /*
+             * Step 3: Find "base" clusters by looking up frequently recurring phrases in
+             * the generalized suffix tree.
+             */
+            baseClusters = createBaseClusters(sb);
+        }
+
+        /*
+         * Step 4: Merge base clusters that overlap too much to form final clusters.
+         */
+        final ArrayList<ClusterCandidate> mergedClusters = createMergedClusters(baseClusters);
+
         /*
-         * Step 2: Create a generalized suffix tree from phrases in the input.
+         * Step 5: Create the junk (unassigned documents) cluster and create the final
+         * set of clusters in Carrot2 format.
          */
-        sb = new GeneralizedSuffixTree.SequenceBuilder();
+        postProcessing(mergedClusters);
+    }
+
+    /**
+     * Memory cleanups.
+     */
+    @Override
+    public void afterProcessing()
+    {
+        super.afterProcessing();
+        this.context = null;
+        this.sb = null;
+        this.input = null;
+    }
+
+    /**
+     * Creates a generalized suffix tree from phrases in the input.
+     */
+    private SequenceBuilder buildSuffixTree()
+    {
+        final SequenceBuilder sb = new GeneralizedSuffixTree.SequenceBuilder();
 
         final int [] tokenIndex = context.allTokens.wordIndex;
         final short [] tokenType = context.allTokens.type;
@@ -452,34 +573,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
             }
         }
         sb.buildSuffixTree();
-
-        /*
-         * Step 3: Find "base" clusters by looking up frequently recurring phrases in the 
-         * generalized suffix tree.
-         */
-        final ArrayList<ClusterCandidate> baseClusters = createBaseClusters(sb);
-
-        /*
-         * Step 4: Merge base clusters that overlap too much to form final clusters.
-         */
-        final ArrayList<ClusterCandidate> mergedClusters = createMergedClusters(baseClusters);
-
-        /*
-         * Step 5: Create the junk (unassigned documents) cluster and create the final
-         * set of clusters in Carrot2 format.
-         */
-        postProcessing(mergedClusters);
-    }
-
-    /**
-     * Memory cleanups.
-     */
-    @Override
-    public void afterProcessing()
-    {
-        super.afterProcessing();
-        this.context = null;
-        this.sb = null;
+        return sb;
     }
 
     /**
@@ -495,45 +589,186 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
          * queue speeds up computations here.
          */
         final BaseClusterQueue pq = new BaseClusterQueue(maxBaseClusters);
+        final double [] maxBoosts = maxPhraseLengthBoosts();
+
+        /*
+         * Walk the internal nodes of the suffix tree. Chopping trailing stop words never
+         * shortens a phrase below its parent's path, so states below paths of
+         * maxDescPhraseLength words are never accepted and we don't visit them.
+         */
+        new GeneralizedSuffixTree.Visitor(sb, minBaseClusterSize, maxDescPhraseLength) {
+            protected boolean isCandidate(int occurrences, int pathLength)
+            {
+                return mayInsert(pq, maxBoosts, occurrences, pathLength);
+            }
 
-        // Walk the internal nodes of the suffix tree.
-        new GeneralizedSuffixTree.Visitor(sb, minBaseClusterSize) {
             protected void visit(int state, int cardinality, 
                 BitSet documents, IntStack path)
             {
-                // Check minimum base cluster cardinality.
-                assert cardinality >= minBaseClusterSize;
+                addBaseCluster(pq, cardinality, documents, path);
+            }
+        }.visit();
 
-                /*
-                 * Consider certain special cases of internal suffix tree nodes.  
-                 */
-                if (!checkAcceptablePhrase(path))
-                {
-                    return;
-                }
+        return toList(pq);
+    }
 
-                // Calculate "effective phrase length", which is the number of non-stopwords.
-                final int effectivePhraseLen = effectivePhraseLength(path);
-                if (effectivePhraseLen == 0)
-                {
-                    return;
-                }
+    /**
+     * Create <i>base clusters</i> from the suffix array of all input tokens. Internal
+     * states of the generalized suffix tree correspond to the intervals of the suffix
+     * array, in which all suffixes share a common prefix (an LCP interval). We enumerate
+     * the intervals bottom-up with a stack, so no suffix tree is built. Documents are
+     * collected only for intervals whose phrases may become base clusters.
+     */
+    private ArrayList<ClusterCandidate> createBaseClustersFromSuffixArray()
+    {
+        new SaisSuffixSorter().suffixSort(context);
+        final int [] suffixArray = context.allTokens.suffixOrder;
+        final int [] lcpArray = context.allTokens.lcp;
+        final int [] documentIndex = context.allTokens.documentIndex;
+
+        final BaseClusterQueue pq = new BaseClusterQueue(maxBaseClusters);
+        final double [] maxBoosts = maxPhraseLengthBoosts();
+
+        // LCPs and left bounds of the open intervals, the root interval (zero LCP) at
+        // the bottom.
+        final IntStack lcps = new IntStack();
+        final IntStack leftBounds = new IntStack();
+        final BitSet documents = new BitSet();
+        final IntStack path = new IntStack(4);
+        lcps.push(0);
+        leftBounds.push(0);
+
+        // The virtual zero LCP past the end of the array closes all non-root intervals.
+        for (int i = 1; i <= suffixArray.length; i++)
+        {
+            final int lcp = (i < lcpArray.length ? lcpArray[i] : 0);
 
-                /*
-                 * Calculate base cluster's score as a function of effective phrase's length.
-                 * STC originally used a linear gradient, we modified it to penalize very long
-                 * phrases (which usually correspond to duplicated snippets anyway). 
-                 */
-                final float score = baseClusterScore(effectivePhraseLen, cardinality);
-                if (score > minBaseClusterScore && pq.willInsert(score))
+            // A shorter LCP closes intervals.
+            int leftBound = i - 1;
+            while (lcp < lcps.get(lcps.size() - 1))
+            {
+                final int intervalLcp = lcps.pop();
+                leftBound = leftBounds.pop();
+
+                // The parent is the enclosing interval or an interval opened below.
+                final int parentLcp = Math.max(lcp, lcps.get(lcps.size() - 1));
+
+                // Chopping trailing stop words never shortens a phrase below its
+                // parent's, so phrases with parents of maxDescPhraseLength words are
+                // never accepted. Documents are collected from the interval's suffixes,
+                // each suffix is in at most maxDescPhraseLength intervals collected.
+                final int occurrences = i - leftBound;
+                if (parentLcp < maxDescPhraseLength && occurrences >= minBaseClusterSize
+                    && mayInsert(pq, maxBoosts, occurrences, intervalLcp))
                 {
-                    pq.insertWithOverflow(
-                        new ClusterCandidate(path.toArray(), 
-                            (BitSet) documents.clone(), cardinality, score));
+                    documents.clear();
+                    for (int j = leftBound; j < i; j++)
+                    {
+                        documents.set(documentIndex[suffixArray[j]]);
+                    }
+
+                    final int cardinality = (int) documents.cardinality();
+                    if (cardinality >= minBaseClusterSize)
+                    {
+                        // Split the phrase as the path to the corresponding suffix tree
+                        // state would be, the last edge is checked for stop words.
+                        final int start = suffixArray[leftBound];
+                        path.clear();
+                        if (parentLcp > 0)
+                        {
+                            path.push(start, start + parentLcp - 1);
+                        }
+                        path.push(start + parentLcp, start + intervalLcp - 1);
+                        addBaseCluster(pq, cardinality, documents, path);
+                    }
                 }
             }
-        }.visit();
 
+            // A longer LCP opens an interval, the closed intervals are its children.
+            if (lcp > lcps.get(lcps.size() - 1))
+            {
+                lcps.push(lcp);
+                leftBounds.push(leftBound);
+            }
+        }
+
+        return toList(pq);
+    }
+
+    /**
+     * Adds a base cluster for a phrase occurring in <code>cardinality</code> documents
+     * to the queue, if the phrase is acceptable and the score is high enough.
+     */
+    private void addBaseCluster(BaseClusterQueue pq, int cardinality, BitSet documents,
+        IntStack path)
+    {
+        // Check minimum base cluster cardinality.
+        assert cardinality >= minBaseClusterSize;
+
+        /*
+         * Consider certain special cases of internal suffix tree nodes.  
+         */
+        if (!checkAcceptablePhrase(path))
+        {
+            return;
+        }
+
+        // Calculate "effective phrase length", which is the number of non-stopwords.
+        final int effectivePhraseLen = effectivePhraseLength(path);
+        if (effectivePhraseLen == 0)
+        {
+            return;
+        }
+
+        /*
+         * Calculate base cluster's score as a function of effective phrase's length.
+         * STC originally used a linear gradient, we modified it to penalize very long
+         * phrases (which usually correspond to duplicated snippets anyway). 
+         */
+        final float score = baseClusterScore(effectivePhraseLen, cardinality);
+        if (score > minBaseClusterScore && pq.willInsert(score))
+        {
+            pq.insertWithOverflow(
+                new ClusterCandidate(path.toArray(), 
+                    (BitSet) documents.clone(), cardinality, score));
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a phrase of <code>phraseLength</code> words occurring
+     * <code>occurrences</code> times in the input may score high enough to enter the
+     * queue. The score can't be higher than the one of a phrase with the best boost among
+     * the effective lengths up to <code>phraseLength</code>, occurring in
+     * <code>occurrences</code> documents.
+     */
+    private boolean mayInsert(BaseClusterQueue pq, double [] maxBoosts, int occurrences,
+        int phraseLength)
+    {
+        final float maxScore = baseClusterScore(maxBoosts[Math.min(phraseLength,
+            maxDescPhraseLength)], Math.min(occurrences, documents.size()));
+        return maxScore > minBaseClusterScore && pq.willInsert(maxScore);
+    }
+
+    /**
+     * Returns the maximum boosts of effective phrase lengths up to each length accepted
+     * by {@link #maxDescPhraseLength}.
+     */
+    private double [] maxPhraseLengthBoosts()
+    {
+        final double [] maxBoosts = new double [maxDescPhraseLength + 1];
+        for (int length = 1; length < maxBoosts.length; length++)
+        {
+            maxBoosts[length] = Math.max(maxBoosts[length - 1], 
+                phraseLengthBoost(length));
+        }
+        return maxBoosts;
+    }
+
+    /**
+     * Returns base clusters from the queue, highest scores first.
+     */
+    private static ArrayList<ClusterCandidate> toList(BaseClusterQueue pq)
+    {
         final ArrayList<ClusterCandidate> clusterCandidates = 
             Lists.newArrayListWithExpectedSize(pq.size());
         while (pq.size() > 0)
@@ -556,7 +791,8 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
     {
         /*
          * Calculate overlap between base clusters first, saving adjacency lists for
-         * each base cluster.
+         * each base cluster. Only clusters sharing documents overlap, so we count
+         * the intersections using an inverted index from documents to base clusters.
          */
 
         // [i] - next neighbor or END, [i + 1] - neighbor cluster index.
@@ -565,16 +801,74 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
         neighborList.push(END);
         final int [] neighbors = new int [baseClusters.size()];
         final float m = (float) mergeThreshold;
+
+        /*
+         * Base clusters containing document d, in increasing order, are stored in
+         * postings between postingStarts[d] and postingStarts[d + 1].
+         */
+        final int documentCount = documents.size();
+        final int [] postingStarts = new int [documentCount + 1];
+        for (ClusterCandidate c : baseClusters)
+        {
+            final BitSetIterator it = c.documents.iterator();
+            for (int d = it.nextSetBit(); d >= 0; d = it.nextSetBit())
+            {
+                postingStarts[d + 1]++;
+            }
+        }
+        for (int d = 0; d < documentCount; d++)
+        {
+            postingStarts[d + 1] += postingStarts[d];
+        }
+
+        // Cursors of the postings, pointing at the cluster processed next.
+        final int [] cursors = Arrays.copyOf(postingStarts, documentCount);
+        final int [] postings = new int [postingStarts[documentCount]];
+        for (int i = 0; i < baseClusters.size(); i++)
+        {
+            final BitSetIterator it = baseClusters.get(i).documents.iterator();
+            for (int d = it.nextSetBit(); d >= 0; d = it.nextSetBit())
+            {
+                postings[cursors[d]++] = i;
+            }
+        }
+        System.arraycopy(postingStarts, 0, cursors, 0, documentCount);
+
+        // Intersection sizes of the current cluster with the following ones.
+        final int [] intersections = new int [baseClusters.size()];
+        final IntArrayList overlapping = new IntArrayList();
+
         for (int i = 0; i < baseClusters.size(); i++)
         {
-            for (int j = i + 1; j < baseClusters.size(); j++)
+            final ClusterCandidate c1 = baseClusters.get(i);
+
+            // The current cluster is at the cursor of each of its documents' postings,
+            // the following clusters are after it.
+            final BitSetIterator it = c1.documents.iterator();
+            for (int d = it.nextSetBit(); d >= 0; d = it.nextSetBit())
+            {
+                assert postings[cursors[d]] == i;
+                final int end = postingStarts[d + 1];
+                for (int p = ++cursors[d]; p < end; p++)
+                {
+                    if (intersections[postings[p]]++ == 0)
+                    {
+                        overlapping.add(postings[p]);
+                    }
+                }
+            }
+
+            // Keep the order of neighbors as in pairwise comparisons.
+            Arrays.sort(overlapping.buffer, 0, overlapping.size());
+            for (int k = 0; k < overlapping.size(); k++)
             {
-                final ClusterCandidate c1 = baseClusters.get(i);
+                final int j = overlapping.get(k);
                 final ClusterCandidate c2 = baseClusters.get(j);
 
                 final float a = c1.cardinality;
                 final float b = c2.cardinality;
-                final float c = BitSet.intersectionCount(c1.documents, c2.documents);
+                final float c = intersections[j];
+                intersections[j] = 0;
 
                 if (c / a > m && c / b > m)
                 {
@@ -584,6 +878,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
                     neighbors[j] = neighborList.size() - 2;
                 }
             }
+            overlapping.clear();
         }
 
         /*
@@ -721,7 +1016,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
      * Leave only most general (no other phrase is a substring of this one) and 
      * most specific (no other phrase is a superstring of this one) phrases.
      */
-    private void markSubSuperPhrases(ArrayList<PhraseCandidate> phrases)
+    void markSubSuperPhrases(ArrayList<PhraseCandidate> phrases)
     {
         final int max = phrases.size();
 
@@ -738,55 +1033,80 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
         }
 
         /*
-         * Mark phrases that cannot be most specific or most general.
+         * Index the phrases by hashes of their words, chaining phrases with equal
+         * hashes. Subphrases of a phrase are then looked up by the hashes of its word
+         * subsequences instead of searching all the other phrases.
          */
-        for (int i = 0; i < max; i++)
+        final int END = -1;
+        final LongIntOpenHashMap heads = new LongIntOpenHashMap();
+        final int [] next = new int [max];
+        for (int j = 0; j < max; j++)
         {
-            for (int j = 0; j < max; j++)
+            final long hash = hash(words.buffer, offsets.get(2 * j), 
+                offsets.get(2 * j + 1));
+            if (heads.containsKey(hash))
             {
-                if (i == j) continue;
-
-                int index = indexOf(
-                    words.buffer, offsets.get(2 * i), offsets.get(2 * i + 1),
-                    words.buffer, offsets.get(2 * j), offsets.get(2 * j + 1));
-                if (index >= 0)
-                {
-                    // j is a subphrase of i, hence i cannot be mostGeneral and j
-                    // cannot be most specific.
-                    phrases.get(i).mostGeneral = false;
-                    phrases.get(j).mostSpecific = false;
-                }
+                next[j] = heads.lget();
+                heads.lset(j);
+            }
+            else
+            {
+                next[j] = END;
+                heads.put(hash, j);
             }
         }
 
         /*
-         * For most general phrases, do not display them if a more specific phrase
-         * exists with pretty much the same coverage. 
+         * Mark phrases that cannot be most specific or most general.
          */
+        // Pairs [i, j], j is a subphrase of i.
+        final IntStack subphrases = new IntStack();
         for (int i = 0; i < max; i++)
         {
-            final PhraseCandidate a = phrases.get(i); 
-            if (!a.mostGeneral) continue;
+            final int start = offsets.get(2 * i);
+            final int length = offsets.get(2 * i + 1);
+            assert length > 0;
 
-            for (int j = 0; j < max; j++)
+            for (int from = start; from < start + length; from++)
             {
-                final PhraseCandidate b = phrases.get(j);
-                if (i == j || !b.mostSpecific) continue;
-
-                int index = indexOf(
-                    words.buffer, offsets.get(2 * j), offsets.get(2 * j + 1),
-                    words.buffer, offsets.get(2 * i), offsets.get(2 * i + 1));
-                if (index >= 0)
+                long hash = 0;
+                for (int to = from; to < start + length; to++)
                 {
-                    if (a.coverage - b.coverage < mostGeneralPhraseCoverage)
+                    hash = hash * 31 + words.buffer[to];
+                    if (!heads.containsKey(hash)) continue;
+
+                    for (int j = heads.lget(); j != END; j = next[j])
                     {
-                        a.selected = false;
-                        j = max;
+                        if (i != j && offsets.get(2 * j + 1) == to - from + 1
+                            && equals(words.buffer, from, words.buffer, 
+                                offsets.get(2 * j), to - from + 1))
+                        {
+                            // j is a subphrase of i, hence i cannot be mostGeneral and
+                            // j cannot be most specific.
+                            phrases.get(i).mostGeneral = false;
+                            phrases.get(j).mostSpecific = false;
+                            subphrases.push(i, j);
+                        }
                     }
                 }
             }
         }
 
+        /*
+         * For most general phrases, do not display them if a more specific phrase
+         * exists with pretty much the same coverage. 
+         */
+        for (int k = 0; k < subphrases.size(); k += 2)
+        {
+            final PhraseCandidate a = phrases.get(subphrases.get(k + 1));
+            final PhraseCandidate b = phrases.get(subphrases.get(k));
+            if (a.mostGeneral && b.mostSpecific
+                && a.coverage - b.coverage < mostGeneralPhraseCoverage)
+            {
+                a.selected = false;
+            }
+        }
+
         /*
          * Mark phrases that should be removed from the candidate set.
          */
@@ -803,7 +1123,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
      * Mark those phrases that overlap with other phrases by more than
      * {@link #maxPhraseOverlap} and have lower coverage.
      */
-    private void markOverlappingPhrases(ArrayList<PhraseCandidate> phrases)
+    void markOverlappingPhrases(ArrayList<PhraseCandidate> phrases)
     {
         final int max = phrases.size();
 
@@ -819,19 +1139,63 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
             appendUniqueWords(words, offsets, p);
         }
 
+        /*
+         * Phrases without common words don't overlap, so we count the common words
+         * using an inverted index from words to phrases: [word, phrase] pairs sorted
+         * by the word and then the phrase.
+         */
+        final long [] postings = new long [words.size()];
+        for (int i = 0; i < max; i++)
+        {
+            final int start = offsets.get(2 * i);
+            for (int k = start; k < start + offsets.get(2 * i + 1); k++)
+            {
+                postings[k] = ((long) words.buffer[k] << 32) | i;
+            }
+        }
+        Arrays.sort(postings);
+
+        // Positions in postings of each phrase's words, in the order of words.
+        final int [] positions = new int [postings.length];
+        final int [] cursors = new int [max];
+        for (int p = 0; p < postings.length; p++)
+        {
+            final int i = (int) postings[p];
+            positions[offsets.get(2 * i) + cursors[i]++] = p;
+        }
+
+        // Numbers of words the current phrase shares with the following ones.
+        final int [] intersections = new int [max];
+        final IntArrayList overlapping = new IntArrayList();
+
         for (int i = 0; i < max; i++)
         {
-            for (int j = i + 1; j < max; j++)
+            // Phrases with the same word follow the current phrase in postings.
+            final int start = offsets.get(2 * i);
+            for (int k = start; k < start + offsets.get(2 * i + 1); k++)
             {
+                final long word = postings[positions[k]] >>> 32;
+                for (int p = positions[k] + 1; 
+                    p < postings.length && (postings[p] >>> 32) == word; p++)
+                {
+                    if (intersections[(int) postings[p]]++ == 0)
+                    {
+                        overlapping.add((int) postings[p]);
+                    }
+                }
+            }
+
+            for (int k = 0; k < overlapping.size(); k++)
+            {
+                final int j = overlapping.get(k);
                 final PhraseCandidate a = phrases.get(i);
                 final PhraseCandidate b = phrases.get(j);
 
                 final int a_words = offsets.get(2 * i + 1);
                 final int b_words = offsets.get(2 * j + 1);
 
-                final float intersection = computeIntersection(
-                    words.buffer, offsets.get(2 * i), a_words,
-                    words.buffer, offsets.get(2 * j), b_words);
+                final float intersection = intersections[j];
+                intersections[j] = 0;
 
                 if ((intersection / b_words) > maxPhraseOverlap 
                     && b.coverage < a.coverage)
@@ -845,6 +1209,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
                     a.selected = false;
                 }
             }
+            overlapping.clear();
         }
     }
 
@@ -884,7 +1249,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
         {
             for (int j = phraseIndices[i]; j <= phraseIndices[i + 1]; j++)
             {
-                final int termIndex = sb.input.get(j);
+                final int termIndex = input[j];
                 if (!TokenTypeUtils.isCommon(tokenTypes[termIndex]))
                 {
                     words.push(termIndex);
@@ -922,7 +1287,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
         {
             for (int j = phraseIndices[i]; j <= phraseIndices[i + 1]; j++)
             {
-                final int termIndex = sb.input.get(j);
+                final int termIndex = input[j];
                 if (!TokenTypeUtils.isCommon(tokenTypes[termIndex]))
                 {
                     words.push(termIndex);
@@ -1015,7 +1380,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
         {
             for (int j = phraseIndices[i]; j <= phraseIndices[i + 1]; j++, k++)
             {
-                final int termIndex = sb.input.get(j);
+                final int termIndex = input[j];
                 images[k] = context.allWords.image[termIndex];
                 stopwords[k] = TokenTypeUtils.isCommon(tokenTypes[termIndex]);
             }
@@ -1053,7 +1418,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
             {
                 b.append(sep);
 
-                final int termIndex = sb.input.get(j);
+                final int termIndex = input[j];
                 b.append(context.allWords.image[termIndex]);
 
                 if (TokenTypeUtils.isCommon(tokenTypes[termIndex])) b.append("[S]");
@@ -1089,7 +1454,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
     {
         assert path.size() > 0;
 
-        final int [] terms = sb.input.buffer;
+        final int [] terms = input;
         final short [] tokenTypes = context.allWords.type;
 
         // Ignore nodes that start with a stop word.
@@ -1139,7 +1504,7 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
      */
     final int effectivePhraseLength(IntStack path)
     {
-        final int [] terms = sb.input.buffer;
+        final int [] terms = input;
         final int lower = ignoreWordIfInFewerDocs;
         final int upper = (int) (ignoreWordIfInHigherDocsPercent * documents.size());
 
@@ -1221,58 +1586,58 @@ public final class STCClusteringAlgorithm extends ProcessingComponentBase implem
      */
     final float baseClusterScore(final int phraseLength, final int documentCount)
     {
-        final double boost;
+        return baseClusterScore(phraseLengthBoost(phraseLength), documentCount);
+    }
+
+    private float baseClusterScore(final double boost, final int documentCount)
+    {
+        return (float) (boost * (documentCount * documentCountBoost));
+    }
+
+    /**
+     * Calculates the score multiplier of a phrase with the given effective length.
+     */
+    private double phraseLengthBoost(final int phraseLength)
+    {
         if (phraseLength == 1 && singleTermBoost > 0)
         {
-            boost = singleTermBoost;
+            return singleTermBoost;
         }
         else
         {
             final int tmp = phraseLength - optimalPhraseLength;
-            boost = Math.exp((-tmp * tmp) 
+            return Math.exp((-tmp * tmp) 
                 / (2 * optimalPhraseLengthDev * optimalPhraseLengthDev));
         }
-
-        return (float) (boost * (documentCount * documentCountBoost));
     }
 
     /**
-     * Subsequence search in int arrays.
+     * Hash of a sequence of words, as computed incrementally in
+     * {@link #markSubSuperPhrases(ArrayList)}.
      */
-    private static int indexOf(int [] source, int sourceOffset, int sourceCount, 
-        int [] target, int targetOffset, int targetCount)
+    private static long hash(int [] words, int offset, int length)
     {
-        if (targetCount == 0)
+        long hash = 0;
+        for (int i = offset; i < offset + length; i++)
         {
-            return 0;
+            hash = hash * 31 + words[i];
         }
-    
-        final int first = target[targetOffset];
-        final int max = sourceOffset + (sourceCount - targetCount);
-    
-        for (int i = sourceOffset; i <= max; i++)
+        return hash;
+    }
+
+    /**
+     * Compares <code>length</code> elements of two int arrays.
+     */
+    private static boolean equals(int [] a, int aOffset, int [] b, int bOffset, 
+        int length)
+    {
+        for (int i = 0; i < length; i++)
         {
-            /* Look for first element. */
-            if (source[i] != first)
-            {
-                while (++i <= max && source[i] != first) /* do nothing */;
-            }
-    
-            /* Found first element, now look at the rest of the pattern */
-            if (i <= max)
+            if (a[aOffset + i] != b[bOffset + i])
             {
-                int j = i + 1;
-                int end = j + targetCount - 1;
-                for (int k = targetOffset + 1; j < end && source[j] == target[k]; j++, k++)
-                    /* do nothing */;
-    
-                if (j == end)
-                {
-                    /* Found whole pattern. */
-                    return i - sourceOffset;
-                }
+                return false;
             }
         }
-        return -1;
+        return true;
     }
 }
@@ -12,15 +12,20 @@
 
 package org.carrot2.text.suffixtree;
 
+import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.IntArrayList;
 import com.carrotsearch.hppc.LongIntOpenHashMap;
-import com.carrotsearch.hppc.cursors.LongIntCursor;
 
 /**
  * Builds a suffix tree (or generalized suffix tree) on a sequence of any integers (or
  * objects that can be represented as unique integers). A direct implementation of Esko
  * Ukkonen's algorithm, but optimized for Java to use primitive data types instead of
  * objects (or boxed types).
+ * <p>
+ * Edges leaving a state are kept in a linked list stored directly in the transitions
+ * array and are looked up with a linear scan. Only states with more than
+ * {@link #MAX_LIST_EDGES} edges (the root state and a few frequent prefixes, typically)
+ * additionally index their edges in a hash map.
  * 
  * @see "E. Ukkonen, On-line construction of suffix trees, Algorithmica, 1995, volume 14, number 3, pages 249-260." 
  */
@@ -30,14 +35,16 @@ public final class SuffixTree
     private final static int NO_SUFFIX_LINK = Integer.MIN_VALUE;
 
     /**
-     * Leaf state marker in {@link #states}.
+     * Marker for the state's last edge in {@link #transitions}. Also marks leaf states
+     * in {@link #states}.
      */
-    private final static int LEAF_STATE = -1;
+    public final static int NO_EDGE = -1;
 
     /**
-     * Marker for the state's last edge in {@link #transitions}.
+     * The maximum number of edges of a state looked up with a linear scan of its edge
+     * list. Edges of states with more edges are indexed in {@link #transitions_map}.
      */
-    public final static int NO_EDGE = -1;
+    final static int MAX_LIST_EDGES = 8;
 
     /**
      * Root state's identifier (constant).
@@ -55,26 +62,34 @@ public final class SuffixTree
     private final int inputSize;
 
     /**
-     * States array indexed by state number. Values in this array are:
-     * <ul>
-     * <li>at build time, the suffix pointer (state pointer),</li>
-     * <li>after the tree is built, the first edge from a given state (edge pointer).</li>
-     * </ul>
+     * States array indexed by state number. Values in this array are the first edge from
+     * a given state (edge pointer) or {@link #NO_EDGE} for leaf states.
+     */
+    private final IntArrayList states = new IntArrayList();
+
+    /**
+     * Suffix pointers (state pointers) indexed by state number, used at build time only.
      */
-    private IntArrayList states = new IntArrayList();
+    private IntArrayList suffixLinks = new IntArrayList();
 
     /**
-     * A hash map of transitions (edges) between states in the suffix tree. The map is
-     * keyed by a combination of state (upper 32 bits) and symbol (lower 32 bits). The
-     * value is an index in the transitions array.
+     * A hash map of transitions (edges) leaving {@link #wideStates}. The map is keyed by
+     * a combination of state (upper 32 bits) and symbol (lower 32 bits). The value is an
+     * index in the transitions array.
      */
     private final LongIntOpenHashMap transitions_map = new LongIntOpenHashMap();
 
+    /**
+     * States with more than {@link #MAX_LIST_EDGES} edges, whose edges are indexed in
+     * {@link #transitions_map}.
+     */
+    private final BitSet wideStates = new BitSet();
+
     /**
      * An array of all transitions.
      * 
      * @see #addTransition(int, int, int)
-     * @see #reuseTransition(int, int, int, int, int)
+     * @see #reuseTransition(int, int, int, int)
      */
     private final IntArrayList transitions = new IntArrayList();
 
@@ -203,21 +218,8 @@ public final class SuffixTree
             canonize(s, k, i);
         }
 
-        // Connect edges from a single state to speed up iterators.
-        for (int i = states.size() - 1; i >= 0; i--)
-            states.set(i, LEAF_STATE);
-
-        for (LongIntCursor c : transitions_map)
-        {
-            final int g = c.value;
-            final int state = (int) (c.key >>> 32);
-            final int prev = states.get(state);
-            if (prev != LEAF_STATE)
-            {
-                transitions.set(g + 3, prev);
-            }
-            states.set(state, g);
-        }
+        // Suffix links are not needed once the tree is built.
+        suffixLinks = null;
     }
 
     /**
@@ -263,7 +265,7 @@ public final class SuffixTree
             else
             {
                 final int r = createNewState(gk + p - k);
-                reuseTransition(removeTransition(s, k), s, gk, gk + p - k, r);
+                reuseTransition(g, gk, gk + p - k, r);
                 createTransition(r, gk + p - k + 1, gj, gs);
                 end_point = false;
                 return r;
@@ -302,7 +304,7 @@ public final class SuffixTree
      */
     private void setSuffixLink(int fromState, int toState)
     {
-        states.set(fromState, toState);
+        suffixLinks.set(fromState, toState);
     }
 
     /*
@@ -310,7 +312,7 @@ public final class SuffixTree
      */
     private int getSuffixLink(int s)
     {
-        final int ts = this.states.get(s);
+        final int ts = this.suffixLinks.get(s);
         assert ts != NO_SUFFIX_LINK;
         return ts;
     }
@@ -334,7 +336,8 @@ public final class SuffixTree
     private final int createState()
     {
         final int state = states.size();
-        states.add(NO_SUFFIX_LINK);
+        states.add(NO_EDGE);
+        suffixLinks.add(NO_SUFFIX_LINK);
         return state;
     }
 
@@ -347,28 +350,54 @@ public final class SuffixTree
         assert k > 0 && p > 0;
 
         final int transition = addTransition(ts, k, p);
-        transitions_map.put(asLong(s, sequence.objectAt(k - 1)), transition);
+        final int first = states.get(s);
+        transitions.set(transition + 3, first);
+        states.set(s, transition);
+
+        if (wideStates.get(s))
+        {
+            transitions_map.put(asLong(s, sequence.objectAt(k - 1)), transition);
+        }
+        else
+        {
+            // Count the edges, the list of a narrow state is short.
+            int edges = 1;
+            for (int g = first; g != NO_EDGE; g = transitions.get(g + 3))
+            {
+                edges++;
+            }
+
+            if (edges > MAX_LIST_EDGES)
+            {
+                wideStates.set(s);
+                for (int g = transition; g != NO_EDGE; g = transitions.get(g + 3))
+                {
+                    transitions_map.put(asLong(s, getSymbol(g)), g);
+                }
+            }
+        }
     }
 
     /**
-     * Reuse an existing transition slot to store a transition from state <code>s</code>
-     * to state <code>ts</code>, labeled with symbols between <code>k</code> and
-     * <code>p</code> (1-based, inclusive).
+     * Reuse an existing transition slot to store a transition to state <code>ts</code>,
+     * labeled with symbols between <code>k</code> and <code>p</code> (1-based,
+     * inclusive). The new label must start with the same symbol, so the transition stays
+     * in its place in the source state's edge list (and hash map entry).
      */
-    private final void reuseTransition(int transition, int s, int k, int p, int ts)
+    private final void reuseTransition(int transition, int k, int p, int ts)
     {
         assert k > 0 && p > 0;
+        assert getSymbol(transition) == sequence.objectAt(k - 1);
 
         transitions.set(transition, ts);
         transitions.set(transition + 1, k);
         transitions.set(transition + 2, p);
-        transitions_map.put(asLong(s, sequence.objectAt(k - 1)), transition);
     }
 
     /**
      * Adds a transition to state <code>ts</code>, labeled with symbols between
-     * <code>k</code> and <code>p</code> (1-based, inclusive), but does not add hash map
-     * entry (for internal use).
+     * <code>k</code> and <code>p</code> (1-based, inclusive), but does not link it to any
+     * state (for internal use).
      */
     private final int addTransition(int ts, int k, int p)
     {
@@ -390,13 +419,11 @@ public final class SuffixTree
     }
 
     /**
-     * Remove the transition from state <code>s</code>, labeled with symbol at index
-     * <code>k - 1</code> and return its slot in the transitions array.
+     * Returns the first symbol of the label of a given edge.
      */
-    private int removeTransition(int s, int k)
+    private final int getSymbol(int edge)
     {
-        assert s != head;
-        return transitions_map.remove(asLong(s, sequence.objectAt(k - 1)));
+        return sequence.objectAt(transitions.get(edge + 1) - 1);
     }
 
     /**
@@ -507,7 +534,7 @@ public final class SuffixTree
      */
     public final boolean isLeaf(int state)
     {
-        return this.states.get(state) == LEAF_STATE;
+        return this.states.get(state) == NO_EDGE;
     }
 
     /**
@@ -534,8 +561,20 @@ public final class SuffixTree
      */
     public final int findEdge(int state, int symbol)
     {
-        return transitions_map.containsKey(
-            asLong(state, symbol)) ? transitions_map.lget() : NO_EDGE;
+        if (wideStates.get(state))
+        {
+            return transitions_map.containsKey(asLong(state, symbol)) ? transitions_map
+                .lget() : NO_EDGE;
+        }
+
+        for (int edge = firstEdge(state); edge != NO_EDGE; edge = nextEdge(edge))
+        {
+            if (getSymbol(edge) == symbol)
+            {
+                return edge;
+            }
+        }
+        return NO_EDGE;
     }
 
     /**
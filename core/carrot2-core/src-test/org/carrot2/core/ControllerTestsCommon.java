@@ -551,6 +551,22 @@ public abstract class ControllerTestsCommon extends ControllerTestsBase
         }
     }
 
+    @Test
+    public void testAdditionalStatisticsProvider()
+    {
+        final Controller controller = prepareController();
+        controller.addStatisticsProvider(new Controller.IControllerStatisticsProvider()
+        {
+            public Map<String, Object> getStatistics()
+            {
+                return ImmutableMap.of("custom", (Object) 42L);
+            }
+        });
+
+        final ControllerStatistics statistics = controller.getStatistics();
+        assertThat(statistics.otherStatistics.get("custom")).isEqualTo(42L);
+    }
+
     @Test
     public void testStatsOneGoodQuery()
     {
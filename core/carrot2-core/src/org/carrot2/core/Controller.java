@@ -14,6 +14,7 @@ package org.carrot2.core;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.commons.lang.StringUtils;
 import org.carrot2.core.attribute.AttributeNames;
@@ -79,6 +80,11 @@ public final class Controller
      */
     private ProcessingStatistics statistics = new ProcessingStatistics();
 
+    /**
+     * Additional providers of statistics, e.g. of caches shared by processing components.
+     */
+    private final List<IControllerStatisticsProvider> statisticsProviders = new CopyOnWriteArrayList<IControllerStatisticsProvider>();
+
     /**
      * Creates a simple controller with no processing component pooling and no results
      * caching. A controller with equivalent configuration can be obtained from
@@ -484,10 +490,22 @@ public final class Controller
     }
 
     /**
-     * Some managers may want to use this interface to provide additional statistics to
-     * the controller.
+     * Registers an additional provider of statistics. Statistics returned by the provider
+     * will be available in {@link ControllerStatistics#otherStatistics}.
+     * 
+     * @return this controller for convenience
+     */
+    public Controller addStatisticsProvider(IControllerStatisticsProvider provider)
+    {
+        statisticsProviders.add(provider);
+        return this;
+    }
+
+    /**
+     * Some managers and processing components may want to use this interface to provide
+     * additional statistics to the controller.
      */
-    static interface IControllerStatisticsProvider
+    public static interface IControllerStatisticsProvider
     {
         /**
          * Called when the controller is requested to provide current statistics.
@@ -544,15 +562,15 @@ public final class Controller
 
         ControllerStatistics getStatistics()
         {
-            final Map<String, Object> extraStats;
+            final Map<String, Object> extraStats = Maps.newHashMap();
             if (componentManager instanceof IControllerStatisticsProvider)
             {
-                extraStats = ((IControllerStatisticsProvider) componentManager)
-                    .getStatistics();
+                extraStats.putAll(((IControllerStatisticsProvider) componentManager)
+                    .getStatistics());
             }
-            else
+            for (IControllerStatisticsProvider provider : statisticsProviders)
             {
-                extraStats = Collections.emptyMap();
+                extraStats.putAll(provider.getStatistics());
             }
 
             // The stats may be still a little off because synchronization does not
@@ -578,7 +596,8 @@ public final class Controller
                     (Long) extraStats
                         .get(CachingProcessingComponentManager.CACHE_HITS_MEMORY),
                     (Long) extraStats
-                        .get(CachingProcessingComponentManager.CACHE_HITS_DISK));
+                        .get(CachingProcessingComponentManager.CACHE_HITS_DISK),
+                    extraStats);
             }
         }
 
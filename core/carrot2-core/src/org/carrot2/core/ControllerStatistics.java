@@ -12,6 +12,8 @@
 package org.carrot2.core;
 
 import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Map;
 
 import org.simpleframework.xml.Attribute;
 import org.simpleframework.xml.Root;
@@ -120,13 +122,21 @@ public final class ControllerStatistics
     @Attribute(name = "cache-hits-disk", required = false)
     public final Long cacheHitsDisk;
 
+    /**
+     * All statistics reported by the controller's component manager and additional
+     * statistics providers (see
+     * {@link Controller#addStatisticsProvider(Controller.IControllerStatisticsProvider)}),
+     * e.g. of stem caches. This map is not serialized.
+     */
+    public final Map<String, Object> otherStatistics;
+
     ControllerStatistics(long totalQueries, long goodQueries,
         double algorithmTimeAverageInWindow, long algorithmTimeMeasurementsInWindow,
         long algorithmTimeWindowSize, double sourceTimeAverageInWindow,
         long sourceTimeMeasurementsInWindow, long sourceTimeWindowSize,
         double totalTimeAverageInWindow, long totalTimeMeasurementsInWindow,
         long totalTimeWindowSize, Long cacheMisses, Long cacheHitsTotal,
-        Long cacheHitsMemory, Long cacheHitsDisk)
+        Long cacheHitsMemory, Long cacheHitsDisk, Map<String, Object> otherStatistics)
     {
         this.totalQueries = totalQueries;
         this.goodQueries = goodQueries;
@@ -147,6 +157,8 @@ public final class ControllerStatistics
         this.cacheHitsTotal = cacheHitsTotal;
         this.cacheHitsMemory = cacheHitsMemory;
         this.cacheHitsDisk = cacheHitsDisk;
+
+        this.otherStatistics = Collections.unmodifiableMap(otherStatistics);
     }
 
     /**
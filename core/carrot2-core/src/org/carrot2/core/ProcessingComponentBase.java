@@ -12,9 +12,22 @@
 
 package org.carrot2.core;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
+import org.carrot2.core.attribute.Init;
+import org.carrot2.core.attribute.Processing;
 import org.carrot2.util.ExecutorServiceUtils;
+import org.carrot2.util.attribute.*;
+import org.carrot2.util.attribute.AttributeBinder.*;
+import org.carrot2.util.attribute.constraint.ImplementingClasses;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 /**
  * A base class for implementation of the {@link IProcessingComponent} interface that
@@ -24,6 +37,16 @@ public abstract class ProcessingComponentBase implements IProcessingComponent
 {
     private IControllerContext context;
 
+    /**
+     * All copies created by {@link #borrowCopy()}, disposed with this component.
+     */
+    private final List<ProcessingComponentBase> copies = Lists.newArrayList();
+
+    /**
+     * Copies available for {@link #borrowCopy()}.
+     */
+    private final List<ProcessingComponentBase> idleCopies = Lists.newArrayList();
+
     /*
      * 
      */
@@ -87,10 +110,145 @@ public abstract class ProcessingComponentBase implements IProcessingComponent
         }
     }
 
+    /**
+     * Returns a copy of this component prepared for processing with the current values of
+     * this component's {@link Input} attributes, as if both components were prepared by
+     * the same controller, so that the copy can process in parallel with this component.
+     * Values of attributes restricted by {@link ImplementingClasses} are shared with the
+     * copy, unless they implement {@link Cloneable} and a public <code>clone()</code>
+     * method, in which case the copy gets their clones. Copies are created on first use
+     * and reused until this component is disposed. The caller is responsible for
+     * returning the copy with {@link #returnCopy(ProcessingComponentBase)}.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T extends ProcessingComponentBase> T borrowCopy()
+        throws ProcessingException
+    {
+        // Binding is serialized, so that shared attribute values are never bound by
+        // two threads at a time
+        synchronized (copies)
+        {
+            final Map<String, Object> attributes = Maps.newHashMap();
+            try
+            {
+                AttributeBinder.bind(this, new IAttributeBinderAction []
+                {
+                    new AttributeBinderActionCollect(Input.class, attributes,
+                        CopyTransformer.INSTANCE)
+                }, Input.class, Init.class, Processing.class);
+
+                final T copy;
+                if (idleCopies.isEmpty())
+                {
+                    copy = (T) getClass().getDeclaredConstructor().newInstance();
+                    ControllerUtils.init(copy, attributes, Maps
+                        .<String, Object> newHashMap(), false, getContext());
+                    copies.add(copy);
+                }
+                else
+                {
+                    copy = (T) idleCopies.remove(idleCopies.size() - 1);
+                }
+
+                ControllerUtils.beforeProcessing(copy, attributes);
+                return copy;
+            }
+            catch (InstantiationException e)
+            {
+                throw copyFailed(e);
+            }
+            catch (IllegalAccessException e)
+            {
+                throw copyFailed(e);
+            }
+            catch (InvocationTargetException e)
+            {
+                throw copyFailed(e);
+            }
+            catch (NoSuchMethodException e)
+            {
+                throw copyFailed(e);
+            }
+        }
+    }
+
+    /**
+     * Returns a copy obtained from {@link #borrowCopy()} after processing, so that it
+     * can be borrowed again.
+     */
+    protected void returnCopy(ProcessingComponentBase copy)
+    {
+        try
+        {
+            copy.afterProcessing();
+        }
+        finally
+        {
+            synchronized (copies)
+            {
+                idleCopies.add(copy);
+            }
+        }
+    }
+
+    private ProcessingException copyFailed(Exception e)
+    {
+        return new ProcessingException("Could not create a copy of "
+            + getClass().getName(), e);
+    }
+
+    /**
+     * Replaces values of attributes restricted by {@link ImplementingClasses} with their
+     * clones, if they can be cloned, so that the copies created by
+     * {@link ProcessingComponentBase#borrowCopy()} can modify them independently.
+     * Values that cannot be cloned are shared.
+     */
+    private static final class CopyTransformer implements IAttributeTransformer
+    {
+        static final CopyTransformer INSTANCE = new CopyTransformer();
+
+        public Object transform(Object value, String key, Field field,
+            Class<? extends Annotation> bindingDirectionAnnotation)
+        {
+            if (!(value instanceof Cloneable)
+                || field.getAnnotation(ImplementingClasses.class) == null)
+            {
+                return value;
+            }
+
+            try
+            {
+                return value.getClass().getMethod("clone").invoke(value);
+            }
+            catch (NoSuchMethodException e)
+            {
+                // No public clone() method, share the value
+                return value;
+            }
+            catch (IllegalAccessException e)
+            {
+                throw new ProcessingException("Could not clone attribute " + key, e);
+            }
+            catch (InvocationTargetException e)
+            {
+                throw new ProcessingException("Could not clone attribute " + key, e);
+            }
+        }
+    }
+
     /*
      * 
      */
     public void dispose()
     {
+        synchronized (copies)
+        {
+            for (ProcessingComponentBase copy : copies)
+            {
+                copy.dispose();
+            }
+            copies.clear();
+            idleCopies.clear();
+        }
     }
 }
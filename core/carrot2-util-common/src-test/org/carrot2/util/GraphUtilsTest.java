@@ -137,6 +137,70 @@ public class GraphUtilsTest
         }));
     }
 
+    @Test
+    public void testSizeRatioFilterCandidates()
+    {
+        final int [] sizes = new int []
+        {
+            10, 3, 7, 0, 10, 14, 5, 0, 20
+        };
+        final GraphUtils.SizeRatioFilter filter = new GraphUtils.SizeRatioFilter(sizes,
+            0.5);
+        final IntArrayList candidates = new IntArrayList();
+
+        filter.getCandidates(0, candidates);
+        assertEquals(IntArrayList.from(2, 4, 5, 6, 8), candidates);
+
+        filter.getCandidates(1, candidates);
+        assertEquals(IntArrayList.from(6), candidates);
+
+        filter.getCandidates(3, candidates);
+        assertEquals(IntArrayList.from(7), candidates);
+
+        filter.getCandidates(8, candidates);
+        assertEquals(IntArrayList.from(0, 4, 5), candidates);
+    }
+
+    @Test
+    public void testSizeRatioFilterSameSubgraphs()
+    {
+        final Random random = new Random(0x5eed);
+        for (int round = 0; round < 200; round++)
+        {
+            final int vertexCount = random.nextInt(60);
+            final double threshold = random.nextInt(11) / 10.0;
+
+            // Vertices are sets connected if their overlap is large enough
+            final BitSet [] sets = new BitSet [vertexCount];
+            final int [] sizes = new int [vertexCount];
+            for (int i = 0; i < vertexCount; i++)
+            {
+                sets[i] = new BitSet();
+                final int elements = random.nextInt(12);
+                for (int j = 0; j < elements; j++)
+                {
+                    sets[i].set(random.nextInt(16));
+                }
+                sizes[i] = sets[i].cardinality();
+            }
+
+            final GraphUtils.IArcPredicate predicate = new GraphUtils.IArcPredicate()
+            {
+                public boolean isArcPresent(int vertexA, int vertexB)
+                {
+                    final BitSet intersection = (BitSet) sets[vertexA].clone();
+                    intersection.and(sets[vertexB]);
+                    return intersection.cardinality()
+                        / (double) Math.max(sizes[vertexA], sizes[vertexB]) >= threshold;
+                }
+            };
+
+            assertEquals(GraphUtils.findCoherentSubgraphs(vertexCount, predicate, false),
+                GraphUtils.findCoherentSubgraphs(vertexCount, predicate,
+                    new GraphUtils.SizeRatioFilter(sizes, threshold), false));
+        }
+    }
+
     private void checkAsserts(int vertexCount, int [][] arcs,
         boolean pruneOneNodeSubgraphs, List<IntArrayList> expected)
     {
@@ -0,0 +1,132 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.carrotsearch.hppc.BitSet;
+
+/**
+ * Test cases for {@link SortedIntSet}.
+ */
+public class SortedIntSetTest
+{
+    @Test
+    public void testEmpty()
+    {
+        assertThat(SortedIntSet.fromUnsorted(new int [0], 0)).isSameAs(SortedIntSet.EMPTY);
+        assertThat(SortedIntSet.EMPTY.size()).isEqualTo(0);
+        assertThat(SortedIntSet.EMPTY.isEmpty()).isTrue();
+        assertThat(SortedIntSet.EMPTY.toArray()).isEqualTo(new int [0]);
+    }
+
+    @Test
+    public void testFromUnsorted()
+    {
+        final SortedIntSet set = SortedIntSet.fromUnsorted(new int []
+        {
+            5, 1, 3, 1, 5, 0, 100
+        }, 6);
+
+        assertThat(set.toArray()).isEqualTo(new int []
+        {
+            0, 1, 3, 5
+        });
+        assertThat(set.contains(3)).isTrue();
+        assertThat(set.contains(4)).isFalse();
+        assertThat(set.contains(100)).isFalse();
+    }
+
+    @Test
+    public void testIntersect()
+    {
+        final SortedIntSet a = set(1, 2, 3, 7, 9);
+        final SortedIntSet b = set(2, 4, 7, 8, 9, 10);
+
+        assertThat(a.intersect(b).toArray()).isEqualTo(new int []
+        {
+            2, 7, 9
+        });
+        assertThat(a.intersectionSize(b)).isEqualTo(3);
+        assertThat(a.intersect(SortedIntSet.EMPTY).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testUnion()
+    {
+        final SortedIntSet a = set(1, 3, 7);
+        final SortedIntSet b = set(2, 3, 8);
+
+        assertThat(a.union(b).toArray()).isEqualTo(new int []
+        {
+            1, 2, 3, 7, 8
+        });
+        assertThat(a.union(SortedIntSet.EMPTY)).isSameAs(a);
+        assertThat(a.union(set(1, 7))).isSameAs(a);
+    }
+
+    @Test
+    public void testRandomized()
+    {
+        final Random random = new Random(0x5eed);
+        for (int round = 0; round < 500; round++)
+        {
+            final int universe = 1 + random.nextInt(2000);
+            final BitSet bitsA = randomBits(random, universe, random.nextDouble());
+            final BitSet bitsB = randomBits(random, universe, random.nextDouble() / 20);
+            final SortedIntSet a = toSet(bitsA);
+            final SortedIntSet b = toSet(bitsB);
+
+            final BitSet intersection = new BitSet();
+            intersection.or(bitsA);
+            intersection.and(bitsB);
+            final BitSet union = new BitSet();
+            union.or(bitsA);
+            union.or(bitsB);
+
+            assertThat(a.size()).isEqualTo((int) bitsA.cardinality());
+            assertThat(a.intersect(b)).isEqualTo(toSet(intersection));
+            assertThat(b.intersect(a)).isEqualTo(toSet(intersection));
+            assertThat(a.intersectionSize(b)).isEqualTo((int) intersection.cardinality());
+            assertThat(b.intersectionSize(a)).isEqualTo((int) intersection.cardinality());
+            assertThat(a.union(b)).isEqualTo(toSet(union));
+        }
+    }
+
+    private static BitSet randomBits(Random random, int universe, double density)
+    {
+        final BitSet bits = new BitSet(universe);
+        for (int i = 0; i < universe; i++)
+        {
+            if (random.nextDouble() < density)
+            {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    private static SortedIntSet toSet(BitSet bits)
+    {
+        final int [] values = bits.asIntLookupContainer().toArray();
+        return SortedIntSet.fromSorted(values, values.length);
+    }
+
+    private static SortedIntSet set(int... values)
+    {
+        return SortedIntSet.fromUnsorted(values, values.length);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.carrotsearch.hppc.sorting.IndirectComparator;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+
+/**
+ * Test cases for {@link SuffixArrays}.
+ */
+public class SuffixArraysTest
+{
+    @Test
+    public void testSentinelOnly()
+    {
+        check(new int []
+        {
+            0
+        }, 1);
+    }
+
+    @Test
+    public void testBanana()
+    {
+        // b a n a n a $
+        final int [] input = new int []
+        {
+            2, 1, 3, 1, 3, 1, 0
+        };
+
+        assertThat(SuffixArrays.suffixArray(input, 4)).isEqualTo(new int []
+        {
+            6, 5, 3, 1, 0, 4, 2
+        });
+        assertThat(SuffixArrays.lcp(input, SuffixArrays.suffixArray(input, 4)))
+            .isEqualTo(new int []
+            {
+                0, 0, 1, 3, 0, 0, 2
+            });
+    }
+
+    @Test
+    public void testRepeatedSymbol()
+    {
+        final int [] input = new int [100];
+        for (int i = 0; i < input.length - 1; i++)
+        {
+            input[i] = 1;
+        }
+        check(input, 2);
+    }
+
+    @Test
+    public void testRandom()
+    {
+        final Random random = new Random(0x55aa55aa);
+        for (int round = 0; round < 200; round++)
+        {
+            final int alphabetSize = 2 + random.nextInt(round < 100 ? 3 : 100);
+            final int [] input = new int [1 + random.nextInt(500)];
+            for (int i = 0; i < input.length - 1; i++)
+            {
+                input[i] = 1 + random.nextInt(alphabetSize - 1);
+            }
+            check(input, alphabetSize);
+        }
+    }
+
+    private void check(final int [] input, int alphabetSize)
+    {
+        final int [] expectedSuffixArray = IndirectSort.sort(0, input.length,
+            new IndirectComparator()
+            {
+                public int compare(int a, int b)
+                {
+                    while (a < input.length && b < input.length && input[a] == input[b])
+                    {
+                        a++;
+                        b++;
+                    }
+                    return (a == input.length ? -1 : input[a])
+                        - (b == input.length ? -1 : input[b]);
+                }
+            });
+
+        final int [] expectedLcp = new int [input.length];
+        for (int i = 1; i < input.length; i++)
+        {
+            int a = expectedSuffixArray[i - 1];
+            int b = expectedSuffixArray[i];
+            while (a < input.length && b < input.length && input[a] == input[b])
+            {
+                a++;
+                b++;
+                expectedLcp[i]++;
+            }
+        }
+
+        final int [] suffixArray = SuffixArrays.suffixArray(input, alphabetSize);
+        assertThat(suffixArray).isEqualTo(expectedSuffixArray);
+        assertThat(SuffixArrays.lcp(input, suffixArray)).isEqualTo(expectedLcp);
+    }
+}
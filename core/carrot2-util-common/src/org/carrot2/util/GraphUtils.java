@@ -12,6 +12,7 @@
 
 package org.carrot2.util;
 
+import java.util.Arrays;
 import java.util.List;
 
 import com.carrotsearch.hppc.IntArrayDeque;
@@ -35,11 +36,36 @@ public class GraphUtils
      */
     public static List<IntArrayList> findCoherentSubgraphs(int vertexCount,
         IArcPredicate arcPredicate, boolean pruneOneNodeSubrgaphs)
+    {
+        return findCoherentSubgraphs(vertexCount, arcPredicate, null,
+            pruneOneNodeSubrgaphs);
+    }
+
+    /**
+     * Finds coherent subgraphs of an undirected graph in which arcs can connect only
+     * vertices of similar sizes, such as sets with large overlaps. The
+     * <code>arcPredicate</code> is not evaluated for pairs of vertices rejected by the
+     * <code>sizeRatioFilter</code>. The result is the same as the result of
+     * {@link #findCoherentSubgraphs(int, IArcPredicate, boolean)}.
+     * 
+     * @param vertexCount the number of vertices in the graph
+     * @param arcPredicate a predicate that determines which vertices are connected by an
+     *            arc
+     * @param sizeRatioFilter filter of pairs of vertices that cannot be connected by an
+     *            arc, <code>null</code> to evaluate the predicate for all pairs
+     * @param pruneOneNodeSubrgaphs if <code>true</code>, one-node subgraphs will not be
+     *            included in the result
+     * @return a list of {@link IntArrayList}s containing vertices of the coherent subgraphs
+     */
+    public static List<IntArrayList> findCoherentSubgraphs(int vertexCount,
+        IArcPredicate arcPredicate, SizeRatioFilter sizeRatioFilter,
+        boolean pruneOneNodeSubrgaphs)
     {
         // Find coherent sub-graphs using breadth-first search
         final boolean [] nodesChecked = new boolean [vertexCount];
         final List<IntArrayList> clusterGroups = Lists.newArrayList();
         final IntArrayDeque nodeQueue = new IntArrayDeque();
+        final IntArrayList candidates = new IntArrayList();
 
         for (int i = 0; i < vertexCount; i++)
         {
@@ -59,14 +85,35 @@ public class GraphUtils
                     clusterGroup.add(node);
 
                     // Add all its non-checked neighbors to the queue
-                    for (int j = i + 1; j < vertexCount; j++)
+                    if (sizeRatioFilter == null)
                     {
-                        if (!nodesChecked[j])
+                        for (int j = i + 1; j < vertexCount; j++)
                         {
-                            if (arcPredicate.isArcPresent(node, j))
+                            if (!nodesChecked[j])
                             {
-                                nodeQueue.addLast(j);
-                                nodesChecked[j] = true;
+                                if (arcPredicate.isArcPresent(node, j))
+                                {
+                                    nodeQueue.addLast(j);
+                                    nodesChecked[j] = true;
+                                }
+                            }
+                        }
+                    }
+                    else
+                    {
+                        // All vertices preceding i have been checked already
+                        sizeRatioFilter.getCandidates(node, candidates);
+                        final int [] buffer = candidates.buffer;
+                        for (int k = 0; k < candidates.size(); k++)
+                        {
+                            final int j = buffer[k];
+                            if (!nodesChecked[j])
+                            {
+                                if (arcPredicate.isArcPresent(node, j))
+                                {
+                                    nodeQueue.addLast(j);
+                                    nodesChecked[j] = true;
+                                }
                             }
                         }
                     }
@@ -93,4 +140,105 @@ public class GraphUtils
          */
         public boolean isArcPresent(int vertexA, int vertexB);
     }
+
+    /**
+     * Selects pairs of vertices whose sizes are similar enough for the vertices to be
+     * connected by an arc. For a pair of vertices of sizes <code>a &lt;= b</code>, the
+     * pair is selected if <code>a / (double) b &gt;= minSizeRatio</code>. If vertices are
+     * sets and arcs require the size of the intersection divided by the size of one of
+     * the sets to be at least <code>minSizeRatio</code>, this filter never rejects a
+     * pair of connected vertices. Finding the candidates of one vertex takes time
+     * proportional to the logarithm of the number of vertices and the number of the
+     * candidates rather than the number of vertices.
+     */
+    public static final class SizeRatioFilter
+    {
+        private final int [] sizes;
+        private final double minSizeRatio;
+
+        /** Vertices sorted by increasing size */
+        private final int [] verticesBySize;
+
+        /** Sizes of {@link #verticesBySize} */
+        private final int [] sortedSizes;
+
+        public SizeRatioFilter(int [] sizes, double minSizeRatio)
+        {
+            this.sizes = sizes;
+            this.minSizeRatio = minSizeRatio;
+
+            final long [] sizesAndVertices = new long [sizes.length];
+            for (int i = 0; i < sizes.length; i++)
+            {
+                sizesAndVertices[i] = ((long) sizes[i] << 32) | i;
+            }
+            Arrays.sort(sizesAndVertices);
+
+            this.verticesBySize = new int [sizes.length];
+            this.sortedSizes = new int [sizes.length];
+            for (int i = 0; i < sizes.length; i++)
+            {
+                verticesBySize[i] = (int) sizesAndVertices[i];
+                sortedSizes[i] = (int) (sizesAndVertices[i] >>> 32);
+            }
+        }
+
+        /**
+         * Replaces the contents of <code>candidates</code> with vertices other than
+         * <code>vertex</code> whose sizes are similar enough to the size of the
+         * <code>vertex</code>, in increasing order.
+         */
+        public void getCandidates(int vertex, IntArrayList candidates)
+        {
+            final int size = sizes[vertex];
+
+            // The first vertex not much smaller than the vertex
+            int from = 0, to = sortedSizes.length;
+            while (from < to)
+            {
+                final int mid = (from + to) >>> 1;
+                if (ratio(sortedSizes[mid], size) >= minSizeRatio)
+                {
+                    to = mid;
+                }
+                else
+                {
+                    from = mid + 1;
+                }
+            }
+            final int start = from;
+
+            // The first vertex much larger than the vertex
+            to = sortedSizes.length;
+            while (from < to)
+            {
+                final int mid = (from + to) >>> 1;
+                if (sortedSizes[mid] <= size
+                    || ratio(size, sortedSizes[mid]) >= minSizeRatio)
+                {
+                    from = mid + 1;
+                }
+                else
+                {
+                    to = mid;
+                }
+            }
+            final int end = from;
+
+            candidates.clear();
+            for (int i = start; i < end; i++)
+            {
+                if (verticesBySize[i] != vertex)
+                {
+                    candidates.add(verticesBySize[i]);
+                }
+            }
+            Arrays.sort(candidates.buffer, 0, candidates.size());
+        }
+
+        private static double ratio(int smaller, int larger)
+        {
+            return larger == 0 ? 1 : smaller / (double) larger;
+        }
+    }
 }
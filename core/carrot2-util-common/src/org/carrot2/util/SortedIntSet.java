@@ -0,0 +1,312 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of non-negative integers stored as a sorted array. Unlike a bit set,
+ * the memory used by this set is proportional to the number of its elements rather than
+ * to the largest element, which makes it suitable for sparse sets over large universes,
+ * such as sets of documents assigned to a label.
+ * <p>
+ * Intersections of sets of very different sizes are computed using galloping
+ * (exponential) search, which takes time proportional to the size of the smaller set
+ * times the logarithm of the larger set.
+ */
+public final class SortedIntSet
+{
+    /**
+     * An empty set.
+     */
+    public static final SortedIntSet EMPTY = new SortedIntSet(new int [0]);
+
+    /**
+     * If the larger set is at least this many times larger than the smaller one,
+     * intersections use galloping search instead of a linear merge.
+     */
+    private static final int GALLOPING_RATIO = 8;
+
+    /**
+     * Elements of this set in ascending order, no duplicates.
+     */
+    private final int [] values;
+
+    private SortedIntSet(int [] values)
+    {
+        this.values = values;
+    }
+
+    /**
+     * Creates a set from the first <code>count</code> elements of the provided array. The
+     * elements must be sorted in ascending order and must not contain duplicates. The
+     * array is copied.
+     */
+    public static SortedIntSet fromSorted(int [] values, int count)
+    {
+        if (count == 0)
+        {
+            return EMPTY;
+        }
+        return new SortedIntSet(Arrays.copyOf(values, count));
+    }
+
+    /**
+     * Creates a set from the first <code>count</code> elements of the provided array. The
+     * elements can come in any order and can contain duplicates. The array is not
+     * modified.
+     */
+    public static SortedIntSet fromUnsorted(int [] values, int count)
+    {
+        if (count == 0)
+        {
+            return EMPTY;
+        }
+
+        final int [] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        int unique = 1;
+        for (int i = 1; i < count; i++)
+        {
+            if (sorted[i] != sorted[unique - 1])
+            {
+                sorted[unique++] = sorted[i];
+            }
+        }
+
+        return new SortedIntSet(unique == count ? sorted : Arrays.copyOf(sorted, unique));
+    }
+
+    /**
+     * Returns the number of elements in this set.
+     */
+    public int size()
+    {
+        return values.length;
+    }
+
+    /**
+     * Returns <code>true</code> if this set has no elements.
+     */
+    public boolean isEmpty()
+    {
+        return values.length == 0;
+    }
+
+    /**
+     * Returns the <code>index</code>-th smallest element of this set.
+     */
+    public int get(int index)
+    {
+        return values[index];
+    }
+
+    /**
+     * Returns <code>true</code> if this set contains the provided <code>value</code>.
+     */
+    public boolean contains(int value)
+    {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    /**
+     * Returns a copy of the elements of this set, in ascending order.
+     */
+    public int [] toArray()
+    {
+        return values.clone();
+    }
+
+    /**
+     * Returns the intersection of this set and the <code>other</code> set.
+     */
+    public SortedIntSet intersect(SortedIntSet other)
+    {
+        final int [] smaller = (size() <= other.size() ? values : other.values);
+        final int [] larger = (smaller == values ? other.values : values);
+        final int [] result = new int [smaller.length];
+        final int count = intersect(smaller, larger, result);
+
+        if (count == smaller.length)
+        {
+            return (smaller == values ? this : other);
+        }
+        return fromSorted(result, count);
+    }
+
+    /**
+     * Returns the number of elements this set has in common with the <code>other</code>
+     * set. No memory is allocated.
+     */
+    public int intersectionSize(SortedIntSet other)
+    {
+        if (size() <= other.size())
+        {
+            return intersect(values, other.values, null);
+        }
+        else
+        {
+            return intersect(other.values, values, null);
+        }
+    }
+
+    /**
+     * Returns the union of this set and the <code>other</code> set.
+     */
+    public SortedIntSet union(SortedIntSet other)
+    {
+        if (other.isEmpty())
+        {
+            return this;
+        }
+        if (isEmpty())
+        {
+            return other;
+        }
+
+        final int [] a = values;
+        final int [] b = other.values;
+        final int [] result = new int [a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length)
+        {
+            if (a[i] < b[j])
+            {
+                result[k++] = a[i++];
+            }
+            else if (a[i] > b[j])
+            {
+                result[k++] = b[j++];
+            }
+            else
+            {
+                result[k++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length)
+        {
+            result[k++] = a[i++];
+        }
+        while (j < b.length)
+        {
+            result[k++] = b[j++];
+        }
+
+        if (k == a.length)
+        {
+            return this;
+        }
+        if (k == b.length)
+        {
+            return other;
+        }
+        return new SortedIntSet(k == result.length ? result : Arrays.copyOf(result, k));
+    }
+
+    /**
+     * Intersects two sorted arrays, <code>smaller</code> must not be longer than
+     * <code>larger</code>. Saves the common elements to <code>result</code>, unless it
+     * is <code>null</code>.
+     *
+     * @return the number of common elements
+     */
+    private static int intersect(int [] smaller, int [] larger, int [] result)
+    {
+        int count = 0;
+        if (smaller.length == 0)
+        {
+            return count;
+        }
+
+        if (larger.length / smaller.length < GALLOPING_RATIO)
+        {
+            int i = 0, j = 0;
+            while (i < smaller.length && j < larger.length)
+            {
+                if (smaller[i] < larger[j])
+                {
+                    i++;
+                }
+                else if (smaller[i] > larger[j])
+                {
+                    j++;
+                }
+                else
+                {
+                    if (result != null)
+                    {
+                        result[count] = smaller[i];
+                    }
+                    count++;
+                    i++;
+                    j++;
+                }
+            }
+        }
+        else
+        {
+            int from = 0;
+            for (int i = 0; i < smaller.length && from < larger.length; i++)
+            {
+                final int value = smaller[i];
+
+                // Gallop to the range containing the value, then binary search it
+                int step = 1;
+                int to = from;
+                while (to < larger.length && larger[to] < value)
+                {
+                    from = to + 1;
+                    to += step;
+                    step <<= 1;
+                }
+
+                final int index = Arrays.binarySearch(larger, from, Math.min(to + 1,
+                    larger.length), value);
+                if (index >= 0)
+                {
+                    if (result != null)
+                    {
+                        result[count] = value;
+                    }
+                    count++;
+                    from = index + 1;
+                }
+                else
+                {
+                    from = -index - 1;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        return obj instanceof SortedIntSet
+            && Arrays.equals(values, ((SortedIntSet) obj).values);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString(values);
+    }
+}
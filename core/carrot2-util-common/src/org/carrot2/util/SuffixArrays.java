@@ -0,0 +1,286 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.util;
+
+import java.util.Arrays;
+
+/**
+ * Linear-time suffix array and Longest Common Prefix array construction for integer
+ * alphabets.
+ * <p>
+ * Suffix arrays are built using the SA-IS algorithm (G. Nong, S. Zhang, W. H. Chan,
+ * <i>Linear Suffix Array Construction by Almost Pure Induced-Sorting</i>), LCP arrays
+ * using the algorithm by T. Kasai et al. (<i>Linear-Time Longest-Common-Prefix
+ * Computation in Suffix Arrays and Its Applications</i>).
+ */
+public final class SuffixArrays
+{
+    /**
+     * Builds the suffix array of the <code>input</code>. The input must be terminated
+     * with a sentinel symbol equal to <code>0</code> that does not appear anywhere else
+     * in the input. All other symbols must be in the <code>[1, alphabetSize)</code>
+     * range.
+     *
+     * @param input the input sequence, terminated with a unique <code>0</code> symbol
+     * @param alphabetSize the number of distinct symbols the input can contain, including
+     *            the sentinel
+     * @return an array of the same length as <code>input</code> with the start indices
+     *         of the lexicographically sorted suffixes of the input. The first element of
+     *         the array is always the index of the sentinel.
+     */
+    public static int [] suffixArray(int [] input, int alphabetSize)
+    {
+        final int [] suffixArray = new int [input.length];
+        if (input.length == 1)
+        {
+            return suffixArray;
+        }
+
+        sais(input, suffixArray, input.length, alphabetSize);
+        return suffixArray;
+    }
+
+    /**
+     * Calculates the Longest Common Prefix array for the provided input and its suffix
+     * array. The element at index <code>i</code> of the returned array is the length of
+     * the common prefix of suffixes at <code>suffixArray[i - 1]</code> and
+     * <code>suffixArray[i]</code>, the first element of the returned array is always
+     * <code>0</code>.
+     * <p>
+     * The input must be terminated with a unique symbol (that is, no two different
+     * suffixes may compare equal beyond the end of the array). The
+     * <code>suffixArray</code> may be a prefix of the full suffix array of the input, in
+     * which case the LCPs are computed for that prefix only.
+     */
+    public static int [] lcp(int [] input, int [] suffixArray)
+    {
+        final int length = suffixArray.length;
+        final int [] lcp = new int [length];
+        final int [] rank = new int [input.length];
+        Arrays.fill(rank, -1);
+        for (int i = 0; i < length; i++)
+        {
+            rank[suffixArray[i]] = i;
+        }
+
+        int h = 0;
+        for (int i = 0; i < input.length; i++)
+        {
+            final int r = rank[i];
+            if (r > 0)
+            {
+                final int j = suffixArray[r - 1];
+                while (i + h < input.length && j + h < input.length
+                    && input[i + h] == input[j + h])
+                {
+                    h++;
+                }
+                lcp[r] = h;
+                if (h > 0)
+                {
+                    h--;
+                }
+            }
+            else
+            {
+                h = 0;
+            }
+        }
+
+        return lcp;
+    }
+
+    /**
+     * SA-IS main routine. Sorts suffixes of <code>s[0..n-1]</code> into <code>sa</code>.
+     * <code>s[n - 1]</code> must be the unique smallest symbol.
+     */
+    private static void sais(int [] s, int [] sa, int n, int k)
+    {
+        // Classify suffixes into S-type (true) and L-type (false).
+        final boolean [] t = new boolean [n];
+        t[n - 1] = true;
+        for (int i = n - 2; i >= 0; i--)
+        {
+            t[i] = s[i] < s[i + 1] || (s[i] == s[i + 1] && t[i + 1]);
+        }
+
+        // Stage 1: induce-sort LMS substrings.
+        final int [] bucket = new int [k];
+        bucketEnds(s, bucket, n, k);
+        Arrays.fill(sa, 0, n, -1);
+        for (int i = 1; i < n; i++)
+        {
+            if (isLms(t, i))
+            {
+                sa[--bucket[s[i]]] = i;
+            }
+        }
+        induceL(s, sa, t, bucket, n, k);
+        induceS(s, sa, t, bucket, n, k);
+
+        // Compact sorted LMS substrings into the first n1 positions of sa.
+        int n1 = 0;
+        for (int i = 0; i < n; i++)
+        {
+            if (isLms(t, sa[i]))
+            {
+                sa[n1++] = sa[i];
+            }
+        }
+
+        // Name LMS substrings. Names are stored at sa[n1 + pos / 2], which is safe
+        // because no two LMS positions are adjacent.
+        Arrays.fill(sa, n1, n, -1);
+        int name = 0;
+        int previous = -1;
+        for (int i = 0; i < n1; i++)
+        {
+            final int position = sa[i];
+            boolean different = false;
+            for (int d = 0; d < n; d++)
+            {
+                if (previous == -1 || s[position + d] != s[previous + d]
+                    || t[position + d] != t[previous + d])
+                {
+                    different = true;
+                    break;
+                }
+                else if (d > 0 && (isLms(t, position + d) || isLms(t, previous + d)))
+                {
+                    break;
+                }
+            }
+
+            if (different)
+            {
+                name++;
+                previous = position;
+            }
+            sa[n1 + position / 2] = name - 1;
+        }
+
+        final int [] s1 = new int [n1];
+        for (int i = n - 1, j = n1 - 1; i >= n1; i--)
+        {
+            if (sa[i] >= 0)
+            {
+                s1[j--] = sa[i];
+            }
+        }
+
+        // Stage 2: sort the reduced problem, recursively if names are not unique.
+        final int [] sa1 = new int [n1];
+        if (name < n1)
+        {
+            sais(s1, sa1, n1, name);
+        }
+        else
+        {
+            for (int i = 0; i < n1; i++)
+            {
+                sa1[s1[i]] = i;
+            }
+        }
+
+        // Stage 3: induce the full suffix array from the sorted LMS suffixes.
+        for (int i = 1, j = 0; i < n; i++)
+        {
+            if (isLms(t, i))
+            {
+                s1[j++] = i;
+            }
+        }
+        for (int i = 0; i < n1; i++)
+        {
+            sa1[i] = s1[sa1[i]];
+        }
+
+        bucketEnds(s, bucket, n, k);
+        Arrays.fill(sa, 0, n, -1);
+        for (int i = n1 - 1; i >= 0; i--)
+        {
+            final int j = sa1[i];
+            sa[--bucket[s[j]]] = j;
+        }
+        induceL(s, sa, t, bucket, n, k);
+        induceS(s, sa, t, bucket, n, k);
+    }
+
+    private static boolean isLms(boolean [] t, int i)
+    {
+        return i > 0 && t[i] && !t[i - 1];
+    }
+
+    private static void bucketStarts(int [] s, int [] bucket, int n, int k)
+    {
+        Arrays.fill(bucket, 0, k, 0);
+        for (int i = 0; i < n; i++)
+        {
+            bucket[s[i]]++;
+        }
+        for (int i = 0, sum = 0; i < k; i++)
+        {
+            final int count = bucket[i];
+            bucket[i] = sum;
+            sum += count;
+        }
+    }
+
+    private static void bucketEnds(int [] s, int [] bucket, int n, int k)
+    {
+        Arrays.fill(bucket, 0, k, 0);
+        for (int i = 0; i < n; i++)
+        {
+            bucket[s[i]]++;
+        }
+        for (int i = 0, sum = 0; i < k; i++)
+        {
+            sum += bucket[i];
+            bucket[i] = sum;
+        }
+    }
+
+    private static void induceL(int [] s, int [] sa, boolean [] t, int [] bucket, int n,
+        int k)
+    {
+        bucketStarts(s, bucket, n, k);
+        for (int i = 0; i < n; i++)
+        {
+            final int j = sa[i] - 1;
+            if (j >= 0 && !t[j])
+            {
+                sa[bucket[s[j]]++] = j;
+            }
+        }
+    }
+
+    private static void induceS(int [] s, int [] sa, boolean [] t, int [] bucket, int n,
+        int k)
+    {
+        bucketEnds(s, bucket, n, k);
+        for (int i = n - 1; i >= 0; i--)
+        {
+            final int j = sa[i] - 1;
+            if (j >= 0 && t[j])
+            {
+                sa[--bucket[s[j]]] = j;
+            }
+        }
+    }
+
+    /**
+     * No instantiation.
+     */
+    private SuffixArrays()
+    {
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import static org.carrot2.matrix.MatrixAssertions.assertThat;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.apache.mahout.math.function.IntIntDoubleFunction;
+import org.apache.mahout.math.list.DoubleArrayList;
+import org.apache.mahout.math.list.IntArrayList;
+import org.apache.mahout.math.matrix.*;
+import org.apache.mahout.math.matrix.impl.SparseDoubleMatrix2D;
+import org.fest.assertions.Delta;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link CompressedSparseDoubleMatrix2D}.
+ */
+@SuppressWarnings("deprecation")
+public class CompressedSparseDoubleMatrix2DTest
+{
+    private static final double DELTA = 1e-10;
+
+    private final DoubleMatrix2D dense = NNIDoubleFactory2D.nni.make(new double [] []
+    {
+        {
+            0.00, 0.00, 0.56, 0.00, 1.00
+        },
+        {
+            0.49, 0.00, 0.00, 0.00, 0.00
+        },
+        {
+            0.00, 0.00, 0.00, 0.00, 0.00
+        },
+        {
+            0.72, 0.00, 0.00, 0.30, 0.10
+        }
+    });
+
+    @Test
+    public void testCsrArrays()
+    {
+        final CompressedSparseDoubleMatrix2D sparse = new CompressedSparseDoubleMatrix2D(
+            2, 3, new int []
+            {
+                0, 2, 3
+            }, new int []
+            {
+                0, 2, 1
+            }, new double []
+            {
+                1, 2, 3
+            });
+
+        assertThat(sparse).isEquivalentTo(new double [] []
+        {
+            {
+                1, 0, 2
+            },
+            {
+                0, 3, 0
+            }
+        });
+        assertThat(sparse.getStoredCount()).isEqualTo(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsortedColumnIndices()
+    {
+        new CompressedSparseDoubleMatrix2D(1, 3, new int []
+        {
+            0, 2
+        }, new int []
+        {
+            2, 1
+        }, new double []
+        {
+            1, 2
+        });
+    }
+
+    @Test
+    public void testViews()
+    {
+        final DoubleMatrix2D sparse = new CompressedSparseDoubleMatrix2D(dense);
+
+        assertThat(sparse).isEquivalentTo(dense);
+        assertThat(sparse.viewDice()).isEquivalentTo(dense.viewDice());
+        assertThat(sparse.viewPart(1, 2, 3, 3)).isEquivalentTo(dense.viewPart(1, 2, 3, 3));
+        assertThat(sparse.viewDice().viewPart(1, 0, 4, 3)).isEquivalentTo(
+            dense.viewDice().viewPart(1, 0, 4, 3));
+        assertThat(sparse.viewPart(0, 1, 4, 4).viewDice()).isEquivalentTo(
+            dense.viewPart(0, 1, 4, 4).viewDice());
+    }
+
+    @Test
+    public void testFromSparseMatrixInSinglePrecision()
+    {
+        final DoubleMatrix2D hashed = new SparseDoubleMatrix2D(dense.rows(), dense
+            .columns());
+        hashed.assign(dense);
+        final CompressedSparseDoubleMatrix2D sparse = new CompressedSparseDoubleMatrix2D(
+            hashed, true);
+
+        assertThat(sparse.isSinglePrecision()).isTrue();
+        assertThat(sparse.getStoredCount()).isEqualTo(dense.cardinality());
+        assertThat(sparse).isEquivalentTo(dense, 1e-6);
+        assertThat(MatrixUtils.isSinglePrecision(sparse.viewDice().zMult(dense, null)))
+            .isTrue();
+    }
+
+    @Test
+    public void testNonZeros()
+    {
+        final DoubleMatrix2D sparse = new CompressedSparseDoubleMatrix2D(dense)
+            .viewDice().viewPart(1, 1, 4, 3);
+        final DoubleMatrix2D expected = dense.viewDice().viewPart(1, 1, 4, 3);
+
+        assertThat(sparse.cardinality()).isEqualTo(expected.cardinality());
+
+        final IntArrayList rows = new IntArrayList();
+        final IntArrayList columns = new IntArrayList();
+        final DoubleArrayList values = new DoubleArrayList();
+        final IntArrayList expectedRows = new IntArrayList();
+        final IntArrayList expectedColumns = new IntArrayList();
+        final DoubleArrayList expectedValues = new DoubleArrayList();
+        sparse.getNonZeros(rows, columns, values);
+        expected.getNonZeros(expectedRows, expectedColumns, expectedValues);
+
+        assertThat(rows).isEqualTo(expectedRows);
+        assertThat(columns).isEqualTo(expectedColumns);
+        assertThat(values).isEqualTo(expectedValues);
+    }
+
+    @Test
+    public void testForEachNonZero()
+    {
+        final DoubleMatrix2D sparse = new CompressedSparseDoubleMatrix2D(dense);
+        final IntIntDoubleFunction twice = new IntIntDoubleFunction()
+        {
+            public double apply(int row, int column, double value)
+            {
+                return value * 2;
+            }
+        };
+
+        sparse.viewDice().forEachNonZero(twice);
+        dense.forEachNonZero(twice);
+        assertThat(sparse).isEquivalentTo(dense);
+    }
+
+    @Test
+    public void testSetQuick()
+    {
+        final DoubleMatrix2D sparse = new CompressedSparseDoubleMatrix2D(dense);
+        sparse.setQuick(0, 2, 0.25);
+        sparse.viewDice().setQuick(0, 3, 0.5);
+        sparse.setQuick(2, 2, 0);
+
+        assertThat(sparse.getQuick(0, 2)).isEqualTo(0.25);
+        assertThat(sparse.getQuick(3, 0)).isEqualTo(0.5);
+        assertThat(sparse.getQuick(2, 2)).isEqualTo(0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetQuickOutsideOfStructure()
+    {
+        new CompressedSparseDoubleMatrix2D(dense).setQuick(2, 2, 1);
+    }
+
+    @Test
+    public void testCopyIsDense()
+    {
+        final DoubleMatrix2D copy = new CompressedSparseDoubleMatrix2D(dense).copy();
+
+        assertThat(copy).isEquivalentTo(dense);
+        copy.setQuick(2, 2, 1);
+        assertThat(copy.getQuick(2, 2)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void testMultiplication()
+    {
+        final Random random = new Random(0x5eed);
+        for (int round = 0; round < 100; round++)
+        {
+            final int rows = 1 + random.nextInt(20);
+            final int columns = 1 + random.nextInt(20);
+            final int k = 1 + random.nextInt(5);
+            final DoubleMatrix2D denseA = randomMatrix(random, rows, columns, 0.2);
+            final DoubleMatrix2D sparseA = new CompressedSparseDoubleMatrix2D(denseA);
+
+            final boolean transposeA = random.nextBoolean();
+            final boolean transposeB = random.nextBoolean();
+            final int innerSize = transposeA ? rows : columns;
+            final int outerSize = transposeA ? columns : rows;
+            final DoubleMatrix2D B = transposeB ? randomMatrix(random, k, innerSize, 1)
+                : randomMatrix(random, innerSize, k, 1);
+            final DoubleMatrix2D C = randomMatrix(random, outerSize, k, 1);
+            final double alpha = random.nextDouble();
+            final double beta = random.nextInt(3) / 2.0;
+
+            final DoubleMatrix2D expected = denseA.zMult(B, C.copy(), alpha, beta,
+                transposeA, transposeB);
+            assertThat(sparseA.zMult(B, C.copy(), alpha, beta, transposeA, transposeB))
+                .isEquivalentTo(expected, DELTA);
+            assertThat(sparseA.viewDice().zMult(B, C.copy(), alpha, beta, !transposeA,
+                transposeB)).isEquivalentTo(expected, DELTA);
+
+            // Dense times sparse
+            final DoubleMatrix2D D = randomMatrix(random, k, outerSize, 1);
+            assertThat(D.zMult(sparseA, null, alpha, 0, false, transposeA))
+                .isEquivalentTo(D.zMult(denseA, null, alpha, 0, false, transposeA),
+                    DELTA);
+
+            // Vectors
+            final DoubleMatrix1D y = randomMatrix(random, innerSize, 1, 1).viewColumn(0);
+            final DoubleMatrix1D expectedZ = denseA.zMult(y, null, alpha, 0, transposeA);
+            final DoubleMatrix1D z = sparseA.zMult(y, null, alpha, 0, transposeA);
+            for (int i = 0; i < outerSize; i++)
+            {
+                assertThat(z.getQuick(i)).isEqualTo(expectedZ.getQuick(i),
+                    Delta.delta(DELTA));
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplicationOfViews()
+    {
+        final Random random = new Random(0x5eed);
+        for (int round = 0; round < 100; round++)
+        {
+            final int rows = 2 + random.nextInt(20);
+            final int columns = 2 + random.nextInt(20);
+            final DoubleMatrix2D denseA = randomMatrix(random, rows, columns, 0.3);
+            final DoubleMatrix2D sparseA = new CompressedSparseDoubleMatrix2D(denseA);
+
+            // Column ranges of rows, and after dicing, column ranges of columns
+            final boolean diced = random.nextBoolean();
+            final int viewRows = diced ? columns : rows;
+            final int viewColumns = diced ? rows : columns;
+            final int row = random.nextInt(viewRows);
+            final int column = 1 + random.nextInt(viewColumns - 1);
+            final int height = 1 + random.nextInt(viewRows - row);
+            final int width = 1 + random.nextInt(viewColumns - column);
+            final DoubleMatrix2D denseView = (diced ? denseA.viewDice() : denseA)
+                .viewPart(row, column, height, width);
+            final DoubleMatrix2D sparseView = (diced ? sparseA.viewDice() : sparseA)
+                .viewPart(row, column, height, width);
+
+            assertThat(sparseView.cardinality()).isEqualTo(denseView.cardinality());
+
+            final DoubleMatrix2D B = randomMatrix(random, width, 3, 1);
+            assertThat(sparseView.zMult(B, null)).isEquivalentTo(denseView.zMult(B, null),
+                DELTA);
+
+            final DoubleMatrix1D y = randomMatrix(random, height, 1, 1).viewColumn(0);
+            final DoubleMatrix1D expectedZ = denseView.zMult(y, null, 1, 0, true);
+            final DoubleMatrix1D z = sparseView.zMult(y, null, 1, 0, true);
+            for (int i = 0; i < width; i++)
+            {
+                assertThat(z.getQuick(i)).isEqualTo(expectedZ.getQuick(i),
+                    Delta.delta(DELTA));
+            }
+        }
+    }
+
+    @Test
+    public void testNormalizeColumnL2()
+    {
+        final DoubleMatrix2D sparse = new CompressedSparseDoubleMatrix2D(dense);
+        MatrixUtils.normalizeColumnL2(sparse, null);
+        MatrixUtils.normalizeColumnL2(dense, null);
+
+        assertThat(sparse).isEquivalentTo(dense, DELTA);
+    }
+
+    private static DoubleMatrix2D randomMatrix(Random random, int rows, int columns,
+        double density)
+    {
+        final DoubleMatrix2D matrix = NNIDoubleFactory2D.nni.make(rows, columns);
+        for (int r = 0; r < rows; r++)
+        {
+            for (int c = 0; c < columns; c++)
+            {
+                if (random.nextDouble() < density)
+                {
+                    matrix.setQuick(r, c, random.nextDouble());
+                }
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,297 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import static org.carrot2.matrix.MatrixAssertions.assertThat;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.apache.mahout.math.function.Functions;
+import org.apache.mahout.math.matrix.*;
+import org.apache.mahout.math.matrix.doublealgo.Sorting;
+import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix2D;
+
+/**
+ * Test cases for {@link DenseFloatMatrix2D}.
+ */
+@SuppressWarnings("deprecation")
+public class DenseFloatMatrix2DTest
+{
+    /** Single precision computations are compared with double precision ones */
+    private static final double DELTA = 1e-4;
+
+    @Test
+    public void testSinglePrecisionStorage()
+    {
+        final DoubleMatrix2D matrix = FloatFactory2D.dense.make(2, 3);
+        matrix.setQuick(1, 2, 0.1);
+
+        assertThat(matrix.getQuick(1, 2)).isEqualTo((float) 0.1);
+        assertThat(MatrixUtils.isSinglePrecision(matrix)).isTrue();
+        assertThat(MatrixUtils.isSinglePrecision(matrix.viewDice().viewPart(0, 0, 2, 1)))
+            .isTrue();
+        assertThat(MatrixUtils.isSinglePrecision(matrix.copy())).isTrue();
+        assertThat(MatrixUtils.isSinglePrecision(NNIDoubleFactory2D.nni.make(2, 3)))
+            .isFalse();
+    }
+
+    @Test
+    public void testZMultLevel3()
+    {
+        final Random random = new Random(0x5eed);
+        for (int round = 0; round < 200; round++)
+        {
+            // Occasionally cross the block boundaries
+            final int max = (round % 20 == 0 ? 300 : 12);
+            final int m = 1 + random.nextInt(max);
+            final int n = 1 + random.nextInt(max);
+            final int k = 1 + random.nextInt(max);
+            final boolean transposeA = random.nextBoolean();
+            final boolean transposeB = random.nextBoolean();
+            final double alpha = random.nextDouble();
+            final double beta = random.nextInt(3) / 2.0;
+
+            final DoubleMatrix2D A = randomView(random, transposeA ? k : m, transposeA ? m
+                : k);
+            final DoubleMatrix2D B = randomView(random, transposeB ? n : k, transposeB ? k
+                : n);
+            final DoubleMatrix2D C = randomView(random, m, n);
+
+            final DoubleMatrix2D expected = new DenseDoubleMatrix2D(A.toArray()).zMult(
+                new DenseDoubleMatrix2D(B.toArray()), new DenseDoubleMatrix2D(C
+                    .toArray()), alpha, beta, transposeA, transposeB);
+
+            assertThat(A.zMult(B, C, alpha, beta, transposeA, transposeB)).isEquivalentTo(
+                expected, DELTA * k);
+        }
+    }
+
+    @Test
+    public void testZMultLevel2()
+    {
+        final Random random = new Random(0x5eed);
+        for (int round = 0; round < 200; round++)
+        {
+            final int rows = 1 + random.nextInt(12);
+            final int columns = 1 + random.nextInt(12);
+            final boolean transposeA = random.nextBoolean();
+            final double alpha = random.nextDouble();
+            final double beta = random.nextInt(3) / 2.0;
+
+            final DoubleMatrix2D A = randomView(random, rows, columns);
+            final DoubleMatrix1D y = randomView(random, transposeA ? rows : columns, 1)
+                .viewColumn(0);
+            final DoubleMatrix1D z = randomView(random, transposeA ? columns : rows, 1)
+                .viewColumn(0);
+
+            final DoubleMatrix1D expected = new DenseDoubleMatrix2D(A.toArray()).zMult(y,
+                z.copy(), alpha, beta, transposeA);
+
+            assertThat(A.zMult(y, z, alpha, beta, transposeA)).isEquivalentTo(expected,
+                DELTA * columns);
+        }
+    }
+
+    @Test
+    public void testZMultPropagatesNaN()
+    {
+        final DoubleMatrix2D A = FloatFactory2D.dense.make(new double [] []
+        {
+            {
+                0, 1
+            },
+            {
+                1, 0
+            }
+        });
+        final DoubleMatrix2D B = FloatFactory2D.dense.make(new double [] []
+        {
+            {
+                Double.NaN, 1
+            },
+            {
+                3, Double.POSITIVE_INFINITY
+            }
+        });
+
+        // 0 * NaN and 0 * Infinity are NaN, as in Colt's implementation
+        final DoubleMatrix2D product = A.zMult(B, null);
+        assertThat(Double.isNaN(product.getQuick(0, 0))).isTrue();
+        assertThat(product.getQuick(0, 1)).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(Double.isNaN(product.getQuick(1, 0))).isTrue();
+        assertThat(Double.isNaN(product.getQuick(1, 1))).isTrue();
+
+        final DoubleMatrix1D y = B.zMult(A.viewRow(0), null, 1, 0, true);
+        assertThat(Double.isNaN(y.getQuick(0))).isTrue();
+        assertThat(y.getQuick(1)).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZMultIntoSharedElements()
+    {
+        final DoubleMatrix2D A = FloatFactory2D.dense.random(3, 3);
+        A.zMult(FloatFactory2D.dense.random(3, 2), A.viewPart(0, 1, 3, 2));
+    }
+
+    @Test
+    public void testZMultBySinglePrecisionSparseMatrix()
+    {
+        final Random random = new Random(0x5eed);
+        final DoubleMatrix2D A = randomView(random, 7, 5);
+        final DoubleMatrix2D sparse = asSinglePrecisionSparse(randomView(random, 5, 9));
+
+        final DoubleMatrix2D product = A.zMult(sparse, null);
+        assertThat(MatrixUtils.isSinglePrecision(product)).isTrue();
+        assertThat(product).isEquivalentTo(
+            new DenseDoubleMatrix2D(A.toArray()).zMult(new DenseDoubleMatrix2D(sparse
+                .toArray()), null), DELTA);
+
+        final DoubleMatrix2D transposedProduct = sparse.zMult(A, null, 1, 0, true, true);
+        assertThat(MatrixUtils.isSinglePrecision(transposedProduct)).isTrue();
+        assertThat(transposedProduct).isEquivalentTo(product.viewDice(), DELTA);
+    }
+
+    @Test
+    public void testElementwiseAssign()
+    {
+        final Random random = new Random(0x5eed);
+        final DoubleMatrix2D A = randomView(random, 6, 4);
+        final DoubleMatrix2D B = randomView(random, 4, 6).viewDice();
+        final DoubleMatrix2D expected = new DenseDoubleMatrix2D(A.toArray()).assign(
+            new DenseDoubleMatrix2D(B.toArray()), Functions.plus).assign(
+            Functions.mult(2));
+
+        assertThat(A.assign(B, Functions.plus).assign(Functions.mult(2)))
+            .isEquivalentTo(expected, DELTA);
+        assertThat(A.viewPart(1, 1, 3, 2).assign(B.viewPart(0, 0, 3, 2)))
+            .isEquivalentTo(B.viewPart(0, 0, 3, 2));
+
+        // Overlapping source and target
+        final DoubleMatrix2D C = FloatFactory2D.asFloatMatrix(A);
+        C.viewPart(0, 1, 6, 3).assign(C.viewPart(0, 0, 6, 3));
+        assertThat(C.viewPart(0, 1, 6, 3)).isEquivalentTo(A.viewPart(0, 0, 6, 3));
+    }
+
+    @Test
+    public void testSelectionViews()
+    {
+        final Random random = new Random(0x5eed);
+        final DoubleMatrix2D A = randomView(random, 6, 5);
+        final DoubleMatrix2D expected = new DenseDoubleMatrix2D(A.toArray());
+        final int [] rows = new int []
+        {
+            4, 0, 2
+        };
+        final int [] columns = new int []
+        {
+            3, 1, 1, 0
+        };
+
+        final DoubleMatrix2D selection = A.viewSelection(rows, columns);
+        assertThat(selection).isEquivalentTo(expected.viewSelection(rows, columns));
+        assertThat(selection.viewDice()).isEquivalentTo(
+            expected.viewSelection(rows, columns).viewDice());
+        assertThat(selection.viewDice().viewSelection(new int []
+        {
+            2, 0
+        }, null)).isEquivalentTo(expected.viewSelection(rows, columns).viewDice()
+            .viewSelection(new int []
+            {
+                2, 0
+            }, null));
+        assertThat(selection.viewRow(1).toArray()).isEqualTo(
+            expected.viewSelection(rows, columns).viewRow(1).toArray());
+        assertThat(selection.viewColumn(2).toArray()).isEqualTo(
+            expected.viewSelection(rows, columns).viewColumn(2).toArray());
+
+        // Selection views share the elements with the matrix
+        selection.viewColumn(0).setQuick(2, 5);
+        assertThat(A.getQuick(2, 3)).isEqualTo(5.0);
+        assertThat(MatrixUtils.isSinglePrecision(selection.copy())).isTrue();
+    }
+
+    @Test
+    public void testSorting()
+    {
+        final Random random = new Random(0x5eed);
+        final DoubleMatrix2D A = randomView(random, 10, 4);
+        final DoubleMatrix2D expected = new DenseDoubleMatrix2D(A.toArray());
+        final double [] aggregates = new double [A.rows()];
+        for (int r = 0; r < aggregates.length; r++)
+        {
+            aggregates[r] = random.nextDouble();
+        }
+
+        assertThat(Sorting.quickSort.sort(A, aggregates.clone())).isEquivalentTo(
+            Sorting.quickSort.sort(expected, aggregates.clone()));
+    }
+
+    /**
+     * Returns a random single precision matrix, possibly a transposed or partial view of
+     * a larger matrix.
+     */
+    private static DoubleMatrix2D randomView(Random random, int rows, int columns)
+    {
+        final int extraRows = random.nextInt(3);
+        final int extraColumns = random.nextInt(3);
+        DoubleMatrix2D matrix = new DenseFloatMatrix2D(rows + extraRows, columns
+            + extraColumns);
+        if (random.nextBoolean())
+        {
+            matrix = new DenseFloatMatrix2D(columns + extraColumns, rows + extraRows)
+                .viewDice();
+        }
+
+        for (int r = 0; r < matrix.rows(); r++)
+        {
+            for (int c = 0; c < matrix.columns(); c++)
+            {
+                // Many zeros, like in term-document matrices
+                if (random.nextInt(3) > 0)
+                {
+                    matrix.setQuick(r, c, random.nextDouble());
+                }
+            }
+        }
+        return matrix.viewPart(extraRows, extraColumns, rows, columns);
+    }
+
+    /**
+     * Returns a sparse matrix with the non-zero elements of the provided matrix stored in
+     * single precision.
+     */
+    private static DoubleMatrix2D asSinglePrecisionSparse(DoubleMatrix2D A)
+    {
+        final int [] rowPointers = new int [A.rows() + 1];
+        final int [] columnIndices = new int [A.cardinality()];
+        final float [] values = new float [columnIndices.length];
+        int p = 0;
+        for (int r = 0; r < A.rows(); r++)
+        {
+            for (int c = 0; c < A.columns(); c++)
+            {
+                if (A.getQuick(r, c) != 0)
+                {
+                    columnIndices[p] = c;
+                    values[p++] = (float) A.getQuick(r, c);
+                }
+            }
+            rowPointers[r + 1] = p;
+        }
+        return new CompressedSparseDoubleMatrix2D(A.rows(), A.columns(), rowPointers,
+            columnIndices, values);
+    }
+}
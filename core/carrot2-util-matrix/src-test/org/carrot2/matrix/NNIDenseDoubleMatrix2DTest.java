@@ -15,8 +15,11 @@ package org.carrot2.matrix;
 import static org.carrot2.matrix.MatrixAssertions.assertThat;
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.util.Random;
+
 import org.carrot2.matrix.NNIDenseDoubleMatrix2D;
 import org.carrot2.matrix.NNIDoubleFactory2D;
+import org.fest.assertions.Delta;
 import org.junit.Test;
 
 import org.apache.mahout.math.matrix.*;
@@ -122,6 +125,163 @@ public class NNIDenseDoubleMatrix2DTest
         assertThat(nni).isEquivalentTo(colt);
     }
 
+    @Test
+    public void testJavaZMultLevel3()
+    {
+        final Random random = new Random(0x5eed);
+        NNIInterface.suppressNNI(true);
+        try
+        {
+            for (int round = 0; round < 200; round++)
+            {
+                // Occasionally cross the block boundaries
+                final int max = (round % 20 == 0 ? 300 : 12);
+                final int m = 1 + random.nextInt(max);
+                final int n = 1 + random.nextInt(max);
+                final int k = 1 + random.nextInt(max);
+                final boolean transposeA = random.nextBoolean();
+                final boolean transposeB = random.nextBoolean();
+                final double alpha = random.nextDouble();
+                final double beta = random.nextInt(3) / 2.0;
+
+                final DoubleMatrix2D nniA = randomView(random, transposeA ? k : m,
+                    transposeA ? m : k);
+                final DoubleMatrix2D nniB = randomView(random, transposeB ? n : k,
+                    transposeB ? k : n);
+                final DoubleMatrix2D nniC = randomView(random, m, n);
+
+                final DoubleMatrix2D expected = new DenseDoubleMatrix2D(nniA.toArray())
+                    .zMult(new DenseDoubleMatrix2D(nniB.toArray()),
+                        new DenseDoubleMatrix2D(nniC.toArray()), alpha, beta,
+                        transposeA, transposeB);
+
+                assertThat(nniA.zMult(nniB, nniC, alpha, beta, transposeA, transposeB))
+                    .isEquivalentTo(expected, 1e-10);
+            }
+        }
+        finally
+        {
+            NNIInterface.suppressNNI(false);
+        }
+    }
+
+    @Test
+    public void testJavaZMultLevel2()
+    {
+        final Random random = new Random(0x5eed);
+        for (int round = 0; round < 200; round++)
+        {
+            final int rows = 1 + random.nextInt(12);
+            final int columns = 1 + random.nextInt(12);
+            final boolean transposeA = random.nextBoolean();
+            final double alpha = random.nextDouble();
+            final double beta = random.nextInt(3) / 2.0;
+
+            final DoubleMatrix2D nniA = randomView(random, rows, columns);
+            final DoubleMatrix1D y = randomView(random, transposeA ? rows : columns, 1)
+                .viewColumn(0);
+            final DoubleMatrix1D z = randomView(random, transposeA ? columns : rows, 1)
+                .viewColumn(0);
+
+            final DoubleMatrix1D expected = new DenseDoubleMatrix2D(nniA.toArray())
+                .zMult(y, z.copy(), alpha, beta, transposeA);
+            final DoubleMatrix1D actual = nniA.zMult(y, z, alpha, beta, transposeA);
+
+            assertThat(actual.size()).isEqualTo(expected.size());
+            for (int i = 0; i < expected.size(); i++)
+            {
+                assertThat(actual.getQuick(i)).isEqualTo(expected.getQuick(i),
+                    Delta.delta(1e-10));
+            }
+        }
+    }
+
+    @Test
+    public void testJavaZMultPropagatesNaN()
+    {
+        final DoubleMatrix2D nniA = new NNIDenseDoubleMatrix2D(new double [] []
+        {
+            {
+                0, 1
+            },
+            {
+                1, 0
+            }
+        });
+        final DoubleMatrix2D nniB = new NNIDenseDoubleMatrix2D(new double [] []
+        {
+            {
+                Double.NaN, 1
+            },
+            {
+                3, Double.POSITIVE_INFINITY
+            }
+        });
+
+        NNIInterface.suppressNNI(true);
+        try
+        {
+            // 0 * NaN and 0 * Infinity are NaN, as in Colt's implementation
+            final DoubleMatrix2D product = nniA.zMult(nniB, null);
+            assertThat(Double.isNaN(product.getQuick(0, 0))).isTrue();
+            assertThat(product.getQuick(0, 1)).isEqualTo(Double.POSITIVE_INFINITY);
+            assertThat(Double.isNaN(product.getQuick(1, 0))).isTrue();
+            assertThat(Double.isNaN(product.getQuick(1, 1))).isTrue();
+        }
+        finally
+        {
+            NNIInterface.suppressNNI(false);
+        }
+
+        final DoubleMatrix1D y = nniB.zMult(nniA.viewRow(0), null, 1, 0, true);
+        assertThat(Double.isNaN(y.getQuick(0))).isTrue();
+        assertThat(y.getQuick(1)).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZMultIntoIdenticalMatrix()
+    {
+        final DoubleMatrix2D nniA = NNIDoubleFactory2D.nni.random(3, 3);
+        nniA.zMult(NNIDoubleFactory2D.nni.random(3, 3), nniA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZMultIntoSharedElements()
+    {
+        final DoubleMatrix2D nniA = NNIDoubleFactory2D.nni.random(3, 3);
+        nniA.zMult(NNIDoubleFactory2D.nni.random(3, 2), nniA.viewPart(0, 1, 3, 2));
+    }
+
+    /**
+     * Returns a random matrix, possibly a transposed or partial view of a larger matrix.
+     */
+    private static DoubleMatrix2D randomView(Random random, int rows, int columns)
+    {
+        final boolean transposed = random.nextBoolean();
+        final int extraRows = random.nextInt(3);
+        final int extraColumns = random.nextInt(3);
+        DoubleMatrix2D matrix = new NNIDenseDoubleMatrix2D(rows + extraRows, columns
+            + extraColumns);
+        if (transposed)
+        {
+            matrix = new NNIDenseDoubleMatrix2D(columns + extraColumns, rows + extraRows)
+                .viewDice();
+        }
+
+        for (int r = 0; r < matrix.rows(); r++)
+        {
+            for (int c = 0; c < matrix.columns(); c++)
+            {
+                // Many zeros, like in term-document matrices
+                if (random.nextInt(3) > 0)
+                {
+                    matrix.setQuick(r, c, random.nextDouble());
+                }
+            }
+        }
+        return matrix.viewPart(extraRows, extraColumns, rows, columns);
+    }
+
     @Test
     public void testTranspose()
     {
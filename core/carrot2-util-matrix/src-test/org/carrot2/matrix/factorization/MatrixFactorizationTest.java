@@ -13,14 +13,24 @@
 package org.carrot2.matrix.factorization;
 
 import static org.carrot2.matrix.MatrixAssertions.assertThat;
+import static org.fest.assertions.Assertions.assertThat;
 import static org.junit.Assume.assumeTrue;
 
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.carrot2.matrix.*;
 import org.carrot2.matrix.factorization.seeding.ISeedingStrategy;
 import org.carrot2.matrix.factorization.seeding.ISeedingStrategyFactory;
+import org.carrot2.matrix.factorization.seeding.WarmStartSeedingStrategyFactory;
+import org.fest.assertions.Delta;
 import org.junit.Test;
 
+import org.apache.mahout.math.function.Functions;
 import org.apache.mahout.math.matrix.*;
+import org.apache.mahout.math.matrix.linalg.Algebra;
 
 /**
  * Test cases for matrix factorizations.
@@ -377,6 +387,297 @@ public class MatrixFactorizationTest
             new LocalNonnegativeMatrixFactorizationFactory());
     }
 
+    @Test
+    public void testSparseNMFED()
+    {
+        checkSparse(new NonnegativeMatrixFactorizationEDFactory());
+    }
+
+    @Test
+    public void testSparseNMFKL()
+    {
+        checkSparse(new NonnegativeMatrixFactorizationKLFactory());
+    }
+
+    @Test
+    public void testSparseKMeans()
+    {
+        checkSparse(new KMeansMatrixFactorizationFactory());
+    }
+
+    @Test
+    public void testSparseSVD()
+    {
+        final PartialSingularValueDecompositionFactory factory = new PartialSingularValueDecompositionFactory();
+        factory.setK(2);
+
+        final IMatrixFactorization dense = factory.factorize(A);
+        check(dense.getU(), dense.getV(), factory
+            .factorize(new CompressedSparseDoubleMatrix2D(A)));
+    }
+
+    @Test
+    public void testRandomizedSVD()
+    {
+        // The sampled range covers the whole matrix, so the decomposition is exact
+        final RandomizedSingularValueDecompositionFactory factory = new RandomizedSingularValueDecompositionFactory();
+        factory.setK(2);
+        final RandomizedSingularValueDecomposition randomized = (RandomizedSingularValueDecomposition) factory
+            .factorize(A);
+
+        final PartialSingularValueDecompositionFactory exactFactory = new PartialSingularValueDecompositionFactory();
+        exactFactory.setK(2);
+        final PartialSingularValueDecomposition exact = (PartialSingularValueDecomposition) exactFactory
+            .factorize(A);
+
+        org.junit.Assert.assertArrayEquals(exact.getSingularValues(), randomized
+            .getSingularValues(), DELTA);
+        assertThat(svdApproximationError(A, randomized)).isEqualTo(
+            svdApproximationError(A, exact), Delta.delta(DELTA));
+    }
+
+    @Test
+    public void testRandomizedSVDAccuracy()
+    {
+        final DoubleMatrix2D A = randomMatrix(300, 150);
+        final int k = 20;
+
+        final PartialSingularValueDecompositionFactory exactFactory = new PartialSingularValueDecompositionFactory();
+        exactFactory.setK(k);
+        final PartialSingularValueDecomposition exact = (PartialSingularValueDecomposition) exactFactory
+            .factorize(A);
+
+        final RandomizedSingularValueDecompositionFactory factory = new RandomizedSingularValueDecompositionFactory();
+        factory.setK(k);
+        final RandomizedSingularValueDecomposition randomized = (RandomizedSingularValueDecomposition) factory
+            .factorize(A);
+
+        assertThat(randomized.getU().columns()).isEqualTo(k);
+        assertThat(randomized.getV().columns()).isEqualTo(k);
+        assertThat(randomized.getU().zMult(randomized.getU(), null, 1, 0, true, false))
+            .isEquivalentTo(DoubleFactory2D.dense.identity(k), 1e-10);
+        assertThat(randomized.getV().zMult(randomized.getV(), null, 1, 0, true, false))
+            .isEquivalentTo(DoubleFactory2D.dense.identity(k), 1e-10);
+
+        // The singular values of random matrices decay slowly, which is the worst case
+        // for the randomized decomposition; the leading values are the most accurate.
+        final double [] expectedS = exact.getSingularValues();
+        final double [] actualS = randomized.getSingularValues();
+        assertThat(actualS[0]).isGreaterThan(expectedS[0] * 0.99);
+        for (int i = 0; i < k; i++)
+        {
+            assertThat(actualS[i]).isLessThanOrEqualTo(expectedS[i] + 1e-10);
+            assertThat(actualS[i]).isGreaterThan(expectedS[i] * 0.9);
+        }
+        assertThat(svdApproximationError(A, randomized)).isLessThan(
+            svdApproximationError(A, exact) * 1.02);
+    }
+
+    @Test
+    public void testSparseRandomizedSVD()
+    {
+        final DoubleMatrix2D A = randomMatrix(300, 150);
+        final RandomizedSingularValueDecompositionFactory factory = new RandomizedSingularValueDecompositionFactory();
+        factory.setK(10);
+
+        final IMatrixFactorization dense = factory.factorize(A);
+        final IMatrixFactorization sparse = factory
+            .factorize(new CompressedSparseDoubleMatrix2D(A));
+        assertThat(sparse.getU()).isEquivalentTo(dense.getU(), 1e-10);
+        assertThat(sparse.getV()).isEquivalentTo(dense.getV(), 1e-10);
+    }
+
+    @Test
+    public void testParallelNMFED()
+    {
+        checkParallel(new NonnegativeMatrixFactorizationEDFactory(), false);
+        checkParallel(new NonnegativeMatrixFactorizationEDFactory(), true);
+    }
+
+    @Test
+    public void testParallelNMFKL()
+    {
+        checkParallel(new NonnegativeMatrixFactorizationKLFactory(), false);
+    }
+
+    @Test
+    public void testParallelLNMF()
+    {
+        checkParallel(new LocalNonnegativeMatrixFactorizationFactory(), false);
+    }
+
+    @Test
+    public void testParallelKMeans()
+    {
+        checkParallel(new KMeansMatrixFactorizationFactory(), false);
+        checkParallel(new KMeansMatrixFactorizationFactory(), true);
+    }
+
+    @Test
+    public void testConvergenceThreshold()
+    {
+        final DoubleMatrix2D A = randomMatrix(300, 150);
+        final NonnegativeMatrixFactorizationEDFactory factory = new NonnegativeMatrixFactorizationEDFactory();
+        factory.setK(10);
+        factory.setMaxIterations(500);
+        final IIterativeMatrixFactorization full = (IIterativeMatrixFactorization) factory
+            .factorize(A);
+
+        factory.setConvergenceThreshold(0.01);
+        final IIterativeMatrixFactorization converged = (IIterativeMatrixFactorization) factory
+            .factorize(A);
+
+        assertThat(full.getIterationsCompleted()).isEqualTo(500);
+        assertThat(converged.getIterationsCompleted()).isLessThan(100);
+        assertThat(approximationError(A, converged)).isLessThan(
+            approximationError(A, full) * 1.01);
+    }
+
+    @Test
+    public void testKMeansStopsWhenAssignmentsAreStable()
+    {
+        final DoubleMatrix2D A = randomMatrix(300, 150);
+        final KMeansMatrixFactorizationFactory factory = new KMeansMatrixFactorizationFactory();
+        factory.setK(10);
+        factory.setMaxIterations(1000);
+        final IIterativeMatrixFactorization stable = (IIterativeMatrixFactorization) factory
+            .factorize(A);
+        assertThat(stable.getIterationsCompleted()).isLessThan(1000);
+
+        factory.setMaxIterations(stable.getIterationsCompleted());
+        final IMatrixFactorization limited = factory.factorize(A);
+        check(stable.getU(), stable.getV(), limited);
+    }
+
+    @Test
+    public void testWarmStart()
+    {
+        // The previous matrix contains some of the columns and rows of the current one
+        final DoubleMatrix2D A = randomMatrix(300, 150);
+        final int [] rows = new int [250];
+        final int [] rowMapping = new int [A.rows()];
+        Arrays.fill(rowMapping, -1);
+        for (int i = 0; i < rows.length; i++)
+        {
+            rows[i] = i + A.rows() - rows.length;
+            rowMapping[rows[i]] = i;
+        }
+        final int [] columnMapping = new int [A.columns()];
+        Arrays.fill(columnMapping, -1);
+        for (int i = 0; i < 120; i++)
+        {
+            columnMapping[i] = i;
+        }
+        final DoubleMatrix2D previousA = A.viewSelection(rows, null).viewPart(0, 0,
+            rows.length, 120).copy();
+
+        final NonnegativeMatrixFactorizationEDFactory factory = new NonnegativeMatrixFactorizationEDFactory();
+        factory.setK(10);
+        factory.setMaxIterations(100);
+        final IMatrixFactorization previous = factory.factorize(previousA);
+
+        factory.setMaxIterations(10);
+        final IMatrixFactorization cold = factory.factorize(A);
+        factory.setSeedingFactory(new WarmStartSeedingStrategyFactory(previous,
+            rowMapping, columnMapping));
+        final IMatrixFactorization warm = factory.factorize(A);
+
+        assertThat(approximationError(A, warm)).isLessThan(approximationError(A, cold));
+    }
+
+    private static double approximationError(DoubleMatrix2D A,
+        IMatrixFactorization factorization)
+    {
+        return Algebra.normF(factorization.getU().zMult(factorization.getV(),
+            null, 1, 0, false, true).assign(A, Functions.minus));
+    }
+
+    /**
+     * Returns the Frobenius norm of <code>A - U * S * V'</code>.
+     */
+    private static double svdApproximationError(DoubleMatrix2D A,
+        IMatrixFactorization factorization)
+    {
+        final double [] S = (factorization instanceof RandomizedSingularValueDecomposition)
+            ? ((RandomizedSingularValueDecomposition) factorization).getSingularValues()
+            : ((PartialSingularValueDecomposition) factorization).getSingularValues();
+        final DoubleMatrix2D US = factorization.getU().copy();
+        for (int c = 0; c < S.length; c++)
+        {
+            US.viewColumn(c).assign(Functions.mult(S[c]));
+        }
+        return Algebra.normF(US.zMult(factorization.getV(), null, 1, 0, false, true)
+            .assign(A, Functions.minus));
+    }
+
+    /**
+     * Returns a random term-document-like matrix with normalized columns.
+     */
+    private static DoubleMatrix2D randomMatrix(int rows, int columns)
+    {
+        final Random random = new Random(0);
+        final DoubleMatrix2D A = NNIDoubleFactory2D.nni.make(rows, columns);
+        for (int r = 0; r < A.rows(); r++)
+        {
+            for (int c = 0; c < A.columns(); c++)
+            {
+                if (random.nextInt(20) == 0)
+                {
+                    A.setQuick(r, c, random.nextDouble());
+                }
+            }
+        }
+        MatrixUtils.normalizeColumnL2(A, null);
+        return A;
+    }
+
+    /**
+     * Checks that parallel factorization of a matrix large enough to be partitioned
+     * gives exactly the same results as sequential factorization.
+     */
+    private void checkParallel(IterativeMatrixFactorizationFactory factory,
+        boolean sparse)
+    {
+        final DoubleMatrix2D dense = randomMatrix(300, 150);
+        final DoubleMatrix2D A = (sparse ? new CompressedSparseDoubleMatrix2D(dense)
+            : dense);
+
+        factory.setK(10);
+        factory.setMaxIterations(10);
+
+        final IMatrixFactorization sequential = factory.factorize(A);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            factory.setExecutorService(executor);
+            final IMatrixFactorization parallel = factory.factorize(A);
+
+            assertThat(parallel.getU()).as("U").isEquivalentTo(sequential.getU(), 0);
+            assertThat(parallel.getV()).as("V").isEquivalentTo(sequential.getV(), 0);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Checks that factorizing a sparse copy of the input matrix gives the same results as
+     * factorizing the dense matrix.
+     */
+    private void checkSparse(IterativeMatrixFactorizationFactory factory)
+    {
+        factory.setK(K);
+        factory.setMaxIterations(MAX_ITERATIONS);
+        factory.setStopThreshold(STOP_THRESHOLD);
+        factory.setSeedingFactory(ConstantSeedingStrategyFactory.INSTANCE);
+
+        final IMatrixFactorization dense = factory.factorize(A);
+        check(dense.getU(), dense.getV(), factory
+            .factorize(new CompressedSparseDoubleMatrix2D(A)));
+    }
+
     private IMatrixFactorization checkIterative(DoubleMatrix2D expectedU,
         DoubleMatrix2D expectedV, IterativeMatrixFactorizationFactory factory)
     {
@@ -0,0 +1,688 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import java.util.Arrays;
+
+import org.apache.mahout.math.function.IntIntDoubleFunction;
+import org.apache.mahout.math.list.DoubleArrayList;
+import org.apache.mahout.math.list.IntArrayList;
+import org.apache.mahout.math.matrix.DoubleMatrix1D;
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix1D;
+
+/**
+ * A sparse matrix stored in the Compressed Sparse Row (CSR) format: column indices and
+ * values of non-zero elements are stored row by row in two arrays, and an array of row
+ * pointers marks where each row starts. The memory used by this matrix is proportional
+ * to the number of its non-zero elements rather than to the product of its dimensions.
+ * <p>
+ * The structure of the matrix (positions of non-zero elements) is fixed at construction
+ * time. Values of the non-zero elements can be changed, but an attempt to set a non-zero
+ * value of an element outside of the structure will result in an
+ * {@link IllegalArgumentException}.
+ * <p>
+ * {@link #viewDice()} returns a transposed view of the matrix, which traverses the
+ * elements column by column using a Compressed Sparse Column (CSC) index built on first
+ * use and shared by all views. {@link #viewPart(int, int, int, int)} views are also
+ * supported, selection views, row and column views are not.
+ * <p>
+ * Multiplications by dense matrices and vectors (see
+ * {@link #zMult(DoubleMatrix2D, DoubleMatrix2D, double, double, boolean, boolean)})
+ * take time proportional to the number of non-zero elements. Methods creating new
+ * matrices, such as {@link #copy()} or {@link #like(int, int)}, create dense matrices.
+ * <p>
+ * The values of non-zero elements can be stored in single precision (see
+ * {@link #CompressedSparseDoubleMatrix2D(int, int, int[], int[], float[])}), in which
+ * case dense matrices created by this matrix are {@link DenseFloatMatrix2D}s.
+ */
+@SuppressWarnings("deprecation")
+public class CompressedSparseDoubleMatrix2D extends DoubleMatrix2D
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Non-zero elements shared by this matrix and its views.
+     */
+    private final Storage storage;
+
+    /**
+     * <code>true</code> if this matrix is a transposed view of {@link #storage}.
+     */
+    private final boolean transposed;
+
+    /**
+     * The row of {@link #storage} (or column, if {@link #transposed}) corresponding to
+     * row <code>0</code> of this matrix.
+     */
+    private final int rowOffset;
+
+    /**
+     * The column of {@link #storage} (or row, if {@link #transposed}) corresponding to
+     * column <code>0</code> of this matrix.
+     */
+    private final int columnOffset;
+
+    /**
+     * Creates a matrix from arrays in the CSR format. The arrays are not copied.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param rowPointers an array of <code>rows + 1</code> elements; elements of row
+     *            <code>r</code> are stored at indices from <code>rowPointers[r]</code>
+     *            (inclusive) to <code>rowPointers[r + 1]</code> (exclusive) of
+     *            <code>columnIndices</code> and <code>values</code>
+     * @param columnIndices column indices of the non-zero elements, in ascending order
+     *            within each row
+     * @param values values of the non-zero elements
+     */
+    public CompressedSparseDoubleMatrix2D(int rows, int columns, int [] rowPointers,
+        int [] columnIndices, double [] values)
+    {
+        this(new Storage(rows, columns, rowPointers, columnIndices, values, null), false,
+            0, 0, rows, columns);
+    }
+
+    /**
+     * Creates a matrix from arrays in the CSR format with values of the non-zero elements
+     * stored in single precision. The arrays are not copied.
+     *
+     * @see #CompressedSparseDoubleMatrix2D(int, int, int[], int[], double[])
+     */
+    public CompressedSparseDoubleMatrix2D(int rows, int columns, int [] rowPointers,
+        int [] columnIndices, float [] values)
+    {
+        this(new Storage(rows, columns, rowPointers, columnIndices, null, values), false,
+            0, 0, rows, columns);
+    }
+
+    /**
+     * Creates a matrix containing the non-zero elements of the provided matrix.
+     */
+    public CompressedSparseDoubleMatrix2D(DoubleMatrix2D A)
+    {
+        this(A, false);
+    }
+
+    /**
+     * Creates a matrix containing the non-zero elements of the provided matrix, stored
+     * in single precision if <code>singlePrecision</code> is <code>true</code>. The
+     * non-zero elements are collected with
+     * {@link DoubleMatrix2D#forEachNonZero(IntIntDoubleFunction)}, which visits only the
+     * stored elements of sparse matrices.
+     */
+    public CompressedSparseDoubleMatrix2D(DoubleMatrix2D A, boolean singlePrecision)
+    {
+        this(Storage.fromMatrix(A, singlePrecision), false, 0, 0, A.rows(), A.columns());
+    }
+
+    private CompressedSparseDoubleMatrix2D(Storage storage, boolean transposed,
+        int rowOffset, int columnOffset, int rows, int columns)
+    {
+        this.storage = storage;
+        this.transposed = transposed;
+        this.rowOffset = rowOffset;
+        this.columnOffset = columnOffset;
+        setUp(rows, columns);
+        this.isNoView = !transposed && rowOffset == 0 && columnOffset == 0
+            && rows == storage.rows && columns == storage.columns;
+    }
+
+    @Override
+    public double getQuick(int row, int column)
+    {
+        final int position = find(row, column);
+        return position >= 0 ? storage.get(position) : 0;
+    }
+
+    @Override
+    public void setQuick(int row, int column, double value)
+    {
+        final int position = find(row, column);
+        if (position >= 0)
+        {
+            storage.set(position, value);
+        }
+        else if (value != 0)
+        {
+            throw new IllegalArgumentException("Element (" + row + ", " + column
+                + ") is not stored in this sparse matrix");
+        }
+    }
+
+    /**
+     * Returns the position of the element in {@link Storage#values} or a negative
+     * number if the element is not stored.
+     */
+    private int find(int row, int column)
+    {
+        final int storageRow = transposed ? columnOffset + column : rowOffset + row;
+        final int storageColumn = transposed ? rowOffset + row : columnOffset + column;
+        return Arrays.binarySearch(storage.columnIndices,
+            storage.rowPointers[storageRow], storage.rowPointers[storageRow + 1],
+            storageColumn);
+    }
+
+    /**
+     * Returns the position in <code>index</code> of the first element of the provided
+     * major row whose minor index is not less than {@link #columnOffset}, that is the
+     * first element of the row visible in this view.
+     */
+    private int firstInView(Index index, int major)
+    {
+        final int start = index.pointers[major];
+        if (columnOffset == 0)
+        {
+            return start;
+        }
+
+        final int p = Arrays.binarySearch(index.indices, start,
+            index.pointers[major + 1], columnOffset);
+        return p >= 0 ? p : -p - 1;
+    }
+
+    /**
+     * Returns the number of non-zero elements stored in the underlying storage of this
+     * matrix, including elements outside of this view, if this matrix is a view.
+     */
+    public int getStoredCount()
+    {
+        return storage.columnIndices.length;
+    }
+
+    /**
+     * Returns <code>true</code> if the values of the non-zero elements are stored in
+     * single precision.
+     */
+    public boolean isSinglePrecision()
+    {
+        return storage.floatValues != null;
+    }
+
+    @Override
+    public int cardinality()
+    {
+        final Index index = index();
+        int cardinality = 0;
+        for (int r = 0; r < rows; r++)
+        {
+            final int major = rowOffset + r;
+            final int end = index.pointers[major + 1];
+            for (int p = firstInView(index, major); p < end; p++)
+            {
+                final int c = index.indices[p] - columnOffset;
+                if (c >= columns) break;
+                if (storage.get(index.position(p)) != 0)
+                {
+                    cardinality++;
+                }
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * Visits stored elements of this matrix in row-major order. Elements whose value is
+     * zero are skipped.
+     */
+    @Override
+    public DoubleMatrix2D forEachNonZero(IntIntDoubleFunction function)
+    {
+        final Index index = index();
+        for (int r = 0; r < rows; r++)
+        {
+            final int major = rowOffset + r;
+            final int end = index.pointers[major + 1];
+            for (int p = firstInView(index, major); p < end; p++)
+            {
+                final int c = index.indices[p] - columnOffset;
+                if (c >= columns) break;
+
+                final int position = index.position(p);
+                final double value = storage.get(position);
+                if (value != 0)
+                {
+                    final double result = function.apply(r, c, value);
+                    if (result != value)
+                    {
+                        storage.set(position, result);
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Fills the provided lists with coordinates and values of non-zero elements of this
+     * matrix, in row-major order.
+     */
+    @Override
+    public void getNonZeros(IntArrayList rowList, IntArrayList columnList,
+        DoubleArrayList valueList)
+    {
+        rowList.clear();
+        columnList.clear();
+        valueList.clear();
+
+        final Index index = index();
+        for (int r = 0; r < rows; r++)
+        {
+            final int major = rowOffset + r;
+            final int end = index.pointers[major + 1];
+            for (int p = firstInView(index, major); p < end; p++)
+            {
+                final int c = index.indices[p] - columnOffset;
+                if (c >= columns) break;
+
+                final double value = storage.get(index.position(p));
+                if (value != 0)
+                {
+                    rowList.add(r);
+                    columnList.add(c);
+                    valueList.add(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes <code>C = alpha * op(A) * op(B) + beta * C</code>, where <code>A</code>
+     * is this matrix and <code>op(X)</code> is <code>X</code> or its transpose. The
+     * multiplication takes time proportional to the number of non-zero elements of this
+     * matrix times the number of columns of <code>op(B)</code>. If <code>C</code> is
+     * <code>null</code>, a new dense matrix is created with {@link #like(int, int)}.
+     */
+    @Override
+    public DoubleMatrix2D zMult(DoubleMatrix2D B, DoubleMatrix2D C, double alpha,
+        double beta, boolean transposeA, boolean transposeB)
+    {
+        final int rowsA = transposeA ? columns : rows;
+        final int columnsA = transposeA ? rows : columns;
+        final int rowsB = transposeB ? B.columns() : B.rows();
+        final int columnsB = transposeB ? B.rows() : B.columns();
+
+        if (C == null)
+        {
+            C = like(rowsA, columnsB);
+        }
+
+        if (rowsB != columnsA)
+        {
+            throw new IllegalArgumentException("Matrix2D inner dimensions must agree:"
+                + toStringShort() + ", " + B.toStringShort());
+        }
+
+        if (C.rows() != rowsA || C.columns() != columnsB)
+        {
+            throw new IllegalArgumentException("Incompatibile result matrix: "
+                + toStringShort() + ", " + B.toStringShort() + ", " + C.toStringShort());
+        }
+
+        // Copy op(B) to a row-major array for fast access
+        final double [] b = new double [rowsB * columnsB];
+        for (int r = 0; r < rowsB; r++)
+        {
+            for (int c = 0; c < columnsB; c++)
+            {
+                b[r * columnsB + c] = transposeB ? B.getQuick(c, r) : B.getQuick(r, c);
+            }
+        }
+
+        final double [] result = new double [rowsA * columnsB];
+        final Index index = index();
+        for (int r = 0; r < rows; r++)
+        {
+            final int major = rowOffset + r;
+            final int end = index.pointers[major + 1];
+            for (int p = firstInView(index, major); p < end; p++)
+            {
+                final int c = index.indices[p] - columnOffset;
+                if (c >= columns) break;
+
+                final double value = alpha * storage.get(index.position(p));
+                final int resultRow = (transposeA ? c : r) * columnsB;
+                final int bRow = (transposeA ? r : c) * columnsB;
+                for (int k = 0; k < columnsB; k++)
+                {
+                    result[resultRow + k] += value * b[bRow + k];
+                }
+            }
+        }
+
+        for (int r = 0; r < rowsA; r++)
+        {
+            for (int c = 0; c < columnsB; c++)
+            {
+                final double product = result[r * columnsB + c];
+                C.setQuick(r, c, beta == 0 ? product : product + beta * C.getQuick(r, c));
+            }
+        }
+
+        return C;
+    }
+
+    /**
+     * Computes <code>z = alpha * op(A) * y + beta * z</code>, where <code>A</code> is
+     * this matrix and <code>op(A)</code> is <code>A</code> or its transpose. If
+     * <code>z</code> is <code>null</code>, a new dense vector is created.
+     */
+    @Override
+    public DoubleMatrix1D zMult(DoubleMatrix1D y, DoubleMatrix1D z, double alpha,
+        double beta, boolean transposeA)
+    {
+        final int rowsA = transposeA ? columns : rows;
+        final int columnsA = transposeA ? rows : columns;
+
+        if (z == null)
+        {
+            z = like1D(rowsA);
+        }
+
+        if (y.size() != columnsA || z.size() != rowsA)
+        {
+            throw new IllegalArgumentException("Incompatible args: " + toStringShort()
+                + ", " + y.toStringShort() + ", " + z.toStringShort());
+        }
+
+        final double [] result = new double [rowsA];
+        final Index index = index();
+        for (int r = 0; r < rows; r++)
+        {
+            final int major = rowOffset + r;
+            final int end = index.pointers[major + 1];
+            for (int p = firstInView(index, major); p < end; p++)
+            {
+                final int c = index.indices[p] - columnOffset;
+                if (c >= columns) break;
+
+                final double value = alpha * storage.get(index.position(p));
+                if (transposeA)
+                {
+                    result[c] += value * y.getQuick(r);
+                }
+                else
+                {
+                    result[r] += value * y.getQuick(c);
+                }
+            }
+        }
+
+        for (int r = 0; r < rowsA; r++)
+        {
+            z.setQuick(r, beta == 0 ? result[r] : result[r] + beta * z.getQuick(r));
+        }
+
+        return z;
+    }
+
+    @Override
+    public DoubleMatrix2D viewDice()
+    {
+        return new CompressedSparseDoubleMatrix2D(storage, !transposed, columnOffset,
+            rowOffset, columns, rows);
+    }
+
+    @Override
+    public DoubleMatrix2D viewPart(int row, int column, int height, int width)
+    {
+        checkBox(row, column, height, width);
+        return new CompressedSparseDoubleMatrix2D(storage, transposed, rowOffset + row,
+            columnOffset + column, height, width);
+    }
+
+    /**
+     * Returns a dense matrix of the provided size, in single precision if the values of
+     * this matrix are stored in single precision.
+     */
+    @Override
+    public DoubleMatrix2D like(int rows, int columns)
+    {
+        if (isSinglePrecision())
+        {
+            return new DenseFloatMatrix2D(rows, columns);
+        }
+        return new NNIDenseDoubleMatrix2D(rows, columns);
+    }
+
+    @Override
+    public DoubleMatrix1D like1D(int size)
+    {
+        if (isSinglePrecision())
+        {
+            return new DenseFloatMatrix1D(size);
+        }
+        return new DenseDoubleMatrix1D(size);
+    }
+
+    /**
+     * Row and column views are not supported.
+     */
+    @Override
+    protected DoubleMatrix1D like1D(int size, int zero, int stride)
+    {
+        throw new UnsupportedOperationException(
+            "Row and column views of sparse matrices are not supported");
+    }
+
+    /**
+     * Selection views are not supported.
+     */
+    @Override
+    protected DoubleMatrix2D viewSelectionLike(int [] rowOffsets, int [] columnOffsets)
+    {
+        throw new UnsupportedOperationException(
+            "Selection views of sparse matrices are not supported");
+    }
+
+    /**
+     * Returns the index to traverse rows of this matrix.
+     */
+    private Index index()
+    {
+        return transposed ? storage.getColumnIndex() : storage.rowIndex;
+    }
+
+    /**
+     * Pointers to and minor indices of the non-zero elements, grouped by the major
+     * dimension (rows for CSR, columns for CSC).
+     */
+    private static final class Index
+    {
+        final int [] pointers;
+        final int [] indices;
+
+        /**
+         * Positions of elements in {@link Storage#values} or <code>null</code> if the
+         * elements are stored in the order of this index.
+         */
+        final int [] positions;
+
+        Index(int [] pointers, int [] indices, int [] positions)
+        {
+            this.pointers = pointers;
+            this.indices = indices;
+            this.positions = positions;
+        }
+
+        int position(int p)
+        {
+            return positions == null ? p : positions[p];
+        }
+    }
+
+    /**
+     * Non-zero elements of a matrix in the CSR format, with a CSC index built on demand.
+     */
+    private static final class Storage
+    {
+        final int rows;
+        final int columns;
+        final int [] rowPointers;
+        final int [] columnIndices;
+        final Index rowIndex;
+
+        /**
+         * Values of the non-zero elements in double or single precision, exactly one of
+         * the arrays is not <code>null</code>.
+         */
+        final double [] values;
+        final float [] floatValues;
+
+        private Index columnIndex;
+
+        Storage(int rows, int columns, int [] rowPointers, int [] columnIndices,
+            double [] values, float [] floatValues)
+        {
+            final int size = (values != null ? values.length : floatValues.length);
+            if (rowPointers.length != rows + 1 || rowPointers[0] != 0
+                || rowPointers[rows] != size || columnIndices.length != size)
+            {
+                throw new IllegalArgumentException("Inconsistent CSR arrays");
+            }
+
+            for (int r = 0; r < rows; r++)
+            {
+                int previous = -1;
+                for (int p = rowPointers[r]; p < rowPointers[r + 1]; p++)
+                {
+                    if (columnIndices[p] <= previous || columnIndices[p] >= columns)
+                    {
+                        throw new IllegalArgumentException("Column indices in row " + r
+                            + " must be ascending and smaller than " + columns);
+                    }
+                    previous = columnIndices[p];
+                }
+            }
+
+            this.rows = rows;
+            this.columns = columns;
+            this.rowPointers = rowPointers;
+            this.columnIndices = columnIndices;
+            this.values = values;
+            this.floatValues = floatValues;
+            this.rowIndex = new Index(rowPointers, columnIndices, null);
+        }
+
+        static Storage fromMatrix(DoubleMatrix2D A, boolean singlePrecision)
+        {
+            // Elements may be visited in any order, e.g. in the hash order of the
+            // Colt sparse matrices
+            final IntArrayList rowList = new IntArrayList();
+            final IntArrayList columnList = new IntArrayList();
+            final DoubleArrayList valueList = new DoubleArrayList();
+            A.forEachNonZero(new IntIntDoubleFunction()
+            {
+                public double apply(int row, int column, double value)
+                {
+                    rowList.add(row);
+                    columnList.add(column);
+                    valueList.add(value);
+                    return value;
+                }
+            });
+
+            final int size = rowList.size();
+            final int [] rowPointers = new int [A.rows() + 1];
+            for (int i = 0; i < size; i++)
+            {
+                rowPointers[rowList.getQuick(i) + 1]++;
+            }
+            for (int r = 0; r < A.rows(); r++)
+            {
+                rowPointers[r + 1] += rowPointers[r];
+            }
+
+            // Order the elements by row and then by column
+            final long [] order = new long [size];
+            final int [] fill = Arrays.copyOf(rowPointers, A.rows());
+            for (int i = 0; i < size; i++)
+            {
+                order[fill[rowList.getQuick(i)]++] = ((long) columnList.getQuick(i) << 32)
+                    | i;
+            }
+            for (int r = 0; r < A.rows(); r++)
+            {
+                Arrays.sort(order, rowPointers[r], rowPointers[r + 1]);
+            }
+
+            final int [] columnIndices = new int [size];
+            final double [] values = singlePrecision ? null : new double [size];
+            final float [] floatValues = singlePrecision ? new float [size] : null;
+            for (int p = 0; p < size; p++)
+            {
+                final int i = (int) order[p];
+                columnIndices[p] = (int) (order[p] >>> 32);
+                if (singlePrecision)
+                {
+                    floatValues[p] = (float) valueList.getQuick(i);
+                }
+                else
+                {
+                    values[p] = valueList.getQuick(i);
+                }
+            }
+
+            return new Storage(A.rows(), A.columns(), rowPointers, columnIndices,
+                values, floatValues);
+        }
+
+        double get(int position)
+        {
+            return values != null ? values[position] : floatValues[position];
+        }
+
+        void set(int position, double value)
+        {
+            if (values != null)
+            {
+                values[position] = value;
+            }
+            else
+            {
+                floatValues[position] = (float) value;
+            }
+        }
+
+        synchronized Index getColumnIndex()
+        {
+            if (columnIndex == null)
+            {
+                final int [] columnPointers = new int [columns + 1];
+                for (int p = 0; p < columnIndices.length; p++)
+                {
+                    columnPointers[columnIndices[p] + 1]++;
+                }
+                for (int c = 0; c < columns; c++)
+                {
+                    columnPointers[c + 1] += columnPointers[c];
+                }
+
+                final int [] rowIndices = new int [columnIndices.length];
+                final int [] positions = new int [columnIndices.length];
+                final int [] fill = Arrays.copyOf(columnPointers, columns);
+                for (int r = 0; r < rows; r++)
+                {
+                    for (int p = rowPointers[r]; p < rowPointers[r + 1]; p++)
+                    {
+                        final int q = fill[columnIndices[p]]++;
+                        rowIndices[q] = r;
+                        positions[q] = p;
+                    }
+                }
+
+                columnIndex = new Index(columnPointers, rowIndices, positions);
+            }
+            return columnIndex;
+        }
+    }
+}
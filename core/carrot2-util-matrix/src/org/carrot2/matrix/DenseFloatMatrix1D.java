@@ -0,0 +1,94 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import org.apache.mahout.math.matrix.DoubleMatrix1D;
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+
+/**
+ * A dense vector storing its elements in single precision, also used for row and
+ * column views of {@link DenseFloatMatrix2D}.
+ */
+@SuppressWarnings("deprecation")
+public class DenseFloatMatrix1D extends DoubleMatrix1D
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Elements of the vector, shared by all its views.
+     */
+    final float [] elements;
+
+    /**
+     * Creates a vector of the provided size. All elements are initially zero.
+     */
+    public DenseFloatMatrix1D(int size)
+    {
+        setUp(size);
+        this.elements = new float [size];
+    }
+
+    /**
+     * Creates a view of the provided elements.
+     */
+    DenseFloatMatrix1D(int size, float [] elements, int zero, int stride)
+    {
+        setUp(size, zero, stride);
+        this.elements = elements;
+        this.isNoView = false;
+    }
+
+    @Override
+    public double getQuick(int index)
+    {
+        return elements[zero + index * stride];
+    }
+
+    @Override
+    public void setQuick(int index, double value)
+    {
+        elements[zero + index * stride] = (float) value;
+    }
+
+    @Override
+    public DoubleMatrix1D like(int size)
+    {
+        return new DenseFloatMatrix1D(size);
+    }
+
+    @Override
+    public DoubleMatrix2D like2D(int rows, int columns)
+    {
+        return new DenseFloatMatrix2D(rows, columns);
+    }
+
+    @Override
+    protected DoubleMatrix1D viewSelectionLike(int [] offsets)
+    {
+        return new SelectedDenseFloatMatrix1D(elements, offsets, 0);
+    }
+
+    @Override
+    protected boolean haveSharedCellsRaw(DoubleMatrix1D other)
+    {
+        if (other instanceof DenseFloatMatrix1D)
+        {
+            return elements == ((DenseFloatMatrix1D) other).elements;
+        }
+        if (other instanceof SelectedDenseFloatMatrix1D)
+        {
+            return elements == ((SelectedDenseFloatMatrix1D) other).elements;
+        }
+        return false;
+    }
+}
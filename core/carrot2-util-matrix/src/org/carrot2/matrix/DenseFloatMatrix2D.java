@@ -0,0 +1,328 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import org.apache.mahout.math.function.BinaryFunction;
+import org.apache.mahout.math.function.UnaryFunction;
+import org.apache.mahout.math.matrix.DoubleMatrix1D;
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+
+/**
+ * A dense matrix storing its elements in single precision. Values are rounded to the
+ * nearest <code>float</code> when set and widened to <code>double</code> when read, so
+ * the matrix can be used wherever a <code>DoubleMatrix2D</code> is expected, including
+ * all matrix factorizations, while taking half of the memory and memory bandwidth of a
+ * double precision matrix.
+ * <p>
+ * Matrix multiplications use cache-blocked single precision routines when all input
+ * matrices are {@link DenseFloatMatrix2D}s (views included) and Colt's generic
+ * implementation otherwise. Multiplications by a {@link CompressedSparseDoubleMatrix2D}
+ * are delegated to the sparse matrix. Element-wise assignments between single
+ * precision matrices operate directly on the underlying arrays.
+ *
+ * @see FloatFactory2D
+ */
+@SuppressWarnings("deprecation")
+public class DenseFloatMatrix2D extends DoubleMatrix2D
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Elements of the matrix, shared by all its views.
+     */
+    final float [] elements;
+
+    /**
+     * Creates a matrix with the provided number of rows and columns. All elements are
+     * initially zero.
+     */
+    public DenseFloatMatrix2D(int rows, int columns)
+    {
+        setUp(rows, columns);
+        this.elements = new float [rows * columns];
+    }
+
+    /**
+     * Creates a matrix with a copy of the provided values, rounded to single precision.
+     * The values are indexed by row first, all rows must have the same length.
+     */
+    public DenseFloatMatrix2D(double [][] values)
+    {
+        this(values.length, values.length == 0 ? 0 : values[0].length);
+        assign(values);
+    }
+
+    /**
+     * Creates a view of the provided elements.
+     */
+    DenseFloatMatrix2D(int rows, int columns, float [] elements, int rowZero,
+        int columnZero, int rowStride, int columnStride)
+    {
+        setUp(rows, columns, rowZero, columnZero, rowStride, columnStride);
+        this.elements = elements;
+        this.isNoView = false;
+    }
+
+    @Override
+    public double getQuick(int row, int column)
+    {
+        return elements[rowZero + row * rowStride + columnZero + column * columnStride];
+    }
+
+    @Override
+    public void setQuick(int row, int column, double value)
+    {
+        elements[rowZero + row * rowStride + columnZero + column * columnStride] =
+            (float) value;
+    }
+
+    @Override
+    public DoubleMatrix2D assign(double value)
+    {
+        final float v = (float) value;
+        for (int r = 0; r < rows; r++)
+        {
+            int i = rowZero + r * rowStride + columnZero;
+            for (int c = 0; c < columns; c++, i += columnStride)
+            {
+                elements[i] = v;
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public DoubleMatrix2D assign(UnaryFunction function)
+    {
+        for (int r = 0; r < rows; r++)
+        {
+            int i = rowZero + r * rowStride + columnZero;
+            for (int c = 0; c < columns; c++, i += columnStride)
+            {
+                elements[i] = (float) function.apply(elements[i]);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public DoubleMatrix2D assign(DoubleMatrix2D source)
+    {
+        if (!(source instanceof DenseFloatMatrix2D))
+        {
+            return super.assign(source);
+        }
+        if (source == this)
+        {
+            return this;
+        }
+
+        checkShape(source);
+        if (haveSharedCells(source))
+        {
+            source = source.copy();
+        }
+
+        final DenseFloatMatrix2D other = (DenseFloatMatrix2D) source;
+        for (int r = 0; r < rows; r++)
+        {
+            int i = rowZero + r * rowStride + columnZero;
+            int j = other.rowZero + r * other.rowStride + other.columnZero;
+            for (int c = 0; c < columns; c++, i += columnStride, j += other.columnStride)
+            {
+                elements[i] = other.elements[j];
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public DoubleMatrix2D assign(DoubleMatrix2D y, BinaryFunction function)
+    {
+        if (!(y instanceof DenseFloatMatrix2D))
+        {
+            return super.assign(y, function);
+        }
+
+        checkShape(y);
+        final DenseFloatMatrix2D other = (DenseFloatMatrix2D) y;
+        for (int r = 0; r < rows; r++)
+        {
+            int i = rowZero + r * rowStride + columnZero;
+            int j = other.rowZero + r * other.rowStride + other.columnZero;
+            for (int c = 0; c < columns; c++, i += columnStride, j += other.columnStride)
+            {
+                elements[i] = (float) function.apply(elements[i], other.elements[j]);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Computes <code>z = alpha * op(A) * y + beta * z</code> in single precision, where
+     * <code>A</code> is this matrix. If <code>z</code> is <code>null</code>, a new
+     * single precision vector is created.
+     */
+    @Override
+    public DoubleMatrix1D zMult(DoubleMatrix1D y, DoubleMatrix1D z, double alpha,
+        double beta, boolean transposeA)
+    {
+        final int rowsA = (transposeA ? columns : rows);
+        final int columnsA = (transposeA ? rows : columns);
+
+        if (z == null)
+        {
+            z = new DenseFloatMatrix1D(rowsA);
+        }
+
+        if (columnsA != y.size() || rowsA != z.size())
+        {
+            throw new IllegalArgumentException("Incompatible args: " + toStringShort()
+                + ", " + y.toStringShort() + ", " + z.toStringShort());
+        }
+
+        final float [] x = new float [columnsA];
+        for (int i = 0; i < columnsA; i++)
+        {
+            x[i] = (float) y.getQuick(i);
+        }
+
+        final float [] result = new float [rowsA];
+        if (beta != 0)
+        {
+            for (int i = 0; i < rowsA; i++)
+            {
+                result[i] = (float) z.getQuick(i);
+            }
+        }
+
+        JavaBlas.gemv(rowsA, columnsA, (float) alpha, elements, rowZero + columnZero,
+            transposeA ? columnStride : rowStride, transposeA ? rowStride : columnStride,
+            x, (float) beta, result);
+
+        for (int i = 0; i < rowsA; i++)
+        {
+            z.setQuick(i, result[i]);
+        }
+        return z;
+    }
+
+    /**
+     * Computes <code>C = alpha * op(A) * op(B) + beta * C</code>, where <code>A</code>
+     * is this matrix, in single precision if <code>B</code> and <code>C</code> are also
+     * {@link DenseFloatMatrix2D}s. If <code>C</code> is <code>null</code>, a new single
+     * precision matrix is created.
+     */
+    @Override
+    public DoubleMatrix2D zMult(DoubleMatrix2D B, DoubleMatrix2D C, double alpha,
+        double beta, boolean transposeA, boolean transposeB)
+    {
+        final int rowsA = (transposeA ? columns : rows);
+        final int columnsA = (transposeA ? rows : columns);
+        final int rowsB = (transposeB ? B.columns() : B.rows());
+        final int columnsB = (transposeB ? B.rows() : B.columns());
+
+        if (C == null)
+        {
+            C = new DenseFloatMatrix2D(rowsA, columnsB);
+        }
+
+        if (this == C || B == C)
+        {
+            throw new IllegalArgumentException("Matrices must not be identical");
+        }
+
+        // Multiply by a sparse matrix as (B' * A')' to take advantage of its sparsity
+        if (B instanceof CompressedSparseDoubleMatrix2D)
+        {
+            B.zMult(this, C.viewDice(), alpha, beta, !transposeB, !transposeA);
+            return C;
+        }
+
+        if (rowsB != columnsA)
+        {
+            throw new IllegalArgumentException("Matrix2D inner dimensions must agree:"
+                + toStringShort() + ", " + B.toStringShort());
+        }
+
+        if (C.rows() != rowsA || C.columns() != columnsB)
+        {
+            throw new IllegalArgumentException("Incompatibile result matrix: "
+                + toStringShort() + ", " + B.toStringShort() + ", " + C.toStringShort());
+        }
+
+        if (!(B instanceof DenseFloatMatrix2D) || !(C instanceof DenseFloatMatrix2D))
+        {
+            return super.zMult(B, C, alpha, beta, transposeA, transposeB);
+        }
+
+        final DenseFloatMatrix2D b = (DenseFloatMatrix2D) B;
+        final DenseFloatMatrix2D c = (DenseFloatMatrix2D) C;
+        if (haveSharedCells(c) || b.haveSharedCells(c))
+        {
+            throw new IllegalArgumentException(
+                "Result matrix must not share elements with the arguments");
+        }
+
+        JavaBlas.gemm(rowsA, columnsB, columnsA, (float) alpha,
+            elements, rowZero + columnZero,
+            transposeA ? columnStride : rowStride,
+            transposeA ? rowStride : columnStride,
+            b.elements, b.rowZero + b.columnZero,
+            transposeB ? b.columnStride : b.rowStride,
+            transposeB ? b.rowStride : b.columnStride,
+            (float) beta,
+            c.elements, c.rowZero + c.columnZero,
+            c.rowStride, c.columnStride);
+
+        return C;
+    }
+
+    @Override
+    public DoubleMatrix2D like(int rows, int columns)
+    {
+        return new DenseFloatMatrix2D(rows, columns);
+    }
+
+    @Override
+    public DoubleMatrix1D like1D(int size)
+    {
+        return new DenseFloatMatrix1D(size);
+    }
+
+    @Override
+    protected DoubleMatrix1D like1D(int size, int zero, int stride)
+    {
+        return new DenseFloatMatrix1D(size, elements, zero, stride);
+    }
+
+    @Override
+    protected DoubleMatrix2D viewSelectionLike(int [] rowOffsets, int [] columnOffsets)
+    {
+        return new SelectedDenseFloatMatrix2D(elements, rowOffsets, columnOffsets, 0);
+    }
+
+    @Override
+    protected boolean haveSharedCellsRaw(DoubleMatrix2D other)
+    {
+        if (other instanceof DenseFloatMatrix2D)
+        {
+            return elements == ((DenseFloatMatrix2D) other).elements;
+        }
+        if (other instanceof SelectedDenseFloatMatrix2D)
+        {
+            return elements == ((SelectedDenseFloatMatrix2D) other).elements;
+        }
+        return false;
+    }
+}
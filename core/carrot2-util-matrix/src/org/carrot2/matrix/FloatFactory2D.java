@@ -0,0 +1,56 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import org.apache.mahout.math.matrix.*;
+
+/**
+ * A factory for convenient construction of single precision 2D matrices. Use the
+ * <code>dense</code> static field to obtain the instance of the factory, which can be
+ * set as the matrix factory of matrix factorizations to compute them in single
+ * precision. For more details on using this factory see
+ * <code>org.apache.mahout.math.matrix.DoubleFactory2D</code>.
+ */
+@SuppressWarnings("deprecation")
+public class FloatFactory2D extends DoubleFactory2D
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A factory producing {@link DenseFloatMatrix2D}s
+     */
+    public static final DoubleFactory2D dense = new FloatFactory2D();
+
+    public DoubleMatrix2D make(double [][] values)
+    {
+        return new DenseFloatMatrix2D(values);
+    }
+
+    public DoubleMatrix2D make(int rows, int columns)
+    {
+        return new DenseFloatMatrix2D(rows, columns);
+    }
+
+    protected DoubleMatrix1D make1D(int size)
+    {
+        return new DenseFloatMatrix1D(size);
+    }
+
+    /**
+     * Converts a generic <code>DoubleMatrix2D</code> into a single precision matrix.
+     */
+    public static DoubleMatrix2D asFloatMatrix(DoubleMatrix2D A)
+    {
+        return dense.make(A.rows(), A.columns()).assign(A);
+    }
+}
@@ -0,0 +1,518 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import java.util.Arrays;
+
+/**
+ * Pure Java implementations of the BLAS routines used by {@link NNIDenseDoubleMatrix2D}
+ * when the native libraries are not available. Matrices are passed as arrays with an
+ * offset of the first element and row and column strides, so transposed matrices and
+ * views can be passed by swapping or adjusting the strides.
+ * <p>
+ * The matrix multiplication is cache-blocked: a block of the right-hand side matrix is
+ * copied to a contiguous array and reused for all rows of the left-hand side matrix,
+ * four rows at a time. The innermost loops operate on contiguous arrays only so that the
+ * JIT compiler can unroll and vectorize them. Zero elements are multiplied like any other
+ * element, so that <code>NaN</code>s and infinities propagate to the result as in Colt's
+ * implementation.
+ */
+final class JavaBlas
+{
+    /**
+     * The number of rows of the result computed at a time.
+     */
+    static final int ROW_BLOCK = 4;
+
+    /**
+     * The number of rows of the right-hand side block.
+     */
+    static final int DEPTH_BLOCK = 128;
+
+    /**
+     * The number of columns of the right-hand side block.
+     */
+    static final int COLUMN_BLOCK = 256;
+
+    private JavaBlas()
+    {
+        // No instances.
+    }
+
+    /**
+     * Computes <code>C = alpha * A * B + beta * C</code>, where <code>A</code> is
+     * <code>m x k</code>, <code>B</code> is <code>k x n</code> and <code>C</code> is
+     * <code>m x n</code>. If <code>beta</code> is zero, the original contents of
+     * <code>C</code> are ignored. <code>C</code> must not share elements with
+     * <code>A</code> or <code>B</code>.
+     */
+    static void gemm(int m, int n, int k, double alpha, double [] a, int aOffset,
+        int aRowStride, int aColumnStride, double [] b, int bOffset, int bRowStride,
+        int bColumnStride, double beta, double [] c, int cOffset, int cRowStride,
+        int cColumnStride)
+    {
+        scale(m, n, beta, c, cOffset, cRowStride, cColumnStride);
+        if (m == 0 || n == 0 || k == 0 || alpha == 0)
+        {
+            return;
+        }
+
+        final int columnBlock = Math.min(n, COLUMN_BLOCK);
+        final int depthBlock = Math.min(k, DEPTH_BLOCK);
+        final double [] bBlock = new double [depthBlock * columnBlock];
+        final double [] aRows = new double [ROW_BLOCK * depthBlock];
+        final double [] c0 = new double [columnBlock];
+        final double [] c1 = new double [columnBlock];
+        final double [] c2 = new double [columnBlock];
+        final double [] c3 = new double [columnBlock];
+
+        for (int jc = 0; jc < n; jc += COLUMN_BLOCK)
+        {
+            final int nb = Math.min(COLUMN_BLOCK, n - jc);
+            for (int pc = 0; pc < k; pc += DEPTH_BLOCK)
+            {
+                final int kb = Math.min(DEPTH_BLOCK, k - pc);
+                pack(b, bOffset + pc * bRowStride + jc * bColumnStride, bRowStride,
+                    bColumnStride, kb, nb, bBlock);
+
+                int i = 0;
+                for (; i + ROW_BLOCK <= m; i += ROW_BLOCK)
+                {
+                    pack(a, aOffset + i * aRowStride + pc * aColumnStride, aRowStride,
+                        aColumnStride, ROW_BLOCK, kb, aRows);
+                    multiply4(kb, nb, aRows, bBlock, c0, c1, c2, c3);
+
+                    final int cBlockOffset = cOffset + i * cRowStride + jc
+                        * cColumnStride;
+                    add(nb, alpha, c0, c, cBlockOffset, cColumnStride);
+                    add(nb, alpha, c1, c, cBlockOffset + cRowStride, cColumnStride);
+                    add(nb, alpha, c2, c, cBlockOffset + 2 * cRowStride, cColumnStride);
+                    add(nb, alpha, c3, c, cBlockOffset + 3 * cRowStride, cColumnStride);
+                }
+
+                for (; i < m; i++)
+                {
+                    pack(a, aOffset + i * aRowStride + pc * aColumnStride, aRowStride,
+                        aColumnStride, 1, kb, aRows);
+                    multiply1(kb, nb, aRows, bBlock, c0);
+                    add(nb, alpha, c0, c, cOffset + i * cRowStride + jc * cColumnStride,
+                        cColumnStride);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes <code>y = alpha * A * x + beta * y</code>, where <code>A</code> is
+     * <code>m x n</code>. If <code>beta</code> is zero, the original contents of
+     * <code>y</code> are ignored.
+     */
+    static void gemv(int m, int n, double alpha, double [] a, int aOffset,
+        int aRowStride, int aColumnStride, double [] x, double beta, double [] y)
+    {
+        final double [] product = new double [m];
+        if (aRowStride == 1 && aColumnStride != 1)
+        {
+            // Columns are contiguous, add up scaled columns
+            for (int p = 0; p < n; p++)
+            {
+                final double xp = x[p];
+                final int column = aOffset + p * aColumnStride;
+                for (int i = 0; i < m; i++)
+                {
+                    product[i] += xp * a[column + i];
+                }
+            }
+        }
+        else
+        {
+            for (int i = 0; i < m; i++)
+            {
+                product[i] = dot(n, a, aOffset + i * aRowStride, aColumnStride, x);
+            }
+        }
+
+        for (int i = 0; i < m; i++)
+        {
+            y[i] = (beta == 0 ? 0 : beta * y[i]) + alpha * product[i];
+        }
+    }
+
+    /**
+     * Adds a block of <code>kb</code> rows of the right-hand side to four rows of the
+     * result.
+     */
+    private static void multiply4(int kb, int nb, double [] aRows, double [] bBlock,
+        double [] c0, double [] c1, double [] c2, double [] c3)
+    {
+        Arrays.fill(c0, 0, nb, 0);
+        Arrays.fill(c1, 0, nb, 0);
+        Arrays.fill(c2, 0, nb, 0);
+        Arrays.fill(c3, 0, nb, 0);
+
+        for (int p = 0; p < kb; p++)
+        {
+            final double a0 = aRows[p];
+            final double a1 = aRows[kb + p];
+            final double a2 = aRows[2 * kb + p];
+            final double a3 = aRows[3 * kb + p];
+
+            final int row = p * nb;
+            for (int j = 0; j < nb; j++)
+            {
+                final double bpj = bBlock[row + j];
+                c0[j] += a0 * bpj;
+                c1[j] += a1 * bpj;
+                c2[j] += a2 * bpj;
+                c3[j] += a3 * bpj;
+            }
+        }
+    }
+
+    /**
+     * Adds a block of <code>kb</code> rows of the right-hand side to one row of the
+     * result.
+     */
+    private static void multiply1(int kb, int nb, double [] aRow, double [] bBlock,
+        double [] c0)
+    {
+        Arrays.fill(c0, 0, nb, 0);
+        for (int p = 0; p < kb; p++)
+        {
+            final double a0 = aRow[p];
+            final int row = p * nb;
+            for (int j = 0; j < nb; j++)
+            {
+                c0[j] += a0 * bBlock[row + j];
+            }
+        }
+    }
+
+    /**
+     * Copies a <code>rows x columns</code> block to a contiguous row-major array.
+     */
+    private static void pack(double [] source, int offset, int rowStride,
+        int columnStride, int rows, int columns, double [] target)
+    {
+        int t = 0;
+        for (int r = 0; r < rows; r++)
+        {
+            final int row = offset + r * rowStride;
+            if (columnStride == 1)
+            {
+                System.arraycopy(source, row, target, t, columns);
+                t += columns;
+            }
+            else
+            {
+                for (int c = 0; c < columns; c++)
+                {
+                    target[t++] = source[row + c * columnStride];
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds <code>alpha * source</code> to a row of the result.
+     */
+    private static void add(int length, double alpha, double [] source, double [] c,
+        int offset, int stride)
+    {
+        if (stride == 1)
+        {
+            for (int j = 0; j < length; j++)
+            {
+                c[offset + j] += alpha * source[j];
+            }
+        }
+        else
+        {
+            for (int j = 0; j < length; j++)
+            {
+                c[offset + j * stride] += alpha * source[j];
+            }
+        }
+    }
+
+    private static void scale(int m, int n, double beta, double [] c, int offset,
+        int rowStride, int columnStride)
+    {
+        if (beta == 1)
+        {
+            return;
+        }
+
+        for (int i = 0; i < m; i++)
+        {
+            final int row = offset + i * rowStride;
+            for (int j = 0; j < n; j++)
+            {
+                final int index = row + j * columnStride;
+                c[index] = (beta == 0 ? 0 : beta * c[index]);
+            }
+        }
+    }
+
+    private static double dot(int n, double [] a, int offset, int stride, double [] x)
+    {
+        if (stride != 1)
+        {
+            double sum = 0;
+            for (int p = 0; p < n; p++)
+            {
+                sum += a[offset + p * stride] * x[p];
+            }
+            return sum;
+        }
+
+        // Independent partial sums for better instruction-level parallelism
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int p = 0;
+        for (; p + 4 <= n; p += 4)
+        {
+            s0 += a[offset + p] * x[p];
+            s1 += a[offset + p + 1] * x[p + 1];
+            s2 += a[offset + p + 2] * x[p + 2];
+            s3 += a[offset + p + 3] * x[p + 3];
+        }
+        for (; p < n; p++)
+        {
+            s0 += a[offset + p] * x[p];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Single precision version of the <code>gemm</code> routine above.
+     */
+    static void gemm(int m, int n, int k, float alpha, float [] a, int aOffset,
+        int aRowStride, int aColumnStride, float [] b, int bOffset, int bRowStride,
+        int bColumnStride, float beta, float [] c, int cOffset, int cRowStride,
+        int cColumnStride)
+    {
+        scale(m, n, beta, c, cOffset, cRowStride, cColumnStride);
+        if (m == 0 || n == 0 || k == 0 || alpha == 0)
+        {
+            return;
+        }
+
+        final int columnBlock = Math.min(n, COLUMN_BLOCK);
+        final int depthBlock = Math.min(k, DEPTH_BLOCK);
+        final float [] bBlock = new float [depthBlock * columnBlock];
+        final float [] aRows = new float [ROW_BLOCK * depthBlock];
+        final float [] c0 = new float [columnBlock];
+        final float [] c1 = new float [columnBlock];
+        final float [] c2 = new float [columnBlock];
+        final float [] c3 = new float [columnBlock];
+
+        for (int jc = 0; jc < n; jc += COLUMN_BLOCK)
+        {
+            final int nb = Math.min(COLUMN_BLOCK, n - jc);
+            for (int pc = 0; pc < k; pc += DEPTH_BLOCK)
+            {
+                final int kb = Math.min(DEPTH_BLOCK, k - pc);
+                pack(b, bOffset + pc * bRowStride + jc * bColumnStride, bRowStride,
+                    bColumnStride, kb, nb, bBlock);
+
+                int i = 0;
+                for (; i + ROW_BLOCK <= m; i += ROW_BLOCK)
+                {
+                    pack(a, aOffset + i * aRowStride + pc * aColumnStride, aRowStride,
+                        aColumnStride, ROW_BLOCK, kb, aRows);
+                    multiply4(kb, nb, aRows, bBlock, c0, c1, c2, c3);
+
+                    final int cBlockOffset = cOffset + i * cRowStride + jc
+                        * cColumnStride;
+                    add(nb, alpha, c0, c, cBlockOffset, cColumnStride);
+                    add(nb, alpha, c1, c, cBlockOffset + cRowStride, cColumnStride);
+                    add(nb, alpha, c2, c, cBlockOffset + 2 * cRowStride, cColumnStride);
+                    add(nb, alpha, c3, c, cBlockOffset + 3 * cRowStride, cColumnStride);
+                }
+
+                for (; i < m; i++)
+                {
+                    pack(a, aOffset + i * aRowStride + pc * aColumnStride, aRowStride,
+                        aColumnStride, 1, kb, aRows);
+                    multiply1(kb, nb, aRows, bBlock, c0);
+                    add(nb, alpha, c0, c, cOffset + i * cRowStride + jc * cColumnStride,
+                        cColumnStride);
+                }
+            }
+        }
+    }
+
+    /**
+     * Single precision version of the <code>gemv</code> routine above.
+     */
+    static void gemv(int m, int n, float alpha, float [] a, int aOffset,
+        int aRowStride, int aColumnStride, float [] x, float beta, float [] y)
+    {
+        final float [] product = new float [m];
+        if (aRowStride == 1 && aColumnStride != 1)
+        {
+            // Columns are contiguous, add up scaled columns
+            for (int p = 0; p < n; p++)
+            {
+                final float xp = x[p];
+                final int column = aOffset + p * aColumnStride;
+                for (int i = 0; i < m; i++)
+                {
+                    product[i] += xp * a[column + i];
+                }
+            }
+        }
+        else
+        {
+            for (int i = 0; i < m; i++)
+            {
+                product[i] = dot(n, a, aOffset + i * aRowStride, aColumnStride, x);
+            }
+        }
+
+        for (int i = 0; i < m; i++)
+        {
+            y[i] = (beta == 0 ? 0 : beta * y[i]) + alpha * product[i];
+        }
+    }
+
+    private static void multiply4(int kb, int nb, float [] aRows, float [] bBlock,
+        float [] c0, float [] c1, float [] c2, float [] c3)
+    {
+        Arrays.fill(c0, 0, nb, 0);
+        Arrays.fill(c1, 0, nb, 0);
+        Arrays.fill(c2, 0, nb, 0);
+        Arrays.fill(c3, 0, nb, 0);
+
+        for (int p = 0; p < kb; p++)
+        {
+            final float a0 = aRows[p];
+            final float a1 = aRows[kb + p];
+            final float a2 = aRows[2 * kb + p];
+            final float a3 = aRows[3 * kb + p];
+
+            final int row = p * nb;
+            for (int j = 0; j < nb; j++)
+            {
+                final float bpj = bBlock[row + j];
+                c0[j] += a0 * bpj;
+                c1[j] += a1 * bpj;
+                c2[j] += a2 * bpj;
+                c3[j] += a3 * bpj;
+            }
+        }
+    }
+
+    private static void multiply1(int kb, int nb, float [] aRow, float [] bBlock,
+        float [] c0)
+    {
+        Arrays.fill(c0, 0, nb, 0);
+        for (int p = 0; p < kb; p++)
+        {
+            final float a0 = aRow[p];
+            final int row = p * nb;
+            for (int j = 0; j < nb; j++)
+            {
+                c0[j] += a0 * bBlock[row + j];
+            }
+        }
+    }
+
+    private static void pack(float [] source, int offset, int rowStride,
+        int columnStride, int rows, int columns, float [] target)
+    {
+        int t = 0;
+        for (int r = 0; r < rows; r++)
+        {
+            final int row = offset + r * rowStride;
+            if (columnStride == 1)
+            {
+                System.arraycopy(source, row, target, t, columns);
+                t += columns;
+            }
+            else
+            {
+                for (int c = 0; c < columns; c++)
+                {
+                    target[t++] = source[row + c * columnStride];
+                }
+            }
+        }
+    }
+
+    private static void add(int length, float alpha, float [] source, float [] c,
+        int offset, int stride)
+    {
+        if (stride == 1)
+        {
+            for (int j = 0; j < length; j++)
+            {
+                c[offset + j] += alpha * source[j];
+            }
+        }
+        else
+        {
+            for (int j = 0; j < length; j++)
+            {
+                c[offset + j * stride] += alpha * source[j];
+            }
+        }
+    }
+
+    private static void scale(int m, int n, float beta, float [] c, int offset,
+        int rowStride, int columnStride)
+    {
+        if (beta == 1)
+        {
+            return;
+        }
+
+        for (int i = 0; i < m; i++)
+        {
+            final int row = offset + i * rowStride;
+            for (int j = 0; j < n; j++)
+            {
+                final int index = row + j * columnStride;
+                c[index] = (beta == 0 ? 0 : beta * c[index]);
+            }
+        }
+    }
+
+    private static float dot(int n, float [] a, int offset, int stride, float [] x)
+    {
+        if (stride != 1)
+        {
+            float sum = 0;
+            for (int p = 0; p < n; p++)
+            {
+                sum += a[offset + p * stride] * x[p];
+            }
+            return sum;
+        }
+
+        // Independent partial sums for better instruction-level parallelism
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int p = 0;
+        for (; p + 4 <= n; p += 4)
+        {
+            s0 += a[offset + p] * x[p];
+            s1 += a[offset + p + 1] * x[p + 1];
+            s2 += a[offset + p + 2] * x[p + 2];
+            s3 += a[offset + p + 3] * x[p + 3];
+        }
+        for (; p < n; p++)
+        {
+            s0 += a[offset + p] * x[p];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+}
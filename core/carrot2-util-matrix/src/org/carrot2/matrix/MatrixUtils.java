@@ -43,6 +43,11 @@ public class MatrixUtils
      */
     public static DoubleMatrix2D normalizeColumnL2(DoubleMatrix2D A, double [] work)
     {
+        if (A instanceof CompressedSparseDoubleMatrix2D)
+        {
+            return normalizeSparseColumnL2(A, work);
+        }
+
         work = prepareWork(A, work);
 
         // Calculate the L2 norm for each column
@@ -382,4 +387,18 @@ public class MatrixUtils
     {
         return null;
     }
+
+    /**
+     * Returns <code>true</code> if the elements of the provided matrix are stored in
+     * single precision, i.e. if the matrix is a {@link DenseFloatMatrix2D}, its view or a
+     * single precision {@link CompressedSparseDoubleMatrix2D}.
+     */
+    public static boolean isSinglePrecision(DoubleMatrix2D A)
+    {
+        if (A instanceof CompressedSparseDoubleMatrix2D)
+        {
+            return ((CompressedSparseDoubleMatrix2D) A).isSinglePrecision();
+        }
+        return A instanceof DenseFloatMatrix2D || A instanceof SelectedDenseFloatMatrix2D;
+    }
 }
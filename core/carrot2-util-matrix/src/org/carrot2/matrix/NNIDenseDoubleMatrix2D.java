@@ -14,12 +14,15 @@ package org.carrot2.matrix;
 
 import org.apache.mahout.math.matrix.DoubleMatrix1D;
 import org.apache.mahout.math.matrix.*;
+import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix1D;
 import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix2D;
 
 /**
  * A very crude native implementation of Colt's <code>org.apache.mahout.math.matrix.DoubleMatrix2D</code>
  * based on the Native Numerical Interface (NNI). For the time being, the only method that
- * uses the native routines is the Level 3 zMult(). The other methods use the
+ * uses the native routines is the Level 3 zMult(). If the native routines are not
+ * available, zMult() methods use cache-blocked pure Java routines, which are
+ * considerably faster than Colt's generic ones. The other methods use the
  * implementations provided in DenseDoubleMatrix2D.
  */
 @SuppressWarnings("deprecation")
@@ -43,11 +46,44 @@ public class NNIDenseDoubleMatrix2D extends DenseDoubleMatrix2D
         super(rows, columns, elements, rowZero, columnZero, rowStride, columnStride);
     }
 
+    /**
+     * A pure Java implementation of Colt's original matrix-vector multiplication method.
+     */
     public DoubleMatrix1D zMult(DoubleMatrix1D y, DoubleMatrix1D z, double alpha,
         double beta, boolean transposeA)
     {
-        return super.zMult(y, z, alpha, beta, transposeA);
+        final int rowsA = (transposeA ? columns() : rows());
+        final int columnsA = (transposeA ? rows() : columns());
+
+        if (z == null)
+        {
+            z = new DenseDoubleMatrix1D(rowsA);
+        }
+
+        if (columnsA != y.size() || rowsA > z.size())
+        {
+            throw new IllegalArgumentException("Incompatible args: " + toStringShort()
+                + ", " + y.toStringShort() + ", " + z.toStringShort());
+        }
+
+        final double [] result = new double [rowsA];
+        if (beta != 0)
+        {
+            for (int i = 0; i < rowsA; i++)
+            {
+                result[i] = z.getQuick(i);
+            }
+        }
+
+        JavaBlas.gemv(rowsA, columnsA, alpha, elements, rowZero + columnZero,
+            transposeA ? columnStride : rowStride, transposeA ? rowStride : columnStride,
+            y.toArray(), beta, result);
 
+        for (int i = 0; i < rowsA; i++)
+        {
+            z.setQuick(i, result[i]);
+        }
+        return z;
     }
 
     /**
@@ -55,15 +91,22 @@ public class NNIDenseDoubleMatrix2D extends DenseDoubleMatrix2D
      * <p>
      * NOTE: this method will use native calls only when:
      * <ul>
-     * <li>all input matrices are @link DenseDoubleMatrix2D or its subclasses (e.g. @link
-     * NNIDenseDoubleMatrix2D)
+     * <li>all input matrices are {@link NNIDenseDoubleMatrix2D}s
      * <li>none of the input matrices is a view
      * <li>the dynamic libraries required by the NNI are available
      * </ul>
+     * If all input matrices are {@link NNIDenseDoubleMatrix2D}s (views included), but the
+     * native libraries are not available, a pure Java implementation is used. In other
+     * cases, the method defaults to Colt's implementation.
      */
     public DoubleMatrix2D zMult(DoubleMatrix2D B, DoubleMatrix2D C, double alpha,
         double beta, boolean transposeA, boolean transposeB)
     {
+        if (this == C || B == C)
+        {
+            throw new IllegalArgumentException("Matrices must not be identical");
+        }
+
         // A workaround for a bug in DenseDoubleMatrix2D.
         // If B is a SelectedDenseDoubleMatrix the implementation of this method
         // throws a ClassCastException. The workaround is to swap and transpose
@@ -77,6 +120,18 @@ public class NNIDenseDoubleMatrix2D extends DenseDoubleMatrix2D
             return B.zMult(this, C, alpha, beta, !transposeB, !transposeA).viewDice();
         }
 
+        // Multiply by a sparse matrix as (B' * A')' to take advantage of its sparsity
+        if (B instanceof CompressedSparseDoubleMatrix2D)
+        {
+            if (C == null)
+            {
+                C = new NNIDenseDoubleMatrix2D(transposeA ? columns() : rows(),
+                    transposeB ? B.rows() : B.columns());
+            }
+            B.zMult(this, C.viewDice(), alpha, beta, !transposeB, !transposeA);
+            return C;
+        }
+
         // Check the sizes
         int rowsB = (transposeB ? B.columns() : B.rows());
         int columnsB = (transposeB ? B.rows() : B.columns());
@@ -88,11 +143,6 @@ public class NNIDenseDoubleMatrix2D extends DenseDoubleMatrix2D
             C = new NNIDenseDoubleMatrix2D(rowsA, columnsB);
         }
 
-        if (this == C || B == C)
-        {
-            throw new IllegalArgumentException("Matrices must not be identical");
-        }
-
         final int rowsC = C.rows();
         final int columnsC = C.columns();
 
@@ -108,26 +158,50 @@ public class NNIDenseDoubleMatrix2D extends DenseDoubleMatrix2D
                 + toStringShort() + ", " + B.toStringShort() + ", " + C.toStringShort());
         }
 
-        // Need native BLAS, dense matrices and no views to operate
-        // Default to Colt's implementation otherwise
-        if (!NNIInterface.isNativeBlasAvailable()
-            || (!(B instanceof NNIDenseDoubleMatrix2D))
-            || (!(C instanceof NNIDenseDoubleMatrix2D)) || isView()
-            || ((NNIDenseDoubleMatrix2D) B).isView()
-            || ((NNIDenseDoubleMatrix2D) C).isView())
+        // Need dense matrices to operate, default to Colt's implementation otherwise
+        if ((!(B instanceof NNIDenseDoubleMatrix2D))
+            || (!(C instanceof NNIDenseDoubleMatrix2D)))
         {
             return super.zMult(B, C, alpha, beta, transposeA, transposeB);
         }
 
-        NNIInterface.getBlas().gemm(
-            this, 
-            (NNIDenseDoubleMatrix2D) B, 
-            (NNIDenseDoubleMatrix2D) C,
-            transposeA, transposeB,
-            columnsA,
-            alpha,
-            columns,
-            beta);
+        final NNIDenseDoubleMatrix2D nniB = (NNIDenseDoubleMatrix2D) B;
+        final NNIDenseDoubleMatrix2D nniC = (NNIDenseDoubleMatrix2D) C;
+
+        // Both implementations below write to C while still reading A and B
+        if (haveSharedCells(nniC) || nniB.haveSharedCells(nniC))
+        {
+            throw new IllegalArgumentException(
+                "Result matrix must not share elements with the arguments");
+        }
+
+        // Need native BLAS and no views to use the native implementation
+        if (NNIInterface.isNativeBlasAvailable() && !isView() && !nniB.isView()
+            && !nniC.isView())
+        {
+            NNIInterface.getBlas().gemm(
+                this, 
+                nniB, 
+                nniC,
+                transposeA, transposeB,
+                columnsA,
+                alpha,
+                columns,
+                beta);
+
+            return C;
+        }
+
+        JavaBlas.gemm(rowsA, columnsB, columnsA, alpha, 
+            elements, rowZero + columnZero,
+            transposeA ? columnStride : rowStride, 
+            transposeA ? rowStride : columnStride,
+            nniB.elements, nniB.rowZero + nniB.columnZero,
+            transposeB ? nniB.columnStride : nniB.rowStride,
+            transposeB ? nniB.rowStride : nniB.columnStride, 
+            beta, 
+            nniC.elements, nniC.rowZero + nniC.columnZero, 
+            nniC.rowStride, nniC.columnStride);
 
         return C;
     }
@@ -0,0 +1,103 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import org.apache.mahout.math.matrix.DoubleMatrix1D;
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+
+/**
+ * A selection view of single precision elements: element <code>i</code> is stored at
+ * <code>offset + offsets[i]</code>. Created by selection views of
+ * {@link DenseFloatMatrix1D} and by row and column views of selection views of
+ * {@link DenseFloatMatrix2D}.
+ */
+@SuppressWarnings("deprecation")
+final class SelectedDenseFloatMatrix1D extends DoubleMatrix1D
+{
+    private static final long serialVersionUID = 1L;
+
+    final float [] elements;
+    private final int [] offsets;
+    private final int offset;
+
+    SelectedDenseFloatMatrix1D(float [] elements, int [] offsets, int offset)
+    {
+        this(offsets.length, elements, 0, 1, offsets, offset);
+    }
+
+    SelectedDenseFloatMatrix1D(int size, float [] elements, int zero, int stride,
+        int [] offsets, int offset)
+    {
+        setUp(size, zero, stride);
+        this.elements = elements;
+        this.offsets = offsets;
+        this.offset = offset;
+        this.isNoView = false;
+    }
+
+    @Override
+    public double getQuick(int index)
+    {
+        return elements[offset + offsets[zero + index * stride]];
+    }
+
+    @Override
+    public void setQuick(int index, double value)
+    {
+        elements[offset + offsets[zero + index * stride]] = (float) value;
+    }
+
+    @Override
+    protected int _offset(int absRank)
+    {
+        return offsets[absRank];
+    }
+
+    @Override
+    protected int index(int rank)
+    {
+        return offset + offsets[zero + rank * stride];
+    }
+
+    @Override
+    public DoubleMatrix1D like(int size)
+    {
+        return new DenseFloatMatrix1D(size);
+    }
+
+    @Override
+    public DoubleMatrix2D like2D(int rows, int columns)
+    {
+        return new DenseFloatMatrix2D(rows, columns);
+    }
+
+    @Override
+    protected DoubleMatrix1D viewSelectionLike(int [] offsets)
+    {
+        return new SelectedDenseFloatMatrix1D(elements, offsets, offset);
+    }
+
+    @Override
+    protected boolean haveSharedCellsRaw(DoubleMatrix1D other)
+    {
+        if (other instanceof SelectedDenseFloatMatrix1D)
+        {
+            return elements == ((SelectedDenseFloatMatrix1D) other).elements;
+        }
+        if (other instanceof DenseFloatMatrix1D)
+        {
+            return elements == ((DenseFloatMatrix1D) other).elements;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,147 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix;
+
+import org.apache.mahout.math.matrix.DoubleMatrix1D;
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.apache.mahout.math.matrix.impl.AbstractMatrix2D;
+
+/**
+ * A selection view of single precision elements: element <code>(r, c)</code> is stored
+ * at <code>offset + rowOffsets[r] + columnOffsets[c]</code>. Created by selection views
+ * of {@link DenseFloatMatrix2D}, for example when sorting rows of a matrix.
+ */
+@SuppressWarnings("deprecation")
+final class SelectedDenseFloatMatrix2D extends DoubleMatrix2D
+{
+    private static final long serialVersionUID = 1L;
+
+    final float [] elements;
+
+    /** Swapped by {@link #vDice()}, hence not final */
+    private int [] rowOffsets;
+    private int [] columnOffsets;
+    private final int offset;
+
+    SelectedDenseFloatMatrix2D(float [] elements, int [] rowOffsets,
+        int [] columnOffsets, int offset)
+    {
+        // Rows and columns are indexed through separate offset arrays
+        setUp(rowOffsets.length, columnOffsets.length, 0, 0, 1, 1);
+        this.elements = elements;
+        this.rowOffsets = rowOffsets;
+        this.columnOffsets = columnOffsets;
+        this.offset = offset;
+        this.isNoView = false;
+    }
+
+    @Override
+    public double getQuick(int row, int column)
+    {
+        return elements[index(row, column)];
+    }
+
+    @Override
+    public void setQuick(int row, int column, double value)
+    {
+        elements[index(row, column)] = (float) value;
+    }
+
+    @Override
+    protected int _rowOffset(int absRank)
+    {
+        return rowOffsets[absRank];
+    }
+
+    @Override
+    protected int _columnOffset(int absRank)
+    {
+        return columnOffsets[absRank];
+    }
+
+    @Override
+    protected int index(int row, int column)
+    {
+        return offset + rowOffsets[rowZero + row * rowStride]
+            + columnOffsets[columnZero + column * columnStride];
+    }
+
+    @Override
+    protected AbstractMatrix2D vDice()
+    {
+        super.vDice();
+
+        final int [] tmp = rowOffsets;
+        rowOffsets = columnOffsets;
+        columnOffsets = tmp;
+        return this;
+    }
+
+    @Override
+    public DoubleMatrix1D viewRow(int row)
+    {
+        checkRow(row);
+        return new SelectedDenseFloatMatrix1D(columns, elements, columnZero,
+            columnStride, columnOffsets, offset + rowOffsets[rowZero + row * rowStride]);
+    }
+
+    @Override
+    public DoubleMatrix1D viewColumn(int column)
+    {
+        checkColumn(column);
+        return new SelectedDenseFloatMatrix1D(rows, elements, rowZero, rowStride,
+            rowOffsets, offset + columnOffsets[columnZero + column * columnStride]);
+    }
+
+    @Override
+    public DoubleMatrix2D like(int rows, int columns)
+    {
+        return new DenseFloatMatrix2D(rows, columns);
+    }
+
+    @Override
+    public DoubleMatrix1D like1D(int size)
+    {
+        return new DenseFloatMatrix1D(size);
+    }
+
+    /**
+     * Not used, {@link #viewRow(int)} and {@link #viewColumn(int)} are overridden.
+     */
+    @Override
+    protected DoubleMatrix1D like1D(int size, int zero, int stride)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected DoubleMatrix2D viewSelectionLike(int [] rowOffsets, int [] columnOffsets)
+    {
+        return new SelectedDenseFloatMatrix2D(elements, rowOffsets, columnOffsets,
+            offset);
+    }
+
+    @Override
+    protected boolean haveSharedCellsRaw(DoubleMatrix2D other)
+    {
+        if (other instanceof SelectedDenseFloatMatrix2D)
+        {
+            return elements == ((SelectedDenseFloatMatrix2D) other).elements;
+        }
+        if (other instanceof DenseFloatMatrix2D)
+        {
+            return elements == ((DenseFloatMatrix2D) other).elements;
+        }
+        return false;
+    }
+}
@@ -12,14 +12,18 @@
 
 package org.carrot2.matrix.factorization;
 
-import org.apache.mahout.math.function.Functions;
+import java.util.List;
+import java.util.concurrent.*;
+
+import org.apache.mahout.math.function.*;
 import org.apache.mahout.math.matrix.*;
 import org.apache.mahout.math.matrix.doublealgo.Sorting;
 import org.apache.mahout.math.matrix.linalg.Algebra;
-import org.carrot2.matrix.NNIDoubleFactory2D;
 import org.carrot2.matrix.factorization.seeding.ISeedingStrategy;
 import org.carrot2.matrix.factorization.seeding.RandomSeedingStrategy;
 
+import com.google.common.collect.Lists;
+
 /**
  * Base functionality for {@link IIterativeMatrixFactorization}s.
  */
@@ -45,6 +49,15 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
     protected double stopThreshold;
     protected static double DEFAULT_STOP_THRESHOLD = -1.0;
 
+    /**
+     * If the relative change of both U and V between two subsequent iterations becomes
+     * smaller than <code>convergenceThreshold</code>, the algorithm will stop. Unlike the
+     * approximation error, the relative change does not require any matrix products to
+     * compute. Setting the threshold to -1 turns off the convergence check.
+     */
+    protected double convergenceThreshold;
+    protected static double DEFAULT_CONVERGENCE_THRESHOLD = -1.0;
+
     /** Seeding strategy */
     protected ISeedingStrategy seedingStrategy;
     protected static final ISeedingStrategy DEFAULT_SEEDING_STRATEGY = new RandomSeedingStrategy(
@@ -63,9 +76,32 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
     /** Iteration counter */
     protected int iterationsCompleted;
 
+    /** Relative change of U and V during the last iteration */
+    protected double relativeChange;
+
+    /** U and V after the previous iteration, used for convergence checking */
+    private DoubleMatrix2D previousU;
+    private DoubleMatrix2D previousV;
+
     /** Sorting aggregates */
     protected double [] aggregates;
 
+    /**
+     * Executor service to use for parallel computations or <code>null</code> to perform
+     * all computations in the calling thread.
+     */
+    protected ExecutorService executorService;
+
+    /**
+     * The minimum number of result rows computed in one parallel task. The partitioning
+     * of the computations depends only on the sizes of the matrices, so the results are
+     * the same regardless of the number of threads.
+     */
+    protected static final int MIN_ROWS_PER_TASK = 32;
+
+    /** The maximum number of parallel tasks per operation */
+    protected static final int MAX_TASKS = 64;
+
     /**
      * @param A
      */
@@ -76,11 +112,13 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
         this.k = DEFAULT_K;
         this.maxIterations = DEFAULT_MAX_ITERATIONS;
         this.stopThreshold = DEFAULT_STOP_THRESHOLD;
+        this.convergenceThreshold = DEFAULT_CONVERGENCE_THRESHOLD;
         this.seedingStrategy = DEFAULT_SEEDING_STRATEGY;
         this.ordered = DEFAULT_ORDERED;
         this.approximationErrors = null;
         this.approximationError = -1;
         this.iterationsCompleted = 0;
+        this.relativeChange = -1;
     }
 
     /**
@@ -129,6 +167,185 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
         }
     }
 
+    /**
+     * Computes the relative change of U and V since the previous invocation of this
+     * method, defined as the larger of <code>||U - U'||/||U'||</code> and
+     * <code>||V - V'||/||V'||</code>, where <code>U'</code> and <code>V'</code> are the
+     * matrices from the previous invocation and <code>||.||</code> is the Frobenius norm.
+     * The first invocation only stores the current U and V.
+     * 
+     * @return true if the relative change is smaller than the
+     *         <code>convergenceThreshold</code>
+     */
+    protected boolean updateConvergence()
+    {
+        if (previousU == null)
+        {
+            previousU = U.copy();
+            previousV = V.copy();
+            return false;
+        }
+
+        relativeChange = Math.max(updateRelativeChange(previousU, U),
+            updateRelativeChange(previousV, V));
+        return relativeChange < convergenceThreshold;
+    }
+
+    /**
+     * Computes the relative change between the previous and the current matrix and
+     * copies the current matrix to the previous one.
+     */
+    private static double updateRelativeChange(DoubleMatrix2D previous,
+        DoubleMatrix2D current)
+    {
+        double difference = 0;
+        double norm = 0;
+        for (int r = 0; r < current.rows(); r++)
+        {
+            for (int c = 0; c < current.columns(); c++)
+            {
+                final double p = previous.getQuick(r, c);
+                final double x = current.getQuick(r, c);
+                difference += (x - p) * (x - p);
+                norm += p * p;
+                previous.setQuick(r, c, x);
+            }
+        }
+
+        if (norm == 0)
+        {
+            return (difference == 0 ? 0 : Double.POSITIVE_INFINITY);
+        }
+        return Math.sqrt(difference / norm);
+    }
+
+    /**
+     * Computes <code>Z = op(X) * op(Y)</code>, partitioning the rows of the result
+     * between parallel tasks if {@link #executorService} is available.
+     */
+    protected void multiply(final DoubleMatrix2D X, final DoubleMatrix2D Y,
+        final DoubleMatrix2D Z, final boolean transposeX, final boolean transposeY)
+    {
+        forEachRowBlock(Z.rows(), new IRowBlockTask()
+        {
+            public void run(int fromRow, int toRow)
+            {
+                if (fromRow == 0 && toRow == Z.rows())
+                {
+                    X.zMult(Y, Z, 1, 0, transposeX, transposeY);
+                    return;
+                }
+
+                final int rows = toRow - fromRow;
+                final DoubleMatrix2D part = (transposeX ? X.viewPart(0, fromRow, X
+                    .rows(), rows) : X.viewPart(fromRow, 0, rows, X.columns()));
+                part.zMult(Y, Z.viewPart(fromRow, 0, rows, Z.columns()), 1, 0,
+                    transposeX, transposeY);
+            }
+        });
+    }
+
+    /**
+     * Performs <code>X.assign(function)</code>, partitioning the rows between parallel
+     * tasks if {@link #executorService} is available.
+     */
+    protected void assign(final DoubleMatrix2D X, final UnaryFunction function)
+    {
+        forEachRowBlock(X.rows(), new IRowBlockTask()
+        {
+            public void run(int fromRow, int toRow)
+            {
+                X.viewPart(fromRow, 0, toRow - fromRow, X.columns()).assign(function);
+            }
+        });
+    }
+
+    /**
+     * Performs <code>X.assign(Y, function)</code>, partitioning the rows between
+     * parallel tasks if {@link #executorService} is available.
+     */
+    protected void assign(final DoubleMatrix2D X, final DoubleMatrix2D Y,
+        final BinaryFunction function)
+    {
+        forEachRowBlock(X.rows(), new IRowBlockTask()
+        {
+            public void run(int fromRow, int toRow)
+            {
+                final int rows = toRow - fromRow;
+                X.viewPart(fromRow, 0, rows, X.columns()).assign(
+                    Y.viewPart(fromRow, 0, rows, Y.columns()), function);
+            }
+        });
+    }
+
+    /**
+     * Computations on a block of rows of a matrix.
+     */
+    protected static interface IRowBlockTask
+    {
+        /**
+         * Performs the computations on rows from <code>fromRow</code> (inclusive) to
+         * <code>toRow</code> (exclusive).
+         */
+        void run(int fromRow, int toRow);
+    }
+
+    /**
+     * Runs the task for consecutive blocks of rows, in parallel if
+     * {@link #executorService} is available.
+     */
+    protected void forEachRowBlock(int rows, final IRowBlockTask task)
+    {
+        final int rowsPerTask = Math.max(MIN_ROWS_PER_TASK, (rows + MAX_TASKS - 1)
+            / MAX_TASKS);
+        if (executorService == null || rows <= rowsPerTask)
+        {
+            task.run(0, rows);
+            return;
+        }
+
+        final List<Callable<Object>> tasks = Lists.newArrayList();
+        for (int from = 0; from < rows; from += rowsPerTask)
+        {
+            final int fromRow = from;
+            final int toRow = Math.min(rows, from + rowsPerTask);
+            tasks.add(new Callable<Object>()
+            {
+                public Object call()
+                {
+                    task.run(fromRow, toRow);
+                    return null;
+                }
+            });
+        }
+
+        try
+        {
+            for (Future<Object> future : executorService.invokeAll(tasks))
+            {
+                future.get();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for computations", e);
+        }
+        catch (ExecutionException e)
+        {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
     /**
      * Orders U and V matrices according to the 'activity' of base vectors.
      */
@@ -146,10 +363,8 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
         // Need to make a copy of aggregates because they get sorted as well
         double [] aggregatesCopy = aggregates.clone();
 
-        V = NNIDoubleFactory2D.asNNIMatrix(
-            Sorting.quickSort.sort(VT, aggregates).viewDice());
-        U = NNIDoubleFactory2D.asNNIMatrix(
-            Sorting.quickSort.sort(U.viewDice(), aggregatesCopy).viewDice());
+        V = copy(Sorting.quickSort.sort(VT, aggregates).viewDice());
+        U = copy(Sorting.quickSort.sort(U.viewDice(), aggregatesCopy).viewDice());
 
         // Revert back to positive values of aggregates
         for (int i = 0; i < aggregates.length; i++)
@@ -158,6 +373,15 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
         }
     }
 
+    /**
+     * Returns a copy of the provided matrix created with the matrix factory of this
+     * factorization.
+     */
+    private DoubleMatrix2D copy(DoubleMatrix2D A)
+    {
+        return doubleFactory2D.make(A.rows(), A.columns()).assign(A);
+    }
+
     /**
      * Returns current {@link ISeedingStrategy}.
      */
@@ -214,6 +438,41 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
         this.stopThreshold = stopThreshold;
     }
 
+    /**
+     * Returns the convergence threshold. If the relative change of both U and V between
+     * two subsequent iterations becomes smaller than the threshold, the algorithm will
+     * stop.
+     */
+    public double getConvergenceThreshold()
+    {
+        return convergenceThreshold;
+    }
+
+    /**
+     * Sets the convergence threshold. If the relative change of both U and V between two
+     * subsequent iterations becomes smaller than the threshold, the algorithm will stop.
+     * The relative change of a matrix is the Frobenius norm of the difference between
+     * the matrix and its previous value, divided by the Frobenius norm of the previous
+     * value. Computing the relative change is much cheaper than computing the
+     * approximation error (see {@link #setStopThreshold(double)}).
+     * <p>
+     * Setting the threshold to -1 turns off the convergence check.
+     */
+    public void setConvergenceThreshold(double convergenceThreshold)
+    {
+        this.convergenceThreshold = convergenceThreshold;
+    }
+
+    /**
+     * Returns the relative change of U and V during the last iteration or -1 if the
+     * convergence check has been turned off (see
+     * {@link #setConvergenceThreshold(double)}).
+     */
+    public double getRelativeChange()
+    {
+        return relativeChange;
+    }
+
     /**
      * Returns final approximation error or -1 if the approximation error calculation has
      * been turned off (see {@link #setMaxIterations(int)}.
@@ -236,6 +495,24 @@ abstract class IterativeMatrixFactorizationBase extends MatrixFactorizationBase
         return approximationErrors;
     }
 
+    /**
+     * Returns the executor service used for parallel computations or <code>null</code>
+     * if all computations are performed in the calling thread.
+     */
+    public ExecutorService getExecutorService()
+    {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor service to use for parallel computations. If <code>null</code>,
+     * all computations will be performed in the calling thread.
+     */
+    public void setExecutorService(ExecutorService executorService)
+    {
+        this.executorService = executorService;
+    }
+
     public int getIterationsCompleted()
     {
         return iterationsCompleted;
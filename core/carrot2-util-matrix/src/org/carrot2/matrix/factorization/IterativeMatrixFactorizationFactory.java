@@ -12,6 +12,8 @@
 
 package org.carrot2.matrix.factorization;
 
+import java.util.concurrent.ExecutorService;
+
 import org.carrot2.matrix.NNIDoubleFactory2D;
 import org.carrot2.matrix.factorization.seeding.*;
 
@@ -22,7 +24,7 @@ import org.apache.mahout.math.matrix.DoubleFactory2D;
  */
 @SuppressWarnings("deprecation")
 public abstract class IterativeMatrixFactorizationFactory implements
-    IMatrixFactorizationFactory
+    IMatrixFactorizationFactory, Cloneable
 {
     /** The number of base vectors */
     protected int k;
@@ -42,6 +44,12 @@ public abstract class IterativeMatrixFactorizationFactory implements
     /** The default stop threshold */
     protected final static double DEFAULT_STOP_THRESHOLD = -1;
 
+    /** The algorithm's convergence threshold */
+    protected double convergenceThreshold;
+
+    /** The default convergence threshold */
+    protected final static double DEFAULT_CONVERGENCE_THRESHOLD = -1;
+
     /** Matrix seeding strategy factory */
     protected ISeedingStrategyFactory seedingFactory;
 
@@ -59,11 +67,15 @@ public abstract class IterativeMatrixFactorizationFactory implements
     protected boolean ordered;
     protected static final boolean DEFAULT_ORDERED = true;
 
+    /** Executor service for parallel computations, <code>null</code> if none */
+    protected ExecutorService executorService;
+
     public IterativeMatrixFactorizationFactory()
     {
         this.k = DEFAULT_K;
         this.maxIterations = DEFAULT_MAX_ITERATIONS;
         this.stopThreshold = DEFAULT_STOP_THRESHOLD;
+        this.convergenceThreshold = DEFAULT_CONVERGENCE_THRESHOLD;
         this.seedingFactory = DEFAULT_SEEDING_FACTORY;
         this.doubleFactory2D = DEFAULT_DOUBLE_FACTORY_2D;
         this.ordered = DEFAULT_ORDERED;
@@ -127,6 +139,24 @@ public abstract class IterativeMatrixFactorizationFactory implements
         this.stopThreshold = stopThreshold;
     }
 
+    /**
+     * Returns the convergence threshold used by this factory.
+     */
+    public double getConvergenceThreshold()
+    {
+        return convergenceThreshold;
+    }
+
+    /**
+     * Sets the convergence threshold to be used by this factory. See
+     * {@link IterativeMatrixFactorizationBase#setConvergenceThreshold(double)} for
+     * details.
+     */
+    public void setConvergenceThreshold(double convergenceThreshold)
+    {
+        this.convergenceThreshold = convergenceThreshold;
+    }
+
     /**
      * Returns the {@link ISeedingStrategyFactory} used by this factory.
      */
@@ -181,4 +211,41 @@ public abstract class IterativeMatrixFactorizationFactory implements
     {
         this.ordered = ordered;
     }
+
+    /**
+     * Returns the executor service used for parallel computations or <code>null</code>
+     * if factorizations are computed in the calling thread.
+     */
+    public ExecutorService getExecutorService()
+    {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor service to be used by factorizations created by this factory for
+     * parallel computations. If <code>null</code>, factorizations will be computed in the
+     * calling thread.
+     */
+    public void setExecutorService(ExecutorService executorService)
+    {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Returns a copy of this factory with the same settings, which can be modified
+     * independently of this factory. Seeding strategy factories and executor services
+     * are shared by the copies.
+     */
+    @Override
+    public IterativeMatrixFactorizationFactory clone()
+    {
+        try
+        {
+            return (IterativeMatrixFactorizationFactory) super.clone();
+        }
+        catch (CloneNotSupportedException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -12,10 +12,11 @@
 
 package org.carrot2.matrix.factorization;
 
+import java.util.Arrays;
+
 import org.carrot2.matrix.MatrixUtils;
 
 import org.apache.mahout.math.matrix.*;
-import org.apache.mahout.math.function.Functions;
 import org.apache.mahout.math.function.Mult;
 
 /**
@@ -41,8 +42,9 @@ public class KMeansMatrixFactorization extends IterativeMatrixFactorizationBase
     {
         int n = A.columns();
 
-        // Distances to centroids
-        DoubleMatrix2D D = doubleFactory2D.make(k, n);
+        // Distances to centroids (transposed, so that they can be computed in parallel
+        // for disjoint sets of objects)
+        DoubleMatrix2D D = doubleFactory2D.make(n, k);
 
         // Object-cluster assignments
         V = doubleFactory2D.make(n, k);
@@ -51,43 +53,42 @@ public class KMeansMatrixFactorization extends IterativeMatrixFactorizationBase
         U = doubleFactory2D.make(A.rows(), k);
         U.assign(A.viewPart(0, 0, A.rows(), k));
 
-        int [] minIndices = new int [D.columns()];
-        double [] minValues = new double [D.columns()];
+        int [] minIndices = new int [n];
+        int [] previousMinIndices = new int [n];
+        Arrays.fill(previousMinIndices, -1);
+        double [] minValues = new double [n];
 
         for (iterationsCompleted = 0; iterationsCompleted < maxIterations; iterationsCompleted++)
         {
             // Calculate cosine distances
-            U.zMult(A, D, 1, 0, true, false);
-
-            V.assign(0);
-            U.assign(0);
+            multiply(A, U, D, true, false);
 
             // For each object
-            MatrixUtils.maxInColumns(D, minIndices, minValues);
+            MatrixUtils.maxInColumns(D.viewDice(), minIndices, minValues);
+
+            // If no object changed its cluster, further iterations would not change
+            // the centroids
+            if (Arrays.equals(minIndices, previousMinIndices))
+            {
+                break;
+            }
+            System.arraycopy(minIndices, 0, previousMinIndices, 0, n);
+
+            V.assign(0);
+            final int [] counts = new int [k];
             for (int i = 0; i < minIndices.length; i++)
             {
                 V.setQuick(i, minIndices[i], 1);
+                counts[minIndices[i]]++;
             }
 
-            // Update centroids
+            // Update centroids: sum the assigned objects (U <- AV) and divide
+            multiply(A, V, U, false, false);
             for (int c = 0; c < V.columns(); c++)
             {
-                // Sum
-                int count = 0;
-                for (int d = 0; d < V.rows(); d++)
-                {
-                    if (V.getQuick(d, c) != 0)
-                    {
-                        count++;
-                        U.viewColumn(c).assign(A.viewColumn(d), Functions.plus);
-                    }
-                }
-
-                // Divide
-                U.viewColumn(c).assign(Mult.div(count));
-                MatrixUtils.normalizeColumnL2(U, null);
+                U.viewColumn(c).assign(Mult.div(counts[c]));
             }
-
+            MatrixUtils.normalizeColumnL2(U, null);
         }
     }
 
@@ -26,7 +26,9 @@ public class KMeansMatrixFactorizationFactory extends IterativeMatrixFactorizati
         factorization.setK(k);
         factorization.setMaxIterations(maxIterations);
         factorization.setStopThreshold(stopThreshold);
+        factorization.setConvergenceThreshold(convergenceThreshold);
         factorization.setDoubleFactory2D(getDoubleFactory2D());
+        factorization.setExecutorService(executorService);
 
         factorization.compute();
 
@@ -82,22 +82,26 @@ public class LocalNonnegativeMatrixFactorization extends IterativeMatrixFactoriz
         {
             updateApproximationError();
         }
+        if (convergenceThreshold >= 0)
+        {
+            updateConvergence();
+        }
 
         for (int i = 0; i < maxIterations; i++)
         {
             // Update V
-            U.zMult(V, UV, 1, 0, false, true); // UV <- U*V'
-            UV.assign(plusEps); // UV <- UV + eps
-            UV.assign(Aeps, invDiv); // UV <- Aeps ./ UV
-            UV.zMult(U, VT, 1, 0, true, false); // VT <- UV' * U
-            V.assign(VT, sqrtMult); // V <- sqrt(V .* VT)
+            multiply(U, V, UV, false, true); // UV <- U*V'
+            assign(UV, plusEps); // UV <- UV + eps
+            assign(UV, Aeps, invDiv); // UV <- Aeps ./ UV
+            multiply(UV, U, VT, true, false); // VT <- UV' * U
+            assign(V, VT, sqrtMult); // V <- sqrt(V .* VT)
 
             // Update U
-            U.zMult(V, UV, 1, 0, false, true); // UV <- U*V'
-            UV.assign(plusEps); // UV <- UV + eps
-            UV.assign(Aeps, invDiv); // UV <- Aeps ./ UV
-            UV.zMult(V, UT, 1, 0, false, false); // UT <- UV * V
-            U.assign(UT, Functions.mult); // U <- U .* UT
+            multiply(U, V, UV, false, true); // UV <- U*V'
+            assign(UV, plusEps); // UV <- UV + eps
+            assign(UV, Aeps, invDiv); // UV <- Aeps ./ UV
+            multiply(UV, V, UT, false, false); // UT <- UV * V
+            assign(U, UT, Functions.mult); // U <- U .* UT
 
             MatrixUtils.normalizeColumnL1(U, work);
 
@@ -109,6 +113,13 @@ public class LocalNonnegativeMatrixFactorization extends IterativeMatrixFactoriz
                     break;
                 }
             }
+            if (convergenceThreshold >= 0)
+            {
+                if (updateConvergence())
+                {
+                    break;
+                }
+            }
         }
 
         if (ordered)
@@ -72,26 +72,30 @@ public class NonnegativeMatrixFactorizationED extends IterativeMatrixFactorizati
         {
             updateApproximationError();
         }
+        if (convergenceThreshold >= 0)
+        {
+            updateConvergence();
+        }
 
         for (int i = 0; i < maxIterations; i++)
         {
             // Update V
-            U.zMult(U, T, 1, 0, true, false); // T <- U'U
-            A.zMult(U, VT1, 1, 0, true, false); // VT1 <- A'U
-            V.zMult(T, VT2); // VT2 <- VT
-            VT1.assign(plusEps); // TODO: shift this to the dividing function?
-            VT2.assign(plusEps);
-            VT1.assign(VT2, Functions.div); // VT1 <- VT1 ./ VT2
-            V.assign(VT1, Functions.mult); // V <- V .* VT1
+            multiply(U, U, T, true, false); // T <- U'U
+            multiply(A, U, VT1, true, false); // VT1 <- A'U
+            multiply(V, T, VT2, false, false); // VT2 <- VT
+            assign(VT1, plusEps); // TODO: shift this to the dividing function?
+            assign(VT2, plusEps);
+            assign(VT1, VT2, Functions.div); // VT1 <- VT1 ./ VT2
+            assign(V, VT1, Functions.mult); // V <- V .* VT1
 
             // Update U
-            V.zMult(V, T, 1, 0, true, false); // T <- V'V
-            A.zMult(V, UT1); // UT1 <- AV
-            U.zMult(T, UT2); // UT2 <- UT
-            UT1.assign(plusEps);
-            UT2.assign(plusEps);
-            UT1.assign(UT2, Functions.div); // UT1 <- UT1 ./ UT2
-            U.assign(UT1, Functions.mult); // U <- U .* UT1
+            multiply(V, V, T, true, false); // T <- V'V
+            multiply(A, V, UT1, false, false); // UT1 <- AV
+            multiply(U, T, UT2, false, false); // UT2 <- UT
+            assign(UT1, plusEps);
+            assign(UT2, plusEps);
+            assign(UT1, UT2, Functions.div); // UT1 <- UT1 ./ UT2
+            assign(U, UT1, Functions.mult); // U <- U .* UT1
 
             iterationsCompleted++;
             if (stopThreshold >= 0)
@@ -101,6 +105,13 @@ public class NonnegativeMatrixFactorizationED extends IterativeMatrixFactorizati
                     break;
                 }
             }
+            if (convergenceThreshold >= 0)
+            {
+                if (updateConvergence())
+                {
+                    break;
+                }
+            }
         }
 
         if (ordered)
@@ -28,8 +28,10 @@ public class NonnegativeMatrixFactorizationKLFactory extends
         factorization.setK(k);
         factorization.setMaxIterations(maxIterations);
         factorization.setStopThreshold(stopThreshold);
+        factorization.setConvergenceThreshold(convergenceThreshold);
         factorization.setSeedingStrategy(createSeedingStrategy());
         factorization.setDoubleFactory2D(getDoubleFactory2D());
+        factorization.setExecutorService(executorService);
         factorization.setOrdered(ordered);
 
         factorization.compute();
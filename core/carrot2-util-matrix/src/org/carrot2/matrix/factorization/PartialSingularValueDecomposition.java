@@ -61,6 +61,12 @@ public class PartialSingularValueDecomposition extends MatrixFactorizationBase i
 
     public void compute()
     {
+        // Both implementations require a dense matrix, the native one also requires
+        // double precision
+        final DoubleMatrix2D A = (this.A instanceof CompressedSparseDoubleMatrix2D
+            || MatrixUtils.isSinglePrecision(this.A)) ? NNIDoubleFactory2D
+            .asNNIMatrix(this.A) : this.A;
+
         // Need native LAPACK, dense matrices and no views to operate
         // Default to Colt's implementation otherwise
         if (!NNIInterface.isNativeLapackAvailable()
@@ -19,7 +19,7 @@ import org.apache.mahout.math.matrix.*;
  */
 @SuppressWarnings("deprecation")
 public class PartialSingularValueDecompositionFactory implements
-    IMatrixFactorizationFactory
+    IMatrixFactorizationFactory, Cloneable
 {
     /** The desired number of base vectors */
     protected int k;
@@ -64,4 +64,20 @@ public class PartialSingularValueDecompositionFactory implements
     {
         return k;
     }
+
+    /**
+     * Returns a copy of this factory with the same settings.
+     */
+    @Override
+    public PartialSingularValueDecompositionFactory clone()
+    {
+        try
+        {
+            return (PartialSingularValueDecompositionFactory) super.clone();
+        }
+        catch (CloneNotSupportedException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -0,0 +1,222 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix.factorization;
+
+import java.util.Random;
+
+import org.apache.mahout.math.matrix.DoubleMatrix2D;
+import org.apache.mahout.math.matrix.linalg.QRDecomposition;
+import org.apache.mahout.math.matrix.linalg.SingularValueDecomposition;
+
+/**
+ * Computes an approximate truncated Singular Value Decomposition using the randomized
+ * range finder algorithm (Halko, Martinsson, Tropp, <i>Finding structure with
+ * randomness: Probabilistic algorithms for constructing approximate matrix
+ * decompositions</i>).
+ * <p>
+ * The range of the input matrix is sampled by multiplying it by a random Gaussian
+ * matrix of <code>k + oversampling</code> columns and refined with a number of power
+ * iterations. The exact SVD is then computed only for the input matrix projected onto
+ * the sampled range, so that the cost of the decomposition is <code>O(mnk)</code> rather
+ * than <code>O(mn min(m, n))</code> of the full SVD. The input matrix is accessed only
+ * through matrix products, which makes the decomposition efficient also for sparse
+ * matrices.
+ */
+@SuppressWarnings("deprecation")
+public class RandomizedSingularValueDecomposition extends MatrixFactorizationBase
+    implements IMatrixFactorization
+{
+    /** The desired number of base vectors */
+    protected int k;
+
+    /** The default number of desired base vectors */
+    protected static final int DEFAULT_K = -1;
+
+    /** The number of additional random samples of the range */
+    protected int oversampling;
+
+    /** The default number of additional random samples of the range */
+    protected static final int DEFAULT_OVERSAMPLING = 10;
+
+    /** The number of power iterations */
+    protected int powerIterations;
+
+    /** The default number of power iterations */
+    protected static final int DEFAULT_POWER_ITERATIONS = 2;
+
+    /** Seed of the random number generator */
+    protected long seed;
+
+    /** The default seed of the random number generator */
+    protected static final long DEFAULT_SEED = 0;
+
+    /** Singular values */
+    private double [] S;
+
+    /**
+     * Computes a randomized SVD of a matrix. Before accessing results, perform
+     * computations by calling the {@link #compute()} method.
+     *
+     * @param A matrix to be factorized
+     */
+    public RandomizedSingularValueDecomposition(DoubleMatrix2D A)
+    {
+        super(A);
+
+        this.k = DEFAULT_K;
+        this.oversampling = DEFAULT_OVERSAMPLING;
+        this.powerIterations = DEFAULT_POWER_ITERATIONS;
+        this.seed = DEFAULT_SEED;
+    }
+
+    public void compute()
+    {
+        final int m = A.rows();
+        final int n = A.columns();
+        final int rank = Math.min(m, n);
+        final int targetRank = (k > 0 && k < rank) ? k : rank;
+        final int samples = Math.min(targetRank + oversampling, rank);
+
+        // Sample the range of A
+        final Random random = new Random(seed);
+        final DoubleMatrix2D omega = doubleFactory2D.make(n, samples);
+        for (int r = 0; r < n; r++)
+        {
+            for (int c = 0; c < samples; c++)
+            {
+                omega.setQuick(r, c, random.nextGaussian());
+            }
+        }
+
+        final DoubleMatrix2D Y = doubleFactory2D.make(m, samples);
+        A.zMult(omega, Y, 1, 0, false, false);
+        DoubleMatrix2D Q = orthonormalize(Y);
+
+        // Power iterations amplify the spectral decay of A, which makes the sampled
+        // range closer to the span of the leading singular vectors. The samples are
+        // orthonormalized after each product to avoid loss of precision.
+        final DoubleMatrix2D Z = doubleFactory2D.make(n, samples);
+        for (int i = 0; i < powerIterations; i++)
+        {
+            A.zMult(Q, Z, 1, 0, true, false);
+            A.zMult(orthonormalize(Z), Y, 1, 0, false, false);
+            Q = orthonormalize(Y);
+        }
+
+        // Compute the SVD of B = Q'A, which is small. SVD of B' = Ub * S * Vb' gives
+        // A ~ Q * B = (Q * Vb) * S * Ub'.
+        final DoubleMatrix2D Bt = doubleFactory2D.make(n, samples);
+        A.zMult(Q, Bt, 1, 0, true, false);
+        final SingularValueDecomposition svd = new SingularValueDecomposition(Bt);
+
+        final DoubleMatrix2D Vb = svd.getV().viewPart(0, 0, samples, targetRank);
+        U = doubleFactory2D.make(m, targetRank);
+        Q.zMult(doubleFactory2D.make(samples, targetRank).assign(Vb), U);
+        V = doubleFactory2D.make(n, targetRank).assign(
+            svd.getU().viewPart(0, 0, n, targetRank));
+        S = org.apache.mahout.math.Arrays.trimToCapacity(svd.getSingularValues(),
+            targetRank);
+    }
+
+    /**
+     * Returns a matrix with orthonormal columns spanning the columns of the provided
+     * matrix.
+     */
+    private DoubleMatrix2D orthonormalize(DoubleMatrix2D Y)
+    {
+        return doubleFactory2D.make(Y.rows(), Y.columns()).assign(
+            new QRDecomposition(Y).getQ());
+    }
+
+    public String toString()
+    {
+        return "RSVD";
+    }
+
+    /**
+     * Returns singular values of the matrix.
+     */
+    public double [] getSingularValues()
+    {
+        return S;
+    }
+
+    /**
+     * Sets the number of base vectors <i>k </i>.
+     *
+     * @param k the number of base vectors
+     */
+    public void setK(int k)
+    {
+        this.k = k;
+    }
+
+    /**
+     * Returns the number of base vectors <i>k </i>.
+     */
+    public int getK()
+    {
+        return k;
+    }
+
+    /**
+     * Sets the number of additional random samples of the range of the input matrix.
+     * Larger values improve the accuracy at the cost of longer computation.
+     */
+    public void setOversampling(int oversampling)
+    {
+        this.oversampling = oversampling;
+    }
+
+    /**
+     * Returns the number of additional random samples of the range of the input matrix.
+     */
+    public int getOversampling()
+    {
+        return oversampling;
+    }
+
+    /**
+     * Sets the number of power iterations. Each iteration requires two additional
+     * products with the input matrix and improves the accuracy for matrices with slowly
+     * decaying singular values.
+     */
+    public void setPowerIterations(int powerIterations)
+    {
+        this.powerIterations = powerIterations;
+    }
+
+    /**
+     * Returns the number of power iterations.
+     */
+    public int getPowerIterations()
+    {
+        return powerIterations;
+    }
+
+    /**
+     * Sets the seed of the random number generator.
+     */
+    public void setSeed(long seed)
+    {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the seed of the random number generator.
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+}
@@ -0,0 +1,143 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.matrix.factorization;
+
+import org.apache.mahout.math.matrix.*;
+
+/**
+ * Factory for {@link RandomizedSingularValueDecomposition}s.
+ */
+@SuppressWarnings("deprecation")
+public class RandomizedSingularValueDecompositionFactory implements
+    IMatrixFactorizationFactory, Cloneable
+{
+    /** The desired number of base vectors */
+    protected int k;
+
+    /** The number of additional random samples of the range */
+    protected int oversampling;
+
+    /** The number of power iterations */
+    protected int powerIterations;
+
+    /** Seed of the random number generator */
+    protected long seed;
+
+    /**
+     * Creates the factory that creates factorizations that compute the maximum number of
+     * base vectors.
+     */
+    public RandomizedSingularValueDecompositionFactory()
+    {
+        this.k = RandomizedSingularValueDecomposition.DEFAULT_K;
+        this.oversampling = RandomizedSingularValueDecomposition.DEFAULT_OVERSAMPLING;
+        this.powerIterations = RandomizedSingularValueDecomposition.DEFAULT_POWER_ITERATIONS;
+        this.seed = RandomizedSingularValueDecomposition.DEFAULT_SEED;
+    }
+
+    public IMatrixFactorization factorize(DoubleMatrix2D A)
+    {
+        final RandomizedSingularValueDecomposition decomposition = new RandomizedSingularValueDecomposition(
+            A);
+
+        decomposition.setK(k);
+        decomposition.setOversampling(oversampling);
+        decomposition.setPowerIterations(powerIterations);
+        decomposition.setSeed(seed);
+        decomposition.compute();
+
+        return decomposition;
+    }
+
+    /**
+     * Sets the number of base vectors <i>k </i>.
+     *
+     * @param k the number of base vectors
+     */
+    public void setK(int k)
+    {
+        this.k = k;
+    }
+
+    /**
+     * Returns the number of base vectors <i>k </i>.
+     */
+    public int getK()
+    {
+        return k;
+    }
+
+    /**
+     * Sets the number of additional random samples of the range of the input matrix.
+     */
+    public void setOversampling(int oversampling)
+    {
+        this.oversampling = oversampling;
+    }
+
+    /**
+     * Returns the number of additional random samples of the range of the input matrix.
+     */
+    public int getOversampling()
+    {
+        return oversampling;
+    }
+
+    /**
+     * Sets the number of power iterations.
+     */
+    public void setPowerIterations(int powerIterations)
+    {
+        this.powerIterations = powerIterations;
+    }
+
+    /**
+     * Returns the number of power iterations.
+     */
+    public int getPowerIterations()
+    {
+        return powerIterations;
+    }
+
+    /**
+     * Sets the seed of the random number generator.
+     */
+    public void setSeed(long seed)
+    {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the seed of the random number generator.
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    /**
+     * Returns a copy of this factory with the same settings.
+     */
+    @Override
+    public RandomizedSingularValueDecompositionFactory clone()
+    {
+        try
+        {
+            return (RandomizedSingularValueDecompositionFactory) super.clone();
+        }
+        catch (CloneNotSupportedException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+package org.carrot2.matrix.factorization.seeding;
+
+import org.apache.mahout.math.function.Functions;
+import org.apache.mahout.math.matrix.*;
+import org.apache.mahout.math.matrix.impl.DenseDoubleMatrix1D;
+import org.apache.mahout.math.matrix.linalg.CholeskyDecomposition;
+
+/**
+ * Seeds U and V with the results of a previous factorization of an overlapping matrix,
+ * such as the term-document matrix for the same query, but with more documents. Starting
+ * from a nearly converged solution, the factorization needs fewer iterations to reach
+ * the same quality. Columns of the matrix that have no counterpart in the previous
+ * factorization are projected onto the previous base vectors, new rows are projected
+ * onto the resulting coefficients. Base vectors beyond the number of base vectors of the
+ * previous factorization are seeded with the worst approximated columns. Values that
+ * cannot be derived from the previous factorization are seeded using a fallback strategy.
+ */
+@SuppressWarnings("deprecation")
+public class WarmStartSeedingStrategy implements ISeedingStrategy
+{
+    /** U from the previous factorization */
+    private final DoubleMatrix2D previousU;
+
+    /** V from the previous factorization */
+    private final DoubleMatrix2D previousV;
+
+    /** Rows of the previous matrix corresponding to rows of the current matrix */
+    private final int [] rowMapping;
+
+    /** Columns of the previous matrix corresponding to columns of the current matrix */
+    private final int [] columnMapping;
+
+    /**
+     * The ridge term added to the diagonal of the Gram matrix when projecting, relative
+     * to the average diagonal element.
+     */
+    private static final double RIDGE = 1e-3;
+
+    /** The value of projected coefficients that would otherwise be negative */
+    private static final double MIN_PROJECTED_VALUE = 1e-3;
+
+    /** The value of zero elements of extra base vectors */
+    private static final double MIN_BASE_VECTOR_VALUE = 1e-4;
+
+    /** Seeding strategy for values not available in the previous factorization */
+    private final ISeedingStrategy fallback;
+
+    /**
+     * Creates a warm start seeding strategy.
+     * 
+     * @param previousU U from the previous factorization
+     * @param previousV V from the previous factorization
+     * @param rowMapping for each row of the matrix to be factorized, the index of the
+     *            corresponding row of the previously factorized matrix or -1 if there
+     *            is no such row; <code>null</code> if the matrices have the same rows
+     * @param columnMapping for each column of the matrix to be factorized, the index of
+     *            the corresponding column of the previously factorized matrix or -1 if
+     *            there is no such column; <code>null</code> if the matrices have the same
+     *            columns
+     * @param fallback seeding strategy for values not available in the previous
+     *            factorization
+     */
+    public WarmStartSeedingStrategy(DoubleMatrix2D previousU, DoubleMatrix2D previousV,
+        int [] rowMapping, int [] columnMapping, ISeedingStrategy fallback)
+    {
+        this.previousU = previousU;
+        this.previousV = previousV;
+        this.rowMapping = rowMapping;
+        this.columnMapping = columnMapping;
+        this.fallback = fallback;
+    }
+
+    public void seed(DoubleMatrix2D A, DoubleMatrix2D U, DoubleMatrix2D V)
+    {
+        fallback.seed(A, U, V);
+
+        final int k = Math.min(previousU.columns(), U.columns());
+        final boolean [] previousRows = copy(previousU, U, rowMapping, k);
+        final boolean [] previousColumns = copy(previousV, V, columnMapping, k);
+
+        // New columns of A are projected onto the previous base vectors, new rows of A
+        // onto the previous and projected coefficients.
+        project(A.viewDice(), U, previousRows, V, previousColumns, k);
+        project(A, V, null, U, previousRows, k);
+
+        if (k > 0 && k < U.columns())
+        {
+            seedExtraBaseVectors(A, U, V, k);
+        }
+    }
+
+    /**
+     * Copies the first <code>k</code> columns of the mapped rows of the previous matrix
+     * to the target matrix. Returns the mask of the copied rows.
+     */
+    private static boolean [] copy(DoubleMatrix2D previous, DoubleMatrix2D target,
+        int [] mapping, int k)
+    {
+        final boolean [] copied = new boolean [target.rows()];
+        for (int row = 0; row < target.rows(); row++)
+        {
+            final int previousRow = (mapping == null ? row : mapping[row]);
+            if (previousRow < 0 || previousRow >= previous.rows())
+            {
+                continue;
+            }
+
+            for (int column = 0; column < k; column++)
+            {
+                target.setQuick(row, column, previous.getQuick(previousRow, column));
+            }
+            copied[row] = true;
+        }
+        return copied;
+    }
+
+    /**
+     * For each row <code>x</code> of <code>X</code> that has not been copied from the
+     * previous factorization, finds the coefficients <code>t</code> minimizing
+     * <code>||x - B * t||</code>, where <code>B</code> is the first <code>k</code>
+     * columns of <code>basis</code>, and stores them in the first <code>k</code> columns
+     * of the corresponding row of the target matrix. Negative coefficients are replaced
+     * with a small positive value, so that multiplicative updates can still change them.
+     * 
+     * @param basisMask rows of the basis to use, <code>null</code> to use all rows
+     */
+    private static void project(DoubleMatrix2D X, DoubleMatrix2D basis,
+        boolean [] basisMask, DoubleMatrix2D target, boolean [] copied, int k)
+    {
+        final int [] targetRows = indices(copied, false);
+        final int [] basisRows = (basisMask == null ? null : indices(basisMask, true));
+        if (k == 0 || targetRows.length == 0
+            || (basisRows != null && basisRows.length == 0))
+        {
+            return;
+        }
+
+        final int [] columns = new int [k];
+        for (int i = 0; i < k; i++)
+        {
+            columns[i] = i;
+        }
+
+        // Solve (B'B + lambda * I) * T' = B'X' with a small ridge term for stability
+        final DoubleMatrix2D B = basis.viewSelection(basisRows, columns).copy();
+        final DoubleMatrix2D gram = B.zMult(B, null, 1, 0, true, false);
+        double trace = 0;
+        for (int i = 0; i < k; i++)
+        {
+            trace += gram.getQuick(i, i);
+        }
+        if (trace == 0)
+        {
+            return;
+        }
+        for (int i = 0; i < k; i++)
+        {
+            gram.setQuick(i, i, gram.getQuick(i, i) + RIDGE * trace / k);
+        }
+
+        final DoubleMatrix2D x = B.like(targetRows.length, B.rows());
+        for (int i = 0; i < targetRows.length; i++)
+        {
+            // Sparse matrices do not support selection views, element access works
+            // for all matrices
+            for (int j = 0; j < x.columns(); j++)
+            {
+                x.setQuick(i, j, X.getQuick(targetRows[i], basisRows == null ? j
+                    : basisRows[j]));
+            }
+        }
+        final DoubleMatrix2D T = new CholeskyDecomposition(gram).solve(B.zMult(x, null,
+            1, 0, true, true));
+
+        for (int i = 0; i < targetRows.length; i++)
+        {
+            for (int c = 0; c < k; c++)
+            {
+                target.setQuick(targetRows[i], c, Math.max(T.getQuick(c, i),
+                    MIN_PROJECTED_VALUE));
+            }
+        }
+    }
+
+    /**
+     * Seeds the base vectors beyond the first <code>k</code> one by one with the column
+     * of the residual <code>A - U * V'</code> that has the largest norm and removes the
+     * seeded base vector from the residual. This way the extra base vectors cover the
+     * documents that are worst approximated by the previous base vectors.
+     */
+    private static void seedExtraBaseVectors(DoubleMatrix2D A, DoubleMatrix2D U,
+        DoubleMatrix2D V, int k)
+    {
+        final DoubleMatrix2D R = A.copy();
+        U.viewPart(0, 0, U.rows(), k).zMult(V.viewPart(0, 0, V.rows(), k), R, -1, 1,
+            false, true);
+
+        final double [] residuals = new double [R.columns()];
+        for (int column = 0; column < R.columns(); column++)
+        {
+            residuals[column] = norm(R.viewColumn(column));
+        }
+
+        final DoubleMatrix1D u = new DenseDoubleMatrix1D(R.rows());
+        for (int c = k; c < U.columns(); c++)
+        {
+            int worst = 0;
+            for (int column = 1; column < residuals.length; column++)
+            {
+                if (residuals[column] > residuals[worst])
+                {
+                    worst = column;
+                }
+            }
+
+            // The positive part of the residual column becomes the base vector
+            u.assign(R.viewColumn(worst)).assign(Functions.max(0));
+            final double length = norm(u);
+            if (length == 0)
+            {
+                break;
+            }
+            u.assign(Functions.div(length));
+
+            // Coefficients are the projections of the residual columns
+            final DoubleMatrix1D v = R.zMult(u, null, 1, 0, true);
+            for (int column = 0; column < v.size(); column++)
+            {
+                final double coefficient = Math.max(v.getQuick(column), 0);
+                if (coefficient > 0)
+                {
+                    R.viewColumn(column).assign(u, Functions.minusMult(coefficient));
+                    residuals[column] = norm(R.viewColumn(column));
+                }
+                V.setQuick(column, c, Math.max(coefficient, MIN_PROJECTED_VALUE));
+            }
+            for (int row = 0; row < u.size(); row++)
+            {
+                U.setQuick(row, c, Math.max(u.getQuick(row), MIN_BASE_VECTOR_VALUE));
+            }
+        }
+    }
+
+    /**
+     * Returns the Euclidean norm of the vector.
+     */
+    private static double norm(DoubleMatrix1D vector)
+    {
+        return Math.sqrt(vector.zDotProduct(vector));
+    }
+
+    /**
+     * Returns the indices of the elements of <code>mask</code> equal to
+     * <code>value</code>.
+     */
+    private static int [] indices(boolean [] mask, boolean value)
+    {
+        int count = 0;
+        for (int i = 0; i < mask.length; i++)
+        {
+            if (mask[i] == value)
+            {
+                count++;
+            }
+        }
+
+        final int [] indices = new int [count];
+        for (int i = 0, j = 0; i < mask.length; i++)
+        {
+            if (mask[i] == value)
+            {
+                indices[j++] = i;
+            }
+        }
+        return indices;
+    }
+
+    public String toString()
+    {
+        return "WS";
+    }
+}
@@ -0,0 +1,82 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+package org.carrot2.matrix.factorization.seeding;
+
+import org.carrot2.matrix.factorization.IMatrixFactorization;
+
+import org.apache.mahout.math.matrix.*;
+
+/**
+ * Creates {@link WarmStartSeedingStrategy}s that seed factorizations with the results of
+ * a previous factorization.
+ */
+@SuppressWarnings("deprecation")
+public class WarmStartSeedingStrategyFactory implements ISeedingStrategyFactory
+{
+    /** U from the previous factorization */
+    private final DoubleMatrix2D previousU;
+
+    /** V from the previous factorization */
+    private final DoubleMatrix2D previousV;
+
+    /** Rows of the previous matrix corresponding to rows of the current matrix */
+    private final int [] rowMapping;
+
+    /** Columns of the previous matrix corresponding to columns of the current matrix */
+    private final int [] columnMapping;
+
+    /** Seeding for values not available in the previous factorization */
+    private ISeedingStrategyFactory fallbackFactory = new RandomSeedingStrategyFactory(0);
+
+    /**
+     * Creates the factory. See
+     * {@link WarmStartSeedingStrategy#WarmStartSeedingStrategy(DoubleMatrix2D, DoubleMatrix2D, int[], int[], ISeedingStrategy)}
+     * for the meaning of the mappings.
+     */
+    public WarmStartSeedingStrategyFactory(IMatrixFactorization previous,
+        int [] rowMapping, int [] columnMapping)
+    {
+        this.previousU = previous.getU();
+        this.previousV = previous.getV();
+        this.rowMapping = rowMapping;
+        this.columnMapping = columnMapping;
+    }
+
+    public ISeedingStrategy createSeedingStrategy()
+    {
+        return new WarmStartSeedingStrategy(previousU, previousV, rowMapping,
+            columnMapping, fallbackFactory.createSeedingStrategy());
+    }
+
+    /**
+     * Returns the factory of seeding strategies used for values not available in the
+     * previous factorization.
+     */
+    public ISeedingStrategyFactory getFallbackFactory()
+    {
+        return fallbackFactory;
+    }
+
+    /**
+     * Sets the factory of seeding strategies to be used for values not available in the
+     * previous factorization.
+     */
+    public void setFallbackFactory(ISeedingStrategyFactory fallbackFactory)
+    {
+        this.fallbackFactory = fallbackFactory;
+    }
+
+    public String toString()
+    {
+        return "WS";
+    }
+}
@@ -16,6 +16,8 @@ import static org.carrot2.core.test.assertions.Carrot2CoreAssertions.assertThatC
 import static org.fest.assertions.Assertions.assertThat;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.carrot2.core.*;
 import org.carrot2.text.clustering.MultilingualClustering.LanguageAggregationStrategy;
@@ -189,6 +191,37 @@ public class MultilingualClusteringTest
             LanguageCode.NORWEGIAN), LanguageAggregationStrategy.FLATTEN_MAJOR_LANGUAGE);
     }
 
+    @Test
+    public void testMoreLanguagesInParallel()
+    {
+        final List<Document> documents = documentsWithLanguages(LanguageCode.POLISH,
+            LanguageCode.POLISH, LanguageCode.GERMAN, LanguageCode.GERMAN,
+            LanguageCode.GERMAN, LanguageCode.NORWEGIAN, LanguageCode.ENGLISH,
+            LanguageCode.ENGLISH, null);
+        multilingualClustering.languageAggregationStrategy =
+            LanguageAggregationStrategy.FLATTEN_NONE;
+
+        final List<Cluster> sequentialClusters = multilingualClustering.process(
+            documents, testMultilingualClusteringAlgorithm);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            final TestMultilingualClusteringAlgorithm parallelAlgorithm = new TestMultilingualClusteringAlgorithm();
+            final List<Cluster> parallelClusters = multilingualClustering.process(
+                documents, parallelAlgorithm, executorService);
+
+            assertThatClusters(parallelClusters).isEquivalentTo(sequentialClusters);
+            assertThat(parallelAlgorithm.clusteringLanguages).containsOnly(
+                LanguageCode.POLISH, LanguageCode.GERMAN, LanguageCode.NORWEGIAN,
+                LanguageCode.ENGLISH);
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+
     private void checkEmpty(final LanguageAggregationStrategy strategy)
     {
         final List<Document> documents = documentsWithLanguages();
@@ -275,7 +308,8 @@ public class MultilingualClusteringTest
     private static class TestMultilingualClusteringAlgorithm implements
         IMonolingualClusteringAlgorithm
     {
-        private Set<LanguageCode> clusteringLanguages = Sets.newHashSet();
+        private Set<LanguageCode> clusteringLanguages = Collections
+            .synchronizedSet(Sets.<LanguageCode> newHashSet());
 
         public List<Cluster> process(List<Document> documents, LanguageCode language)
         {
@@ -16,6 +16,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Map;
+
 import org.carrot2.core.LanguageCode;
 import org.junit.Before;
 import org.junit.Test;
@@ -41,6 +43,88 @@ public class LanguageModelFactoryTest
         assertEquals(LanguageCode.DUTCH, model.getLanguageCode());
     }
 
+    @Test
+    public void testStemCacheStatistics()
+    {
+        final Map<String, Object> before = DefaultLanguageModelFactory
+            .getStemCacheStatistics().getStatistics();
+
+        final IStemmer stemmer = factory.getLanguageModel(LanguageCode.ENGLISH)
+            .getStemmer();
+        stemmer.stem("uniquewordforstemcachetests");
+        stemmer.stem("uniquewordforstemcachetests");
+
+        final Map<String, Object> after = DefaultLanguageModelFactory
+            .getStemCacheStatistics().getStatistics();
+        assertEquals(1L, (Long) after.get(DefaultLanguageModelFactory.STEM_CACHE_HITS)
+            - (Long) before.get(DefaultLanguageModelFactory.STEM_CACHE_HITS));
+        assertEquals(1L, (Long) after.get(DefaultLanguageModelFactory.STEM_CACHE_MISSES)
+            - (Long) before.get(DefaultLanguageModelFactory.STEM_CACHE_MISSES));
+    }
+
+    @Test
+    public void testStemCachesOfDifferentStemmers()
+    {
+        final DefaultLanguageModelFactory upperCaseFactory = new DefaultLanguageModelFactory()
+        {
+            @Override
+            protected IStemmer createStemmer(LanguageCode language)
+            {
+                return new UpperCaseStemmer();
+            }
+        };
+
+        final String word = "uniquewordfordifferentstemmers";
+        final CharSequence stem = factory.getLanguageModel(LanguageCode.ENGLISH)
+            .getStemmer().stem(word);
+        assertEquals(word.toUpperCase(), upperCaseFactory.getLanguageModel(
+            LanguageCode.ENGLISH).getStemmer().stem(word).toString());
+        assertEquals(stem, factory.getLanguageModel(LanguageCode.ENGLISH).getStemmer()
+            .stem(word));
+    }
+
+    @Test
+    public void testStemCachesOfDifferentSizes()
+    {
+        final IStemmer stemmer = factory.getLanguageModel(LanguageCode.ENGLISH)
+            .getStemmer();
+        stemmer.stem("uniquewordfordifferentsizes");
+
+        final DefaultLanguageModelFactory smallCacheFactory = new DefaultLanguageModelFactory();
+        smallCacheFactory.stemCacheSize = 10;
+        smallCacheFactory.getLanguageModel(LanguageCode.ENGLISH).getStemmer();
+
+        // The cache of the default size is still shared, not replaced
+        final Map<String, Object> before = DefaultLanguageModelFactory
+            .getStemCacheStatistics().getStatistics();
+        new DefaultLanguageModelFactory().getLanguageModel(LanguageCode.ENGLISH)
+            .getStemmer().stem("uniquewordfordifferentsizes");
+        final Map<String, Object> after = DefaultLanguageModelFactory
+            .getStemCacheStatistics().getStatistics();
+        assertEquals(1L, (Long) after.get(DefaultLanguageModelFactory.STEM_CACHE_HITS)
+            - (Long) before.get(DefaultLanguageModelFactory.STEM_CACHE_HITS));
+    }
+
+    /**
+     * Returns words in upper case.
+     */
+    private static final class UpperCaseStemmer implements IStemmer
+    {
+        public CharSequence stem(CharSequence word)
+        {
+            return word.toString().toUpperCase();
+        }
+    }
+
+    @Test
+    public void testStemCacheDisabled()
+    {
+        factory.stemCacheSize = 0;
+        final IStemmer stemmer = factory.getLanguageModel(LanguageCode.ENGLISH)
+            .getStemmer();
+        assertFalse(stemmer instanceof CachingStemmer);
+    }
+
     @Test
     public void testLinguisticResourcesAvailable()
     {
@@ -0,0 +1,94 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import static org.junit.Assert.*;
+
+import org.carrot2.text.util.MutableCharArray;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link StemCache} and {@link CachingStemmer}.
+ */
+public class StemCacheTest
+{
+    @Test
+    public void testHitsAndMisses()
+    {
+        final StemCache cache = new StemCache(10);
+        assertNull(cache.get(new MutableCharArray("mining")));
+        cache.put(new MutableCharArray("mining"), "mine");
+        cache.put(new MutableCharArray("data"), StemCache.NO_STEM);
+
+        assertEquals("mine", cache.get(new MutableCharArray("mining")));
+        assertSame(StemCache.NO_STEM, cache.get(new MutableCharArray("data")));
+        assertEquals(2, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testClockEviction()
+    {
+        final StemCache cache = new StemCache(3);
+        cache.put(new MutableCharArray("a"), "a");
+        cache.put(new MutableCharArray("b"), "b");
+        cache.put(new MutableCharArray("c"), "c");
+
+        // Recently used entries get a second chance
+        cache.get(new MutableCharArray("a"));
+        cache.put(new MutableCharArray("d"), "d");
+
+        assertEquals(3, cache.size());
+        assertEquals("a", cache.get(new MutableCharArray("a")));
+        assertNull(cache.get(new MutableCharArray("b")));
+        assertEquals("c", cache.get(new MutableCharArray("c")));
+        assertEquals("d", cache.get(new MutableCharArray("d")));
+    }
+
+    @Test
+    public void testCachingStemmer()
+    {
+        final int [] calls = new int [1];
+        final MutableCharArray delegateBuffer = new MutableCharArray();
+        final IStemmer delegate = new IStemmer()
+        {
+            public CharSequence stem(CharSequence word)
+            {
+                calls[0]++;
+                if (word.length() <= 2)
+                {
+                    return null;
+                }
+
+                // Reuses the returned buffer, just like some real stemmers do
+                delegateBuffer.reset(word.subSequence(0, 2));
+                return delegateBuffer;
+            }
+        };
+
+        final StemCache cache = new StemCache(10);
+        final IStemmer stemmer1 = new CachingStemmer(delegate, cache);
+        final IStemmer stemmer2 = new CachingStemmer(delegate, cache);
+
+        final MutableCharArray word = new MutableCharArray("mining".toCharArray(), 0, 6);
+        assertEquals("mi", stemmer1.stem(word).toString());
+        assertEquals("mi", stemmer2.stem("mining").toString());
+        assertNull(stemmer1.stem("ab"));
+        assertNull(stemmer2.stem(new MutableCharArray("ab")));
+        assertEquals("da", stemmer2.stem("data").toString());
+
+        assertEquals(3, calls[0]);
+        assertEquals(2, cache.hits());
+        assertEquals(3, cache.misses());
+    }
+}
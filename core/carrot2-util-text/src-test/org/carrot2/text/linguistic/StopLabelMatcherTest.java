@@ -0,0 +1,249 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+import org.carrot2.core.LanguageCode;
+import org.carrot2.util.resource.ResourceUtilsFactory;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link StopLabelMatcher}.
+ */
+public class StopLabelMatcherTest
+{
+    @Test
+    public void testNoPatterns()
+    {
+        final StopLabelMatcher matcher = new StopLabelMatcher(Collections
+            .<Pattern> emptyList());
+        assertFalse(matcher.matches(""));
+        assertFalse(matcher.matches("label"));
+    }
+
+    @Test
+    public void testLiteralsAndQuantifiers()
+    {
+        final StopLabelMatcher matcher = matcher("(new|information|days?)",
+            "(?i)(index|list) of.*", "(?i).*(page|copyright) \\d+.*");
+
+        assertTrue(matcher.matches("new"));
+        assertTrue(matcher.matches("day"));
+        assertTrue(matcher.matches("days"));
+        assertTrue(matcher.matches("List of books"));
+        assertTrue(matcher.matches("see PAGE 12 here"));
+
+        assertFalse(matcher.matches("New"));
+        assertFalse(matcher.matches("news"));
+        assertFalse(matcher.matches("page x"));
+        assertFalse(matcher.matches("list\nof"));
+    }
+
+    @Test
+    public void testCaseInsensitivityIsAsciiOnly()
+    {
+        final StopLabelMatcher matcher = matcher("(?i)général");
+        assertTrue(matcher.matches("GéNéRAL"));
+        assertFalse(matcher.matches("GÉNÉRAL"));
+    }
+
+    @Test
+    public void testCaseInsensitivityScope()
+    {
+        final StopLabelMatcher matcher = matcher("((?i)a)b", "c");
+        assertTrue(matcher.matches("Ab"));
+        assertFalse(matcher.matches("AB"));
+        assertFalse(matcher.matches("C"));
+    }
+
+    @Test
+    public void testUnsupportedConstructs()
+    {
+        final StopLabelMatcher matcher = matcher("[a-c]+ly", "x{2}", "plain");
+        assertTrue(matcher.matches("cably"));
+        assertTrue(matcher.matches("xx"));
+        assertTrue(matcher.matches("plain"));
+        assertFalse(matcher.matches("dly"));
+        assertFalse(matcher.matches("x"));
+    }
+
+    @Test
+    public void testSupplementaryCharacters()
+    {
+        final StopLabelMatcher matcher = matcher("a.b");
+        assertTrue(matcher.matches("a𝐀b"));
+        assertFalse(matcher.matches("a𝐀𝐀b"));
+    }
+
+    @Test
+    public void testShippedStopLabels()
+    {
+        final Random random = new Random(0x5eed);
+        for (LanguageCode language : LanguageCode.values())
+        {
+            final LexicalResources resources = LexicalResources.load(ResourceUtilsFactory
+                .getDefaultResourceUtils(), language, "/");
+            if (resources.stoplabels.isEmpty())
+            {
+                continue;
+            }
+
+            // Build labels from the words occurring in the patterns
+            final List<String> words = new ArrayList<String>();
+            for (Pattern pattern : resources.stoplabels)
+            {
+                for (String word : pattern.pattern().split("[^\\p{L}\\p{N}]+"))
+                {
+                    if (word.length() > 0 && !word.equals("i") && !word.equals("d"))
+                    {
+                        words.add(word);
+                    }
+                }
+            }
+            words.add("12");
+
+            final Pattern union = union(resources.stoplabels);
+            for (int i = 0; i < 2000; i++)
+            {
+                final StringBuilder label = new StringBuilder();
+                final int wordCount = 1 + random.nextInt(3);
+                for (int j = 0; j < wordCount; j++)
+                {
+                    if (j > 0) label.append(' ');
+                    String word = words.get(random.nextInt(words.size()));
+                    if (random.nextInt(4) == 0)
+                    {
+                        word = word.toUpperCase();
+                    }
+                    if (random.nextInt(4) == 0)
+                    {
+                        word = word + "s";
+                    }
+                    label.append(word);
+                }
+
+                assertEquals(language + ": " + label, union.matcher(label).matches(),
+                    resources.stoplabelMatcher.matches(label));
+            }
+        }
+    }
+
+    @Test
+    public void testRandomExpressions()
+    {
+        final Random random = new Random(0xcafe);
+        final String alphabet = "abABéÉ1 .\n";
+        for (int round = 0; round < 300; round++)
+        {
+            final List<Pattern> patterns = new ArrayList<Pattern>();
+            final int patternCount = 1 + random.nextInt(3);
+            for (int i = 0; i < patternCount; i++)
+            {
+                patterns.add(Pattern.compile((random.nextBoolean() ? "(?i)" : "")
+                    + randomExpression(random, 3)));
+            }
+
+            final StopLabelMatcher matcher = new StopLabelMatcher(patterns);
+            final Pattern union = union(patterns);
+            for (int i = 0; i < 200; i++)
+            {
+                final StringBuilder label = new StringBuilder();
+                final int length = random.nextInt(7);
+                for (int j = 0; j < length; j++)
+                {
+                    label.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+
+                assertEquals(patterns + ": " + label, union.matcher(label).matches(),
+                    matcher.matches(label));
+            }
+        }
+    }
+
+    private static String randomExpression(Random random, int depth)
+    {
+        final StringBuilder expression = new StringBuilder();
+        final int length = 1 + random.nextInt(3);
+        for (int i = 0; i < length; i++)
+        {
+            final int type = random.nextInt(depth > 0 ? 9 : 6);
+            switch (type)
+            {
+                case 0:
+                    expression.append('.');
+                    break;
+                case 1:
+                    expression.append("\\d");
+                    break;
+                case 2:
+                    expression.append("\\s");
+                    break;
+                case 3:
+                    expression.append("\\.");
+                    break;
+                case 4:
+                case 5:
+                    expression.append("abAé ".charAt(random.nextInt(5)));
+                    break;
+                case 6:
+                    expression.append('(').append(randomExpression(random, depth - 1))
+                        .append(')');
+                    break;
+                case 7:
+                    expression.append('(').append(randomExpression(random, depth - 1))
+                        .append('|').append(randomExpression(random, depth - 1)).append(
+                            ')');
+                    break;
+                default:
+                    expression.append("((?i)").append(
+                        randomExpression(random, depth - 1)).append(')');
+                    break;
+            }
+
+            final int quantifier = random.nextInt(8);
+            if (quantifier < 3)
+            {
+                expression.append("*+?".charAt(quantifier));
+                if (random.nextInt(4) == 0)
+                {
+                    expression.append('?');
+                }
+            }
+        }
+        return expression.toString();
+    }
+
+    private static StopLabelMatcher matcher(String... expressions)
+    {
+        final List<Pattern> patterns = new ArrayList<Pattern>();
+        for (String expression : expressions)
+        {
+            patterns.add(Pattern.compile(expression));
+        }
+        return new StopLabelMatcher(patterns);
+    }
+
+    private static Pattern union(List<Pattern> patterns)
+    {
+        final StringBuilder union = new StringBuilder();
+        for (Pattern pattern : patterns)
+        {
+            if (union.length() > 0) union.append('|');
+            union.append('(').append(pattern.pattern()).append(')');
+        }
+        return Pattern.compile(union.toString());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.carrot2.text.util.MutableCharArray;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link StopWordSet}.
+ */
+public class StopWordSetTest
+{
+    @Test
+    public void testEmpty()
+    {
+        assertEquals(0, StopWordSet.EMPTY.size());
+        assertFalse(StopWordSet.EMPTY.contains(new MutableCharArray("")));
+        assertFalse(StopWordSet.EMPTY.contains(new MutableCharArray("the")));
+    }
+
+    @Test
+    public void testCaseFolding()
+    {
+        final StopWordSet set = new StopWordSet(Arrays.asList("The", "of", "ÜBER", "of"));
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains(new MutableCharArray("the")));
+        assertTrue(set.contains(new MutableCharArray("THE")));
+        assertTrue(set.contains(new MutableCharArray("Of")));
+        assertTrue(set.contains(new MutableCharArray("über")));
+        assertFalse(set.contains(new MutableCharArray("uber")));
+        assertFalse(set.contains(new MutableCharArray("th")));
+        assertFalse(set.contains(new MutableCharArray("")));
+    }
+
+    @Test
+    public void testSubrange()
+    {
+        final StopWordSet set = new StopWordSet(Arrays.asList("and"));
+        final char [] buffer = "xxANDxx".toCharArray();
+
+        assertTrue(set.contains(buffer, 2, 3));
+        assertFalse(set.contains(buffer, 1, 3));
+        assertFalse(set.contains(buffer, 2, 4));
+    }
+
+    @Test
+    public void testUnion()
+    {
+        final StopWordSet union = StopWordSet.union(Arrays.asList(new StopWordSet(Arrays
+            .asList("a", "the")), new StopWordSet(Arrays.asList("der", "a"))));
+
+        assertEquals(3, union.size());
+        assertTrue(union.contains(new MutableCharArray("a")));
+        assertTrue(union.contains(new MutableCharArray("the")));
+        assertTrue(union.contains(new MutableCharArray("der")));
+    }
+
+    @Test
+    public void testRandomized()
+    {
+        final Random random = new Random(0x5eed);
+        for (int round = 0; round < 50; round++)
+        {
+            final Set<String> words = new HashSet<String>();
+            final int count = random.nextInt(3000);
+            while (words.size() < count)
+            {
+                words.add(randomWord(random));
+            }
+
+            final StopWordSet set = new StopWordSet(words);
+            assertEquals(words.size(), set.size());
+            for (String word : words)
+            {
+                assertTrue(word, set.contains(new MutableCharArray(word)));
+            }
+
+            for (int i = 0; i < 1000; i++)
+            {
+                final String word = randomWord(random);
+                assertEquals(word, words.contains(word), set.contains(new MutableCharArray(
+                    word)));
+            }
+        }
+    }
+
+    private static String randomWord(Random random)
+    {
+        final char [] word = new char [1 + random.nextInt(6)];
+        for (int i = 0; i < word.length; i++)
+        {
+            word[i] = (char) ('a' + random.nextInt(6));
+        }
+        return new String(word);
+    }
+}
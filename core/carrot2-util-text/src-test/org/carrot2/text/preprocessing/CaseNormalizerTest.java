@@ -35,7 +35,12 @@ public class CaseNormalizerTest extends PreprocessingComponentTestBase
     public void setUpPreprocessingComponents()
     {
         tokenizer = new Tokenizer();
-        caseNormalizer = new CaseNormalizer();
+        caseNormalizer = createCaseNormalizer();
+    }
+
+    protected CaseNormalizer createCaseNormalizer()
+    {
+        return new CaseNormalizer();
     }
 
     @Test
@@ -739,6 +744,7 @@ public class CaseNormalizerTest extends PreprocessingComponentTestBase
         CaseNormalizer temporaryCaseNormalizer)
     {
         temporaryCaseNormalizer.dfThreshold = caseNormalizer.dfThreshold;
+        temporaryCaseNormalizer.hashGrouping = caseNormalizer.hashGrouping;
     }
 
     private short [] createTermTokenTypes(int count)
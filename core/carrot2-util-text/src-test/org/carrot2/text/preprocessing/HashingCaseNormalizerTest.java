@@ -0,0 +1,84 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.preprocessing;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link CaseNormalizer} with {@link CaseNormalizer#hashGrouping} enabled.
+ */
+public class HashingCaseNormalizerTest extends CaseNormalizerTest
+{
+    @Override
+    protected CaseNormalizer createCaseNormalizer()
+    {
+        final CaseNormalizer caseNormalizer = new CaseNormalizer();
+        caseNormalizer.hashGrouping = true;
+        return caseNormalizer;
+    }
+
+    @Test
+    public void testSameResultsAsSortingNormalization()
+    {
+        final Random random = new Random(0x11223344);
+        final String [] vocabulary = new String []
+        {
+            "data", "Data", "DATA", "mining", "Mining", "MacOS", "macos", "Macos", "x",
+            "X", "y", ".", ",", "!", "http://www.carrot2.org"
+        };
+
+        final String [] fieldValues = new String [100];
+        for (int i = 0; i < fieldValues.length; i++)
+        {
+            final StringBuilder value = new StringBuilder();
+            final int length = random.nextInt(20);
+            for (int j = 0; j < length; j++)
+            {
+                value.append(vocabulary[random.nextInt(vocabulary.length)]).append(' ');
+            }
+            fieldValues[i] = value.toString();
+        }
+        createDocuments(fieldValues);
+        new Tokenizer().tokenize(context);
+
+        for (int dfThreshold = 1; dfThreshold <= 3; dfThreshold++)
+        {
+            final CaseNormalizer sorting = new CaseNormalizer();
+            sorting.dfThreshold = dfThreshold;
+            sorting.normalize(context);
+            final int [] expectedWordIndex = context.allTokens.wordIndex;
+            final char [][] expectedImage = context.allWords.image;
+            final int [] expectedTf = context.allWords.tf;
+            final int [][] expectedTfByDocument = context.allWords.tfByDocument;
+            final byte [] expectedFieldIndices = context.allWords.fieldIndices;
+            final short [] expectedType = context.allWords.type;
+
+            final CaseNormalizer hashing = createCaseNormalizer();
+            hashing.dfThreshold = dfThreshold;
+            hashing.normalize(context);
+            assertThat(context.allTokens.wordIndex).as("allTokens.wordIndex").isEqualTo(
+                expectedWordIndex);
+            assertThat(context.allWords.image).as("allWords.image").isEqualTo(
+                expectedImage);
+            assertThat(context.allWords.tf).as("allWords.tf").isEqualTo(expectedTf);
+            assertThat(context.allWords.tfByDocument).as("allWords.tfByDocument")
+                .isEqualTo(expectedTfByDocument);
+            assertThat(context.allWords.fieldIndices).as("allWords.fieldIndices")
+                .isEqualTo(expectedFieldIndices);
+            assertThat(context.allWords.type).as("allWords.type").isEqualTo(expectedType);
+        }
+    }
+}
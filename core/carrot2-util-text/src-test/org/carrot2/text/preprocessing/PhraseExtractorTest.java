@@ -548,7 +548,7 @@ public class PhraseExtractorTest extends PreprocessingComponentTestBase
         int [][] expectedPhraseTfByDocument = new int [] []
         {
             {
-                1, 2, 0, 2
+                0, 2, 1, 2
             }
         };
 
@@ -577,7 +577,7 @@ public class PhraseExtractorTest extends PreprocessingComponentTestBase
         int [][] expectedPhraseTfByDocument = new int [] []
         {
             {
-                1, 3, 0, 2, 2, 4
+                0, 2, 1, 3, 2, 4
             }
         };
 
@@ -611,7 +611,7 @@ public class PhraseExtractorTest extends PreprocessingComponentTestBase
         int [][] expectedPhraseTfByDocument = new int [] []
         {
             {
-                1, 3, 0, 2
+                0, 2, 1, 3
             },
 
             {
@@ -655,15 +655,15 @@ public class PhraseExtractorTest extends PreprocessingComponentTestBase
         int [][] expectedPhraseTfByDocument = new int [] []
         {
             {
-                3, 1, 1, 1, 0, 1, 2, 1
+                0, 1, 1, 1, 2, 1, 3, 1
             },
 
             {
-                3, 1, 1, 1, 2, 1
+                1, 1, 2, 1, 3, 1
             },
 
             {
-                3, 1, 1, 1, 2, 1
+                1, 1, 2, 1, 3, 1
             }
         };
 
@@ -697,11 +697,11 @@ public class PhraseExtractorTest extends PreprocessingComponentTestBase
         int [][] expectedPhraseTfByDocument = new int [] []
         {
             {
-                1, 1, 0, 1
+                0, 1, 1, 1
             },
 
             {
-                1, 1, 0, 1
+                0, 1, 1, 1
             }
         };
 
@@ -735,7 +735,7 @@ public class PhraseExtractorTest extends PreprocessingComponentTestBase
         int [][] expectedPhraseTfByDocument = new int [] []
         {
             {
-                1, 2, 0, 2, 2, 2
+                0, 2, 1, 2, 2, 2
             },
 
             {
@@ -746,6 +746,184 @@ public class PhraseExtractorTest extends PreprocessingComponentTestBase
         check(expectedPhraseWordIndexes, expectedPhraseTf, expectedPhraseTfByDocument);
     }
 
+    @Test
+    public void testMinPhraseLengthAttribute()
+    {
+        phraseExtractor.minPhraseLength = 3;
+        createDocuments(null, "a b c d . a b c d");
+
+        int [][] expectedPhraseWordIndexes = new int [] []
+        {
+            new int []
+            {
+                wordIndices.get("a"), wordIndices.get("b"), wordIndices.get("c")
+            },
+
+            new int []
+            {
+                wordIndices.get("b"), wordIndices.get("c"), wordIndices.get("d")
+            },
+
+            new int []
+            {
+                wordIndices.get("a"), wordIndices.get("b"), wordIndices.get("c"),
+                wordIndices.get("d")
+            },
+        };
+
+        int [] expectedPhraseTf = new int []
+        {
+            2, 2, 2
+        };
+
+        check(expectedPhraseWordIndexes, expectedPhraseTf,
+            createTrivialTfByDocument(expectedPhraseTf));
+    }
+
+    @Test
+    public void testMaxPhraseLengthAttribute()
+    {
+        phraseExtractor.maxPhraseLength = 2;
+        createDocuments(null, "a b c d . a b c d");
+
+        int [][] expectedPhraseWordIndexes = new int [] []
+        {
+            new int []
+            {
+                wordIndices.get("a"), wordIndices.get("b")
+            },
+
+            new int []
+            {
+                wordIndices.get("b"), wordIndices.get("c")
+            },
+
+            new int []
+            {
+                wordIndices.get("c"), wordIndices.get("d")
+            },
+        };
+
+        int [] expectedPhraseTf = new int []
+        {
+            2, 2, 2
+        };
+
+        check(expectedPhraseWordIndexes, expectedPhraseTf,
+            createTrivialTfByDocument(expectedPhraseTf));
+    }
+
+    /**
+     * Occurrences of phrases that are parts of longer repeated sequences must be counted
+     * even if the sequences exceed the maximum phrase length.
+     */
+    @Test
+    public void testRepeatedSequenceLongerThanMaxPhraseLength()
+    {
+        phraseExtractor.maxPhraseLength = 2;
+        createDocuments("a b c", "a b c", "a b c", "");
+
+        int [][] expectedPhraseWordIndexes = new int [] []
+        {
+            new int []
+            {
+                wordIndices.get("a"), wordIndices.get("b")
+            },
+
+            new int []
+            {
+                wordIndices.get("b"), wordIndices.get("c")
+            },
+        };
+
+        int [] expectedPhraseTf = new int []
+        {
+            3, 3
+        };
+
+        int [][] expectedPhraseTfByDocument = new int [] []
+        {
+            {
+                0, 2, 1, 1
+            },
+
+            {
+                0, 2, 1, 1
+            }
+        };
+
+        check(expectedPhraseWordIndexes, expectedPhraseTf, expectedPhraseTfByDocument);
+    }
+
+    @Test
+    public void testMaxPhraseCandidates()
+    {
+        phraseExtractor.maxPhraseCandidates = 1;
+        createDocuments("a b", "x", "a b", "y", "c d", "z", "c d", "v", "c d", "w");
+
+        int [][] expectedPhraseWordIndexes = new int [] []
+        {
+            new int []
+            {
+                wordIndices.get("c"), wordIndices.get("d")
+            },
+        };
+
+        int [] expectedPhraseTf = new int []
+        {
+            3
+        };
+
+        int [][] expectedPhraseTfByDocument = new int [] []
+        {
+            {
+                2, 1, 3, 1, 4, 1
+            }
+        };
+
+        check(expectedPhraseWordIndexes, expectedPhraseTf, expectedPhraseTfByDocument);
+        assertThat(phraseExtractor.prunedPhraseCandidates).isEqualTo(1);
+    }
+
+    @Test
+    public void testMaxPhraseCandidatesNotExceeded()
+    {
+        phraseExtractor.maxPhraseCandidates = 2;
+        createDocuments("a b", "x", "a b", "y", "c d", "z", "c d", "v", "c d", "w");
+
+        int [][] expectedPhraseWordIndexes = new int [] []
+        {
+            new int []
+            {
+                wordIndices.get("a"), wordIndices.get("b")
+            },
+
+            new int []
+            {
+                wordIndices.get("c"), wordIndices.get("d")
+            },
+        };
+
+        int [] expectedPhraseTf = new int []
+        {
+            2, 3
+        };
+
+        int [][] expectedPhraseTfByDocument = new int [] []
+        {
+            {
+                0, 1, 1, 1
+            },
+
+            {
+                2, 1, 3, 1, 4, 1
+            }
+        };
+
+        check(expectedPhraseWordIndexes, expectedPhraseTf, expectedPhraseTfByDocument);
+        assertThat(phraseExtractor.prunedPhraseCandidates).isEqualTo(0);
+    }
+
     private void check(int [][] expectedPhraseWordIndexes, int [] expectedPhraseTf,
         int [][] expectedPhraseTfByDocument)
     {
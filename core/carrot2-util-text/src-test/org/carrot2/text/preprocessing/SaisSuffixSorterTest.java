@@ -0,0 +1,65 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.preprocessing;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link SaisSuffixSorter}.
+ */
+public class SaisSuffixSorterTest extends SuffixSorterTest
+{
+    @Override
+    protected ISuffixSorter createSuffixSorter()
+    {
+        return new SaisSuffixSorter();
+    }
+
+    @Test
+    public void testSameResultsAsComparatorSort()
+    {
+        final Random random = new Random(0x11223344);
+        final String [] vocabulary = new String []
+        {
+            "a", "b", "c", "d", "e", ".", "A", "B"
+        };
+
+        final String [] fieldValues = new String [200];
+        for (int i = 0; i < fieldValues.length; i++)
+        {
+            final StringBuilder value = new StringBuilder();
+            final int length = random.nextInt(30);
+            for (int j = 0; j < length; j++)
+            {
+                value.append(vocabulary[random.nextInt(vocabulary.length)]).append(' ');
+            }
+            fieldValues[i] = value.toString();
+        }
+        createDocuments(fieldValues);
+
+        new Tokenizer().tokenize(context);
+        new CaseNormalizer().normalize(context);
+
+        new SuffixSorter().suffixSort(context);
+        final int [] expectedSuffixOrder = context.allTokens.suffixOrder;
+        final int [] expectedLcpArray = context.allTokens.lcp;
+
+        new SaisSuffixSorter().suffixSort(context);
+        assertThat(context.allTokens.suffixOrder).as("allTokens.suffixOrder").isEqualTo(
+            expectedSuffixOrder);
+        assertThat(context.allTokens.lcp).as("allTokens.lcp").isEqualTo(expectedLcpArray);
+    }
+}
@@ -23,7 +23,7 @@ import org.junit.Test;
 public class SuffixSorterTest extends PreprocessingComponentTestBase
 {
     /** Suffix sorter under tests */
-    private SuffixSorter suffixSorter;
+    private ISuffixSorter suffixSorter;
 
     /** Other preprocessing components required for the test */
     private Tokenizer tokenizer;
@@ -34,7 +34,15 @@ public class SuffixSorterTest extends PreprocessingComponentTestBase
     {
         tokenizer = new Tokenizer();
         caseNormalizer = new CaseNormalizer();
-        suffixSorter = new SuffixSorter();
+        suffixSorter = createSuffixSorter();
+    }
+
+    /**
+     * Creates the suffix sorter to be tested.
+     */
+    protected ISuffixSorter createSuffixSorter()
+    {
+        return new SuffixSorter();
     }
 
     @Test
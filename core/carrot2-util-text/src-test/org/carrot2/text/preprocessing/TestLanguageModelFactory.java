@@ -56,6 +56,11 @@ public final class TestLanguageModelFactory implements ILanguageModelFactory
             return word.toString().contains("stop");
         }
 
+        public boolean isCommonWord(char [] buffer, int start, int length)
+        {
+            return isCommonWord(new String(buffer, start, length).toLowerCase());
+        }
+
         public boolean isStopLabel(CharSequence formattedLabel)
         {
             return formattedLabel.toString().startsWith("stoplabel");
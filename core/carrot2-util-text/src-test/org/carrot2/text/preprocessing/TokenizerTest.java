@@ -15,6 +15,9 @@ package org.carrot2.text.preprocessing;
 import static org.fest.assertions.Assertions.assertThat;
 
 import java.util.Arrays;
+import java.util.List;
+
+import org.carrot2.core.Document;
 
 import org.carrot2.text.analysis.ITokenizer;
 import org.junit.Before;
@@ -235,6 +238,61 @@ public class TokenizerTest extends PreprocessingComponentTestBase
             expectedTokensFieldIndices, DEFAULT_DOCUMENT_FIELD_NAMES);
     }
 
+    @Test
+    public void testReusingTokensOfPrefixDocuments()
+    {
+        createDocuments("data mining", "mining of data", "text", "mining text . data",
+            "clustering", null);
+
+        final TokenizedDocuments previous = tokenizer.tokenize(
+            createContext(context.documents.subList(0, 2)), null);
+        assertThat(previous.size()).isEqualTo(2);
+
+        final PreprocessingContext reused = createContext(context.documents);
+        assertThat(tokenizer.tokenize(reused, previous).size()).isEqualTo(3);
+
+        checkSameTokens(reused);
+    }
+
+    @Test
+    public void testNotReusingTokensOfOtherDocuments()
+    {
+        createDocuments("data mining", "mining of data", "text", "mining text . data");
+
+        final TokenizedDocuments previous = tokenizer.tokenize(
+            createContext(context.documents.subList(1, 2)), null);
+
+        final PreprocessingContext reused = createContext(context.documents);
+        assertThat(tokenizer.tokenize(reused, previous).size()).isEqualTo(2);
+
+        checkSameTokens(reused);
+    }
+
+    private PreprocessingContext createContext(List<Document> documents)
+    {
+        return new PreprocessingContext(context.language, documents, null);
+    }
+
+    /**
+     * Checks that the provided context contains the same tokens as a context
+     * tokenized from scratch.
+     */
+    private void checkSameTokens(PreprocessingContext reused)
+    {
+        tokenizer.tokenize(context);
+
+        assertThat(reused.allFields.name).isEqualTo(context.allFields.name);
+        assertThat(reused.allTokens.imageId).isEqualTo(context.allTokens.imageId);
+        assertThat(reused.allTokens.documentIndex).isEqualTo(
+            context.allTokens.documentIndex);
+        assertThat(reused.allTokens.fieldIndex).isEqualTo(context.allTokens.fieldIndex);
+        assertThat(reused.allTokens.type).isEqualTo(context.allTokens.type);
+        for (int i = 0; i < context.allTokens.imageId.length; i++)
+        {
+            assertThat(reused.getTokenImage(i)).isEqualTo(context.getTokenImage(i));
+        }
+    }
+
     private void check(char [][] expectedTokensImages,
         final int [] expectedTokensDocumentIndices, final short [] expectedTokensTypes,
         final byte [] expectedTokensFieldIndices, String [] expectedFieldNames)
@@ -243,8 +301,12 @@ public class TokenizerTest extends PreprocessingComponentTestBase
 
         assertThat(context.allFields.name).as("allFields.names").isEqualTo(
             expectedFieldNames);
-        assertThat(context.allTokens.image).as("allTokens.images").isEqualTo(
-            expectedTokensImages);
+        final char [][] tokenImages = new char [context.allTokens.imageId.length] [];
+        for (int i = 0; i < tokenImages.length; i++)
+        {
+            tokenImages[i] = context.getTokenImage(i);
+        }
+        assertThat(tokenImages).as("allTokens.images").isEqualTo(expectedTokensImages);
         assertThat(context.allTokens.documentIndex).as("allTokens.documentIndices")
             .isEqualTo(expectedTokensDocumentIndices);
         assertThat(context.allTokens.fieldIndex).as("allTokens.fieldIndices").isEqualTo(
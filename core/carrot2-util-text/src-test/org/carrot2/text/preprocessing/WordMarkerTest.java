@@ -66,6 +66,19 @@ public class WordMarkerTest extends PreprocessingComponentTestBase
         check(expectedCommonTermFlag);
     }
 
+    @Test
+    public void testUpperCaseStopWords()
+    {
+        createDocuments("THIS You", "hAVe ARE");
+
+        final boolean [] expectedCommonTermFlag = new boolean []
+        {
+            true, true, true, true
+        };
+
+        check(expectedCommonTermFlag);
+    }
+
     private void check(boolean [] expectedCommonTermFlag)
     {
         tokenizer.tokenize(context);
@@ -0,0 +1,112 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.util;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link CharArrayDictionary}.
+ */
+public class CharArrayDictionaryTest
+{
+    @Test
+    public void testEmpty()
+    {
+        final CharArrayDictionary dictionary = new CharArrayDictionary();
+        assertEquals(0, dictionary.size());
+        assertEquals(-1, dictionary.get("abc".toCharArray(), 0, 3));
+    }
+
+    @Test
+    public void testAddAndGet()
+    {
+        final CharArrayDictionary dictionary = new CharArrayDictionary();
+        final char [] chars = "Dawid Weiss Dawid".toCharArray();
+
+        final int dawid = dictionary.add(chars, 0, 5);
+        final int weiss = dictionary.add(chars, 6, 5);
+        assertEquals(0, dawid);
+        assertEquals(1, weiss);
+        assertEquals(dawid, dictionary.add(chars, 12, 5));
+        assertEquals(dawid, dictionary.add(new MutableCharArray("Dawid")));
+        assertEquals(weiss, dictionary.add(new StringBuilder("Weiss")));
+        assertEquals(2, dictionary.size());
+
+        assertEquals(weiss, dictionary.get("Weiss".toCharArray(), 0, 5));
+        assertEquals(-1, dictionary.get("weiss".toCharArray(), 0, 5));
+        assertEquals("Weiss", new String(dictionary.toCharArray(weiss)));
+        assertEquals(5, dictionary.getLength(weiss));
+        assertEquals("Dawid", new String(dictionary.getBuffer(), dictionary
+            .getOffset(dawid), dictionary.getLength(dawid)));
+    }
+
+    @Test
+    public void testEmptySequence()
+    {
+        final CharArrayDictionary dictionary = new CharArrayDictionary();
+        final int empty = dictionary.add(new char [0], 0, 0);
+        assertEquals(empty, dictionary.add("abc".toCharArray(), 1, 0));
+        assertEquals(0, dictionary.toCharArray(empty).length);
+    }
+
+    @Test
+    public void testClear()
+    {
+        final CharArrayDictionary dictionary = new CharArrayDictionary();
+        dictionary.add(new MutableCharArray("abc"));
+        dictionary.clear();
+        assertEquals(0, dictionary.size());
+        assertEquals(-1, dictionary.get("abc".toCharArray(), 0, 3));
+        assertEquals(0, dictionary.add(new MutableCharArray("def")));
+    }
+
+    @Test
+    public void testRandomized()
+    {
+        final Random random = new Random(0x11223344);
+        final CharArrayDictionary dictionary = new CharArrayDictionary(4, 4);
+        final Map<String, Integer> expected = new HashMap<String, Integer>();
+
+        for (int i = 0; i < 20000; i++)
+        {
+            final char [] chars = new char [random.nextInt(6)];
+            for (int j = 0; j < chars.length; j++)
+            {
+                chars[j] = (char) ('a' + random.nextInt(4));
+            }
+
+            final String string = new String(chars);
+            final int id = dictionary.add(chars, 0, chars.length);
+            if (expected.containsKey(string))
+            {
+                assertEquals(expected.get(string).intValue(), id);
+            }
+            else
+            {
+                assertEquals(expected.size(), id);
+                expected.put(string, id);
+            }
+        }
+
+        assertEquals(expected.size(), dictionary.size());
+        for (Map.Entry<String, Integer> e : expected.entrySet())
+        {
+            assertEquals(e.getKey(), new String(dictionary.toCharArray(e.getValue())));
+        }
+    }
+}
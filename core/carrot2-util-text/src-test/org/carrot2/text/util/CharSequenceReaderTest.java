@@ -0,0 +1,82 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.util;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Test cases for {@link CharSequenceReader}.
+ */
+public class CharSequenceReaderTest
+{
+    @Test
+    public void testReadString()
+    {
+        assertEquals("Dawid Weiss", readFully(new CharSequenceReader("Dawid Weiss"), 4));
+    }
+
+    @Test
+    public void testReadMutableCharArray()
+    {
+        final MutableCharArray seq = new MutableCharArray("Dawid Weiss".toCharArray(),
+            1, 3);
+        assertEquals("awi", readFully(new CharSequenceReader(seq), 2));
+    }
+
+    @Test
+    public void testReadStringBuilder()
+    {
+        assertEquals("Weiss", readFully(new CharSequenceReader(new StringBuilder(
+            "Weiss")), 100));
+    }
+
+    @Test
+    public void testSingleCharacters()
+    {
+        final CharSequenceReader reader = new CharSequenceReader("ab");
+        assertEquals('a', reader.read());
+        assertEquals('b', reader.read());
+        assertEquals(-1, reader.read());
+    }
+
+    @Test
+    public void testReset()
+    {
+        final CharSequenceReader reader = new CharSequenceReader("abc");
+        assertEquals("abc", readFully(reader, 2));
+
+        reader.reset("def");
+        assertEquals("def", readFully(reader, 2));
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        final CharSequenceReader reader = new CharSequenceReader();
+        assertEquals(-1, reader.read(new char [10], 0, 10));
+        assertEquals(0, reader.read(new char [10], 0, 0));
+    }
+
+    private static String readFully(CharSequenceReader reader, int bufferSize)
+    {
+        final StringBuilder result = new StringBuilder();
+        final char [] buffer = new char [bufferSize];
+        int read;
+        while ((read = reader.read(buffer, 0, buffer.length)) >= 0)
+        {
+            result.append(buffer, 0, read);
+        }
+        return result.toString();
+    }
+}
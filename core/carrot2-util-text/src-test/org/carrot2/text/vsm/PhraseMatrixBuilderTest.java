@@ -14,6 +14,7 @@ package org.carrot2.text.vsm;
 
 import static org.carrot2.matrix.MatrixAssertions.assertThat;
 
+import org.carrot2.matrix.MatrixUtils;
 import org.fest.assertions.Assertions;
 import org.junit.Test;
 
@@ -102,6 +103,27 @@ public class PhraseMatrixBuilderTest extends TermDocumentMatrixBuilderTestBase
         check(expectedPhraseMatrixElements);
     }
 
+    @Test
+    public void testSinglePrecision()
+    {
+        createDocuments("ee ff", "aa bb cc", "ee ff", "aa bb cc", "ee ff", "aa bb cc");
+        matrixBuilder.singlePrecision = true;
+
+        double [][] expectedPhraseMatrixElements = new double [] []
+        {
+            {
+                0.707, 0.707, 0, 0, 0
+            },
+            {
+                0, 0, 0.577, 0.577, 0.577
+            }
+        };
+
+        check(expectedPhraseMatrixElements);
+        Assertions.assertThat(
+            MatrixUtils.isSinglePrecision(vsmContext.termPhraseMatrix)).isTrue();
+    }
+
     private void check(double [][] expectedPhraseMatrixElements)
     {
         buildTermDocumentMatrix();
@@ -14,6 +14,7 @@ package org.carrot2.text.vsm;
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import org.carrot2.matrix.CompressedSparseDoubleMatrix2D;
 import org.carrot2.matrix.MatrixAssertions;
 import org.junit.Test;
 
@@ -163,6 +164,60 @@ public class TermDocumentMatrixBuilderTest extends TermDocumentMatrixBuilderTest
         check(expectedTdMatrixElements, expectedTdMatrixStemIndices);
     }
 
+    @Test
+    public void testSparseMatrix()
+    {
+        createDocuments("aa", "bb", "", "bb . cc", "", "aa . cc . cc");
+
+        int [] expectedTdMatrixStemIndices = new int []
+        {
+            0, 2, 1
+        };
+        double [][] expectedTdMatrixElements = new double [] []
+        {
+            {
+                2, 0, 2
+            },
+            {
+                0, 1, 2
+            },
+            {
+                1, 1, 0
+            }
+        };
+
+        matrixBuilder.sparseMatrix = true;
+        check(expectedTdMatrixElements, expectedTdMatrixStemIndices);
+        assertThat(vsmContext.termDocumentMatrix).isInstanceOf(
+            CompressedSparseDoubleMatrix2D.class);
+    }
+
+    @Test
+    public void testSparseMatrixSizeLimit()
+    {
+        createDocuments("", "aa . aa", "", "bb . bb . bb", "", "cc . cc . cc . cc");
+        preprocessingPipeline.documentAssigner.minClusterSize = 1;
+
+        int [] expectedTdMatrixStemIndices = new int []
+        {
+            2, 1
+        };
+        double [][] expectedTdMatrixElements = new double [] []
+        {
+            {
+                0, 0, 4
+            },
+            {
+                0, 3, 0
+            }
+        };
+
+        // The limit applies to non-zero elements of a sparse matrix
+        matrixBuilder.sparseMatrix = true;
+        matrixBuilder.maximumMatrixSize = 2;
+        check(expectedTdMatrixElements, expectedTdMatrixStemIndices);
+    }
+
     @Test
     public void testTitleWordBoost()
     {
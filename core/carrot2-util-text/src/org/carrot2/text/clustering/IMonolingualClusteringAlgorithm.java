@@ -19,7 +19,8 @@ import org.carrot2.core.*;
 /**
  * An internal interface of an algorithm performing clustering in one language. 
  * Implementations are <strong>not</strong> assumed to be thread-safe and will not be
- * called concurrently.
+ * called concurrently, unless an executor service is provided to
+ * {@link MultilingualClustering#process(List, IMonolingualClusteringAlgorithm, java.util.concurrent.ExecutorService)}.
  */
 public interface IMonolingualClusteringAlgorithm
 {
@@ -13,10 +13,13 @@
 package org.carrot2.text.clustering;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.carrot2.core.*;
+import org.carrot2.core.attribute.Init;
 import org.carrot2.core.attribute.Processing;
 import org.carrot2.util.attribute.*;
+import org.carrot2.util.attribute.constraint.IntRange;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
@@ -99,8 +102,36 @@ public class MultilingualClustering
     @Required
     public LanguageCode defaultLanguage = LanguageCode.ENGLISH;
 
+    /**
+     * Language threads. The number of languages to cluster in parallel. The threads are
+     * shared by all instances of the algorithm created by one controller. Each language
+     * is clustered by a separate instance of the algorithm, so parallel clustering pays
+     * off when documents in many languages are clustered at a time. The results do not
+     * depend on the number of threads.
+     * 
+     * @group Multilingual clustering
+     * @level Advanced
+     * @label Language threads
+     */
+    @Init
+    @Input
+    @Attribute
+    @IntRange(min = 1)
+    public int languageThreads = 1;
+
     public List<Cluster> process(List<Document> documents,
         IMonolingualClusteringAlgorithm algorithm)
+    {
+        return process(documents, algorithm, null);
+    }
+
+    /**
+     * Clusters documents using the provided executor service to cluster documents in
+     * each language in parallel. The <code>algorithm</code> will be called concurrently
+     * and must be thread-safe, unless <code>executorService</code> is <code>null</code>.
+     */
+    public List<Cluster> process(List<Document> documents,
+        IMonolingualClusteringAlgorithm algorithm, ExecutorService executorService)
     {
         if (documents.isEmpty())
         {
@@ -109,7 +140,7 @@ public class MultilingualClustering
 
         // Clusters documents in each language separately.
         final Map<LanguageCode, Cluster> clustersByLanguage = clusterByLanguage(
-            documents, algorithm);
+            documents, algorithm, executorService);
         final List<Cluster> clusters = Lists.newArrayList(clustersByLanguage.values());
 
         // Postprocess the final results according to the language clustering strategy
@@ -191,7 +222,7 @@ public class MultilingualClustering
      * Clusters documents in each language separately.
      */
     private Map<LanguageCode, Cluster> clusterByLanguage(List<Document> documents,
-        IMonolingualClusteringAlgorithm algorithm)
+        final IMonolingualClusteringAlgorithm algorithm, ExecutorService executorService)
     {
         // Partition by language first. As Multimaps.index() does not handle null
         // keys, we'd need to index by LanguageCode string and have a dedicated empty
@@ -208,34 +239,90 @@ public class MultilingualClustering
 
         // For each language, perform clustering. Please note that implementations of 
         // IMonolingualClusteringAlgorithm.cluster() are not guaranteed to be thread-save
-        // and hence the method must NOT be called concurrently.
+        // and hence the method must NOT be called concurrently unless the caller
+        // provided an executor service.
         final Map<LanguageCode, Cluster> clusters = Maps.newHashMap();
+        final Map<LanguageCode, Future<Cluster>> futures = Maps.newLinkedHashMap();
         for (String language : documentsByLanguage.keySet())
         {
             final ImmutableList<Document> languageDocuments = documentsByLanguage
                 .get(language);
             final LanguageCode languageCode = language.equals("") ? null : LanguageCode
                 .valueOf(language);
-            final Cluster languageCluster = new Cluster(
-                languageCode != null ? languageCode.toString() : "Unknown Language");
-
-            // Perform clustering
-            final List<Cluster> clustersForLanguage = algorithm.process(
-                languageDocuments, languageCode != null ? languageCode : defaultLanguage);
 
-            if (clustersForLanguage.size() == 0 || clustersForLanguage.size() == 1
-                && clustersForLanguage.get(0).isOtherTopics())
+            if (executorService == null)
             {
-                languageCluster.addDocuments(languageDocuments);
+                clusters.put(languageCode, clusterLanguage(languageDocuments,
+                    languageCode, algorithm));
             }
             else
             {
-                languageCluster.addSubclusters(clustersForLanguage);
+                futures.put(languageCode, executorService.submit(new Callable<Cluster>()
+                {
+                    public Cluster call() throws Exception
+                    {
+                        return clusterLanguage(languageDocuments, languageCode,
+                            algorithm);
+                    }
+                }));
             }
+        }
 
-            clusters.put(languageCode, languageCluster);
+        try
+        {
+            for (Map.Entry<LanguageCode, Future<Cluster>> entry : futures.entrySet())
+            {
+                clusters.put(entry.getKey(), entry.getValue().get());
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Interrupted while clustering", e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ProcessingException(e.getCause());
+        }
+        finally
+        {
+            for (Future<Cluster> future : futures.values())
+            {
+                future.cancel(true);
+            }
         }
 
         return clusters;
     }
+
+    /**
+     * Clusters documents in one language and returns a cluster containing the clusters
+     * created for the language.
+     */
+    private Cluster clusterLanguage(List<Document> languageDocuments,
+        LanguageCode languageCode, IMonolingualClusteringAlgorithm algorithm)
+    {
+        final Cluster languageCluster = new Cluster(
+            languageCode != null ? languageCode.toString() : "Unknown Language");
+
+        // Perform clustering
+        final List<Cluster> clustersForLanguage = algorithm.process(languageDocuments,
+            languageCode != null ? languageCode : defaultLanguage);
+
+        if (clustersForLanguage.size() == 0 || clustersForLanguage.size() == 1
+            && clustersForLanguage.get(0).isOtherTopics())
+        {
+            languageCluster.addDocuments(languageDocuments);
+        }
+        else
+        {
+            languageCluster.addSubclusters(clustersForLanguage);
+        }
+
+        return languageCluster;
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import org.carrot2.text.util.MutableCharArray;
+
+/**
+ * An {@link IStemmer} that looks up stems in a {@link StemCache} before delegating to
+ * another stemmer. Instances of this class are not thread-safe, but many instances can
+ * share one {@link StemCache}.
+ */
+final class CachingStemmer implements IStemmer
+{
+    /**
+     * The stemmer to compute stems not found in the cache.
+     */
+    private final IStemmer delegate;
+
+    /**
+     * The (possibly shared) cache.
+     */
+    private final StemCache cache;
+
+    /**
+     * A reusable buffer for cache lookups.
+     */
+    private final MutableCharArray lookup = new MutableCharArray();
+
+    CachingStemmer(IStemmer delegate, StemCache cache)
+    {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    public CharSequence stem(CharSequence word)
+    {
+        if (word instanceof MutableCharArray)
+        {
+            final MutableCharArray array = (MutableCharArray) word;
+            lookup.reset(array.getBuffer(), array.getStart(), array.length());
+        }
+        else
+        {
+            lookup.reset(word);
+        }
+
+        final String cached = cache.get(lookup);
+        if (cached != null)
+        {
+            return cached == StemCache.NO_STEM ? null : cached;
+        }
+
+        // The delegate may reuse the returned sequence, we need a copy for the cache
+        final CharSequence stem = delegate.stem(word);
+        cache.put(new MutableCharArray(word), stem == null ? StemCache.NO_STEM : stem
+            .toString());
+        return stem;
+    }
+}
@@ -12,10 +12,6 @@
 
 package org.carrot2.text.linguistic;
 
-import java.util.List;
-import java.util.Set;
-import java.util.regex.Pattern;
-
 import org.carrot2.core.LanguageCode;
 import org.carrot2.text.analysis.ITokenizer;
 import org.carrot2.text.util.MutableCharArray;
@@ -29,12 +25,12 @@ final class DefaultLanguageModel implements ILanguageModel
     private final LanguageCode languageCode;
     private final ITokenizer tokenizer;
     private final IStemmer stemmer;
-    private final Set<MutableCharArray> stopwords;
+    private final StopWordSet stopwords;
 
     /**
-     * An artificial union of all regular expressions from the input.
+     * Matches labels against all regular expressions from the input.
      */
-    private final Pattern stoplabels;
+    private final StopLabelMatcher stoplabels;
 
     /** Internal buffer for lookups in {@link #stopwords}. */
     private final MutableCharArray buffer = new MutableCharArray("");
@@ -49,24 +45,7 @@ final class DefaultLanguageModel implements ILanguageModel
         this.stemmer = stemmer;
         this.tokenizer = tokenizer;
         this.stopwords = lexicalResources.stopwords;
-
-        final StringBuilder union = new StringBuilder();
-        final List<Pattern> patterns = lexicalResources.stoplabels;
-        if (patterns.size() > 0)
-        {
-            union.append("(");
-            for (int i = 0; i < patterns.size(); i++)
-            {
-                if (i > 0) union.append(")|(");
-                union.append(patterns.get(i).toString());
-            }
-            union.append(")");
-            this.stoplabels = Pattern.compile(union.toString());
-        }
-        else
-        {
-            this.stoplabels = null;
-        }
+        this.stoplabels = lexicalResources.stoplabelMatcher;
     }
 
     public LanguageCode getLanguageCode()
@@ -97,9 +76,13 @@ final class DefaultLanguageModel implements ILanguageModel
         }
     }
 
+    public boolean isCommonWord(char [] buffer, int start, int length)
+    {
+        return stopwords.contains(buffer, start, length);
+    }
+
     public boolean isStopLabel(CharSequence formattedLabel)
     {
-        if (stoplabels == null) return false;
-        return stoplabels.matcher(formattedLabel).matches();
+        return stoplabels.matches(formattedLabel);
     }
 }
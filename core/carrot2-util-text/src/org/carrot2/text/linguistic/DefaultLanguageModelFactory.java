@@ -15,9 +15,11 @@ package org.carrot2.text.linguistic;
 import java.io.StringReader;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import org.carrot2.core.LanguageCode;
+import org.carrot2.core.Controller.IControllerStatisticsProvider;
 import org.carrot2.core.attribute.Init;
 import org.carrot2.core.attribute.Processing;
 import org.carrot2.text.analysis.ITokenizer;
@@ -28,6 +30,7 @@ import org.carrot2.text.linguistic.morfologik.PolishStemmerFactory;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.Bindable;
 import org.carrot2.util.attribute.Input;
+import org.carrot2.util.attribute.constraint.IntRange;
 import org.carrot2.util.resource.ResourceUtils;
 import org.carrot2.util.resource.ResourceUtilsFactory;
 import org.slf4j.Logger;
@@ -108,6 +111,41 @@ public class DefaultLanguageModelFactory implements ILanguageModelFactory
     @Attribute
     public boolean mergeResources = true;
 
+    /**
+     * Stem cache size. The maximum number of words, per language, whose stems will be
+     * cached. Stem caches are shared by all instances of this factory using the same
+     * stemmers and stem cache sizes, so that words that have been stemmed once do not
+     * need to be stemmed again in subsequent processing requests. Set to <code>0</code>
+     * to disable stem caching.
+     * 
+     * @level Advanced
+     * @group Preprocessing
+     * @label Stem cache size
+     */
+    @Init
+    @Input
+    @Attribute
+    @IntRange(min = 0)
+    public int stemCacheSize = 50000;
+
+    /**
+     * Key of the total number of stem cache hits in the statistics returned by
+     * {@link #getStemCacheStatistics()}.
+     */
+    public static final String STEM_CACHE_HITS = "stem-cache.hits";
+
+    /**
+     * Key of the total number of stem cache misses in the statistics returned by
+     * {@link #getStemCacheStatistics()}.
+     */
+    public static final String STEM_CACHE_MISSES = "stem-cache.misses";
+
+    /**
+     * Key of the total number of words stored in stem caches in the statistics returned
+     * by {@link #getStemCacheStatistics()}.
+     */
+    public static final String STEM_CACHE_SIZE = "stem-cache.size";
+
     /**
      * Preloaded and cached lexical resources, shared among all instances of this factory.
      * Instances of {@link Pattern} are immutable and thread safe, so we're fine to share
@@ -121,6 +159,41 @@ public class DefaultLanguageModelFactory implements ILanguageModelFactory
      */
     private static LexicalResources LEXICAL_RESOURCES_MERGED;
 
+    /**
+     * Stem caches for each stemmer class, language and cache capacity, shared among all
+     * instances of this factory, guarded by the class monitor. Stemmers created by
+     * overridden {@link #createStemmer(LanguageCode)} methods may return different stems
+     * for the same language, so each stemmer class gets its own caches.
+     */
+    private final static HashMap<StemCacheKey, StemCache> STEM_CACHES = Maps
+        .newHashMap();
+
+    /**
+     * Reports statistics of all stem caches.
+     */
+    private final static IControllerStatisticsProvider STEM_CACHE_STATISTICS = new IControllerStatisticsProvider()
+    {
+        public Map<String, Object> getStatistics()
+        {
+            long hits = 0, misses = 0, size = 0;
+            synchronized (DefaultLanguageModelFactory.class)
+            {
+                for (StemCache cache : STEM_CACHES.values())
+                {
+                    hits += cache.hits();
+                    misses += cache.misses();
+                    size += cache.size();
+                }
+            }
+
+            final Map<String, Object> statistics = Maps.newHashMap();
+            statistics.put(STEM_CACHE_HITS, hits);
+            statistics.put(STEM_CACHE_MISSES, misses);
+            statistics.put(STEM_CACHE_SIZE, size);
+            return statistics;
+        }
+    };
+
     /**
      * A stemmer cache for this particular factory. As opposed to lexical resources, which
      * are cached globally, stemmer are cached on a per-factory basis to make sure
@@ -194,6 +267,11 @@ public class DefaultLanguageModelFactory implements ILanguageModelFactory
             if (!stemmerCache.containsKey(language))
             {
                 stemmer = createStemmer(language);
+                if (stemCacheSize > 0 && stemmer != IdentityStemmer.INSTANCE)
+                {
+                    stemmer = new CachingStemmer(stemmer, getStemCache(new StemCacheKey(
+                        stemmer.getClass(), language, stemCacheSize)));
+                }
                 stemmerCache.put(language, stemmer);
             }
         }
@@ -212,6 +290,73 @@ public class DefaultLanguageModelFactory implements ILanguageModelFactory
         return new DefaultLanguageModel(language, lexicalResources, stemmer, tokenizer);
     }
     
+    /**
+     * Returns the shared stem cache for the provided key, creating a new one if there is
+     * no cache yet.
+     */
+    private static StemCache getStemCache(StemCacheKey key)
+    {
+        synchronized (DefaultLanguageModelFactory.class)
+        {
+            StemCache cache = STEM_CACHES.get(key);
+            if (cache == null)
+            {
+                cache = new StemCache(key.capacity);
+                STEM_CACHES.put(key, cache);
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Identifies a shared stem cache: the class of the cached stemmer, the language and
+     * the capacity of the cache.
+     */
+    private static final class StemCacheKey
+    {
+        final Class<?> stemmerClass;
+        final LanguageCode language;
+        final int capacity;
+
+        StemCacheKey(Class<?> stemmerClass, LanguageCode language, int capacity)
+        {
+            this.stemmerClass = stemmerClass;
+            this.language = language;
+            this.capacity = capacity;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (!(obj instanceof StemCacheKey))
+            {
+                return false;
+            }
+
+            final StemCacheKey other = (StemCacheKey) obj;
+            return stemmerClass == other.stemmerClass && language == other.language
+                && capacity == other.capacity;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (stemmerClass.hashCode() * 31 + language.hashCode()) * 31 + capacity;
+        }
+    }
+
+    /**
+     * Returns a statistics provider reporting the numbers of hits and misses of stem
+     * caches shared by all instances of this factory, see {@link #STEM_CACHE_HITS},
+     * {@link #STEM_CACHE_MISSES} and {@link #STEM_CACHE_SIZE}. The provider can be
+     * registered in a {@link org.carrot2.core.Controller} using
+     * {@link org.carrot2.core.Controller#addStatisticsProvider(IControllerStatisticsProvider)}.
+     */
+    public static IControllerStatisticsProvider getStemCacheStatistics()
+    {
+        return STEM_CACHE_STATISTICS;
+    }
+
     /**
      * Provide an {@link IStemmer} implementation for a given language.
      */
@@ -29,6 +29,14 @@ public interface ILanguageModel
      */
     public boolean isCommonWord(CharSequence word);
 
+    /**
+     * @return Returns <code>true</code> if the word stored in <code>buffer</code> at
+     *         <code>start</code>, <code>length</code> characters long, is common in this
+     *         language, ignoring case. The buffer is not modified.
+     * @see #isCommonWord(CharSequence)
+     */
+    public boolean isCommonWord(char [] buffer, int start, int length);
+
     /**
      * @return Returns <code>true</code> if the <code>formattedLabel</code> has been
      *         declared a stop label (meaningless) in this language. This is a very
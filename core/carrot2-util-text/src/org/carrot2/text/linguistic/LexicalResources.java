@@ -18,7 +18,6 @@ import java.util.regex.PatternSyntaxException;
 
 import org.slf4j.Logger;
 import org.carrot2.core.LanguageCode;
-import org.carrot2.text.util.MutableCharArray;
 import org.carrot2.util.resource.IResource;
 import org.carrot2.util.resource.ResourceUtils;
 
@@ -45,27 +44,37 @@ final class LexicalResources
     final static EnumSet<LanguageCode> regexpProblemsCache = EnumSet
         .noneOf(LanguageCode.class);
 
-    final Set<MutableCharArray> stopwords;
+    /**
+     * Stop words, immutable and thread-safe.
+     */
+    final StopWordSet stopwords;
     final List<Pattern> stoplabels;
 
-    private LexicalResources(List<Pattern> stoplabels, Set<MutableCharArray> stopwords)
+    /**
+     * Stop labels compiled for fast matching, immutable and thread-safe.
+     */
+    final StopLabelMatcher stoplabelMatcher;
+
+    private LexicalResources(List<Pattern> stoplabels, StopWordSet stopwords)
     {
         this.stoplabels = stoplabels;
         this.stopwords = stopwords;
+        this.stoplabelMatcher = new StopLabelMatcher(stoplabels);
     }
 
     static LexicalResources merge(Collection<LexicalResources> values)
     {
-        final Set<MutableCharArray> mergedStopwords = Sets.newHashSet();
+        final List<StopWordSet> mergedStopwords = Lists.newArrayList();
         final List<Pattern> mergedStoplabels = Lists.newArrayList();
 
         for (LexicalResources lexicalResources : values)
         {
-            mergedStopwords.addAll(lexicalResources.stopwords);
+            mergedStopwords.add(lexicalResources.stopwords);
             mergedStoplabels.addAll(lexicalResources.stoplabels);
         }
 
-        return new LexicalResources(mergedStoplabels, mergedStopwords);
+        return new LexicalResources(mergedStoplabels, StopWordSet
+            .union(mergedStopwords));
     }
 
     /**
@@ -82,13 +91,11 @@ final class LexicalResources
      * Loads common words associated with the given language. Logs an error and recovers
      * silently if the given resource cannot be found.
      */
-    private static Set<MutableCharArray> loadStopWords(ResourceUtils resourceLoaders,
+    private static StopWordSet loadStopWords(ResourceUtils resourceLoaders,
         LanguageCode lang, String resourcePath)
     {
         try
         {
-            final Set<MutableCharArray> result = Sets.newHashSet();
-
             final String resourceName = withSeparator(resourcePath) + "stopwords."
                 + lang.getIsoCode();
             final IResource resource = resourceLoaders.getFirst(resourceName,
@@ -99,19 +106,14 @@ final class LexicalResources
                 throw new IOException("Resource not found: " + resourceName);
             }
 
-            for (String word : TextResourceUtils.load(resource))
-            {
-                result.add(new MutableCharArray(word.toLowerCase()));
-            }
-
-            return result;
+            return new StopWordSet(TextResourceUtils.load(resource));
         }
         catch (IOException e)
         {
             problemWarn(missingStopwordsCache, lang,
                 "Common words could not be loaded for language " + lang.toString() + ": "
                     + e.getMessage());
-            return Collections.emptySet();
+            return StopWordSet.EMPTY;
         }
     }
 
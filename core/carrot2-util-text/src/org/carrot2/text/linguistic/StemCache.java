@@ -0,0 +1,171 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.carrot2.text.util.MutableCharArray;
+
+/**
+ * A bounded, thread-safe cache of word-to-stem mappings. Lookups do not acquire any locks,
+ * insertions are synchronized. When the cache is full, entries are evicted using the
+ * CLOCK (second chance) policy: each lookup marks the entry as recently used and the
+ * eviction hand skips (and unmarks) recently used entries.
+ */
+final class StemCache
+{
+    /**
+     * Marks words for which the stemmer did not return any stem.
+     */
+    static final String NO_STEM = new String();
+
+    /**
+     * Cache entries by word.
+     */
+    private final ConcurrentHashMap<MutableCharArray, Entry> entries;
+
+    /**
+     * Circular buffer of entries for CLOCK eviction, guarded by <code>this</code>.
+     */
+    private final Entry [] clock;
+
+    /**
+     * Number of entries in {@link #clock}, guarded by <code>this</code>.
+     */
+    private int size;
+
+    /**
+     * Position of the eviction hand in {@link #clock}, guarded by <code>this</code>.
+     */
+    private int hand;
+
+    /**
+     * Number of cache hits.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Number of cache misses.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * A single cache entry.
+     */
+    private static final class Entry
+    {
+        final MutableCharArray word;
+        final String stem;
+        volatile boolean referenced;
+
+        Entry(MutableCharArray word, String stem)
+        {
+            this.word = word;
+            this.stem = stem;
+        }
+    }
+
+    /**
+     * Creates a cache holding at most <code>capacity</code> words.
+     */
+    StemCache(int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        this.clock = new Entry [capacity];
+        this.entries = new ConcurrentHashMap<MutableCharArray, Entry>(Math.min(capacity,
+            1024));
+    }
+
+    /**
+     * Returns the cached stem of a given <code>word</code>, {@link #NO_STEM} if the word
+     * has no stem or <code>null</code> if the word is not in the cache.
+     */
+    String get(MutableCharArray word)
+    {
+        final Entry entry = entries.get(word);
+        if (entry == null)
+        {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        if (!entry.referenced)
+        {
+            entry.referenced = true;
+        }
+        hits.incrementAndGet();
+        return entry.stem;
+    }
+
+    /**
+     * Stores the stem of a given word, evicting another entry if the cache is full.
+     *
+     * @param word the word, must not be modified after calling this method
+     * @param stem stem of the word or {@link #NO_STEM}
+     */
+    synchronized void put(MutableCharArray word, String stem)
+    {
+        if (entries.containsKey(word))
+        {
+            return;
+        }
+
+        final Entry entry = new Entry(word, stem);
+        if (size < clock.length)
+        {
+            clock[size++] = entry;
+        }
+        else
+        {
+            // Give recently used entries a second chance
+            while (clock[hand].referenced)
+            {
+                clock[hand].referenced = false;
+                hand = (hand + 1) % clock.length;
+            }
+
+            entries.remove(clock[hand].word);
+            clock[hand] = entry;
+            hand = (hand + 1) % clock.length;
+        }
+        entries.put(word, entry);
+    }
+
+    /**
+     * Returns the current number of words in this cache.
+     */
+    int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of lookups that found the word in this cache.
+     */
+    long hits()
+    {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups that did not find the word in this cache.
+     */
+    long misses()
+    {
+        return misses.get();
+    }
+}
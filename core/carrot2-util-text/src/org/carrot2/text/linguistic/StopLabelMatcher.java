@@ -0,0 +1,705 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+import com.carrotsearch.hppc.IntArrayList;
+
+/**
+ * Checks if labels fully match any of the stop label regular expressions. The
+ * expressions are compiled into one deterministic finite automaton, which matches labels
+ * in time linear in the label length, without backtracking. The automaton supports the
+ * subset of regular expression syntax used in the stop label resources:
+ * <ul>
+ * <li>literal characters, escaped punctuation and <code>.</code>,</li>
+ * <li><code>\d</code>, <code>\s</code>, <code>\w</code> and their negations,</li>
+ * <li>groups, including non-capturing groups, and alternatives,</li>
+ * <li>the <code>*</code>, <code>+</code> and <code>?</code> quantifiers (greedy or
+ * reluctant),</li>
+ * <li>the <code>(?i)</code> inline flag (US-ASCII case-insensitive matching, same as
+ * {@link Pattern#CASE_INSENSITIVE}).</li>
+ * </ul>
+ * Expressions using any other constructs are matched using {@link Pattern}. Instances
+ * of this class are immutable and thread-safe.
+ */
+final class StopLabelMatcher
+{
+    /**
+     * The maximum number of automaton transitions. If more transitions are required,
+     * all expressions are matched using {@link Pattern}.
+     */
+    private static final int MAX_TRANSITIONS = 1 << 20;
+
+    /**
+     * Ranges of characters matched by <code>.</code>, which does not match line
+     * terminators.
+     */
+    private static final int [] DOT = new int []
+    {
+        0x0000, 0x0009, 0x000b, 0x000c, 0x000e, 0x0084, 0x0086, 0x2027, 0x202a, 0xffff
+    };
+
+    private static final int [] DIGIT = new int []
+    {
+        '0', '9'
+    };
+
+    private static final int [] WHITESPACE = new int []
+    {
+        '\t', '\r', ' ', ' '
+    };
+
+    private static final int [] WORD = new int []
+    {
+        '0', '9', 'A', 'Z', '_', '_', 'a', 'z'
+    };
+
+    /**
+     * Start state of the automaton, state <code>0</code> is the dead state.
+     */
+    private static final int START = 1;
+
+    /**
+     * Lower bounds of the character classes into which the automaton's alphabet is
+     * partitioned, in ascending order.
+     */
+    private final int [] classStarts;
+
+    /**
+     * Character class of each ASCII character.
+     */
+    private final int [] asciiClasses = new int [128];
+
+    /**
+     * Automaton transitions, <code>transitions[state * classCount + class]</code> is
+     * the next state.
+     */
+    private final int [] transitions;
+
+    /**
+     * Accepting automaton states.
+     */
+    private final boolean [] accepting;
+
+    /**
+     * A union of expressions not supported by the automaton or <code>null</code>.
+     */
+    private final Pattern unsupported;
+
+    /**
+     * A union of all expressions, for labels the automaton cannot process or
+     * <code>null</code>.
+     */
+    private final Pattern all;
+
+    /**
+     * Compiles the provided expressions.
+     */
+    StopLabelMatcher(List<Pattern> patterns)
+    {
+        this.all = union(patterns);
+
+        final Nfa nfa = new Nfa();
+        final List<Pattern> unsupportedPatterns = new ArrayList<Pattern>();
+        for (Pattern pattern : patterns)
+        {
+            final int size = nfa.size();
+            try
+            {
+                final int [] fragment = new Parser(pattern.pattern(), nfa).parse();
+                nfa.epsilon(Nfa.START, fragment[0]);
+                nfa.accepting.set(fragment[1]);
+            }
+            catch (UnsupportedPatternException e)
+            {
+                nfa.truncate(size);
+                unsupportedPatterns.add(pattern);
+            }
+        }
+
+        Dfa dfa = null;
+        if (unsupportedPatterns.size() < patterns.size())
+        {
+            try
+            {
+                dfa = new Dfa(nfa);
+            }
+            catch (UnsupportedPatternException e)
+            {
+                // Too many states, fall back to regular expressions
+            }
+        }
+
+        if (dfa != null)
+        {
+            this.classStarts = dfa.classStarts;
+            this.transitions = dfa.transitions.toArray();
+            this.accepting = dfa.accepting;
+            this.unsupported = union(unsupportedPatterns);
+        }
+        else
+        {
+            this.classStarts = new int []
+            {
+                0
+            };
+            this.transitions = new int [2];
+            this.accepting = new boolean [2];
+            this.unsupported = all;
+        }
+
+        for (int c = 0; c < asciiClasses.length; c++)
+        {
+            asciiClasses[c] = classOf(c);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the label fully matches any of the expressions.
+     */
+    boolean matches(CharSequence label)
+    {
+        if (all == null)
+        {
+            return false;
+        }
+
+        final int classCount = classStarts.length;
+        int state = START;
+        for (int i = 0; i < label.length() && state != 0; i++)
+        {
+            final char c = label.charAt(i);
+            if (Character.isSurrogate(c))
+            {
+                // Regular expressions match code points rather than chars
+                return all.matcher(label).matches();
+            }
+            state = transitions[state * classCount
+                + (c < asciiClasses.length ? asciiClasses[c] : classOf(c))];
+        }
+
+        return accepting[state]
+            || (unsupported != null && unsupported.matcher(label).matches());
+    }
+
+    private int classOf(int c)
+    {
+        final int index = Arrays.binarySearch(classStarts, c);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Creates an artificial union of the provided expressions.
+     */
+    private static Pattern union(List<Pattern> patterns)
+    {
+        if (patterns.isEmpty())
+        {
+            return null;
+        }
+
+        final StringBuilder union = new StringBuilder();
+        union.append("(");
+        for (int i = 0; i < patterns.size(); i++)
+        {
+            if (i > 0) union.append(")|(");
+            union.append(patterns.get(i).toString());
+        }
+        union.append(")");
+        return Pattern.compile(union.toString());
+    }
+
+    /**
+     * A nondeterministic automaton with epsilon transitions. Each state has at most one
+     * transition on a set of character ranges.
+     */
+    private static final class Nfa
+    {
+        static final int START = 0;
+
+        final ArrayList<IntArrayList> epsilons = new ArrayList<IntArrayList>();
+        final ArrayList<int []> ranges = new ArrayList<int []>();
+        final IntArrayList targets = new IntArrayList();
+        final BitSet accepting = new BitSet();
+
+        Nfa()
+        {
+            newState();
+        }
+
+        int size()
+        {
+            return targets.size();
+        }
+
+        int newState()
+        {
+            epsilons.add(new IntArrayList(2));
+            ranges.add(null);
+            targets.add(-1);
+            return targets.size() - 1;
+        }
+
+        void epsilon(int from, int to)
+        {
+            epsilons.get(from).add(to);
+        }
+
+        /**
+         * Removes states added after the automaton had <code>size</code> states.
+         */
+        void truncate(int size)
+        {
+            // Removed states are not referenced by the remaining ones
+            while (size() > size)
+            {
+                epsilons.remove(size() - 1);
+                ranges.remove(size() - 1);
+                targets.remove(size() - 1);
+            }
+        }
+
+        /**
+         * Creates a fragment matching one character from the provided ranges.
+         */
+        int [] characters(int [] characterRanges)
+        {
+            final int start = newState();
+            final int end = newState();
+            ranges.set(start, characterRanges);
+            targets.set(start, end);
+            return new int []
+            {
+                start, end
+            };
+        }
+
+        int [] empty()
+        {
+            final int start = newState();
+            final int end = newState();
+            epsilon(start, end);
+            return new int []
+            {
+                start, end
+            };
+        }
+
+        int [] concatenate(int [] a, int [] b)
+        {
+            epsilon(a[1], b[0]);
+            return new int []
+            {
+                a[0], b[1]
+            };
+        }
+
+        int [] alternative(int [] a, int [] b)
+        {
+            final int start = newState();
+            final int end = newState();
+            epsilon(start, a[0]);
+            epsilon(start, b[0]);
+            epsilon(a[1], end);
+            epsilon(b[1], end);
+            return new int []
+            {
+                start, end
+            };
+        }
+
+        int [] repeat(int [] a, char quantifier)
+        {
+            final int start = newState();
+            final int end = newState();
+            epsilon(start, a[0]);
+            epsilon(a[1], end);
+            if (quantifier != '+')
+            {
+                epsilon(start, end);
+            }
+            if (quantifier != '?')
+            {
+                epsilon(a[1], a[0]);
+            }
+            return new int []
+            {
+                start, end
+            };
+        }
+    }
+
+    /**
+     * Parses a regular expression into a fragment of an {@link Nfa}. Throws
+     * {@link UnsupportedPatternException} for unsupported constructs.
+     */
+    private static final class Parser
+    {
+        private final String pattern;
+        private final Nfa nfa;
+        private int position;
+        private boolean caseInsensitive;
+
+        Parser(String pattern, Nfa nfa)
+        {
+            this.pattern = pattern;
+            this.nfa = nfa;
+        }
+
+        int [] parse() throws UnsupportedPatternException
+        {
+            final int [] fragment = alternatives();
+            if (position < pattern.length())
+            {
+                throw new UnsupportedPatternException();
+            }
+            return fragment;
+        }
+
+        private int [] alternatives() throws UnsupportedPatternException
+        {
+            int [] fragment = sequence();
+            while (position < pattern.length() && pattern.charAt(position) == '|')
+            {
+                position++;
+                fragment = nfa.alternative(fragment, sequence());
+            }
+            return fragment;
+        }
+
+        private int [] sequence() throws UnsupportedPatternException
+        {
+            int [] fragment = nfa.empty();
+            while (position < pattern.length() && pattern.charAt(position) != '|'
+                && pattern.charAt(position) != ')')
+            {
+                if (pattern.startsWith("(?i)", position))
+                {
+                    // Applies until the end of the enclosing group
+                    caseInsensitive = true;
+                    position += 4;
+                    continue;
+                }
+
+                fragment = nfa.concatenate(fragment, quantified());
+            }
+            return fragment;
+        }
+
+        private int [] quantified() throws UnsupportedPatternException
+        {
+            int [] fragment = atom();
+            while (position < pattern.length())
+            {
+                final char quantifier = pattern.charAt(position);
+                if (quantifier != '*' && quantifier != '+' && quantifier != '?')
+                {
+                    break;
+                }
+                position++;
+
+                if (position < pattern.length() && pattern.charAt(position) == '+')
+                {
+                    // Possessive quantifiers
+                    throw new UnsupportedPatternException();
+                }
+                if (position < pattern.length() && pattern.charAt(position) == '?')
+                {
+                    // Reluctant quantifiers accept the same inputs as greedy ones
+                    position++;
+                }
+                fragment = nfa.repeat(fragment, quantifier);
+            }
+            return fragment;
+        }
+
+        private int [] atom() throws UnsupportedPatternException
+        {
+            final char c = pattern.charAt(position++);
+            switch (c)
+            {
+                case '(':
+                    return group();
+
+                case '.':
+                    return nfa.characters(DOT);
+
+                case '\\':
+                    return escape();
+
+                case '[':
+                case ']':
+                case '{':
+                case '}':
+                case '^':
+                case '$':
+                case '*':
+                case '+':
+                case '?':
+                    throw new UnsupportedPatternException();
+
+                default:
+                    if (Character.isSurrogate(c))
+                    {
+                        throw new UnsupportedPatternException();
+                    }
+                    return literal(c);
+            }
+        }
+
+        private int [] group() throws UnsupportedPatternException
+        {
+            final boolean outerCaseInsensitive = caseInsensitive;
+            if (pattern.startsWith("?:", position))
+            {
+                position += 2;
+            }
+            else if (pattern.startsWith("?i:", position))
+            {
+                position += 3;
+                caseInsensitive = true;
+            }
+            else if (position < pattern.length() && pattern.charAt(position) == '?')
+            {
+                throw new UnsupportedPatternException();
+            }
+
+            final int [] fragment = alternatives();
+            if (position >= pattern.length() || pattern.charAt(position) != ')')
+            {
+                throw new UnsupportedPatternException();
+            }
+            position++;
+
+            caseInsensitive = outerCaseInsensitive;
+            return fragment;
+        }
+
+        private int [] escape() throws UnsupportedPatternException
+        {
+            if (position >= pattern.length())
+            {
+                throw new UnsupportedPatternException();
+            }
+
+            final char c = pattern.charAt(position++);
+            switch (c)
+            {
+                case 'd':
+                    return nfa.characters(DIGIT);
+                case 'D':
+                    return nfa.characters(complement(DIGIT));
+                case 's':
+                    return nfa.characters(WHITESPACE);
+                case 'S':
+                    return nfa.characters(complement(WHITESPACE));
+                case 'w':
+                    return nfa.characters(WORD);
+                case 'W':
+                    return nfa.characters(complement(WORD));
+                case 't':
+                    return literal('\t');
+                case 'n':
+                    return literal('\n');
+                case 'r':
+                    return literal('\r');
+                case 'f':
+                    return literal('\f');
+                default:
+                    if (c < 128 && !Character.isLetterOrDigit(c))
+                    {
+                        return literal(c);
+                    }
+                    throw new UnsupportedPatternException();
+            }
+        }
+
+        private int [] literal(char c)
+        {
+            if (caseInsensitive && c < 128 && Character.isLetter(c))
+            {
+                final char lower = Character.toLowerCase(c);
+                final char upper = Character.toUpperCase(c);
+                return nfa.characters(new int []
+                {
+                    upper, upper, lower, lower
+                });
+            }
+
+            return nfa.characters(new int []
+            {
+                c, c
+            });
+        }
+
+        private static int [] complement(int [] ranges)
+        {
+            final IntArrayList result = new IntArrayList();
+            int next = 0;
+            for (int i = 0; i < ranges.length; i += 2)
+            {
+                if (ranges[i] > next)
+                {
+                    result.add(next, ranges[i] - 1);
+                }
+                next = ranges[i + 1] + 1;
+            }
+            if (next <= 0xffff)
+            {
+                result.add(next, 0xffff);
+            }
+            return result.toArray();
+        }
+    }
+
+    /**
+     * A deterministic automaton built from an {@link Nfa} using subset construction.
+     */
+    private static final class Dfa
+    {
+        final int [] classStarts;
+        final IntArrayList transitions = new IntArrayList();
+        final boolean [] accepting;
+
+        Dfa(Nfa nfa) throws UnsupportedPatternException
+        {
+            // Partition the alphabet into classes of characters with equal transitions
+            final TreeSet<Integer> boundaries = new TreeSet<Integer>();
+            boundaries.add(0);
+            for (int [] ranges : nfa.ranges)
+            {
+                if (ranges != null)
+                {
+                    for (int i = 0; i < ranges.length; i += 2)
+                    {
+                        boundaries.add(ranges[i]);
+                        boundaries.add(ranges[i + 1] + 1);
+                    }
+                }
+            }
+            boundaries.remove(0x10000);
+
+            classStarts = new int [boundaries.size()];
+            int k = 0;
+            for (Integer boundary : boundaries)
+            {
+                classStarts[k++] = boundary;
+            }
+            final int classCount = classStarts.length;
+
+            // Character classes on which each NFA state has a transition
+            final BitSet [] stateClasses = new BitSet [nfa.size()];
+            for (int state = 0; state < nfa.size(); state++)
+            {
+                final int [] ranges = nfa.ranges.get(state);
+                if (ranges != null)
+                {
+                    stateClasses[state] = new BitSet(classCount);
+                    for (int i = 0; i < ranges.length; i += 2)
+                    {
+                        stateClasses[state].set(Arrays.binarySearch(classStarts,
+                            ranges[i]), index(ranges[i + 1] + 1));
+                    }
+                }
+            }
+
+            // Subset construction, state 0 is the dead state
+            final HashMap<BitSet, Integer> states = new HashMap<BitSet, Integer>();
+            final ArrayList<BitSet> subsets = new ArrayList<BitSet>();
+            final BitSet dead = new BitSet();
+            states.put(dead, 0);
+            subsets.add(dead);
+            final BitSet start = new BitSet();
+            start.set(Nfa.START);
+            closure(nfa, start);
+            states.put(start, START);
+            subsets.add(start);
+
+            for (int state = 0; state < subsets.size(); state++)
+            {
+                final BitSet subset = subsets.get(state);
+                for (int c = 0; c < classCount; c++)
+                {
+                    final BitSet next = new BitSet();
+                    for (int s = subset.nextSetBit(0); s >= 0; s = subset
+                        .nextSetBit(s + 1))
+                    {
+                        if (stateClasses[s] != null && stateClasses[s].get(c))
+                        {
+                            next.set(nfa.targets.get(s));
+                        }
+                    }
+                    closure(nfa, next);
+
+                    Integer target = states.get(next);
+                    if (target == null)
+                    {
+                        if ((long) (subsets.size() + 1) * classCount > MAX_TRANSITIONS)
+                        {
+                            throw new UnsupportedPatternException();
+                        }
+                        target = subsets.size();
+                        states.put(next, target);
+                        subsets.add(next);
+                    }
+                    transitions.add(target);
+                }
+            }
+
+            accepting = new boolean [subsets.size()];
+            for (int state = 0; state < subsets.size(); state++)
+            {
+                accepting[state] = subsets.get(state).intersects(nfa.accepting);
+            }
+        }
+
+        private int index(int characterBoundary)
+        {
+            return characterBoundary > 0xffff ? classStarts.length : Arrays.binarySearch(
+                classStarts, characterBoundary);
+        }
+
+        private static void closure(Nfa nfa, BitSet subset)
+        {
+            final IntArrayList stack = new IntArrayList();
+            for (int s = subset.nextSetBit(0); s >= 0; s = subset.nextSetBit(s + 1))
+            {
+                stack.add(s);
+            }
+
+            while (stack.size() > 0)
+            {
+                final IntArrayList epsilons = nfa.epsilons.get(stack.remove(stack.size() - 1));
+                for (int i = 0; i < epsilons.size(); i++)
+                {
+                    final int target = epsilons.get(i);
+                    if (!subset.get(target))
+                    {
+                        subset.set(target);
+                        stack.add(target);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Thrown when an expression or a set of expressions cannot be compiled into the
+     * automaton, in which case the expressions are matched with regular expressions.
+     */
+    @SuppressWarnings("serial")
+    private static final class UnsupportedPatternException extends Exception
+    {
+    }
+}
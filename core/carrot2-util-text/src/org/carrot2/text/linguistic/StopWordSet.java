@@ -0,0 +1,320 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.linguistic;
+
+import java.util.*;
+
+import org.carrot2.text.util.MutableCharArray;
+
+/**
+ * An immutable, case-insensitive set of words stored in a minimal perfect hash. Characters
+ * of all words are kept in one array, ordered by their hash slot, so the set needs one
+ * <code>int</code> offset per word and one <code>int</code> displacement per four words
+ * on top of the characters themselves. Lookups fold the case of the looked up characters
+ * on the fly (character-by-character, using {@link Character#toLowerCase(char)}), so no
+ * lower-cased copy of a word needs to be made.
+ * <p>
+ * The hash function is built using the hash-and-displace method: words are first
+ * distributed into small buckets, then, starting from the largest bucket, a displacement
+ * is found for each bucket that maps all its words to slots not occupied by words from
+ * other buckets. A lookup computes the hash of a word, takes the displacement of its
+ * bucket, and compares the word with the only candidate stored at the resulting slot.
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+final class StopWordSet
+{
+    /**
+     * An empty set.
+     */
+    static final StopWordSet EMPTY = new StopWordSet(Collections.<String> emptyList());
+
+    /**
+     * The average number of words per bucket.
+     */
+    private static final int BUCKET_SIZE = 4;
+
+    /**
+     * The maximum displacement to try for a single bucket before a new hash seed is
+     * chosen.
+     */
+    private static final int MAX_DISPLACEMENT = 1 << 20;
+
+    /**
+     * Seed of the hash function.
+     */
+    private final long seed;
+
+    /**
+     * Lower-cased characters of all words, in the order of their slots.
+     */
+    private final char [] chars;
+
+    /**
+     * Offsets of words in {@link #chars}, indexed by slot. The last element contains the
+     * total number of characters.
+     */
+    private final int [] offsets;
+
+    /**
+     * Displacement of each bucket.
+     */
+    private final int [] displacements;
+
+    /**
+     * Creates a set of the provided words. Duplicates (after case folding) are allowed.
+     */
+    StopWordSet(Collection<? extends CharSequence> words)
+    {
+        final LinkedHashSet<String> unique = new LinkedHashSet<String>();
+        for (CharSequence word : words)
+        {
+            final char [] folded = new char [word.length()];
+            for (int i = 0; i < folded.length; i++)
+            {
+                folded[i] = Character.toLowerCase(word.charAt(i));
+            }
+            unique.add(new String(folded));
+        }
+
+        final String [] keys = unique.toArray(new String [unique.size()]);
+        final int [] bucketDisplacements = new int [Math.max(1, (keys.length
+            + BUCKET_SIZE - 1)
+            / BUCKET_SIZE)];
+        final int [] slots = new int [keys.length];
+
+        long candidateSeed = 0;
+        while (!build(keys, candidateSeed, bucketDisplacements, slots))
+        {
+            candidateSeed++;
+        }
+
+        this.seed = candidateSeed;
+        this.displacements = bucketDisplacements;
+
+        // Lay out the words in slot order
+        final String [] bySlot = new String [keys.length];
+        int totalLength = 0;
+        for (int i = 0; i < keys.length; i++)
+        {
+            bySlot[slots[i]] = keys[i];
+            totalLength += keys[i].length();
+        }
+
+        this.chars = new char [totalLength];
+        this.offsets = new int [keys.length + 1];
+        int offset = 0;
+        for (int slot = 0; slot < bySlot.length; slot++)
+        {
+            offsets[slot] = offset;
+            bySlot[slot].getChars(0, bySlot[slot].length(), chars, offset);
+            offset += bySlot[slot].length();
+        }
+        offsets[bySlot.length] = offset;
+    }
+
+    /**
+     * Creates a set containing words from all the provided sets.
+     */
+    static StopWordSet union(Collection<StopWordSet> sets)
+    {
+        final List<String> words = new ArrayList<String>();
+        for (StopWordSet set : sets)
+        {
+            for (int slot = 0; slot < set.size(); slot++)
+            {
+                words.add(new String(set.chars, set.offsets[slot], set.offsets[slot + 1]
+                    - set.offsets[slot]));
+            }
+        }
+        return new StopWordSet(words);
+    }
+
+    /**
+     * Returns the number of words in this set.
+     */
+    int size()
+    {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Returns <code>true</code> if this set contains the word stored in
+     * <code>buffer</code> at <code>start</code>, <code>length</code> characters long,
+     * ignoring case.
+     */
+    boolean contains(char [] buffer, int start, int length)
+    {
+        final int size = offsets.length - 1;
+        if (size == 0)
+        {
+            return false;
+        }
+
+        long hash = seed;
+        for (int i = start; i < start + length; i++)
+        {
+            hash = (hash ^ Character.toLowerCase(buffer[i])) * 0x100000001b3L;
+        }
+        hash = mix(hash);
+
+        final int slot = slot(hash, displacements[bucket(hash, displacements.length)],
+            size);
+        final int offset = offsets[slot];
+        if (offsets[slot + 1] - offset != length)
+        {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++)
+        {
+            if (chars[offset + i] != Character.toLowerCase(buffer[start + i]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if this set contains the provided word, ignoring case.
+     */
+    boolean contains(MutableCharArray word)
+    {
+        return contains(word.getBuffer(), word.getStart(), word.length());
+    }
+
+    /**
+     * Tries to find displacements for all buckets with the provided seed. Saves bucket
+     * displacements and the slot of each key to the provided arrays.
+     *
+     * @return <code>false</code> if no displacements could be found for this seed
+     */
+    private static boolean build(String [] keys, long seed, int [] bucketDisplacements,
+        int [] slots)
+    {
+        final int bucketCount = bucketDisplacements.length;
+        final long [] hashes = new long [keys.length];
+        final int [] bucketSizes = new int [bucketCount];
+        for (int i = 0; i < keys.length; i++)
+        {
+            long hash = seed;
+            final String key = keys[i];
+            for (int j = 0; j < key.length(); j++)
+            {
+                hash = (hash ^ key.charAt(j)) * 0x100000001b3L;
+            }
+            hashes[i] = mix(hash);
+            bucketSizes[bucket(hashes[i], bucketCount)]++;
+        }
+
+        // Group keys by bucket
+        final int [] bucketStarts = new int [bucketCount + 1];
+        for (int b = 0; b < bucketCount; b++)
+        {
+            bucketStarts[b + 1] = bucketStarts[b] + bucketSizes[b];
+        }
+        final int [] bucketKeys = new int [keys.length];
+        final int [] fill = Arrays.copyOf(bucketStarts, bucketCount);
+        for (int i = 0; i < keys.length; i++)
+        {
+            bucketKeys[fill[bucket(hashes[i], bucketCount)]++] = i;
+        }
+
+        // Place largest buckets first
+        final Integer [] order = new Integer [bucketCount];
+        for (int b = 0; b < bucketCount; b++)
+        {
+            order[b] = b;
+        }
+        Arrays.sort(order, new Comparator<Integer>()
+        {
+            public int compare(Integer a, Integer b)
+            {
+                return bucketSizes[b] - bucketSizes[a];
+            }
+        });
+
+        final BitSet taken = new BitSet(keys.length);
+        final int [] candidateSlots = new int [BUCKET_SIZE * 8];
+        for (Integer bucket : order)
+        {
+            final int from = bucketStarts[bucket];
+            final int size = bucketSizes[bucket];
+            if (size > candidateSlots.length)
+            {
+                // Very unlikely with a decent hash, try another seed
+                return false;
+            }
+
+            int displacement = 0;
+            displacements: for (; displacement < MAX_DISPLACEMENT; displacement++)
+            {
+                for (int i = 0; i < size; i++)
+                {
+                    final int slot = slot(hashes[bucketKeys[from + i]], displacement,
+                        keys.length);
+                    if (taken.get(slot))
+                    {
+                        continue displacements;
+                    }
+                    for (int j = 0; j < i; j++)
+                    {
+                        if (candidateSlots[j] == slot)
+                        {
+                            continue displacements;
+                        }
+                    }
+                    candidateSlots[i] = slot;
+                }
+                break;
+            }
+
+            if (displacement == MAX_DISPLACEMENT)
+            {
+                return false;
+            }
+
+            bucketDisplacements[bucket] = displacement;
+            for (int i = 0; i < size; i++)
+            {
+                taken.set(candidateSlots[i]);
+                slots[bucketKeys[from + i]] = candidateSlots[i];
+            }
+        }
+
+        return true;
+    }
+
+    private static int bucket(long hash, int bucketCount)
+    {
+        return (int) ((hash >>> 33) % bucketCount);
+    }
+
+    private static int slot(long hash, int displacement, int size)
+    {
+        return (int) ((mix(hash + displacement * 0x9e3779b97f4a7c15L) >>> 1) % size);
+    }
+
+    /**
+     * A 64-bit finalizer spreading bits of the hash.
+     */
+    private static long mix(long hash)
+    {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -19,6 +19,7 @@ import org.carrot2.text.analysis.ITokenizer;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllTokens;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllWords;
 import org.carrot2.text.util.CharArrayComparators;
+import org.carrot2.text.util.CharArrayDictionary;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.Bindable;
 import org.carrot2.util.attribute.Input;
@@ -29,6 +30,7 @@ import com.carrotsearch.hppc.ByteArrayList;
 import com.carrotsearch.hppc.IntArrayList;
 import com.carrotsearch.hppc.IntStack;
 import com.carrotsearch.hppc.ShortArrayList;
+import com.carrotsearch.hppc.sorting.IndirectComparator;
 import com.carrotsearch.hppc.sorting.IndirectSort;
 import com.google.common.collect.Lists;
 
@@ -67,21 +69,67 @@ public final class CaseNormalizer
     @IntRange(min = 1, max = 100)
     public int dfThreshold = 1;
 
+    /**
+     * Groups case variants of words using hashing instead of sorting. When this option
+     * is enabled, case variants are grouped and counted in a single pass over the input
+     * tokens and only the resulting words are sorted, which is faster for large inputs.
+     * Both grouping methods produce identical results.
+     * 
+     * @level Advanced
+     * @group Preprocessing
+     * @label Hash-based case normalization
+     */
+    @Processing
+    @Input
+    @Attribute
+    public boolean hashGrouping = false;
+
     /**
      * Performs normalization and saves the results to the <code>context</code>.
      */
     public void normalize(PreprocessingContext context)
+    {
+        if (hashGrouping)
+        {
+            normalizeByHashing(context);
+        }
+        else
+        {
+            normalizeBySorting(context);
+        }
+    }
+
+    /**
+     * Groups case variants of words by sorting all tokens by their images.
+     */
+    private void normalizeBySorting(PreprocessingContext context)
     {
         // Local references to already existing arrays
-        final char [][] tokenImages = context.allTokens.image;
+        final CharArrayDictionary images = context.tokenImages;
+        final int [] imageIds = context.allTokens.imageId;
         final short [] tokenTypesArray = context.allTokens.type;
         final int [] documentIndexesArray = context.allTokens.documentIndex;
         final byte [] tokensFieldIndex = context.allTokens.fieldIndex;
-        final int tokenCount = tokenImages.length;
+        final int tokenCount = imageIds.length;
 
-        // Sort token images
-        final int [] tokenImagesOrder = IndirectSort.sort(tokenImages, 0,
-            tokenImages.length, CharArrayComparators.NORMALIZING_CHAR_ARRAY_COMPARATOR);
+        // Sort unique token images and assign case-insensitive groups to them
+        final int imageCount = images.size();
+        final int [] imagesOrder = IndirectSort.sort(0, imageCount,
+            new ImageComparator(images));
+        final int [] imageRanks = new int [imageCount];
+        final int [] caseGroups = new int [imageCount];
+        for (int i = 0; i < imageCount; i++)
+        {
+            imageRanks[imagesOrder[i]] = i;
+            if (i > 0)
+            {
+                caseGroups[i] = caseGroups[i - 1]
+                    + (sameIgnoringCase(images, imagesOrder[i - 1], imagesOrder[i]) ? 0 : 1);
+            }
+        }
+
+        // Sort tokens by the rank of their images, tokens with no image come last
+        final int [] tokenImagesOrder = sortByRank(imageIds, imageRanks);
 
         // Create holders for new arrays
         final List<char []> normalizedWordImages = Lists.newArrayList();
@@ -114,13 +162,15 @@ public final class CaseNormalizer
         // Go through the ordered token images
         for (int i = 0; i < tokenImagesOrder.length - 1; i++)
         {
-            final char [] image = tokenImages[tokenImagesOrder[i]];
-            final char [] nextImage = tokenImages[tokenImagesOrder[i + 1]];
-            final int tokenType = tokenTypesArray[tokenImagesOrder[i]];
-            final int documentIndex = documentIndexesArray[tokenImagesOrder[i + 1]];
+            final int token = tokenImagesOrder[i];
+            final int nextToken = tokenImagesOrder[i + 1];
+            final int imageId = imageIds[token];
+            final int nextImageId = imageIds[nextToken];
+            final int tokenType = tokenTypesArray[token];
+            final int documentIndex = documentIndexesArray[nextToken];
 
             // Reached the end of non-null tokens?
-            if (image == null)
+            if (imageId < 0)
             {
                 break;
             }
@@ -139,8 +189,7 @@ public final class CaseNormalizer
             fieldIndices.set(tokensFieldIndex[tokenImagesOrder[i]]);
 
             // Now check if image case is changing
-            final boolean sameCase = CharArrayComparators.FAST_CHAR_ARRAY_COMPARATOR
-                .compare(image, nextImage) == 0;
+            final boolean sameCase = imageId == nextImageId;
             if (sameCase)
             {
                 // Case has not changed, just increase counters
@@ -159,8 +208,8 @@ public final class CaseNormalizer
                 tf = 1;
             }
 
-            final boolean sameImage = CharArrayComparators.CASE_INSENSITIVE_CHAR_ARRAY_COMPARATOR
-                .compare(image, nextImage) == 0;
+            final boolean sameImage = nextImageId >= 0
+                && caseGroups[imageRanks[imageId]] == caseGroups[imageRanks[nextImageId]];
 
             // Check if token image has changed
             if (sameImage)
@@ -187,7 +236,8 @@ public final class CaseNormalizer
                         wordTfByDocumentList.add(sparseEncoding);
     
                         // Add the word to the word list
-                        normalizedWordImages.add(tokenImages[maxTfVariantIndex]);
+                        normalizedWordImages.add(images
+                            .toCharArray(imageIds[maxTfVariantIndex]));
                         types.add(tokenTypesArray[maxTfVariantIndex]);
                         normalizedWordTf.add(totalTf);
                         fieldIndexList.add((byte) fieldIndices.bits[0]);
@@ -226,6 +276,294 @@ public final class CaseNormalizer
         context.allWords.type = types.toArray();
     }
 
+    /**
+     * Groups case variants of words using a hash map of case-folded images.
+     */
+    private void normalizeByHashing(PreprocessingContext context)
+    {
+        // Local references to already existing arrays
+        final CharArrayDictionary images = context.tokenImages;
+        final int [] imageIds = context.allTokens.imageId;
+        final short [] tokenTypesArray = context.allTokens.type;
+        final int [] documentIndexesArray = context.allTokens.documentIndex;
+        final byte [] tokensFieldIndex = context.allTokens.fieldIndex;
+        final int tokenCount = imageIds.length;
+        final int imageCount = images.size();
+
+        // Assign case-insensitive groups to unique token images
+        final CharArrayDictionary foldedImages = new CharArrayDictionary(imageCount,
+            images.getBuffer().length);
+        final int [] imageGroups = new int [imageCount];
+        char [] buffer = new char [32];
+        for (int i = 0; i < imageCount; i++)
+        {
+            final int length = images.getLength(i);
+            if (buffer.length < length)
+            {
+                buffer = new char [length];
+            }
+            final char [] imageBuffer = images.getBuffer();
+            final int offset = images.getOffset(i);
+            for (int j = 0; j < length; j++)
+            {
+                buffer[j] = Character.toLowerCase(imageBuffer[offset + j]);
+            }
+            imageGroups[i] = foldedImages.add(buffer, 0, length);
+        }
+        final int groupCount = foldedImages.size();
+
+        // Count frequencies of images and groups in one pass over the tokens. Tokens come
+        // in the order of documents, so each group's documents are counted as runs.
+        final int [] imageTf = new int [imageCount];
+        final int [] imageLastToken = new int [imageCount];
+        final int [] groupTf = new int [groupCount];
+        final int [] groupDf = new int [groupCount];
+        final byte [] groupFields = new byte [groupCount];
+        final int [] groupLastDocument = new int [groupCount];
+        Arrays.fill(groupLastDocument, -1);
+        for (int t = 0; t < tokenCount; t++)
+        {
+            final int imageId = imageIds[t];
+            if (imageId < 0 || isNotIndexed(tokenTypesArray[t]))
+            {
+                continue;
+            }
+
+            imageTf[imageId]++;
+            imageLastToken[imageId] = t;
+
+            final int group = imageGroups[imageId];
+            groupTf[group]++;
+            groupFields[group] |= (byte) (1 << tokensFieldIndex[t]);
+            if (groupLastDocument[group] != documentIndexesArray[t])
+            {
+                groupLastDocument[group] = documentIndexesArray[t];
+                groupDf[group]++;
+            }
+        }
+
+        // Select groups that meet the df threshold and order them in the same way as
+        // the sorting-based normalization would
+        final IntArrayList selectedGroups = new IntArrayList();
+        for (int g = 0; g < groupCount; g++)
+        {
+            if (groupDf[g] > 0 && groupDf[g] >= dfThreshold)
+            {
+                selectedGroups.add(g);
+            }
+        }
+        final int wordCount = selectedGroups.size();
+        final int [] groups = selectedGroups.toArray();
+        final int [] groupsOrder = IndirectSort.sort(0, wordCount, new IndirectComparator()
+        {
+            final ImageComparator comparator = new ImageComparator(foldedImages);
+
+            public int compare(int a, int b)
+            {
+                return comparator.compare(groups[a], groups[b]);
+            }
+        });
+        final int [] groupWords = new int [groupCount];
+        Arrays.fill(groupWords, -1);
+        for (int i = 0; i < wordCount; i++)
+        {
+            groupWords[groups[groupsOrder[i]]] = i;
+        }
+
+        // Collect case variants of each word, in the order of their images
+        final int [] variantStarts = new int [wordCount + 1];
+        for (int i = 0; i < imageCount; i++)
+        {
+            final int word = groupWords[imageGroups[i]];
+            if (imageTf[i] > 0 && word >= 0)
+            {
+                variantStarts[word + 1]++;
+            }
+        }
+        for (int i = 1; i <= wordCount; i++)
+        {
+            variantStarts[i] += variantStarts[i - 1];
+        }
+        final int [] variants = new int [variantStarts[wordCount]];
+        final int [] variantPositions = Arrays.copyOf(variantStarts, wordCount);
+        for (int i = 0; i < imageCount; i++)
+        {
+            final int word = groupWords[imageGroups[i]];
+            if (imageTf[i] > 0 && word >= 0)
+            {
+                variants[variantPositions[word]++] = i;
+            }
+        }
+
+        // Create word arrays
+        final char [][] wordImages = new char [wordCount] [];
+        final int [] wordTf = new int [wordCount];
+        final int [][] wordTfByDocument = new int [wordCount] [];
+        final byte [] wordFieldIndices = new byte [wordCount];
+        final short [] wordTypes = new short [wordCount];
+        final ImageComparator variantComparator = new ImageComparator(images);
+        for (int w = 0; w < wordCount; w++)
+        {
+            final int group = groups[groupsOrder[w]];
+            final int from = variantStarts[w];
+            final int to = variantStarts[w + 1];
+            if (to - from > 1)
+            {
+                sortVariants(variants, from, to, variantComparator);
+            }
+
+            // Select the most frequent variant, resolving ties in exactly the same way
+            // as the sorting-based normalization does.
+            int tf = imageTf[variants[from]];
+            int maxTf = 1;
+            int maxTfVariant = variants[from];
+            for (int v = from + 1; v < to; v++)
+            {
+                if (maxTf < tf)
+                {
+                    maxTf = tf;
+                    maxTfVariant = variants[v - 1];
+                    tf = 1;
+                }
+                tf += imageTf[variants[v]] - 1;
+            }
+            if (maxTf < tf)
+            {
+                maxTfVariant = variants[to - 1];
+            }
+
+            wordImages[w] = images.toCharArray(maxTfVariant);
+            wordTypes[w] = tokenTypesArray[imageLastToken[maxTfVariant]];
+            wordTf[w] = groupTf[group];
+            wordFieldIndices[w] = groupFields[group];
+            wordTfByDocument[w] = new int [groupDf[group] * 2];
+        }
+
+        // Fill in per-document frequencies and word indices of tokens
+        final int [] wordIndexes = new int [tokenCount];
+        Arrays.fill(wordIndexes, -1);
+        final int [] postingPositions = new int [wordCount];
+        for (int t = 0; t < tokenCount; t++)
+        {
+            final int imageId = imageIds[t];
+            if (imageId < 0 || isNotIndexed(tokenTypesArray[t]))
+            {
+                continue;
+            }
+
+            final int word = groupWords[imageGroups[imageId]];
+            if (word < 0)
+            {
+                continue;
+            }
+            wordIndexes[t] = word;
+
+            final int [] postings = wordTfByDocument[word];
+            final int position = postingPositions[word];
+            if (position > 0 && postings[position - 2] == documentIndexesArray[t])
+            {
+                postings[position - 1]++;
+            }
+            else
+            {
+                postings[position] = documentIndexesArray[t];
+                postings[position + 1] = 1;
+                postingPositions[word] = position + 2;
+            }
+        }
+
+        // Mapping from allTokens
+        context.allTokens.wordIndex = wordIndexes;
+
+        context.allWords.image = wordImages;
+        context.allWords.tf = wordTf;
+        context.allWords.tfByDocument = wordTfByDocument;
+        context.allWords.fieldIndices = wordFieldIndices;
+        context.allWords.type = wordTypes;
+    }
+
+    /**
+     * Sorts a (usually very short) range of image ids using insertion sort.
+     */
+    private static void sortVariants(int [] variants, int from, int to,
+        IndirectComparator comparator)
+    {
+        for (int i = from + 1; i < to; i++)
+        {
+            final int variant = variants[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(variants[j], variant) > 0)
+            {
+                variants[j + 1] = variants[j];
+                j--;
+            }
+            variants[j + 1] = variant;
+        }
+    }
+
+    /**
+     * Returns token indices ordered by the rank of their images, tokens with no image
+     * come last. Tokens with equal images remain in the order of appearance.
+     */
+    private static int [] sortByRank(int [] imageIds, int [] imageRanks)
+    {
+        // Counting sort, the last bucket is for tokens with no image
+        final int [] bucketStarts = new int [imageRanks.length + 2];
+        for (int i = 0; i < imageIds.length; i++)
+        {
+            final int imageId = imageIds[i];
+            bucketStarts[(imageId < 0 ? imageRanks.length : imageRanks[imageId]) + 1]++;
+        }
+        for (int i = 1; i < bucketStarts.length; i++)
+        {
+            bucketStarts[i] += bucketStarts[i - 1];
+        }
+
+        final int [] order = new int [imageIds.length];
+        for (int i = 0; i < imageIds.length; i++)
+        {
+            final int imageId = imageIds[i];
+            order[bucketStarts[imageId < 0 ? imageRanks.length : imageRanks[imageId]]++] = i;
+        }
+
+        return order;
+    }
+
+    /**
+     * Returns <code>true</code> if images with the provided ids are equal when compared
+     * in a case-insensitive manner.
+     */
+    private static boolean sameIgnoringCase(CharArrayDictionary images, int imageA,
+        int imageB)
+    {
+        final int length = images.getLength(imageA);
+        return length == images.getLength(imageB)
+            && CharArrayComparators.compareCaseInsensitive(images.getBuffer(), images
+                .getOffset(imageA), length, images.getBuffer(), images.getOffset(imageB),
+                length) == 0;
+    }
+
+    /**
+     * Orders images in a {@link CharArrayDictionary} in the same way as
+     * {@link CharArrayComparators#NORMALIZING_CHAR_ARRAY_COMPARATOR}.
+     */
+    private static final class ImageComparator implements IndirectComparator
+    {
+        private final CharArrayDictionary images;
+
+        ImageComparator(CharArrayDictionary images)
+        {
+            this.images = images;
+        }
+
+        public int compare(int a, int b)
+        {
+            final char [] buffer = images.getBuffer();
+            return CharArrayComparators.compareNormalizing(buffer, images.getOffset(a),
+                images.getLength(a), buffer, images.getOffset(b), images.getLength(b));
+        }
+    }
+
     /**
      * Initializes the counters for the a token image.
      */
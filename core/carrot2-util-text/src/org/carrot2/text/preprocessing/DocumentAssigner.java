@@ -17,16 +17,16 @@ import java.util.ArrayList;
 import org.carrot2.core.attribute.Processing;
 import org.carrot2.text.analysis.TokenTypeUtils;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllLabels;
+import org.carrot2.util.SortedIntSet;
 import org.carrot2.util.attribute.*;
 import org.carrot2.util.attribute.constraint.IntRange;
 
-import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.IntArrayList;
 import com.google.common.collect.Lists;
 
 /**
  * Assigns document to label candidates. For each label candidate from
- * {@link AllLabels#featureIndex} an {@link BitSet} with the assigned documents is
+ * {@link AllLabels#featureIndex} a {@link SortedIntSet} with the assigned documents is
  * constructed. The assignment algorithm is rather simple: in order to be assigned to a
  * label, a document must contain at least one occurrence of each non-stop word from the
  * label.
@@ -85,58 +85,57 @@ public class DocumentAssigner
         final int [][] phrasesTfByDocument = context.allPhrases.tfByDocument;
         final int [][] phrasesWordIndices = context.allPhrases.wordIndices;
         final int wordCount = wordsStemIndex.length;
-        final int documentCount = context.documents.size();
 
-        final BitSet [] labelsDocumentIndices = new BitSet [labelsFeatureIndex.length];
+        final SortedIntSet [] labelsDocumentIndices = new SortedIntSet [labelsFeatureIndex.length];
+
+        // Documents of each stem, created on demand
+        final SortedIntSet [] stemsDocumentIndices = new SortedIntSet [stemsTfByDocument.length];
+        final IntArrayList buffer = new IntArrayList();
 
         for (int i = 0; i < labelsFeatureIndex.length; i++)
         {
-            final BitSet documentIndices = new BitSet(documentCount);
+            SortedIntSet documentIndices = null;
 
             final int featureIndex = labelsFeatureIndex[i];
             if (featureIndex < wordCount)
             {
-                addTfByDocumentToBitSet(documentIndices,
-                    stemsTfByDocument[wordsStemIndex[featureIndex]]);
+                documentIndices = getStemDocuments(wordsStemIndex[featureIndex],
+                    stemsTfByDocument, stemsDocumentIndices, buffer);
             }
             else
             {
                 final int phraseIndex = featureIndex - wordCount;
                 if (exactPhraseAssignment)
                 {
-                    addTfByDocumentToBitSet(documentIndices,
-                        phrasesTfByDocument[phraseIndex]);
+                    documentIndices = toDocumentSet(phrasesTfByDocument[phraseIndex],
+                        buffer);
                 }
                 else
                 {
                     final int [] wordIndices = phrasesWordIndices[phraseIndex];
-                    boolean firstAdded = false;
-
                     for (int j = 0; j < wordIndices.length; j++)
                     {
                         final int wordIndex = wordIndices[j];
                         if (!TokenTypeUtils.isCommon(wordsTypes[wordIndex]))
                         {
-                            if (!firstAdded)
+                            final SortedIntSet stemDocuments = getStemDocuments(
+                                wordsStemIndex[wordIndex], stemsTfByDocument,
+                                stemsDocumentIndices, buffer);
+                            if (documentIndices == null)
                             {
-                                addTfByDocumentToBitSet(documentIndices,
-                                    stemsTfByDocument[wordsStemIndex[wordIndex]]);
-                                firstAdded = true;
+                                documentIndices = stemDocuments;
                             }
                             else
                             {
-                                final BitSet temp = new BitSet(documentCount);
-                                addTfByDocumentToBitSet(temp,
-                                    stemsTfByDocument[wordsStemIndex[wordIndex]]);
-                                // .retainAll == set intersection
-                                documentIndices.and(temp);
+                                documentIndices = documentIndices.intersect(stemDocuments);
                             }
                         }
                     }
                 }
             }
 
-            labelsDocumentIndices[i] = documentIndices;
+            labelsDocumentIndices[i] = (documentIndices != null ? documentIndices
+                : SortedIntSet.EMPTY);
         }
 
         // Filter out labels that do not meet the minimum cluster size
@@ -144,19 +143,19 @@ public class DocumentAssigner
         {
             final IntArrayList newFeatureIndex = new IntArrayList(
                 labelsFeatureIndex.length);
-            final ArrayList<BitSet> newDocumentIndices = Lists
+            final ArrayList<SortedIntSet> newDocumentIndices = Lists
                 .newArrayListWithExpectedSize(labelsFeatureIndex.length);
 
             for (int i = 0; i < labelsFeatureIndex.length; i++)
             {
-                if (labelsDocumentIndices[i].cardinality() >= minClusterSize)
+                if (labelsDocumentIndices[i].size() >= minClusterSize)
                 {
                     newFeatureIndex.add(labelsFeatureIndex[i]);
                     newDocumentIndices.add(labelsDocumentIndices[i]);
                 }
             }
             context.allLabels.documentIndices = newDocumentIndices
-                .toArray(new BitSet [newDocumentIndices.size()]);
+                .toArray(new SortedIntSet [newDocumentIndices.size()]);
             context.allLabels.featureIndex = newFeatureIndex.toArray();
             LabelFilterProcessor.updateFirstPhraseIndex(context);
         }
@@ -166,12 +165,27 @@ public class DocumentAssigner
         }
     }
 
-    private static void addTfByDocumentToBitSet(final BitSet documentIndices,
-        final int [] tfByDocument)
+    /**
+     * Returns the set of documents of the provided stem, creating it if needed.
+     */
+    private static SortedIntSet getStemDocuments(int stemIndex, int [][] stemsTfByDocument,
+        SortedIntSet [] stemsDocumentIndices, IntArrayList buffer)
+    {
+        if (stemsDocumentIndices[stemIndex] == null)
+        {
+            stemsDocumentIndices[stemIndex] = toDocumentSet(stemsTfByDocument[stemIndex],
+                buffer);
+        }
+        return stemsDocumentIndices[stemIndex];
+    }
+
+    private static SortedIntSet toDocumentSet(int [] tfByDocument, IntArrayList buffer)
     {
+        buffer.clear();
         for (int j = 0; j < tfByDocument.length / 2; j++)
         {
-            documentIndices.set(tfByDocument[j * 2]);
+            buffer.add(tfByDocument[j * 2]);
         }
+        return SortedIntSet.fromUnsorted(buffer.buffer, buffer.size());
     }
 }
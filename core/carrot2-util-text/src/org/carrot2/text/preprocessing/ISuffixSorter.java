@@ -0,0 +1,36 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.preprocessing;
+
+import org.carrot2.text.preprocessing.PreprocessingContext.AllTokens;
+
+/**
+ * Sorts the suffixes of the token stream of a {@link PreprocessingContext}. Suffixes
+ * are compared based on {@link AllTokens#wordIndex} values, with every separator
+ * treated as a unique symbol, so that no common prefix can cross sentence, field or
+ * document boundaries.
+ * <p>
+ * Implementations save the following results to the {@link PreprocessingContext}:
+ * <ul>
+ * <li>{@link AllTokens#suffixOrder}</li>
+ * <li>{@link AllTokens#lcp}</li>
+ * </ul>
+ * 
+ * @see PhraseExtractor
+ */
+public interface ISuffixSorter
+{
+    /**
+     * Performs suffix sorting and saves the results to the <code>context</code>.
+     */
+    public void suffixSort(PreprocessingContext context);
+}
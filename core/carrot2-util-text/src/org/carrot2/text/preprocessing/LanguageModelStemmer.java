@@ -13,6 +13,7 @@
 package org.carrot2.text.preprocessing;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Set;
 
 import org.carrot2.text.analysis.ITokenizer;
@@ -20,12 +21,15 @@ import org.carrot2.text.linguistic.IStemmer;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllStems;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllWords;
 import org.carrot2.text.util.CharArrayComparators;
+import org.carrot2.text.util.CharArrayDictionary;
 import org.carrot2.text.util.MutableCharArray;
 import org.carrot2.util.CharArrayUtils;
 import org.carrot2.util.attribute.Bindable;
 
+import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.ByteArrayList;
 import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.sorting.IndirectComparator;
 import com.carrotsearch.hppc.sorting.IndirectSort;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -55,8 +59,9 @@ public final class LanguageModelStemmer
     {
         final IStemmer stemmer = context.language.getStemmer();
 
+        final CharArrayDictionary images = context.tokenImages;
         final char [][] wordImages = context.allWords.image;
-        final char [][] stemImages = new char [wordImages.length] [];
+        final int [] stemIds = new int [wordImages.length];
 
         final MutableCharArray mutableCharArray = new MutableCharArray(CharArrayUtils.EMPTY_ARRAY);
         char [] buffer = new char [128];
@@ -72,31 +77,40 @@ public final class LanguageModelStemmer
             final CharSequence stemmed = stemmer.stem(mutableCharArray);
             if (stemmed != null)
             {
-                mutableCharArray.reset(stemmed);
-                stemImages[i] = context.intern(mutableCharArray);
+                stemIds[i] = images.add(stemmed);
             }
             else
             {
                 // We need to put the original word here, otherwise, we wouldn't be able
                 // to compute frequencies for stems.
-                if (different)
-                    stemImages[i] = context.intern(mutableCharArray);
-                else
-                    stemImages[i] = word;
+                stemIds[i] = different ? images.add(mutableCharArray) : images.add(word,
+                    0, word.length);
             }
         }
 
-        addStemStatistics(context, stemImages, prepareQueryWords(context.query, stemmer));
+        addStemStatistics(context, stemIds, prepareQueryWords(context.query, stemmer));
     }
 
     /**
      * Adds frequency statistics to the stems.
      */
-    private void addStemStatistics(PreprocessingContext context,
-        char [][] wordStemImages, Set<MutableCharArray> queryStems)
+    private void addStemStatistics(PreprocessingContext context, int [] wordStemIds,
+        Set<MutableCharArray> queryStems)
     {
-        final int [] stemImagesOrder = IndirectSort.sort(wordStemImages, 0, wordStemImages.length,
-            CharArrayComparators.FAST_CHAR_ARRAY_COMPARATOR);
+        final CharArrayDictionary images = context.tokenImages;
+        final int [] stemImagesOrder = sortByStem(images, wordStemIds);
+
+        // Ids of query stems that appear in the input
+        final BitSet queryStemIds = new BitSet(images.size());
+        for (MutableCharArray queryStem : queryStems)
+        {
+            final int id = images.get(queryStem.getBuffer(), queryStem.getStart(),
+                queryStem.length());
+            if (id >= 0)
+            {
+                queryStemIds.set(id);
+            }
+        }
 
         // Local array references
         final int [] wordTfArray = context.allWords.tf;
@@ -142,17 +156,15 @@ public final class LanguageModelStemmer
         fieldIndices |= wordsFieldIndices[0];
 
         // For locating query words
-        final MutableCharArray buffer = new MutableCharArray(
-            wordStemImages[stemImagesOrder[0]]);
-        boolean inQuery = queryStems.contains(buffer);
+        boolean inQuery = queryStemIds.get(wordStemIds[stemImagesOrder[0]]);
 
         // Go through all words in the order of stem images
         for (int i = 0; i < stemImagesOrder.length - 1; i++)
         {
             final int orderIndex = stemImagesOrder[i];
-            final char [] stem = wordStemImages[orderIndex];
+            final int stem = wordStemIds[orderIndex];
             final int nextInOrderIndex = stemImagesOrder[i + 1];
-            final char [] nextStem = wordStemImages[nextInOrderIndex];
+            final int nextStem = wordStemIds[nextInOrderIndex];
 
             stemIndexesArray[orderIndex] = stemIndex;
             if (inQuery)
@@ -161,8 +173,7 @@ public final class LanguageModelStemmer
             }
 
             // Now check if token image is changing
-            final boolean sameStem = CharArrayComparators.FAST_CHAR_ARRAY_COMPARATOR
-                .compare(stem, nextStem) == 0;
+            final boolean sameStem = stem == nextStem;
 
             if (sameStem)
             {
@@ -177,7 +188,7 @@ public final class LanguageModelStemmer
             }
             else
             {
-                stemImages.add(stem);
+                stemImages.add(images.toCharArray(stem));
                 stemTf.add(totalTf);
                 stemMostFrequentWordIndexes.add(mostFrequentWordIndex);
                 storeTfByDocument(stemTfByDocumentList, stemTfsByDocument);
@@ -193,13 +204,13 @@ public final class LanguageModelStemmer
                 stemTfsByDocument.clear();
                 stemTfsByDocument.add(wordTfByDocumentArray[nextInOrderIndex]);
 
-                buffer.reset(wordStemImages[nextInOrderIndex]);
-                inQuery = queryStems.contains(buffer);
+                inQuery = queryStemIds.get(nextStem);
             }
         }
 
         // Store tf for the last stem in the array
-        stemImages.add(wordStemImages[stemImagesOrder[stemImagesOrder.length - 1]]);
+        stemImages.add(images
+            .toCharArray(wordStemIds[stemImagesOrder[stemImagesOrder.length - 1]]));
         stemTf.add(totalTf);
         stemMostFrequentWordIndexes.add(mostFrequentWordIndex);
         stemIndexesArray[stemImagesOrder[stemImagesOrder.length - 1]] = stemIndex;
@@ -223,6 +234,66 @@ public final class LanguageModelStemmer
         context.allWords.stemIndex = stemIndexesArray;
     }
 
+    /**
+     * Returns indices of words ordered by their stem images, as compared by
+     * {@link CharArrayComparators#FAST_CHAR_ARRAY_COMPARATOR}. Only the unique stems
+     * are sorted by comparing their images, words are then ordered by the ranks of their
+     * stems, retaining the original order of words with equal stems.
+     */
+    private static int [] sortByStem(final CharArrayDictionary images, int [] wordStemIds)
+    {
+        // Collect unique stems
+        final int [] stemRanks = new int [images.size()];
+        Arrays.fill(stemRanks, -1);
+        final IntArrayList uniqueStemIds = new IntArrayList();
+        for (int i = 0; i < wordStemIds.length; i++)
+        {
+            if (stemRanks[wordStemIds[i]] < 0)
+            {
+                stemRanks[wordStemIds[i]] = 0;
+                uniqueStemIds.add(wordStemIds[i]);
+            }
+        }
+
+        // Sort unique stems
+        final int [] stemIds = uniqueStemIds.toArray();
+        final int [] stemOrder = IndirectSort.sort(0, stemIds.length,
+            new IndirectComparator()
+            {
+                public int compare(int a, int b)
+                {
+                    final char [] buffer = images.getBuffer();
+                    final int idA = stemIds[a];
+                    final int idB = stemIds[b];
+                    return CharArrayComparators.compare(buffer, images.getOffset(idA),
+                        images.getLength(idA), buffer, images.getOffset(idB), images
+                            .getLength(idB));
+                }
+            });
+        for (int i = 0; i < stemOrder.length; i++)
+        {
+            stemRanks[stemIds[stemOrder[i]]] = i;
+        }
+
+        // Counting sort of words by the rank of their stems
+        final int [] bucketStarts = new int [stemIds.length + 1];
+        for (int i = 0; i < wordStemIds.length; i++)
+        {
+            bucketStarts[stemRanks[wordStemIds[i]] + 1]++;
+        }
+        for (int i = 1; i < bucketStarts.length; i++)
+        {
+            bucketStarts[i] += bucketStarts[i - 1];
+        }
+        final int [] order = new int [wordStemIds.length];
+        for (int i = 0; i < wordStemIds.length; i++)
+        {
+            order[bucketStarts[stemRanks[wordStemIds[i]]]++] = i;
+        }
+
+        return order;
+    }
+
     /**
      * 
      */
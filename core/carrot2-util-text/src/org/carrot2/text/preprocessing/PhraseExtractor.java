@@ -12,19 +12,20 @@
 
 package org.carrot2.text.preprocessing;
 
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
+import org.carrot2.core.attribute.Init;
 import org.carrot2.core.attribute.Processing;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllPhrases;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllTokens;
-import org.carrot2.util.IntMapUtils;
 import org.carrot2.util.attribute.*;
+import org.carrot2.util.attribute.constraint.ImplementingClasses;
 import org.carrot2.util.attribute.constraint.IntRange;
 
 import com.carrotsearch.hppc.IntArrayList;
-import com.carrotsearch.hppc.IntIntOpenHashMap;
-import com.carrotsearch.hppc.cursors.IntIntCursor;
+import com.carrotsearch.hppc.sorting.IndirectComparator;
+import com.carrotsearch.hppc.sorting.IndirectSort;
 import com.google.common.collect.Lists;
 
 /**
@@ -50,12 +51,6 @@ import com.google.common.collect.Lists;
 @Bindable(prefix = "PhraseExtractor")
 public class PhraseExtractor
 {
-    /** Internal minimum phrase length, we may want to make it an attribute at some point */
-    private static final int MIN_PHRASE_LENGTH = 2;
-
-    /** Internal maximum phrase length, we may want to make it an attribute at some point */
-    private static final int MAX_PHRASE_LENGTH = 8;
-
     /**
      * Phrase Document Frequency threshold. Phrases appearing in fewer than
      * <code>dfThreshold</code> documents will be ignored.
@@ -71,10 +66,82 @@ public class PhraseExtractor
     public int dfThreshold = 1;
 
     /**
-     * Suffix sorter to be used by this phrase extractor. When the suffix sorter gets some
-     * attributes, we'll need to make this field public.
+     * Minimum phrase length. Phrases with fewer words will be ignored.
+     * 
+     * @level Advanced
+     * @group Phrase extraction
+     * @label Minimum phrase length
+     */
+    @Processing
+    @Input
+    @Attribute
+    @IntRange(min = 2, max = 16)
+    public int minPhraseLength = 2;
+
+    /**
+     * Maximum phrase length. Phrases with more words will be ignored. The cost of phrase
+     * extraction grows linearly with the difference between the maximum and minimum
+     * phrase length.
+     * 
+     * @level Advanced
+     * @group Phrase extraction
+     * @label Maximum phrase length
+     */
+    @Processing
+    @Input
+    @Attribute
+    @IntRange(min = 2, max = 16)
+    public int maxPhraseLength = 8;
+
+    /**
+     * Maximum number of phrase candidates. If more candidates are discovered, the
+     * Document Frequency threshold is raised until the number of candidates drops
+     * below this limit. This bounds the time and memory required by phrase extraction
+     * for long repetitive documents.
+     * 
+     * @level Advanced
+     * @group Phrase extraction
+     * @label Maximum number of phrase candidates
+     */
+    @Processing
+    @Input
+    @Attribute
+    @IntRange(min = 1)
+    public int maxPhraseCandidates = 200000;
+
+    /**
+     * Number of phrase candidates pruned because of the {@link #maxPhraseCandidates}
+     * limit.
+     * 
+     * @group Phrase extraction
+     * @label Pruned phrase candidates
      */
-    private SuffixSorter suffixSorter = new SuffixSorter();
+    @Processing
+    @Output
+    @Attribute
+    public int prunedPhraseCandidates;
+
+    /**
+     * Suffix sorting algorithm. The algorithm used to build the suffix array and the
+     * Longest Common Prefix array from which frequent phrases are discovered.
+     * {@link SaisSuffixSorter} runs in linear time,
+     * {@link SuffixSorter} compares suffixes token by token and may be slow for large
+     * inputs with many repeated phrases.
+     * 
+     * @level Advanced
+     * @group Phrase extraction
+     * @label Suffix sorting algorithm
+     */
+    @Init
+    @Processing
+    @Input
+    @Attribute
+    @Required
+    @ImplementingClasses(classes =
+    {
+        SaisSuffixSorter.class, SuffixSorter.class
+    }, strict = false)
+    public ISuffixSorter suffixSorter = new SaisSuffixSorter();
 
     /**
      * Performs phrase extraction and saves the results to the provided
@@ -91,70 +158,86 @@ public class PhraseExtractor
         final int [] documentIndexArray = context.allTokens.documentIndex;
         final int [] stemIndexes = context.allWords.stemIndex;
 
+        int documentCount = context.documents.size();
+        for (int i = 0; i < documentIndexArray.length; i++)
+        {
+            documentCount = Math.max(documentCount, documentIndexArray[i] + 1);
+        }
+        final DocumentTfCounter counter = new DocumentTfCounter(documentCount);
+
         // Find all subphrases
-        List<Substring> rcs = discoverRcs(suffixArray, lcpArray, documentIndexArray);
+        final PhraseCandidates rcs = new PhraseCandidates(dfThreshold);
+        prunedPhraseCandidates = 0;
+        if (minPhraseLength <= maxPhraseLength)
+        {
+            discoverRcs(suffixArray, lcpArray, documentIndexArray, counter, rcs);
+        }
+        if (rcs.size() > maxPhraseCandidates)
+        {
+            prune(rcs, documentCount);
+        }
 
-        List<int []> phraseWordIndexes = Lists.newArrayList();
-        IntArrayList phraseTf = new IntArrayList();
-        List<int []> phraseTfByDocumentList = Lists.newArrayList();
+        final List<int []> phraseWordIndexes = Lists.newArrayList();
+        final IntArrayList phraseTf = new IntArrayList();
+        final List<int []> phraseTfByDocumentList = Lists.newArrayList();
 
-        if (rcs.size() > 0)
+        // Put different inflection variants of the same phrase next to each other
+        final int [] order = IndirectSort.sort(0, rcs.size(), new IndirectComparator()
         {
-            // Determine most frequent originals and create the final phrase
-            // array. Also merge the phrase tf by document maps into flat
-            // arrays.
-            Collections.sort(rcs, new SubstringComparator(wordIndexesArray, stemIndexes));
-
-            int totalPhraseTf = rcs.get(0).frequency;
-            Substring mostFrequentOriginal = rcs.get(0);
-            IntIntOpenHashMap phraseTfByDocument = new IntIntOpenHashMap();
-            phraseTfByDocument.putAll(mostFrequentOriginal.tfByDocument);
-
-            // Don't change the rcs list type from ArrayList or we'll
-            // run into O(n^2) iteration cost :)
-            for (int i = 0; i < rcs.size() - 1; i++)
+            public int compare(int a, int b)
             {
-                final Substring substring = rcs.get(i);
-                final Substring nextSubstring = rcs.get(i + 1);
-
-                if (substring
-                    .isEquivalentTo(nextSubstring, wordIndexesArray, stemIndexes))
+                final int length = rcs.length.get(a);
+                if (length != rcs.length.get(b))
                 {
-                    totalPhraseTf += nextSubstring.frequency;
-                    addAllWithOffset(phraseTfByDocument, nextSubstring.tfByDocument, -1);
-                    if (mostFrequentOriginal.frequency < nextSubstring.frequency)
-                    {
-                        mostFrequentOriginal = nextSubstring;
-                    }
+                    return length - rcs.length.get(b);
                 }
-                else
+
+                final int fromA = rcs.from.get(a);
+                final int fromB = rcs.from.get(b);
+                for (int i = 0; i < length; i++)
                 {
-                    int [] wordIndexes = new int [(mostFrequentOriginal.to - mostFrequentOriginal.from)];
-                    for (int j = 0; j < wordIndexes.length; j++)
+                    final int stemIndexA = stemIndexes[wordIndexesArray[fromA + i]];
+                    final int stemIndexB = stemIndexes[wordIndexesArray[fromB + i]];
+                    if (stemIndexA != stemIndexB)
                     {
-                        wordIndexes[j] = wordIndexesArray[mostFrequentOriginal.from + j];
+                        return stemIndexA - stemIndexB;
                     }
-                    phraseWordIndexes.add(wordIndexes);
-                    phraseTf.add(totalPhraseTf);
-                    phraseTfByDocumentList.add(IntMapUtils.flatten(phraseTfByDocument));
-
-                    totalPhraseTf = nextSubstring.frequency;
-                    mostFrequentOriginal = nextSubstring;
-                    phraseTfByDocument.clear();
-                    phraseTfByDocument.putAll(nextSubstring.tfByDocument);
                 }
+
+                return a - b;
             }
+        });
 
-            // Add the last substring
-            final Substring substring = rcs.get(rcs.size() - 1);
-            int [] wordIndexes = new int [(substring.to - substring.from)];
-            for (int j = 0; j < wordIndexes.length; j++)
+        // Determine most frequent originals and create the final phrase arrays.
+        // Also merge the tf by document postings of all variants.
+        for (int i = 0; i < order.length;)
+        {
+            int mostFrequentOriginal = order[i];
+            int totalPhraseTf = 0;
+
+            int j = i;
+            do
             {
-                wordIndexes[j] = wordIndexesArray[mostFrequentOriginal.from + j];
+                final int candidate = order[j];
+                totalPhraseTf += rcs.tf.get(candidate);
+                if (rcs.tf.get(mostFrequentOriginal) < rcs.tf.get(candidate))
+                {
+                    mostFrequentOriginal = candidate;
+                }
+                j++;
             }
+            while (j < order.length
+                && isEquivalent(rcs, order[i], order[j], wordIndexesArray, stemIndexes));
+
+            final int from = rcs.from.get(mostFrequentOriginal);
+            final int [] wordIndexes = new int [rcs.length.get(mostFrequentOriginal)];
+            System.arraycopy(wordIndexesArray, from, wordIndexes, 0, wordIndexes.length);
+
             phraseWordIndexes.add(wordIndexes);
             phraseTf.add(totalPhraseTf);
-            phraseTfByDocumentList.add(IntMapUtils.flatten(phraseTfByDocument));
+            phraseTfByDocumentList.add(mergePostings(rcs, order, i, j, counter));
+
+            i = j;
         }
 
         // Store the results to allPhrases
@@ -166,168 +249,300 @@ public class PhraseExtractor
     }
 
     /**
-     * Discovers Right Complete Substrings in the given LCP Suffix Array.
+     * Discovers Right Complete Substrings in the given LCP Suffix Array. Each phrase of
+     * length between {@link #minPhraseLength} and {@link #maxPhraseLength} occurs
+     * at a contiguous range of suffixes, the stack holds the start of the range of each
+     * phrase that is still open. Phrases are saved to <code>rcs</code> when their ranges
+     * get closed by a shorter LCP.
      */
-    private List<Substring> discoverRcs(int [] suffixArray, int [] lcpArray,
-        int [] documentIndexArray)
+    private void discoverRcs(int [] suffixArray, int [] lcpArray,
+        int [] documentIndexArray, DocumentTfCounter counter, PhraseCandidates rcs)
     {
-        Substring [] rcsStack;
-        int sp;
+        // Lengths of phrases on the stack are strictly increasing
+        final int [] stackLength = new int [maxPhraseLength - minPhraseLength + 1];
+        final int [] stackStart = new int [stackLength.length];
+        int sp = -1;
 
-        int i;
-        rcsStack = new Substring [lcpArray.length];
-        sp = -1;
+        // The virtual zero LCP past the end of the array closes all ranges
+        for (int i = 1; i <= lcpArray.length; i++)
+        {
+            final int currentLcp = (i < lcpArray.length ? Math.min(lcpArray[i],
+                maxPhraseLength) : 0);
 
-        i = 1;
+            // Close phrases longer than the current LCP
+            int start = i - 1;
+            while (sp >= 0 && stackLength[sp] > currentLcp)
+            {
+                start = stackStart[sp];
+                addCandidate(rcs, suffixArray, documentIndexArray, counter, start, i - 1,
+                    stackLength[sp]);
+                sp--;
+            }
+
+            // Open the phrases that start occurring in the previous suffix
+            final int shortest = (sp >= 0 ? stackLength[sp] + 1 : minPhraseLength);
+            for (int length = shortest; length <= currentLcp; length++)
+            {
+                sp++;
+                stackLength[sp] = length;
+                stackStart[sp] = start;
+            }
+        }
+    }
 
-        final List<Substring> result = Lists.newArrayList();
-        while (i < lcpArray.length - 1)
+    /**
+     * Saves a phrase of the provided <code>length</code> occurring at suffixes from
+     * <code>first</code> to <code>last</code> (inclusive) if it meets the
+     * {@link #dfThreshold} and the document frequency threshold raised by pruning.
+     */
+    private void addCandidate(PhraseCandidates rcs, int [] suffixArray,
+        int [] documentIndexArray, DocumentTfCounter counter, int first, int last,
+        int length)
+    {
+        for (int k = first; k <= last; k++)
         {
-            final int currentSuffixIndex = suffixArray[i];
-            final int currentDocumentIndex = documentIndexArray[currentSuffixIndex];
-            final int currentLcp = lcpArray[i];
+            counter.add(documentIndexArray[suffixArray[k]], 1);
+        }
 
-            if (sp < 0)
+        if (counter.size() >= rcs.minDf)
+        {
+            rcs.from.add(suffixArray[first]);
+            rcs.length.add(length);
+            rcs.tf.add(last - first + 1);
+            rcs.postingStart.add(rcs.postings.size());
+            counter.appendTo(rcs.postings);
+
+            // Keep at most twice the limit, so that pruning cost is amortized. The
+            // limit is not doubled, which would overflow for large limits.
+            if (rcs.size() / 2 >= maxPhraseCandidates)
             {
-                if (currentLcp >= MIN_PHRASE_LENGTH)
-                {
-                    final int length = currentLcp;
-                    final int lower = (currentLcp <= MAX_PHRASE_LENGTH ? 0 : currentLcp
-                        - MAX_PHRASE_LENGTH);
-                    for (int j = length - 1; j >= lower; j--)
-                    {
-                        if (currentLcp - j >= MIN_PHRASE_LENGTH)
-                        {
-                            sp++;
-                            rcsStack[sp] = new Substring(i, currentSuffixIndex,
-                                currentSuffixIndex + currentLcp - j, (j == lower ? 2 : 1));
-
-                            rcsStack[sp].tfByDocument = new IntIntOpenHashMap();
-                            rcsStack[sp].tfByDocument.put(
-                                documentIndexArray[suffixArray[i - 1]], 1);
-                            if (j == lower)
-                            {
-                                addValue(rcsStack[sp].tfByDocument, currentDocumentIndex,
-                                    1);
-                            }
-                            else
-                            {
-                                rcsStack[sp].documentIndexToOffset = documentIndexArray[suffixArray[i - 1]];
-                            }
-                        }
-                    }
-                }
+                prune(rcs, counter.tf.length);
+            }
+        }
+        else if (counter.size() >= dfThreshold)
+        {
+            prunedPhraseCandidates++;
+        }
+        counter.clear();
+    }
 
-                i++;
+    /**
+     * Raises the document frequency threshold to the lowest value for which there are no
+     * more than {@link #maxPhraseCandidates} candidates and removes candidates below the
+     * threshold.
+     */
+    private void prune(PhraseCandidates rcs, int documentCount)
+    {
+        final int [] candidatesByDf = new int [documentCount + 2];
+        for (int i = 0; i < rcs.size(); i++)
+        {
+            candidatesByDf[rcs.df(i)]++;
+        }
+
+        int minDf = documentCount + 1;
+        int candidates = 0;
+        while (minDf > rcs.minDf
+            && candidates + candidatesByDf[minDf - 1] <= maxPhraseCandidates)
+        {
+            candidates += candidatesByDf[--minDf];
+        }
+
+        prunedPhraseCandidates += rcs.size() - candidates;
+        rcs.retain(minDf);
+    }
+
+    /**
+     * Returns <code>true</code> if the two candidates are inflection variants of the same
+     * phrase.
+     */
+    private static boolean isEquivalent(PhraseCandidates rcs, int a, int b,
+        int [] tokensWordIndex, int [] wordsStemIndex)
+    {
+        final int length = rcs.length.get(a);
+        if (length != rcs.length.get(b))
+        {
+            return false;
+        }
+
+        final int fromA = rcs.from.get(a);
+        final int fromB = rcs.from.get(b);
+        for (int i = 0; i < length; i++)
+        {
+            if (wordsStemIndex[tokensWordIndex[fromA + i]] != wordsStemIndex[tokensWordIndex[fromB
+                + i]])
+            {
+                return false;
             }
-            else
+        }
+
+        return true;
+    }
+
+    /**
+     * Merges postings of candidates <code>order[from]</code> to
+     * <code>order[to - 1]</code> into a flat tf by document array.
+     */
+    private static int [] mergePostings(PhraseCandidates rcs, int [] order, int from,
+        int to, DocumentTfCounter counter)
+    {
+        final int [] postings = rcs.postings.buffer;
+        if (to - from == 1)
+        {
+            final int candidate = order[from];
+            return Arrays.copyOfRange(postings, rcs.postingStart.get(candidate), rcs
+                .postingEnd(candidate));
+        }
+
+        for (int i = from; i < to; i++)
+        {
+            final int candidate = order[i];
+            final int end = rcs.postingEnd(candidate);
+            for (int p = rcs.postingStart.get(candidate); p < end; p += 2)
             {
-                Substring r = rcsStack[sp];
-                if ((r.to - r.from) < currentLcp)
-                {
-                    // Add the intermediate phrases too (which makes
-                    // the algorithm no longer linear btw)
-                    Substring r1 = rcsStack[sp];
-                    int length = currentLcp - (r1.to - r1.from);
-                    int lower = (currentLcp <= MAX_PHRASE_LENGTH ? 0 : currentLcp
-                        - MAX_PHRASE_LENGTH);
-                    for (int j = length - 1; j >= 0; j--)
-                    {
-                        if (currentLcp - j >= MIN_PHRASE_LENGTH
-                            && currentLcp - j <= MAX_PHRASE_LENGTH)
-                        {
-                            sp++;
-                            rcsStack[sp] = new Substring(i, currentSuffixIndex,
-                                currentSuffixIndex + currentLcp - j, (j == lower ? 2 : 1));
-
-                            rcsStack[sp].tfByDocument = new IntIntOpenHashMap();
-                            rcsStack[sp].tfByDocument.put(
-                                documentIndexArray[suffixArray[i - 1]], 1);
-                            if (j == lower)
-                            {
-                                addValue(rcsStack[sp].tfByDocument, currentDocumentIndex,
-                                    1);
-                            }
-                            else
-                            {
-                                rcsStack[sp].documentIndexToOffset = documentIndexArray[suffixArray[i - 1]];
-                            }
-                        }
-                    }
+                counter.add(postings[p], postings[p + 1]);
+            }
+        }
 
-                    i++;
-                }
-                else
-                {
-                    Substring r1 = rcsStack[sp];
-                    if ((r1.to - r1.from) == currentLcp)
-                    {
-                        // Increase the frequency of the generalized phrase
-                        rcsStack[sp].frequency += 1;
+        final IntArrayList merged = new IntArrayList(counter.size() * 2);
+        counter.appendTo(merged);
+        counter.clear();
+        return merged.toArray();
+    }
 
-                        addValue(rcsStack[sp].tfByDocument, currentDocumentIndex, 1);
+    /**
+     * Phrase candidates stored in parallel arrays. Postings of all candidates are stored
+     * in one pool of (document index, tf) pairs, sorted by document index within each
+     * candidate.
+     */
+    private static final class PhraseCandidates
+    {
+        /** Start position of one of the candidate's occurrences */
+        final IntArrayList from = new IntArrayList();
 
-                        i++;
-                    }
-                    else
-                    {
-                        Substring s;
-
-                        // Pop generalized phrases off the stack
-                        do
-                        {
-                            if (rcsStack[sp].tfByDocument.size() >= dfThreshold)
-                            {
-                                // Add the generalized phrase to the result
-                                result.add(rcsStack[sp]);
-                            }
-
-                            s = rcsStack[sp];
-                            sp--;
-
-                            // As we update only the frequency of the stack's
-                            // topmost substring we need to propagate the
-                            // accumulated frequencies to the shorter
-                            // substrings
-                            if (sp >= 0)
-                            {
-                                rcsStack[sp].frequency += s.frequency - 1;
-
-                                addAllWithOffset(rcsStack[sp].tfByDocument,
-                                    s.tfByDocument, rcsStack[sp].documentIndexToOffset);
-                            }
-                        }
-                        while (sp >= 0
-                            && (rcsStack[sp].to - rcsStack[sp].from) > currentLcp);
-                    }
+        /** Candidate length in tokens */
+        final IntArrayList length = new IntArrayList();
+
+        /** Candidate's absolute frequency */
+        final IntArrayList tf = new IntArrayList();
+
+        /** Offset of the candidate's first posting in {@link #postings} */
+        final IntArrayList postingStart = new IntArrayList();
+
+        /** (document index, tf) pairs of all candidates */
+        final IntArrayList postings = new IntArrayList();
+
+        /** Minimum document frequency of candidates, raised by pruning */
+        int minDf;
+
+        PhraseCandidates(int minDf)
+        {
+            this.minDf = minDf;
+        }
+
+        int size()
+        {
+            return from.size();
+        }
+
+        int df(int candidate)
+        {
+            return (postingEnd(candidate) - postingStart.get(candidate)) / 2;
+        }
+
+        /**
+         * Removes candidates whose document frequency is lower than <code>minDf</code>,
+         * compacting the postings pool in place.
+         */
+        void retain(int minDf)
+        {
+            final int [] postingsBuffer = postings.buffer;
+            int kept = 0;
+            int postingsKept = 0;
+            for (int i = 0; i < size(); i++)
+            {
+                final int start = postingStart.get(i);
+                final int count = postingEnd(i) - start;
+                if (count / 2 >= minDf)
+                {
+                    System.arraycopy(postingsBuffer, start, postingsBuffer, postingsKept,
+                        count);
+                    from.set(kept, from.get(i));
+                    length.set(kept, length.get(i));
+                    tf.set(kept, tf.get(i));
+                    postingStart.set(kept, postingsKept);
+                    postingsKept += count;
+                    kept++;
                 }
             }
+
+            from.elementsCount = kept;
+            length.elementsCount = kept;
+            tf.elementsCount = kept;
+            postingStart.elementsCount = kept;
+            postings.elementsCount = postingsKept;
+            this.minDf = minDf;
         }
 
-        return result;
+        int postingEnd(int candidate)
+        {
+            return candidate + 1 < size() ? postingStart.get(candidate + 1) : postings
+                .size();
+        }
     }
 
-    private static void addAllWithOffset(IntIntOpenHashMap dest, IntIntOpenHashMap src,
-        int documentIndexToOffset)
+    /**
+     * Accumulates term frequencies by document in a dense array, remembering the
+     * documents touched so that clearing does not depend on the number of documents.
+     */
+    private static final class DocumentTfCounter
     {
-        for (IntIntCursor c : src)
+        final int [] tf;
+        private final int [] documents;
+        private int size;
+
+        DocumentTfCounter(int documentCount)
         {
-            final int key = c.key;
-            final int value = c.value;
+            this.tf = new int [documentCount];
+            this.documents = new int [documentCount];
+        }
 
-            if (key != documentIndexToOffset)
+        void add(int document, int value)
+        {
+            if (tf[document] == 0)
             {
-                addValue(dest, key, value);
+                documents[size++] = document;
             }
-            else
+            tf[document] += value;
+        }
+
+        /**
+         * Returns the number of documents touched since the last {@link #clear()}.
+         */
+        int size()
+        {
+            return size;
+        }
+
+        /**
+         * Appends (document index, tf) pairs, sorted by document index, to
+         * <code>target</code>.
+         */
+        void appendTo(IntArrayList target)
+        {
+            Arrays.sort(documents, 0, size);
+            for (int i = 0; i < size; i++)
             {
-                addValue(dest, key, value - 1);
+                target.add(documents[i], tf[documents[i]]);
             }
         }
-    }
 
-    private static void addValue(IntIntOpenHashMap map, int key, int value)
-    {
-        map.put(key, map.get(key) + value);
+        void clear()
+        {
+            for (int i = 0; i < size; i++)
+            {
+                tf[documents[i]] = 0;
+            }
+            size = 0;
+        }
     }
 }
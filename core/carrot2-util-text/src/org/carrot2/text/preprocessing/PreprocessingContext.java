@@ -18,10 +18,10 @@ import org.carrot2.core.Document;
 import org.carrot2.text.analysis.ITokenizer;
 import org.carrot2.text.linguistic.ILanguageModel;
 import org.carrot2.text.linguistic.IStemmer;
+import org.carrot2.text.util.CharArrayDictionary;
 import org.carrot2.text.util.MutableCharArray;
+import org.carrot2.util.SortedIntSet;
 
-import com.carrotsearch.hppc.BitSet;
-import com.carrotsearch.hppc.ObjectOpenHashSet;
 import com.carrotsearch.hppc.predicates.ShortPredicate;
 
 /**
@@ -74,10 +74,10 @@ public final class PreprocessingContext
     public final ILanguageModel language;
 
     /**
-     * Token interning cache. Token images are interned to save memory and allow reference
-     * comparisons.
+     * Token image dictionary. Images of tokens and stems are interned in this dictionary
+     * to save memory and to allow comparing them by their integer ids.
      */
-    public ObjectOpenHashSet<MutableCharArray> tokenCache = new ObjectOpenHashSet<MutableCharArray>();
+    public CharArrayDictionary tokenImages = new CharArrayDictionary();
 
     /**
      * Creates a preprocessing context for the provided <code>documents</code> and with
@@ -103,14 +103,14 @@ public final class PreprocessingContext
     public static class AllTokens
     {
         /**
-         * Token image as it appears in the input. On positions where {@link #type} is
-         * equal to one of {@link ITokenizer#TF_TERMINATOR},
-         * {@link ITokenizer#TF_SEPARATOR_DOCUMENT} or
-         * {@link ITokenizer#TF_SEPARATOR_FIELD} , image is <code>null</code>.
+         * Id of the token's image in {@link PreprocessingContext#tokenImages}. Tokens with
+         * equal images have equal ids. On positions where {@link #type} is equal to one of
+         * {@link ITokenizer#TF_TERMINATOR}, {@link ITokenizer#TF_SEPARATOR_DOCUMENT} or
+         * {@link ITokenizer#TF_SEPARATOR_FIELD}, image id is <code>-1</code>.
          * <p>
          * This array is produced by {@link Tokenizer}.
          */
-        public char [][] image;
+        public int [] imageId;
 
         /**
          * Token's {@link ITokenizer} bit flags.
@@ -395,7 +395,7 @@ public final class PreprocessingContext
          * <p>
          * This array is produced by {@link DocumentAssigner}.
          */
-        public BitSet [] documentIndices;
+        public SortedIntSet [] documentIndices;
 
         /**
          * The first index in {@link #featureIndex} which 
@@ -467,24 +467,31 @@ public final class PreprocessingContext
      */
     public void preprocessingFinished()
     {
-        this.tokenCache = null;
+        this.tokenImages = null;
     }
 
     /**
-     * Return a unique char buffer representing a given character sequence.
+     * Returns the id of a given character sequence in {@link #tokenImages}, adding the
+     * sequence to the dictionary if needed.
      */
-    public char [] intern(MutableCharArray chs)
+    public int intern(MutableCharArray chs)
     {
-        if (tokenCache.contains(chs))
-        {
-            return tokenCache.lget().getBuffer();
-        }
-        else
+        return tokenImages.add(chs);
+    }
+
+    /**
+     * Returns a copy of the image of the token at the provided index in
+     * {@link AllTokens} or <code>null</code> if the token has no image (e.g. it is a
+     * separator).
+     */
+    public char [] getTokenImage(int tokenIndex)
+    {
+        final int imageId = allTokens.imageId[tokenIndex];
+        if (imageId < 0)
         {
-            final char [] tokenImage = new char [chs.length()];
-            System.arraycopy(chs.getBuffer(), chs.getStart(), tokenImage, 0, chs.length());
-            tokenCache.add(new MutableCharArray(tokenImage));
-            return tokenImage;
+            return null;
         }
+
+        return tokenImages.toCharArray(imageId);
     }
 }
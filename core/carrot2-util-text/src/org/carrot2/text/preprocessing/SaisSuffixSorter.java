@@ -0,0 +1,76 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.preprocessing;
+
+import org.carrot2.util.SuffixArrays;
+
+/**
+ * A linear-time suffix sorter based on the SA-IS suffix array construction algorithm
+ * and Kasai's LCP computation (see {@link SuffixArrays}). Produces exactly the same
+ * suffix order and LCP values as {@link SuffixSorter}, but its running time does not
+ * depend on the lengths of repeated token sequences, which makes it much faster for
+ * large inputs and inputs with many near-duplicate documents.
+ */
+public final class SaisSuffixSorter implements ISuffixSorter
+{
+    /**
+     * Performs suffix sorting and saves the results to the <code>context</code>.
+     */
+    public void suffixSort(PreprocessingContext context)
+    {
+        final int [] wordIndex = context.allTokens.wordIndex;
+        final int tokenCount = wordIndex.length;
+
+        int wordCount = 0;
+        int separatorCount = 0;
+        for (int i = 0; i < tokenCount; i++)
+        {
+            if (wordIndex[i] < 0)
+            {
+                separatorCount++;
+            }
+            else if (wordIndex[i] >= wordCount)
+            {
+                wordCount = wordIndex[i] + 1;
+            }
+        }
+
+        /*
+         * Remap token codes to the [1, alphabetSize) range, preserving the order imposed
+         * by SuffixSorter: words come in the descending order of their indices, followed
+         * by separators, each of which is a unique symbol ordered by position. A zero
+         * sentinel is appended at the end, as required by SA-IS.
+         */
+        final int [] intCodes = new int [tokenCount + 1];
+        for (int i = 0, separator = 0; i < tokenCount; i++)
+        {
+            if (wordIndex[i] < 0)
+            {
+                intCodes[i] = 1 + wordCount + separator++;
+            }
+            else
+            {
+                intCodes[i] = wordCount - wordIndex[i];
+            }
+        }
+
+        // Create suffix order, skipping the sentinel suffix that always comes first
+        final int [] suffixArray = SuffixArrays.suffixArray(intCodes, wordCount
+            + separatorCount + 1);
+        final int [] suffixOrder = new int [tokenCount];
+        System.arraycopy(suffixArray, 1, suffixOrder, 0, tokenCount);
+        context.allTokens.suffixOrder = suffixOrder;
+
+        // Add LCPs
+        context.allTokens.lcp = SuffixArrays.lcp(intCodes, suffixOrder);
+    }
+}
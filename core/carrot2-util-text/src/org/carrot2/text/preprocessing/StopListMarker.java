@@ -14,8 +14,6 @@ package org.carrot2.text.preprocessing;
 
 import org.carrot2.text.analysis.ITokenizer;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllWords;
-import org.carrot2.text.util.MutableCharArray;
-import org.carrot2.util.CharArrayUtils;
 import org.carrot2.util.attribute.Bindable;
 
 /**
@@ -39,17 +37,11 @@ public final class StopListMarker
         final char [][] wordImages = context.allWords.image;
         final short [] types = context.allWords.type;
 
-        final MutableCharArray mutableCharArray = new MutableCharArray("");
-        char [] buffer = new char [128];
-
         for (int i = 0; i < wordImages.length; i++)
         {
+            // Lookups ignore case, so no lower-cased copy of the image is needed
             final char [] word = wordImages[i];
-            if (buffer.length < word.length) buffer = new char [word.length];
-
-            CharArrayUtils.toLowerCase(word, buffer);
-            mutableCharArray.reset(buffer, 0, word.length);
-            if (context.language.isCommonWord(mutableCharArray))
+            if (context.language.isCommonWord(word, 0, word.length))
             {
                 types[i] |= ITokenizer.TF_COMMON_WORD;
             }
@@ -16,9 +16,12 @@ import com.carrotsearch.hppc.sorting.IndirectComparator;
 import com.carrotsearch.hppc.sorting.IndirectSort;
 
 /**
- * A simple suffix sorting utility based on the generic sorting routines from {@link IndirectSort}.
+ * A simple suffix sorting utility based on the generic sorting routines from
+ * {@link IndirectSort}. Suffixes are compared token by token, so the worst-case
+ * complexity of this sorter is quadratic in the number of tokens (e.g. for many
+ * near-duplicate documents). See {@link SaisSuffixSorter} for a linear-time alternative.
  */
-final class SuffixSorter
+public final class SuffixSorter implements ISuffixSorter
 {
     /**
      * An int comparator that enables suffix sorting.
@@ -57,14 +60,14 @@ final class SuffixSorter
     /**
      * Performs suffix sorting and saves the results to the <code>context</code>.
      */
-    void suffixSort(PreprocessingContext context)
+    public void suffixSort(PreprocessingContext context)
     {
         /*
          * Create a temporary array based on word indices with -1 values replaced with
          * unique negative values. This will ensure that the phrases discovered based on
          * the sorted/lcp array will not cross sentence/field boundaries. At some point we
-         * may want to make it an option. In this case, we'll need to review Substring and
-         * SubstringComparator for possible array index out of bounds.
+         * may want to make it an option. In this case, we'll need to review phrase
+         * candidate comparison in PhraseExtractor for possible array index out of bounds.
          */
         final int [] intCodes = new int [context.allTokens.wordIndex.length];
         System.arraycopy(context.allTokens.wordIndex, 0, intCodes, 0, intCodes.length);
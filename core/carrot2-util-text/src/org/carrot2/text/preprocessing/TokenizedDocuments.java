@@ -0,0 +1,102 @@
+
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.preprocessing;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang.ObjectUtils;
+import org.carrot2.core.Document;
+import org.carrot2.text.util.CharArrayDictionary;
+
+/**
+ * The results of tokenizing a list of documents by the {@link Tokenizer}, which can be
+ * reused when the same documents are tokenized again followed by some new documents, for
+ * example when more results are fetched for the same query. Instances of this class are
+ * immutable and can be shared between threads.
+ */
+public final class TokenizedDocuments
+{
+    /** Names of the tokenized fields */
+    final String [] fieldNames;
+
+    /** Values of the tokenized fields, <code>fieldNames.length</code> per document */
+    final String [] fieldValues;
+
+    /** The number of tokenized documents */
+    final int documentCount;
+
+    /** Images of the tokens, must not be modified */
+    final CharArrayDictionary images;
+
+    /** Token arrays trimmed to the tokens without the terminator */
+    final int [] imageId;
+    final short [] type;
+    final byte [] fieldIndex;
+    final int [] documentIndex;
+
+    /** The number of tokens without the terminator */
+    final int tokenCount;
+
+    TokenizedDocuments(String [] fieldNames, String [] fieldValues, int documentCount,
+        CharArrayDictionary images, int [] imageId, short [] type, byte [] fieldIndex,
+        int [] documentIndex, int tokenCount)
+    {
+        this.fieldNames = fieldNames;
+        this.fieldValues = fieldValues;
+        this.documentCount = documentCount;
+        this.images = images;
+        this.imageId = imageId;
+        this.type = type;
+        this.fieldIndex = fieldIndex;
+        this.documentIndex = documentIndex;
+        this.tokenCount = tokenCount;
+    }
+
+    /**
+     * Returns the number of tokenized documents.
+     */
+    public int size()
+    {
+        return documentCount;
+    }
+
+    /**
+     * Returns <code>true</code> if the tokens of these documents can be reused for the
+     * provided documents, that is if the provided documents start with the same fields
+     * as these documents.
+     */
+    boolean isPrefixOf(List<Document> documents, String [] fieldNames)
+    {
+        if (!Arrays.equals(this.fieldNames, fieldNames)
+            || documents.size() < documentCount)
+        {
+            return false;
+        }
+
+        for (int i = 0; i < documentCount; i++)
+        {
+            final Document document = documents.get(i);
+            for (int j = 0; j < fieldNames.length; j++)
+            {
+                final String value = document.getField(fieldNames[j]);
+                if (!ObjectUtils.equals(fieldValues[i * fieldNames.length + j], value))
+                {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+}
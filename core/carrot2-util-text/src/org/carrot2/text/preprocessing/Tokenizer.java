@@ -13,11 +13,8 @@
 package org.carrot2.text.preprocessing;
 
 import java.io.IOException;
-import java.io.StringReader;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.lang.StringUtils;
@@ -27,6 +24,8 @@ import org.carrot2.core.attribute.Init;
 import org.carrot2.text.analysis.ITokenizer;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllFields;
 import org.carrot2.text.preprocessing.PreprocessingContext.AllTokens;
+import org.carrot2.text.util.CharArrayDictionary;
+import org.carrot2.text.util.CharSequenceReader;
 import org.carrot2.text.util.MutableCharArray;
 import org.carrot2.util.CharArrayUtils;
 import org.carrot2.util.ExceptionUtils;
@@ -34,17 +33,13 @@ import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.Bindable;
 import org.carrot2.util.attribute.Input;
 
-import com.carrotsearch.hppc.ByteArrayList;
-import com.carrotsearch.hppc.IntArrayList;
-import com.carrotsearch.hppc.ShortArrayList;
-import com.google.common.collect.Lists;
-
 /**
  * Performs tokenization of documents.
  * <p>
  * This class saves the following results to the {@link PreprocessingContext}:
  * <ul>
- * <li>{@link AllTokens#image}</li>
+ * <li>{@link AllTokens#imageId}</li>
+ * <li>{@link PreprocessingContext#tokenImages}</li>
  * <li>{@link AllTokens#documentIndex}</li>
  * <li>{@link AllTokens#fieldIndex}</li>
  * <li>{@link AllTokens#type}</li>
@@ -69,33 +64,70 @@ public final class Tokenizer
     });
 
     /**
-     * Token images.
+     * Average number of characters per token (including the separating whitespace),
+     * used to estimate the initial capacity of token buffers.
+     */
+    private static final int ESTIMATED_CHARACTERS_PER_TOKEN = 5;
+
+    /**
+     * Dictionary to which token images are added.
      */
-    private ArrayList<char []> images;
+    private CharArrayDictionary images;
+
+    /**
+     * Ids of token images in {@link #images}.
+     */
+    private int [] imageIds;
 
     /**
      * An array of token types.
      * 
      * @see ITokenizer
      */
-    private ShortArrayList tokenTypes;
+    private short [] tokenTypes;
 
     /**
      * An array of document indexes.
      */
-    private IntArrayList documentIndices;
+    private int [] documentIndices;
 
     /**
      * An array of field indexes.
      * 
      * @see AllFields
      */
-    private ByteArrayList fieldIndices;
+    private byte [] fieldIndices;
+
+    /**
+     * The number of tokens stored in the arrays.
+     */
+    private int tokenCount;
 
     /**
      * Performs tokenization and saves the results to the <code>context</code>.
      */
     public void tokenize(PreprocessingContext context)
+    {
+        tokenize(context, null, false);
+    }
+
+    /**
+     * Performs tokenization and saves the results to the <code>context</code>. If the
+     * documents to tokenize start with the documents tokenized <code>previously</code>,
+     * the previous tokens are reused and only the remaining documents are tokenized.
+     * 
+     * @param previous the results of a previous tokenization or <code>null</code>
+     * @return the results of this tokenization, which can be reused by subsequent
+     *         tokenizations
+     */
+    public TokenizedDocuments tokenize(PreprocessingContext context,
+        TokenizedDocuments previous)
+    {
+        return tokenize(context, previous, true);
+    }
+
+    private TokenizedDocuments tokenize(PreprocessingContext context,
+        TokenizedDocuments previous, boolean reusable)
     {
         // Documents to tokenize
         final List<Document> documents = context.documents;
@@ -108,20 +140,53 @@ public final class Tokenizer
             throw new ProcessingException("Maximum number of tokenized fields is 8.");
         }
 
-        // Prepare arrays
-        images = Lists.newArrayList();
-        tokenTypes = new ShortArrayList();
-        documentIndices = new IntArrayList();
-        fieldIndices = new ByteArrayList();
+        if (previous != null && !previous.isPrefixOf(documents, fieldNames))
+        {
+            previous = null;
+        }
+        final int firstDocument = (previous != null ? previous.size() : 0);
+
+        // Prepare arrays, sized based on the total length of the input
+        long inputLength = 0;
+        for (Document doc : documents.subList(firstDocument, documents.size()))
+        {
+            for (int i = 0; i < fieldNames.length; i++)
+            {
+                final String fieldValue = doc.getField(fieldNames[i]);
+                if (fieldValue != null)
+                {
+                    inputLength += fieldValue.length();
+                }
+            }
+        }
+        prepareBuffers((int) Math.min(Integer.MAX_VALUE - 1, inputLength
+            / ESTIMATED_CHARACTERS_PER_TOKEN + documents.size() * fieldNames.length + 1
+            + (previous != null ? previous.tokenCount : 0)));
+
+        if (previous != null)
+        {
+            context.tokenImages = new CharArrayDictionary(previous.images);
+            System.arraycopy(previous.imageId, 0, imageIds, 0, previous.tokenCount);
+            System.arraycopy(previous.type, 0, tokenTypes, 0, previous.tokenCount);
+            System.arraycopy(previous.fieldIndex, 0, fieldIndices, 0, previous.tokenCount);
+            System.arraycopy(previous.documentIndex, 0, documentIndices, 0,
+                previous.tokenCount);
+            tokenCount = previous.tokenCount;
+        }
+        images = context.tokenImages;
 
-        final Iterator<Document> docIterator = documents.iterator();
-        int documentIndex = 0;
         final ITokenizer ts = context.language.getTokenizer();
         final MutableCharArray wrapper = new MutableCharArray(CharArrayUtils.EMPTY_ARRAY);
+        final CharSequenceReader reader = new CharSequenceReader();
 
-        while (docIterator.hasNext())
+        for (int documentIndex = firstDocument; documentIndex < documents.size();
+            documentIndex++)
         {
-            final Document doc = docIterator.next();
+            final Document doc = documents.get(documentIndex);
+            if (documentIndex > 0)
+            {
+                addDocumentSeparator();
+            }
 
             boolean hadTokens = false;
             for (int i = 0; i < fieldNames.length; i++)
@@ -136,48 +201,78 @@ public final class Tokenizer
                     {
                         short tokenType;
                         
-                        ts.reset(new StringReader(fieldValue));
+                        reader.reset(fieldValue);
+                        ts.reset(reader);
                         if ((tokenType = ts.nextToken()) != ITokenizer.TT_EOF)
                         {
                             if (hadTokens) addFieldSeparator(documentIndex);
                             do
                             {
                                 ts.setTermBuffer(wrapper);
-                                add(documentIndex, fieldIndex, context.intern(wrapper), tokenType);
+                                add(documentIndex, fieldIndex, wrapper, tokenType);
                             } while ( (tokenType = ts.nextToken()) != ITokenizer.TT_EOF);
                             hadTokens = true;
                         }
                     }
                     catch (IOException e)
                     {
-                        // Not possible (StringReader above)?
+                        // Not possible (CharSequenceReader above)?
                         throw ExceptionUtils.wrapAsRuntimeException(e);
                     }
                 }
             }
+        }
 
-            if (docIterator.hasNext())
+        // Remember the results before the terminator. Copies are made because further
+        // preprocessing adds images of stems and may modify the token arrays.
+        TokenizedDocuments tokenized = null;
+        if (reusable)
+        {
+            final String [] fieldValues = new String [documents.size() * fieldNames.length];
+            for (int d = 0; d < documents.size(); d++)
             {
-                addDocumentSeparator();
+                for (int i = 0; i < fieldNames.length; i++)
+                {
+                    fieldValues[d * fieldNames.length + i] = documents.get(d).getField(
+                        fieldNames[i]);
+                }
             }
-
-            documentIndex++;
+            tokenized = new TokenizedDocuments(fieldNames, fieldValues, documents.size(),
+                new CharArrayDictionary(images), Arrays.copyOf(imageIds, tokenCount),
+                Arrays.copyOf(tokenTypes, tokenCount), Arrays.copyOf(fieldIndices,
+                    tokenCount), Arrays.copyOf(documentIndices, tokenCount), tokenCount);
         }
 
         addTerminator();
 
-        // Save results in the PreprocessingContext
-        context.allTokens.documentIndex = documentIndices.toArray();
-        context.allTokens.fieldIndex = fieldIndices.toArray();
-        context.allTokens.image = images.toArray(new char [images.size()] []);
-        context.allTokens.type = tokenTypes.toArray();
+        // Save results in the PreprocessingContext. Token arrays are trimmed to the
+        // actual number of tokens.
+        context.allTokens.documentIndex = trim(documentIndices, tokenCount);
+        context.allTokens.fieldIndex = trim(fieldIndices, tokenCount);
+        context.allTokens.imageId = trim(imageIds, tokenCount);
+        context.allTokens.type = trim(tokenTypes, tokenCount);
         context.allFields.name = fieldNames;
 
         // Clean up
         images = null;
+        imageIds = null;
         fieldIndices = null;
         tokenTypes = null;
         documentIndices = null;
+
+        return tokenized;
+    }
+
+    /**
+     * Allocates token buffers for the estimated number of tokens.
+     */
+    private void prepareBuffers(int estimatedTokens)
+    {
+        imageIds = new int [estimatedTokens];
+        tokenTypes = new short [estimatedTokens];
+        documentIndices = new int [estimatedTokens];
+        fieldIndices = new byte [estimatedTokens];
+        tokenCount = 0;
     }
 
     /**
@@ -215,11 +310,38 @@ public final class Tokenizer
     /**
      * Adds custom token code to the sequence. May be used to add separator constants.
      */
-    void add(int documentIndex, byte fieldIndex, char [] image, short tokenTypeCode)
+    void add(int documentIndex, byte fieldIndex, MutableCharArray image,
+        short tokenTypeCode)
+    {
+        if (tokenCount == tokenTypes.length)
+        {
+            final int newCapacity = tokenCount + (tokenCount >>> 1) + 1;
+            imageIds = Arrays.copyOf(imageIds, newCapacity);
+            tokenTypes = Arrays.copyOf(tokenTypes, newCapacity);
+            documentIndices = Arrays.copyOf(documentIndices, newCapacity);
+            fieldIndices = Arrays.copyOf(fieldIndices, newCapacity);
+        }
+
+        imageIds[tokenCount] = image != null ? images.add(image) : -1;
+
+        documentIndices[tokenCount] = documentIndex;
+        fieldIndices[tokenCount] = fieldIndex;
+        tokenTypes[tokenCount] = tokenTypeCode;
+        tokenCount++;
+    }
+
+    private static int [] trim(int [] array, int length)
+    {
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static short [] trim(short [] array, int length)
+    {
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static byte [] trim(byte [] array, int length)
     {
-        documentIndices.add(documentIndex);
-        fieldIndices.add(fieldIndex);
-        images.add(image);
-        tokenTypes.add(tokenTypeCode);
+        return array.length == length ? array : Arrays.copyOf(array, length);
     }
 }
@@ -25,6 +25,7 @@ import org.carrot2.text.preprocessing.CaseNormalizer;
 import org.carrot2.text.preprocessing.LanguageModelStemmer;
 import org.carrot2.text.preprocessing.PreprocessingContext;
 import org.carrot2.text.preprocessing.StopListMarker;
+import org.carrot2.text.preprocessing.TokenizedDocuments;
 import org.carrot2.text.preprocessing.Tokenizer;
 import org.carrot2.util.attribute.Attribute;
 import org.carrot2.util.attribute.Bindable;
@@ -99,6 +100,29 @@ public class BasicPreprocessingPipeline
     public void preprocess(PreprocessingContext context)
     {
         tokenizer.tokenize(context);
+        preprocessTokens(context);
+    }
+
+    /**
+     * Performs preprocessing on the provided {@link PreprocessingContext}, reusing the
+     * tokens of the <code>previous</code> documents if the documents to preprocess start
+     * with them. See {@link Tokenizer#tokenize(PreprocessingContext, TokenizedDocuments)}.
+     * 
+     * @return the tokenized documents, which can be reused by subsequent invocations
+     */
+    public TokenizedDocuments preprocess(PreprocessingContext context,
+        TokenizedDocuments previous)
+    {
+        final TokenizedDocuments tokenized = tokenizer.tokenize(context, previous);
+        preprocessTokens(context);
+        return tokenized;
+    }
+
+    /**
+     * Performs the preprocessing steps following tokenization.
+     */
+    protected void preprocessTokens(PreprocessingContext context)
+    {
         caseNormalizer.normalize(context);
         languageModelStemmer.stem(context);
         stopListMarker.mark(context);
@@ -46,12 +46,9 @@ public class CompletePreprocessingPipeline extends BasicPreprocessingPipeline
      */
     public final DocumentAssigner documentAssigner = new DocumentAssigner();
 
-    /**
-     * Performs preprocessing on the provided {@link PreprocessingContext}.
-     */
-    public void preprocess(PreprocessingContext context)
+    @Override
+    protected void preprocessTokens(PreprocessingContext context)
     {
-        tokenizer.tokenize(context);
         caseNormalizer.normalize(context);
         languageModelStemmer.stem(context);
         stopListMarker.mark(context);
@@ -38,23 +38,8 @@ public class CharArrayComparators
                 return -1;
             }
 
-            final int l1 = a1.length;
-            final int l2 = a2.length;
-            final int n = l1 < l2 ? l1 : l2;
-
-            // Quiet assumption that the numbers here won't cause an overflow.
-            for (int i = 0; i < n; i++)
-            {
-                // Use JDK 1.5+ full codepoint method.
-                final int c = Character.toLowerCase((int) a1[i]);
-                final int d = Character.toLowerCase((int) a2[i]);
-                if (c != d)
-                {
-                    return c - d;
-                }
-            }
-
-            return l1 - l2;
+            return CharArrayComparators.compareCaseInsensitive(a1, 0, a1.length, a2, 0,
+                a2.length);
         }
     };
 
@@ -77,23 +62,7 @@ public class CharArrayComparators
                 return -1;
             }
 
-            final int l1 = a1.length;
-            final int l2 = a2.length;
-            final int n = l1 < l2 ? l1 : l2;
-
-            // Quiet assumption that the numbers here won't cause an overflow.
-            for (int i = 0; i < n; i++)
-            {
-                final char a1I = a1[i];
-                final char a2I = a2[i];
-
-                if (a1I != a2I)
-                {
-                    return a1I - a2I;
-                }
-            }
-
-            return l1 - l2;
+            return CharArrayComparators.compare(a1, 0, a1.length, a2, 0, a2.length);
         }
     };
 
@@ -125,66 +94,122 @@ public class CharArrayComparators
             {
                 return -1;
             }
-            
-            if (a1 == a2)
+
+            return CharArrayComparators.compareNormalizing(a1, 0, a1.length, a2, 0,
+                a2.length);
+        }
+    };
+
+    /**
+     * Compares two character sequences stored in buffers in the same way as
+     * {@link #FAST_CHAR_ARRAY_COMPARATOR}.
+     */
+    public static int compare(char [] a1, int start1, int l1, char [] a2, int start2,
+        int l2)
+    {
+        final int n = l1 < l2 ? l1 : l2;
+
+        // Quiet assumption that the numbers here won't cause an overflow.
+        for (int i = 0; i < n; i++)
+        {
+            final char a1I = a1[start1 + i];
+            final char a2I = a2[start2 + i];
+
+            if (a1I != a2I)
             {
-                return 0;
+                return a1I - a2I;
             }
+        }
+
+        return l1 - l2;
+    }
+
+    /**
+     * Compares two character sequences stored in buffers in the same way as
+     * {@link #CASE_INSENSITIVE_CHAR_ARRAY_COMPARATOR}.
+     */
+    public static int compareCaseInsensitive(char [] a1, int start1, int l1, char [] a2,
+        int start2, int l2)
+    {
+        final int n = l1 < l2 ? l1 : l2;
 
-            final int l1 = a1.length;
-            final int l2 = a2.length;
-
-            /*
-             * For those who might wonder: the condition below is perfectly ok here. It is
-             * used to calculate word occurrence statistics, which is essentially a "count
-             * unique strings by sorting" problem. Therefore, the semantic meaning of the
-             * order produced by this comparator doesn't matter at all as long as it: a)
-             * groups equal (case sensitive) strings together, b) groups equal (case
-             * insensitive) strings into one block, c) null string is always greater than
-             * a non-null string. See tests for this comparator for examples.
-             *  
-             * In comparison-based sorting algorithms crucial is the speed of comparisons,
-             * so declaring that e.g. shorter strings are always smaller (regardless of
-             * contents) saves us calls to Character.toLowerCase(), which are very costly.
-             * For CaseNormalizer it doesn't matter at all, and makes sorting way faster.
-             */
-
-            // Quiet assumption that the numbers here won't cause an overflow.
-
-            // Not crucial, but speeds things up
-            if (l1 != l2)
+        // Quiet assumption that the numbers here won't cause an overflow.
+        for (int i = 0; i < n; i++)
+        {
+            // Use JDK 1.5+ full codepoint method.
+            final int c = Character.toLowerCase((int) a1[start1 + i]);
+            final int d = Character.toLowerCase((int) a2[start2 + i]);
+            if (c != d)
             {
-                return l1 - l2;
+                return c - d;
             }
+        }
+
+        return l1 - l2;
+    }
+
+    /**
+     * Compares two character sequences stored in buffers in the same way as
+     * {@link #NORMALIZING_CHAR_ARRAY_COMPARATOR}.
+     */
+    public static int compareNormalizing(char [] a1, int start1, int l1, char [] a2,
+        int start2, int l2)
+    {
+        if (a1 == a2 && start1 == start2 && l1 == l2)
+        {
+            return 0;
+        }
 
-            // Compare whole strings in case insensitive mode first
-            for (int i = 0; i < l1; i++)
+        /*
+         * For those who might wonder: the condition below is perfectly ok here. It is
+         * used to calculate word occurrence statistics, which is essentially a "count
+         * unique strings by sorting" problem. Therefore, the semantic meaning of the
+         * order produced by this comparator doesn't matter at all as long as it: a)
+         * groups equal (case sensitive) strings together, b) groups equal (case
+         * insensitive) strings into one block, c) null string is always greater than
+         * a non-null string. See tests for this comparator for examples.
+         *  
+         * In comparison-based sorting algorithms crucial is the speed of comparisons,
+         * so declaring that e.g. shorter strings are always smaller (regardless of
+         * contents) saves us calls to Character.toLowerCase(), which are very costly.
+         * For CaseNormalizer it doesn't matter at all, and makes sorting way faster.
+         */
+
+        // Quiet assumption that the numbers here won't cause an overflow.
+
+        // Not crucial, but speeds things up
+        if (l1 != l2)
+        {
+            return l1 - l2;
+        }
+
+        // Compare whole strings in case insensitive mode first
+        for (int i = 0; i < l1; i++)
+        {
+            // Use JDK 1.5+ full codepoint method.
+            final int c = Character.toLowerCase((int) a1[start1 + i]);
+            final int d = Character.toLowerCase((int) a2[start2 + i]);
+            if (c != d)
             {
-                // Use JDK 1.5+ full codepoint method.
-                final int c = Character.toLowerCase((int) a1[i]);
-                final int d = Character.toLowerCase((int) a2[i]);
-                if (c != d)
-                {
-                    return c - d;
-                }
+                return c - d;
             }
+        }
 
-            // Only if strings are case-insensitive equal, go case sensitive
-            for (int i = 0; i < l1; i++)
+        // Only if strings are case-insensitive equal, go case sensitive
+        for (int i = 0; i < l1; i++)
+        {
+            char a1I = a1[start1 + i];
+            char a2I = a2[start2 + i];
+
+            if (a1I != a2I)
             {
-                char a1I = a1[i];
-                char a2I = a2[i];
-
-                if (a1I != a2I)
-                {
-                    // Put lower case first
-                    return a2I - a1I;
-                }
+                // Put lower case first
+                return a2I - a1I;
             }
-
-            return 0;
         }
-    };
+
+        return 0;
+    }
 
     /**
      * No instantiation.
@@ -0,0 +1,344 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.util;
+
+import java.util.Arrays;
+
+/**
+ * A dictionary of unique character sequences, each of which is identified by an integer
+ * id. Ids are assigned consecutively, starting from <code>0</code>, in the order in which
+ * sequences are {@link #add(char[], int, int)}ed. Characters of all sequences are stored
+ * in one contiguous buffer and looked up using an open-addressing hash table of ints, so
+ * adding a sequence that already exists in the dictionary does not allocate any memory.
+ * <p>
+ * Two sequences have equal ids if and only if they are equal, which allows comparing
+ * and grouping sequences by comparing their ids.
+ */
+public final class CharArrayDictionary
+{
+    /**
+     * Hash table load factor.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * Characters of all sequences, concatenated.
+     */
+    private char [] buffer;
+
+    /**
+     * The number of characters used in {@link #buffer}.
+     */
+    private int bufferSize;
+
+    /**
+     * Offsets of sequences in {@link #buffer}, indexed by id.
+     */
+    private int [] offsets;
+
+    /**
+     * Lengths of sequences in {@link #buffer}, indexed by id.
+     */
+    private int [] lengths;
+
+    /**
+     * Hash codes of sequences, indexed by id.
+     */
+    private int [] hashes;
+
+    /**
+     * The number of sequences in this dictionary.
+     */
+    private int size;
+
+    /**
+     * Hash table slots, each slot contains <code>id + 1</code> or <code>0</code> if the
+     * slot is empty. The length of this array is always a power of two.
+     */
+    private int [] slots;
+
+    /**
+     * The number of sequences after which {@link #slots} will be expanded.
+     */
+    private int resizeThreshold;
+
+    /**
+     * A reusable buffer for copying sequences other than {@link MutableCharArray}.
+     */
+    private char [] scratch = new char [32];
+
+    /**
+     * Creates a dictionary with the default initial capacity.
+     */
+    public CharArrayDictionary()
+    {
+        this(256, 1024);
+    }
+
+    /**
+     * Creates a dictionary with the provided initial capacity.
+     *
+     * @param expectedSequences the expected number of unique sequences
+     * @param expectedCharacters the expected total number of characters in all unique
+     *            sequences
+     */
+    public CharArrayDictionary(int expectedSequences, int expectedCharacters)
+    {
+        final int sequences = Math.max(expectedSequences, 4);
+        this.buffer = new char [Math.max(expectedCharacters, 16)];
+        this.offsets = new int [sequences];
+        this.lengths = new int [sequences];
+        this.hashes = new int [sequences];
+
+        int slotCount = 8;
+        while (slotCount * LOAD_FACTOR < sequences)
+        {
+            slotCount <<= 1;
+        }
+        this.slots = new int [slotCount];
+        this.resizeThreshold = (int) (slotCount * LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a copy of the provided dictionary. Sequences have the same ids in both
+     * dictionaries, sequences added later to one dictionary are not visible in the other.
+     */
+    public CharArrayDictionary(CharArrayDictionary other)
+    {
+        this.buffer = Arrays.copyOf(other.buffer, other.buffer.length);
+        this.bufferSize = other.bufferSize;
+        this.offsets = Arrays.copyOf(other.offsets, other.offsets.length);
+        this.lengths = Arrays.copyOf(other.lengths, other.lengths.length);
+        this.hashes = Arrays.copyOf(other.hashes, other.hashes.length);
+        this.size = other.size;
+        this.slots = Arrays.copyOf(other.slots, other.slots.length);
+        this.resizeThreshold = other.resizeThreshold;
+    }
+
+    /**
+     * Adds a sequence to this dictionary, if it is not already there.
+     *
+     * @return the id of the sequence
+     */
+    public int add(char [] chars, int start, int length)
+    {
+        final int hash = MutableCharArray.hashCode(chars, start, length);
+        final int mask = slots.length - 1;
+
+        int slot = mix(hash) & mask;
+        int entry;
+        while ((entry = slots[slot]) != 0)
+        {
+            final int id = entry - 1;
+            if (hashes[id] == hash && equals(id, chars, start, length))
+            {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        final int id = size;
+        ensureCapacity(length);
+        System.arraycopy(chars, start, buffer, bufferSize, length);
+        offsets[id] = bufferSize;
+        lengths[id] = length;
+        hashes[id] = hash;
+        bufferSize += length;
+        size++;
+
+        slots[slot] = id + 1;
+        if (size > resizeThreshold)
+        {
+            rehash();
+        }
+
+        return id;
+    }
+
+    /**
+     * Adds a sequence to this dictionary, if it is not already there.
+     *
+     * @return the id of the sequence
+     */
+    public int add(MutableCharArray chars)
+    {
+        return add(chars.getBuffer(), chars.getStart(), chars.length());
+    }
+
+    /**
+     * Adds a sequence to this dictionary, if it is not already there.
+     *
+     * @return the id of the sequence
+     */
+    public int add(CharSequence chars)
+    {
+        if (chars instanceof MutableCharArray)
+        {
+            return add((MutableCharArray) chars);
+        }
+
+        final int length = chars.length();
+        if (scratch.length < length)
+        {
+            scratch = new char [length];
+        }
+        for (int i = 0; i < length; i++)
+        {
+            scratch[i] = chars.charAt(i);
+        }
+        return add(scratch, 0, length);
+    }
+
+    /**
+     * Returns the id of the provided sequence or <code>-1</code> if the sequence is not
+     * in this dictionary.
+     */
+    public int get(char [] chars, int start, int length)
+    {
+        final int hash = MutableCharArray.hashCode(chars, start, length);
+        final int mask = slots.length - 1;
+
+        int slot = mix(hash) & mask;
+        int entry;
+        while ((entry = slots[slot]) != 0)
+        {
+            final int id = entry - 1;
+            if (hashes[id] == hash && equals(id, chars, start, length))
+            {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the number of unique sequences in this dictionary.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns the buffer in which characters of all sequences are stored. The buffer
+     * may be reallocated when new sequences are added.
+     *
+     * @see #getOffset(int)
+     * @see #getLength(int)
+     */
+    public char [] getBuffer()
+    {
+        return buffer;
+    }
+
+    /**
+     * Returns the offset of the sequence with the provided id in {@link #getBuffer()}.
+     */
+    public int getOffset(int id)
+    {
+        return offsets[id];
+    }
+
+    /**
+     * Returns the length of the sequence with the provided id.
+     */
+    public int getLength(int id)
+    {
+        return lengths[id];
+    }
+
+    /**
+     * Returns a copy of the sequence with the provided id.
+     */
+    public char [] toCharArray(int id)
+    {
+        return Arrays.copyOfRange(buffer, offsets[id], offsets[id] + lengths[id]);
+    }
+
+    /**
+     * Removes all sequences from this dictionary, retaining the allocated buffers.
+     */
+    public void clear()
+    {
+        Arrays.fill(slots, 0);
+        size = 0;
+        bufferSize = 0;
+    }
+
+    private boolean equals(int id, char [] chars, int start, int length)
+    {
+        if (lengths[id] != length)
+        {
+            return false;
+        }
+
+        final int offset = offsets[id];
+        for (int i = 0; i < length; i++)
+        {
+            if (buffer[offset + i] != chars[start + i])
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void ensureCapacity(int length)
+    {
+        if (size == offsets.length)
+        {
+            final int newSize = size + (size >> 1) + 1;
+            offsets = Arrays.copyOf(offsets, newSize);
+            lengths = Arrays.copyOf(lengths, newSize);
+            hashes = Arrays.copyOf(hashes, newSize);
+        }
+
+        if (bufferSize + length > buffer.length)
+        {
+            buffer = Arrays.copyOf(buffer, Math.max(bufferSize + length, buffer.length
+                + (buffer.length >> 1)));
+        }
+    }
+
+    private void rehash()
+    {
+        final int [] newSlots = new int [slots.length << 1];
+        final int mask = newSlots.length - 1;
+        for (int id = 0; id < size; id++)
+        {
+            int slot = mix(hashes[id]) & mask;
+            while (newSlots[slot] != 0)
+            {
+                slot = (slot + 1) & mask;
+            }
+            newSlots[slot] = id + 1;
+        }
+
+        slots = newSlots;
+        resizeThreshold = (int) (slots.length * LOAD_FACTOR);
+    }
+
+    /**
+     * Spreads the bits of the polynomial hash code of a sequence, which tends to be
+     * poorly distributed in lower bits for short sequences.
+     */
+    private static int mix(int hash)
+    {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Carrot2 project.
+ *
+ * Copyright (C) 2002-2010, Dawid Weiss, Stanisław Osiński.
+ * All rights reserved.
+ *
+ * Refer to the full license file "carrot2.LICENSE"
+ * in the root folder of the repository checkout or at:
+ * http://www.carrot2.org/carrot2.LICENSE
+ */
+
+package org.carrot2.text.util;
+
+import java.io.Reader;
+
+/**
+ * A {@link Reader} over a {@link CharSequence}. The characters are read directly from
+ * the sequence, without creating an intermediate copy. Unlike
+ * {@link java.io.StringReader}, this reader is not synchronized and can be
+ * {@link #reset(CharSequence)} to read another sequence, so that one instance can be
+ * reused for many inputs.
+ */
+public final class CharSequenceReader extends Reader
+{
+    /**
+     * The sequence being read.
+     */
+    private CharSequence sequence;
+
+    /**
+     * Current read position in {@link #sequence}.
+     */
+    private int position;
+
+    /**
+     * Marked read position in {@link #sequence}.
+     */
+    private int mark;
+
+    /**
+     * Creates a reader with an empty input.
+     */
+    public CharSequenceReader()
+    {
+        this("");
+    }
+
+    /**
+     * Creates a reader over the provided <code>sequence</code>.
+     */
+    public CharSequenceReader(CharSequence sequence)
+    {
+        reset(sequence);
+    }
+
+    /**
+     * Resets this reader to read from the beginning of another <code>sequence</code>.
+     */
+    public void reset(CharSequence sequence)
+    {
+        this.sequence = sequence;
+        this.position = 0;
+        this.mark = 0;
+    }
+
+    @Override
+    public int read()
+    {
+        if (position >= sequence.length())
+        {
+            return -1;
+        }
+        return sequence.charAt(position++);
+    }
+
+    @Override
+    public int read(char [] buffer, int offset, int length)
+    {
+        final int available = sequence.length() - position;
+        if (available <= 0)
+        {
+            return length == 0 ? 0 : -1;
+        }
+
+        final int count = Math.min(available, length);
+        if (sequence instanceof String)
+        {
+            ((String) sequence).getChars(position, position + count, buffer, offset);
+        }
+        else if (sequence instanceof StringBuilder)
+        {
+            ((StringBuilder) sequence).getChars(position, position + count, buffer,
+                offset);
+        }
+        else if (sequence instanceof MutableCharArray)
+        {
+            final MutableCharArray array = (MutableCharArray) sequence;
+            System.arraycopy(array.getBuffer(), array.getStart() + position, buffer,
+                offset, count);
+        }
+        else
+        {
+            for (int i = 0; i < count; i++)
+            {
+                buffer[offset + i] = sequence.charAt(position + i);
+            }
+        }
+        position += count;
+
+        return count;
+    }
+
+    @Override
+    public long skip(long n)
+    {
+        final int skipped = (int) Math.min(Math.max(n, 0), sequence.length() - position);
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean ready()
+    {
+        return true;
+    }
+
+    @Override
+    public boolean markSupported()
+    {
+        return true;
+    }
+
+    @Override
+    public void mark(int readAheadLimit)
+    {
+        this.mark = position;
+    }
+
+    @Override
+    public void reset()
+    {
+        this.position = mark;
+    }
+
+    /**
+     * Closing this reader has no effect, the reader can still be {@link #reset()}.
+     */
+    @Override
+    public void close()
+    {
+    }
+}
@@ -11,6 +11,8 @@
 
 package org.carrot2.text.vsm;
 
+import java.util.Arrays;
+
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.mahout.math.GenericPermuting;
 import org.apache.mahout.math.matrix.DoubleFactory2D;
@@ -19,6 +21,8 @@ import org.apache.mahout.math.matrix.impl.SparseDoubleMatrix2D;
 import org.carrot2.core.Document;
 import org.carrot2.core.attribute.Internal;
 import org.carrot2.core.attribute.Processing;
+import org.carrot2.matrix.CompressedSparseDoubleMatrix2D;
+import org.carrot2.matrix.FloatFactory2D;
 import org.carrot2.matrix.MatrixUtils;
 import org.carrot2.matrix.NNIDoubleFactory2D;
 import org.carrot2.text.analysis.TokenTypeUtils;
@@ -72,6 +76,45 @@ public class TermDocumentMatrixBuilder
     @Internal(configuration = true)
     public int maximumMatrixSize = 250 * 150;
 
+    /**
+     * Sparse term-document matrix. If enabled, the term-document matrix will be stored in
+     * a compressed sparse format and {@link #maximumMatrixSize} will limit the number of
+     * non-zero elements of the matrix rather than the product of its dimensions. This
+     * allows many more terms to be included in the matrix for large numbers of documents.
+     * Non-negative matrix factorization (Euclidean distance) and k-means factorization
+     * take advantage of the sparse format, other factorization methods convert the matrix
+     * to a dense one, which may require a lot of memory.
+     * 
+     * @level Advanced
+     * @group Matrix model
+     * @label Sparse term-document matrix
+     */
+    @Input
+    @Processing
+    @Attribute
+    @Internal(configuration = true)
+    public boolean sparseMatrix = false;
+
+    /**
+     * Single precision term-document matrix. If enabled, the term-document matrix will
+     * store its elements in single rather than double precision, which halves the memory
+     * taken by the matrix and the amount of data matrix computations need to read.
+     * The term-phrase matrix is stored in single precision as well. Iterative
+     * factorization methods compute the factors of a single precision matrix in single
+     * precision too, and so are the label similarity matrices Lingo computes from the
+     * factors, which has negligible effect on the clusters. Factorizations based on the
+     * singular value decomposition are computed in double precision.
+     * 
+     * @level Advanced
+     * @group Matrix model
+     * @label Single precision term-document matrix
+     */
+    @Input
+    @Processing
+    @Attribute
+    @Internal(configuration = true)
+    public boolean singlePrecision = false;
+
     /**
      * Maximum word document frequency. The maximum document frequency allowed for words
      * as a fraction of all documents. Words with document frequency larger than
@@ -169,9 +212,49 @@ public class TermDocumentMatrixBuilder
         final int [] stemWeightOrder = IndirectSort.sort(0, stemsWeight.length,
             new IndirectComparator.DescendingDoubleComparator(stemsWeight));
 
+        final DoubleMatrix2D tdMatrix;
+        if (sparseMatrix)
+        {
+            tdMatrix = buildSparseMatrix(preprocessingContext, stemsToInclude,
+                stemWeightOrder, titleFieldIndex);
+        }
+        else
+        {
+            tdMatrix = buildDenseMatrix(preprocessingContext, stemsToInclude,
+                stemWeightOrder, titleFieldIndex);
+        }
+
+        // Convert stemsToInclude into tdMatrixStemIndices
+        GenericPermuting.permute(stemsToInclude, stemWeightOrder);
+        stemsToInclude = ArrayUtils.subarray(stemsToInclude, 0, tdMatrix.rows());
+
+        final IntIntOpenHashMap stemToRowIndex = new IntIntOpenHashMap();
+        for (int i = 0; i < stemsToInclude.length; i++)
+        {
+            stemToRowIndex.put(stemsToInclude[i], i);
+        }
+
+        // Store the results
+        vsmContext.termDocumentMatrix = tdMatrix;
+        vsmContext.stemToRowIndex = stemToRowIndex;
+    }
+
+    /**
+     * Builds a dense term-document matrix containing as many of the highest-weighted
+     * stems as allowed by {@link #maximumMatrixSize}.
+     */
+    private DoubleMatrix2D buildDenseMatrix(PreprocessingContext preprocessingContext,
+        int [] stemsToInclude, int [] stemWeightOrder, int titleFieldIndex)
+    {
+        final int documentCount = preprocessingContext.documents.size();
+        final int [][] stemsTfByDocument = preprocessingContext.allStems.tfByDocument;
+        final byte [] stemsFieldIndices = preprocessingContext.allStems.fieldIndices;
+
         // Calculate the number of terms we can include to fulfill the max matrix size
         final int maxRows = maximumMatrixSize / documentCount;
-        final DoubleMatrix2D tdMatrix = NNIDoubleFactory2D.nni.make(Math.min(maxRows,
+        final DoubleFactory2D factory = singlePrecision ? FloatFactory2D.dense
+            : NNIDoubleFactory2D.nni;
+        final DoubleMatrix2D tdMatrix = factory.make(Math.min(maxRows,
             stemsToInclude.length), documentCount);
 
         for (int i = 0; i < stemWeightOrder.length && i < maxRows; i++)
@@ -181,42 +264,106 @@ public class TermDocumentMatrixBuilder
             final int df = tfByDocument.length / 2;
             final byte fieldIndices = stemsFieldIndices[stemIndex];
 
-            int tfByDocumentIndex = 0;
-            for (int documentIndex = 0; documentIndex < documentCount; documentIndex++)
+            // Document indices in tfByDocument are not necessarily sorted
+            for (int j = 0; j < df; j++)
             {
-                if (tfByDocumentIndex * 2 < tfByDocument.length
-                    && tfByDocument[tfByDocumentIndex * 2] == documentIndex)
-                {
-                    double weight = termWeighting.calculateTermWeight(
-                        tfByDocument[tfByDocumentIndex * 2 + 1], df, documentCount);
+                double weight = termWeighting.calculateTermWeight(tfByDocument[j * 2 + 1],
+                    df, documentCount);
 
-                    weight *= getWeightBoost(titleFieldIndex, fieldIndices);
-                    tfByDocumentIndex++;
+                weight *= getWeightBoost(titleFieldIndex, fieldIndices);
 
-                    tdMatrix.set(i, documentIndex, weight);
-                }
+                tdMatrix.set(i, tfByDocument[j * 2], weight);
             }
         }
 
-        // Convert stemsToInclude into tdMatrixStemIndices
-        GenericPermuting.permute(stemsToInclude, stemWeightOrder);
-        stemsToInclude = ArrayUtils.subarray(stemsToInclude, 0, tdMatrix.rows());
+        return tdMatrix;
+    }
 
-        final IntIntOpenHashMap stemToRowIndex = new IntIntOpenHashMap();
-        for (int i = 0; i < stemsToInclude.length; i++)
+    /**
+     * Builds a sparse term-document matrix containing as many of the highest-weighted
+     * stems as allowed by {@link #maximumMatrixSize}, which limits the number of non-zero
+     * elements in this case.
+     */
+    private DoubleMatrix2D buildSparseMatrix(PreprocessingContext preprocessingContext,
+        int [] stemsToInclude, int [] stemWeightOrder, int titleFieldIndex)
+    {
+        final int documentCount = preprocessingContext.documents.size();
+        final int [][] stemsTfByDocument = preprocessingContext.allStems.tfByDocument;
+        final byte [] stemsFieldIndices = preprocessingContext.allStems.fieldIndices;
+
+        // Calculate the number of terms whose non-zero elements fit in the max matrix size
+        int rows = 0;
+        int nonZeros = 0;
+        while (rows < stemWeightOrder.length)
         {
-            stemToRowIndex.put(stemsToInclude[i], i);
+            final int stemIndex = stemsToInclude[stemWeightOrder[rows]];
+            final int df = stemsTfByDocument[stemIndex].length / 2;
+            if (nonZeros + df > maximumMatrixSize)
+            {
+                break;
+            }
+            nonZeros += df;
+            rows++;
         }
 
-        // Store the results
-        vsmContext.termDocumentMatrix = tdMatrix;
-        vsmContext.stemToRowIndex = stemToRowIndex;
+        final int [] rowPointers = new int [rows + 1];
+        final int [] columnIndices = new int [nonZeros];
+        final double [] values = singlePrecision ? null : new double [nonZeros];
+        final float [] floatValues = singlePrecision ? new float [nonZeros] : null;
+        int p = 0;
+        for (int i = 0; i < rows; i++)
+        {
+            final int stemIndex = stemsToInclude[stemWeightOrder[i]];
+            final int [] tfByDocument = stemsTfByDocument[stemIndex];
+            final int df = tfByDocument.length / 2;
+            final double boost = getWeightBoost(titleFieldIndex,
+                stemsFieldIndices[stemIndex]);
+
+            // Document indices in tfByDocument are not necessarily sorted
+            final long [] documentOrder = new long [df];
+            for (int j = 0; j < df; j++)
+            {
+                documentOrder[j] = ((long) tfByDocument[j * 2] << 32) | j;
+            }
+            Arrays.sort(documentOrder);
+
+            for (int j = 0; j < df; j++)
+            {
+                final int pair = (int) documentOrder[j];
+                double weight = termWeighting.calculateTermWeight(
+                    tfByDocument[pair * 2 + 1], df, documentCount);
+
+                weight *= boost;
+
+                columnIndices[p] = tfByDocument[pair * 2];
+                if (singlePrecision)
+                {
+                    floatValues[p] = (float) weight;
+                }
+                else
+                {
+                    values[p] = weight;
+                }
+                p++;
+            }
+            rowPointers[i + 1] = p;
+        }
+
+        if (singlePrecision)
+        {
+            return new CompressedSparseDoubleMatrix2D(rows, documentCount, rowPointers,
+                columnIndices, floatValues);
+        }
+        return new CompressedSparseDoubleMatrix2D(rows, documentCount, rowPointers,
+            columnIndices, values);
     }
 
     /**
      * Builds a term-phrase matrix in the same space as the main term-document matrix. If
      * the processing context contains no phrases,
-     * {@link VectorSpaceModelContext#termPhraseMatrix} will remain <code>null</code>.
+     * {@link VectorSpaceModelContext#termPhraseMatrix} will remain <code>null</code>. If
+     * {@link #singlePrecision} is enabled, the term-phrase matrix stores its elements in
+     * single precision too.
      */
     public void buildTermPhraseMatrix(VectorSpaceModelContext context)
     {
@@ -239,7 +386,17 @@ public class TermDocumentMatrixBuilder
             final DoubleMatrix2D phraseMatrix = TermDocumentMatrixBuilder
                 .buildAlignedMatrix(context, phraseFeatureIndices, termWeighting);
             MatrixUtils.normalizeColumnL2(phraseMatrix, null);
-            context.termPhraseMatrix = phraseMatrix.viewDice();
+            if (singlePrecision)
+            {
+                // The phrase matrix is converted after normalization, the norms are
+                // computed in double precision
+                context.termPhraseMatrix = new CompressedSparseDoubleMatrix2D(
+                    phraseMatrix, true).viewDice();
+            }
+            else
+            {
+                context.termPhraseMatrix = phraseMatrix.viewDice();
+            }
         }
     }
 
@@ -0,0 +1,506 @@
+
+
+// APT-generated file.
+
+package org.carrot2.core;
+
+import java.util.*;
+import javax.annotation.*;
+
+// Imported for JavaDoc references mostly.
+import org.carrot2.util.attribute.*;
+
+/**
+ * Metadata and attributes of the {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2} component. You can use 
+ * this descriptor to obtain metadata, such as human readable name and description, about the component 
+ * as a whole as well as about its attributes. Using the {@link #attributeBuilder(Map)}
+ * you can obtain a builder for type-safe generation of the attribute maps. Please see the
+ * <a href="{@docRoot}/overview-summary.html#setting-attributes">main overview</a> for a complete code example. 
+ */
+@Generated("Generated from org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2")
+public final class ProcessingComponent2Descriptor implements IBindableDescriptor
+{
+    /**
+     * The component class for which this descriptor was generated. 
+     */
+    public final String bindableClassName = "org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2";
+
+    /**
+     * Attribute prefix used by the component.
+     */
+    public final String prefix = "";
+
+    /**
+     * A one sentence summary of the component. It could be presented as a header of the tool
+     * tip of the corresponding UI component.
+     */
+    public final String title = "";
+    
+    /**
+     * A short label for the component. It can be presented as a label of the
+     * corresponding UI component.
+     */
+    public final String label = "";
+
+    /**
+     * A longer, possibly multi sentence, description of the component. It could be presented
+     * as a body of the tool tip of the corresponding UI component.
+     */
+    public final String description = "";
+
+    /**
+     * Attributes of the component. Note that only statically reachable fields are included.
+     * Additional attributes may be available at run time. 
+     */
+    public final static Attributes attributes; 
+
+    /**
+     * Attributes declared directly by the component.
+     */
+    private final static Set<AttributeInfo> ownAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses.
+     */
+    private final static Set<AttributeInfo> allAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary 
+     * by attribute key.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByKey;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary by 
+     * attribute's field name.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByFieldName;
+
+    /**
+     * Static initializer for internal collections.
+     */
+    static
+    {
+        attributes = new Attributes();
+
+        final Set<AttributeInfo> ownAttrs = new HashSet<AttributeInfo>();
+        ownAttrs.add(attributes.int2);
+        ownAttrs.add(attributes.double2);
+        ownAttrs.add(attributes.string2);
+        ownAttrs.add(attributes.result);
+        ownAttrs.add(attributes.boolean2);
+        ownAttrs.add(attributes.inAttribute);
+        ownAttrs.add(attributes.outAttribute);
+        ownAttrs.add(attributes.debugAttribute);
+
+        final Set<AttributeInfo> allAttrs = new HashSet<AttributeInfo>();
+        allAttrs.add(org.carrot2.core.ProcessingComponent2Descriptor.attributes.int2);
+        allAttrs.add(org.carrot2.core.ProcessingComponent2Descriptor.attributes.double2);
+        allAttrs.add(org.carrot2.core.ProcessingComponent2Descriptor.attributes.string2);
+        allAttrs.add(org.carrot2.core.ProcessingComponent2Descriptor.attributes.result);
+        allAttrs.add(org.carrot2.core.ProcessingComponent2Descriptor.attributes.boolean2);
+        allAttrs.add(org.carrot2.core.ProcessingComponent2Descriptor.attributes.inAttribute);
+        allAttrs.add(org.carrot2.core.ProcessingComponent2Descriptor.attributes.outAttribute);
+        allAttrs.add(org.carrot2.core.ProcessingComponent2Descriptor.attributes.debugAttribute);
+
+        allAttributes = Collections.unmodifiableSet(allAttrs);
+        ownAttributes = Collections.unmodifiableSet(ownAttrs);
+        
+        final Map<String, AttributeInfo> allAttrsByKey = new HashMap<String, AttributeInfo>();
+        final Map<String, AttributeInfo> allAttrsByFieldName = new HashMap<String, AttributeInfo>();
+        for (AttributeInfo ai : allAttrs)
+        {
+            allAttrsByKey.put(ai.key, ai);
+            allAttrsByFieldName.put(ai.fieldName, ai);
+        }
+
+        allAttributesByKey = Collections.unmodifiableMap(allAttrsByKey);
+        allAttributesByFieldName = Collections.unmodifiableMap(allAttrsByFieldName);
+    }
+
+    
+    /* Attribute keys. */
+
+    /**
+     * Constants for all attribute keys of the {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2} component.
+     */
+    public static class Keys 
+    {
+        protected Keys() {} 
+
+        /** Attribute key for: {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#int2}. */
+        public static final String INT2 = "int2";
+        /** Attribute key for: {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#double2}. */
+        public static final String DOUBLE2 = "double2";
+        /** Attribute key for: {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#string2}. */
+        public static final String STRING2 = "data";
+        /** Attribute key for: {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#result}. */
+        public static final String RESULT = "result";
+        /** Attribute key for: {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#boolean2}. */
+        public static final String BOOLEAN2 = "boolean2";
+        /** Attribute key for: {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#inAttribute}. */
+        public static final String IN_ATTRIBUTE = "in2";
+        /** Attribute key for: {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#outAttribute}. */
+        public static final String OUT_ATTRIBUTE = "out2";
+        /** Attribute key for: {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#debugAttribute}. */
+        public static final String DEBUG_ATTRIBUTE = "debug2";
+    }
+
+
+    /* Attribute descriptors. */
+
+    /**
+     * All attributes of the {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2} component.
+     */
+    public static final class Attributes
+    {
+        private Attributes() { /* No public instances. */ }
+
+        /**
+         *          */
+        public final AttributeInfo int2 = 
+            new AttributeInfo(
+                "int2",
+                "org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2",
+                "int2",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo double2 = 
+            new AttributeInfo(
+                "double2",
+                "org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2",
+                "double2",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo string2 = 
+            new AttributeInfo(
+                "data",
+                "org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2",
+                "string2",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo result = 
+            new AttributeInfo(
+                "result",
+                "org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2",
+                "result",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo boolean2 = 
+            new AttributeInfo(
+                "boolean2",
+                "org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2",
+                "boolean2",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo inAttribute = 
+            new AttributeInfo(
+                "in2",
+                "org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2",
+                "inAttribute",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo outAttribute = 
+            new AttributeInfo(
+                "out2",
+                "org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2",
+                "outAttribute",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo debugAttribute = 
+            new AttributeInfo(
+                "debug2",
+                "org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2",
+                "debugAttribute",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+
+    }
+
+    /**
+     * Attribute map builder for the  {@link org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2} component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     */
+    public static class AttributeBuilder 
+    {
+        /** The attribute map populated by this builder. */
+        public final Map<String, Object> map;
+
+        /**
+         * Creates a builder backed by the provided map.
+         */
+        protected AttributeBuilder(Map<String, Object> map)
+        {
+            
+            this.map = map;
+        }
+
+
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#int2 
+         */
+        public AttributeBuilder int2(int value)
+        {
+            map.put("int2", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#double2 
+         */
+        public AttributeBuilder double2(double value)
+        {
+            map.put("double2", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#string2 
+         */
+        public AttributeBuilder string2(java.lang.String value)
+        {
+            map.put("data", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#result 
+         */
+        public java.lang.String result()
+        {
+            return (java.lang.String) map.get("result");
+        }
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#boolean2 
+         */
+        public AttributeBuilder boolean2(boolean value)
+        {
+            map.put("boolean2", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#inAttribute 
+         */
+        public AttributeBuilder inAttribute(java.util.List<java.lang.String> value)
+        {
+            map.put("in2", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#outAttribute 
+         */
+        public java.util.List<java.lang.String> outAttribute()
+        {
+            return (java.util.List<java.lang.String>) map.get("out2");
+        }
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.core.ControllerOverheadBenchmark.ProcessingComponent2#debugAttribute 
+         */
+        public java.util.List<java.lang.String> debugAttribute()
+        {
+            return (java.util.List<java.lang.String>) map.get("debug2");
+        }
+        
+    }
+
+    /**
+     * Creates an attribute map builder for the component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     * 
+     * @param attributeValues An existing map which should be used to collect attribute values. 
+     *        Attribute values set by this builder will be added to the provided map, overwriting
+     *        previously defined mappings, if any.
+     */
+    public static AttributeBuilder attributeBuilder(Map<String, Object> attributeValues)
+    {
+        return new AttributeBuilder(attributeValues);
+    }
+    
+    /* IBindableDescriptor */
+
+    @Override 
+    public String getPrefix()
+    {
+        return prefix;
+    }
+
+    @Override 
+    public String getTitle()
+    {
+        return title;
+    }
+    
+    @Override 
+    public String getLabel()      
+    { 
+        return label;
+    }
+    
+    @Override 
+    public String getDescription() 
+    { 
+        return description; 
+    }
+
+    @Override 
+    public Set<AttributeInfo> getOwnAttributes()
+    { 
+        return ownAttributes;
+    }
+
+    @Override 
+    public Set<AttributeInfo> getAttributes()
+    {
+        return allAttributes;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByKey()
+    {
+        return allAttributesByKey;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByFieldName()
+    {
+        return allAttributesByFieldName;
+    }
+}
@@ -0,0 +1,409 @@
+
+
+// APT-generated file.
+
+package org.carrot2.dcs;
+
+import java.util.*;
+import javax.annotation.*;
+
+// Imported for JavaDoc references mostly.
+import org.carrot2.util.attribute.*;
+
+/**
+ * Metadata and attributes of the {@link org.carrot2.dcs.DcsRequestModel} component. You can use 
+ * this descriptor to obtain metadata, such as human readable name and description, about the component 
+ * as a whole as well as about its attributes. Using the {@link #attributeBuilder(Map)}
+ * you can obtain a builder for type-safe generation of the attribute maps. Please see the
+ * <a href="{@docRoot}/overview-summary.html#setting-attributes">main overview</a> for a complete code example. 
+ */
+@Generated("Generated from org.carrot2.dcs.DcsRequestModel")
+public final class DcsRequestModelDescriptor implements IBindableDescriptor
+{
+    /**
+     * The component class for which this descriptor was generated. 
+     */
+    public final String bindableClassName = "org.carrot2.dcs.DcsRequestModel";
+
+    /**
+     * Attribute prefix used by the component.
+     */
+    public final String prefix = "";
+
+    /**
+     * A one sentence summary of the component. It could be presented as a header of the tool
+     * tip of the corresponding UI component.
+     */
+    public final String title = "Parameters for DCS request";
+    
+    /**
+     * A short label for the component. It can be presented as a label of the
+     * corresponding UI component.
+     */
+    public final String label = "";
+
+    /**
+     * A longer, possibly multi sentence, description of the component. It could be presented
+     * as a body of the tool tip of the corresponding UI component.
+     */
+    public final String description = "";
+
+    /**
+     * Attributes of the component. Note that only statically reachable fields are included.
+     * Additional attributes may be available at run time. 
+     */
+    public final static Attributes attributes; 
+
+    /**
+     * Attributes declared directly by the component.
+     */
+    private final static Set<AttributeInfo> ownAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses.
+     */
+    private final static Set<AttributeInfo> allAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary 
+     * by attribute key.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByKey;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary by 
+     * attribute's field name.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByFieldName;
+
+    /**
+     * Static initializer for internal collections.
+     */
+    static
+    {
+        attributes = new Attributes();
+
+        final Set<AttributeInfo> ownAttrs = new HashSet<AttributeInfo>();
+        ownAttrs.add(attributes.source);
+        ownAttrs.add(attributes.algorithm);
+        ownAttrs.add(attributes.clustersOnly);
+        ownAttrs.add(attributes.outputFormat);
+        ownAttrs.add(attributes.jsonCallback);
+
+        final Set<AttributeInfo> allAttrs = new HashSet<AttributeInfo>();
+        allAttrs.add(org.carrot2.dcs.DcsRequestModelDescriptor.attributes.source);
+        allAttrs.add(org.carrot2.dcs.DcsRequestModelDescriptor.attributes.algorithm);
+        allAttrs.add(org.carrot2.dcs.DcsRequestModelDescriptor.attributes.clustersOnly);
+        allAttrs.add(org.carrot2.dcs.DcsRequestModelDescriptor.attributes.outputFormat);
+        allAttrs.add(org.carrot2.dcs.DcsRequestModelDescriptor.attributes.jsonCallback);
+
+        allAttributes = Collections.unmodifiableSet(allAttrs);
+        ownAttributes = Collections.unmodifiableSet(ownAttrs);
+        
+        final Map<String, AttributeInfo> allAttrsByKey = new HashMap<String, AttributeInfo>();
+        final Map<String, AttributeInfo> allAttrsByFieldName = new HashMap<String, AttributeInfo>();
+        for (AttributeInfo ai : allAttrs)
+        {
+            allAttrsByKey.put(ai.key, ai);
+            allAttrsByFieldName.put(ai.fieldName, ai);
+        }
+
+        allAttributesByKey = Collections.unmodifiableMap(allAttrsByKey);
+        allAttributesByFieldName = Collections.unmodifiableMap(allAttrsByFieldName);
+    }
+
+    
+    /* Attribute keys. */
+
+    /**
+     * Constants for all attribute keys of the {@link org.carrot2.dcs.DcsRequestModel} component.
+     */
+    public static class Keys 
+    {
+        protected Keys() {} 
+
+        /** Attribute key for: {@link org.carrot2.dcs.DcsRequestModel#source}. */
+        public static final String SOURCE = "dcs.source";
+        /** Attribute key for: {@link org.carrot2.dcs.DcsRequestModel#algorithm}. */
+        public static final String ALGORITHM = "dcs.algorithm";
+        /** Attribute key for: {@link org.carrot2.dcs.DcsRequestModel#clustersOnly}. */
+        public static final String CLUSTERS_ONLY = "dcs.clusters.only";
+        /** Attribute key for: {@link org.carrot2.dcs.DcsRequestModel#outputFormat}. */
+        public static final String OUTPUT_FORMAT = "dcs.output.format";
+        /** Attribute key for: {@link org.carrot2.dcs.DcsRequestModel#jsonCallback}. */
+        public static final String JSON_CALLBACK = "dcs.json.callback";
+    }
+
+
+    /* Attribute descriptors. */
+
+    /**
+     * All attributes of the {@link org.carrot2.dcs.DcsRequestModel} component.
+     */
+    public static final class Attributes
+    {
+        private Attributes() { /* No public instances. */ }
+
+        /**
+         *          */
+        public final AttributeInfo source = 
+            new AttributeInfo(
+                "dcs.source",
+                "org.carrot2.dcs.DcsRequestModel",
+                "source",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo algorithm = 
+            new AttributeInfo(
+                "dcs.algorithm",
+                "org.carrot2.dcs.DcsRequestModel",
+                "algorithm",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo clustersOnly = 
+            new AttributeInfo(
+                "dcs.clusters.only",
+                "org.carrot2.dcs.DcsRequestModel",
+                "clustersOnly",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo outputFormat = 
+            new AttributeInfo(
+                "dcs.output.format",
+                "org.carrot2.dcs.DcsRequestModel",
+                "outputFormat",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo jsonCallback = 
+            new AttributeInfo(
+                "dcs.json.callback",
+                "org.carrot2.dcs.DcsRequestModel",
+                "jsonCallback",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+
+    }
+
+    /**
+     * Attribute map builder for the  {@link org.carrot2.dcs.DcsRequestModel} component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     */
+    public static class AttributeBuilder 
+    {
+        /** The attribute map populated by this builder. */
+        public final Map<String, Object> map;
+
+        /**
+         * Creates a builder backed by the provided map.
+         */
+        protected AttributeBuilder(Map<String, Object> map)
+        {
+            
+            this.map = map;
+        }
+
+
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.dcs.DcsRequestModel#source 
+         */
+        public AttributeBuilder source(java.lang.String value)
+        {
+            map.put("dcs.source", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.dcs.DcsRequestModel#algorithm 
+         */
+        public AttributeBuilder algorithm(java.lang.String value)
+        {
+            map.put("dcs.algorithm", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.dcs.DcsRequestModel#clustersOnly 
+         */
+        public AttributeBuilder clustersOnly(boolean value)
+        {
+            map.put("dcs.clusters.only", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.dcs.DcsRequestModel#outputFormat 
+         */
+        public AttributeBuilder outputFormat(org.carrot2.dcs.DcsRequestModel.OutputFormat value)
+        {
+            map.put("dcs.output.format", value);
+            return this;
+        }
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.dcs.DcsRequestModel#outputFormat
+         */
+        public AttributeBuilder outputFormat(Class<? extends org.carrot2.dcs.DcsRequestModel.OutputFormat> clazz)
+        {
+            map.put("dcs.output.format", clazz);
+            return this;
+        }
+        
+        
+        
+        
+        
+        /**
+         * 
+         * 
+         * @see org.carrot2.dcs.DcsRequestModel#jsonCallback 
+         */
+        public AttributeBuilder jsonCallback(java.lang.String value)
+        {
+            map.put("dcs.json.callback", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+    }
+
+    /**
+     * Creates an attribute map builder for the component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     * 
+     * @param attributeValues An existing map which should be used to collect attribute values. 
+     *        Attribute values set by this builder will be added to the provided map, overwriting
+     *        previously defined mappings, if any.
+     */
+    public static AttributeBuilder attributeBuilder(Map<String, Object> attributeValues)
+    {
+        return new AttributeBuilder(attributeValues);
+    }
+    
+    /* IBindableDescriptor */
+
+    @Override 
+    public String getPrefix()
+    {
+        return prefix;
+    }
+
+    @Override 
+    public String getTitle()
+    {
+        return title;
+    }
+    
+    @Override 
+    public String getLabel()      
+    { 
+        return label;
+    }
+    
+    @Override 
+    public String getDescription() 
+    { 
+        return description; 
+    }
+
+    @Override 
+    public Set<AttributeInfo> getOwnAttributes()
+    { 
+        return ownAttributes;
+    }
+
+    @Override 
+    public Set<AttributeInfo> getAttributes()
+    {
+        return allAttributes;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByKey()
+    {
+        return allAttributesByKey;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByFieldName()
+    {
+        return allAttributesByFieldName;
+    }
+}
@@ -0,0 +1,291 @@
+
+
+// APT-generated file.
+
+package org.carrot2.text.preprocessing;
+
+import java.util.*;
+import javax.annotation.*;
+
+// Imported for JavaDoc references mostly.
+import org.carrot2.util.attribute.*;
+
+/**
+ * Metadata and attributes of the {@link org.carrot2.text.preprocessing.CaseNormalizer} component. You can use 
+ * this descriptor to obtain metadata, such as human readable name and description, about the component 
+ * as a whole as well as about its attributes. Using the {@link #attributeBuilder(Map)}
+ * you can obtain a builder for type-safe generation of the attribute maps. Please see the
+ * <a href="{@docRoot}/overview-summary.html#setting-attributes">main overview</a> for a complete code example. 
+ */
+@Generated("Generated from org.carrot2.text.preprocessing.CaseNormalizer")
+public final class CaseNormalizerDescriptor implements IBindableDescriptor
+{
+    /**
+     * The component class for which this descriptor was generated. 
+     */
+    public final String bindableClassName = "org.carrot2.text.preprocessing.CaseNormalizer";
+
+    /**
+     * Attribute prefix used by the component.
+     */
+    public final String prefix = "CaseNormalizer";
+
+    /**
+     * A one sentence summary of the component. It could be presented as a header of the tool
+     * tip of the corresponding UI component.
+     */
+    public final String title = "Performs case normalization and calculates a number of frequency statistics for words";
+    
+    /**
+     * A short label for the component. It can be presented as a label of the
+     * corresponding UI component.
+     */
+    public final String label = "";
+
+    /**
+     * A longer, possibly multi sentence, description of the component. It could be presented
+     * as a body of the tool tip of the corresponding UI component.
+     */
+    public final String description = "The aim of case normalization is to find the most frequently appearing variants of words in terms of case. For example, if in the input documents <i>MacOS</i> appears 20 times, <i>Macos</i> 5 times and <i>macos</i> 2 times, case normalizer will select <i>MacOS</i> to represent all variants and assign the aggregated term frequency of 27 to it. <p> This class saves the following results to the <code>PreprocessingContext</code>: <ul> <li><code>AllTokens.wordIndex</code></li> <li><code>AllWords.image</code></li> <li><code>AllWords.tf</code></li> <li><code>AllWords.tfByDocument</code></li> </ul> <p> This class requires that <code>Tokenizer</code> be invoked first.";
+
+    /**
+     * Attributes of the component. Note that only statically reachable fields are included.
+     * Additional attributes may be available at run time. 
+     */
+    public final static Attributes attributes; 
+
+    /**
+     * Attributes declared directly by the component.
+     */
+    private final static Set<AttributeInfo> ownAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses.
+     */
+    private final static Set<AttributeInfo> allAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary 
+     * by attribute key.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByKey;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary by 
+     * attribute's field name.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByFieldName;
+
+    /**
+     * Static initializer for internal collections.
+     */
+    static
+    {
+        attributes = new Attributes();
+
+        final Set<AttributeInfo> ownAttrs = new HashSet<AttributeInfo>();
+        ownAttrs.add(attributes.dfThreshold);
+        ownAttrs.add(attributes.hashGrouping);
+
+        final Set<AttributeInfo> allAttrs = new HashSet<AttributeInfo>();
+        allAttrs.add(org.carrot2.text.preprocessing.CaseNormalizerDescriptor.attributes.dfThreshold);
+        allAttrs.add(org.carrot2.text.preprocessing.CaseNormalizerDescriptor.attributes.hashGrouping);
+
+        allAttributes = Collections.unmodifiableSet(allAttrs);
+        ownAttributes = Collections.unmodifiableSet(ownAttrs);
+        
+        final Map<String, AttributeInfo> allAttrsByKey = new HashMap<String, AttributeInfo>();
+        final Map<String, AttributeInfo> allAttrsByFieldName = new HashMap<String, AttributeInfo>();
+        for (AttributeInfo ai : allAttrs)
+        {
+            allAttrsByKey.put(ai.key, ai);
+            allAttrsByFieldName.put(ai.fieldName, ai);
+        }
+
+        allAttributesByKey = Collections.unmodifiableMap(allAttrsByKey);
+        allAttributesByFieldName = Collections.unmodifiableMap(allAttrsByFieldName);
+    }
+
+    
+    /* Attribute keys. */
+
+    /**
+     * Constants for all attribute keys of the {@link org.carrot2.text.preprocessing.CaseNormalizer} component.
+     */
+    public static class Keys 
+    {
+        protected Keys() {} 
+
+        /** Attribute key for: {@link org.carrot2.text.preprocessing.CaseNormalizer#dfThreshold}. */
+        public static final String DF_THRESHOLD = "CaseNormalizer.dfThreshold";
+        /** Attribute key for: {@link org.carrot2.text.preprocessing.CaseNormalizer#hashGrouping}. */
+        public static final String HASH_GROUPING = "CaseNormalizer.hashGrouping";
+    }
+
+
+    /* Attribute descriptors. */
+
+    /**
+     * All attributes of the {@link org.carrot2.text.preprocessing.CaseNormalizer} component.
+     */
+    public static final class Attributes
+    {
+        private Attributes() { /* No public instances. */ }
+
+        /**
+         *          */
+        public final AttributeInfo dfThreshold = 
+            new AttributeInfo(
+                "CaseNormalizer.dfThreshold",
+                "org.carrot2.text.preprocessing.CaseNormalizer",
+                "dfThreshold",
+                "Word Document Frequency threshold. Words appearing in fewer than\n<code>dfThreshold</code> documents will be ignored.",
+                "Word Document Frequency threshold",
+                "Word Document Frequency threshold",
+                "Words appearing in fewer than <code>dfThreshold</code> documents will be ignored.",
+                "Preprocessing",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo hashGrouping = 
+            new AttributeInfo(
+                "CaseNormalizer.hashGrouping",
+                "org.carrot2.text.preprocessing.CaseNormalizer",
+                "hashGrouping",
+                "Groups case variants of words using hashing instead of sorting. When this option\nis enabled, case variants are grouped and counted in a single pass over the input\ntokens and only the resulting words are sorted, which is faster for large inputs.\nBoth grouping methods produce identical results.",
+                "Hash-based case normalization",
+                "Groups case variants of words using hashing instead of sorting",
+                "When this option is enabled, case variants are grouped and counted in a single pass over the input tokens and only the resulting words are sorted, which is faster for large inputs. Both grouping methods produce identical results.",
+                "Preprocessing",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+
+    }
+
+    /**
+     * Attribute map builder for the  {@link org.carrot2.text.preprocessing.CaseNormalizer} component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     */
+    public static class AttributeBuilder 
+    {
+        /** The attribute map populated by this builder. */
+        public final Map<String, Object> map;
+
+        /**
+         * Creates a builder backed by the provided map.
+         */
+        protected AttributeBuilder(Map<String, Object> map)
+        {
+            
+            this.map = map;
+        }
+
+
+        
+        
+        /**
+         * Word Document Frequency threshold. Words appearing in fewer than
+<code>dfThreshold</code> documents will be ignored.
+         * 
+         * @see org.carrot2.text.preprocessing.CaseNormalizer#dfThreshold 
+         */
+        public AttributeBuilder dfThreshold(int value)
+        {
+            map.put("CaseNormalizer.dfThreshold", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * Groups case variants of words using hashing instead of sorting. When this option
+is enabled, case variants are grouped and counted in a single pass over the input
+tokens and only the resulting words are sorted, which is faster for large inputs.
+Both grouping methods produce identical results.
+         * 
+         * @see org.carrot2.text.preprocessing.CaseNormalizer#hashGrouping 
+         */
+        public AttributeBuilder hashGrouping(boolean value)
+        {
+            map.put("CaseNormalizer.hashGrouping", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+    }
+
+    /**
+     * Creates an attribute map builder for the component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     * 
+     * @param attributeValues An existing map which should be used to collect attribute values. 
+     *        Attribute values set by this builder will be added to the provided map, overwriting
+     *        previously defined mappings, if any.
+     */
+    public static AttributeBuilder attributeBuilder(Map<String, Object> attributeValues)
+    {
+        return new AttributeBuilder(attributeValues);
+    }
+    
+    /* IBindableDescriptor */
+
+    @Override 
+    public String getPrefix()
+    {
+        return prefix;
+    }
+
+    @Override 
+    public String getTitle()
+    {
+        return title;
+    }
+    
+    @Override 
+    public String getLabel()      
+    { 
+        return label;
+    }
+    
+    @Override 
+    public String getDescription() 
+    { 
+        return description; 
+    }
+
+    @Override 
+    public Set<AttributeInfo> getOwnAttributes()
+    { 
+        return ownAttributes;
+    }
+
+    @Override 
+    public Set<AttributeInfo> getAttributes()
+    {
+        return allAttributes;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByKey()
+    {
+        return allAttributesByKey;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByFieldName()
+    {
+        return allAttributesByFieldName;
+    }
+}
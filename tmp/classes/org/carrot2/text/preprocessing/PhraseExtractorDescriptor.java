@@ -0,0 +1,460 @@
+
+
+// APT-generated file.
+
+package org.carrot2.text.preprocessing;
+
+import java.util.*;
+import javax.annotation.*;
+
+// Imported for JavaDoc references mostly.
+import org.carrot2.util.attribute.*;
+
+/**
+ * Metadata and attributes of the {@link org.carrot2.text.preprocessing.PhraseExtractor} component. You can use 
+ * this descriptor to obtain metadata, such as human readable name and description, about the component 
+ * as a whole as well as about its attributes. Using the {@link #attributeBuilder(Map)}
+ * you can obtain a builder for type-safe generation of the attribute maps. Please see the
+ * <a href="{@docRoot}/overview-summary.html#setting-attributes">main overview</a> for a complete code example. 
+ */
+@Generated("Generated from org.carrot2.text.preprocessing.PhraseExtractor")
+public final class PhraseExtractorDescriptor implements IBindableDescriptor
+{
+    /**
+     * The component class for which this descriptor was generated. 
+     */
+    public final String bindableClassName = "org.carrot2.text.preprocessing.PhraseExtractor";
+
+    /**
+     * Attribute prefix used by the component.
+     */
+    public final String prefix = "PhraseExtractor";
+
+    /**
+     * A one sentence summary of the component. It could be presented as a header of the tool
+     * tip of the corresponding UI component.
+     */
+    public final String title = "Extracts frequent phrases from the provided document";
+    
+    /**
+     * A short label for the component. It can be presented as a label of the
+     * corresponding UI component.
+     */
+    public final String label = "";
+
+    /**
+     * A longer, possibly multi sentence, description of the component. It could be presented
+     * as a body of the tool tip of the corresponding UI component.
+     */
+    public final String description = "A frequent phrase is a sequence of words that appears in the documents more than once. This phrase extractor aggregates different inflection variants of phrase words into one phrase, returning the most frequent variant. For example, if phrase <i>computing science</i> appears 2 times and <i>computer sciences</i> appears 4 times, the latter will be returned with aggregated frequency of 6. <p> This class saves the following results to the <code>PreprocessingContext</code>: <ul> <li><code>AllPhrases.wordIndices</code></li> <li><code>AllPhrases.tf</code></li> <li><code>AllPhrases.tfByDocument</code></li> <li><code>AllTokens.suffixOrder</code></li> <li><code>AllTokens.lcp</code></li> </ul> <p> This class requires that <code>Tokenizer</code>, <code>CaseNormalizer</code> and <code>LanguageModelStemmer</code> be invoked first.";
+
+    /**
+     * Attributes of the component. Note that only statically reachable fields are included.
+     * Additional attributes may be available at run time. 
+     */
+    public final static Attributes attributes; 
+
+    /**
+     * Attributes declared directly by the component.
+     */
+    private final static Set<AttributeInfo> ownAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses.
+     */
+    private final static Set<AttributeInfo> allAttributes;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary 
+     * by attribute key.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByKey;
+
+    /**
+     * Attributes declared by the component or its superclasses, lookup dictionary by 
+     * attribute's field name.
+     */
+    private final static Map<String, AttributeInfo> allAttributesByFieldName;
+
+    /**
+     * Static initializer for internal collections.
+     */
+    static
+    {
+        attributes = new Attributes();
+
+        final Set<AttributeInfo> ownAttrs = new HashSet<AttributeInfo>();
+        ownAttrs.add(attributes.dfThreshold);
+        ownAttrs.add(attributes.minPhraseLength);
+        ownAttrs.add(attributes.maxPhraseLength);
+        ownAttrs.add(attributes.maxPhraseCandidates);
+        ownAttrs.add(attributes.prunedPhraseCandidates);
+        ownAttrs.add(attributes.suffixSorter);
+
+        final Set<AttributeInfo> allAttrs = new HashSet<AttributeInfo>();
+        allAttrs.add(org.carrot2.text.preprocessing.PhraseExtractorDescriptor.attributes.dfThreshold);
+        allAttrs.add(org.carrot2.text.preprocessing.PhraseExtractorDescriptor.attributes.minPhraseLength);
+        allAttrs.add(org.carrot2.text.preprocessing.PhraseExtractorDescriptor.attributes.maxPhraseLength);
+        allAttrs.add(org.carrot2.text.preprocessing.PhraseExtractorDescriptor.attributes.maxPhraseCandidates);
+        allAttrs.add(org.carrot2.text.preprocessing.PhraseExtractorDescriptor.attributes.prunedPhraseCandidates);
+        allAttrs.add(org.carrot2.text.preprocessing.PhraseExtractorDescriptor.attributes.suffixSorter);
+
+        allAttributes = Collections.unmodifiableSet(allAttrs);
+        ownAttributes = Collections.unmodifiableSet(ownAttrs);
+        
+        final Map<String, AttributeInfo> allAttrsByKey = new HashMap<String, AttributeInfo>();
+        final Map<String, AttributeInfo> allAttrsByFieldName = new HashMap<String, AttributeInfo>();
+        for (AttributeInfo ai : allAttrs)
+        {
+            allAttrsByKey.put(ai.key, ai);
+            allAttrsByFieldName.put(ai.fieldName, ai);
+        }
+
+        allAttributesByKey = Collections.unmodifiableMap(allAttrsByKey);
+        allAttributesByFieldName = Collections.unmodifiableMap(allAttrsByFieldName);
+    }
+
+    
+    /* Attribute keys. */
+
+    /**
+     * Constants for all attribute keys of the {@link org.carrot2.text.preprocessing.PhraseExtractor} component.
+     */
+    public static class Keys 
+    {
+        protected Keys() {} 
+
+        /** Attribute key for: {@link org.carrot2.text.preprocessing.PhraseExtractor#dfThreshold}. */
+        public static final String DF_THRESHOLD = "PhraseExtractor.dfThreshold";
+        /** Attribute key for: {@link org.carrot2.text.preprocessing.PhraseExtractor#minPhraseLength}. */
+        public static final String MIN_PHRASE_LENGTH = "PhraseExtractor.minPhraseLength";
+        /** Attribute key for: {@link org.carrot2.text.preprocessing.PhraseExtractor#maxPhraseLength}. */
+        public static final String MAX_PHRASE_LENGTH = "PhraseExtractor.maxPhraseLength";
+        /** Attribute key for: {@link org.carrot2.text.preprocessing.PhraseExtractor#maxPhraseCandidates}. */
+        public static final String MAX_PHRASE_CANDIDATES = "PhraseExtractor.maxPhraseCandidates";
+        /** Attribute key for: {@link org.carrot2.text.preprocessing.PhraseExtractor#prunedPhraseCandidates}. */
+        public static final String PRUNED_PHRASE_CANDIDATES = "PhraseExtractor.prunedPhraseCandidates";
+        /** Attribute key for: {@link org.carrot2.text.preprocessing.PhraseExtractor#suffixSorter}. */
+        public static final String SUFFIX_SORTER = "PhraseExtractor.suffixSorter";
+    }
+
+
+    /* Attribute descriptors. */
+
+    /**
+     * All attributes of the {@link org.carrot2.text.preprocessing.PhraseExtractor} component.
+     */
+    public static final class Attributes
+    {
+        private Attributes() { /* No public instances. */ }
+
+        /**
+         *          */
+        public final AttributeInfo dfThreshold = 
+            new AttributeInfo(
+                "PhraseExtractor.dfThreshold",
+                "org.carrot2.text.preprocessing.PhraseExtractor",
+                "dfThreshold",
+                "Phrase Document Frequency threshold. Phrases appearing in fewer than\n<code>dfThreshold</code> documents will be ignored.",
+                "Phrase Document Frequency threshold",
+                "Phrase Document Frequency threshold",
+                "Phrases appearing in fewer than <code>dfThreshold</code> documents will be ignored.",
+                "Phrase extraction",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo minPhraseLength = 
+            new AttributeInfo(
+                "PhraseExtractor.minPhraseLength",
+                "org.carrot2.text.preprocessing.PhraseExtractor",
+                "minPhraseLength",
+                "Minimum phrase length. Phrases with fewer words will be ignored.",
+                "Minimum phrase length",
+                "Minimum phrase length",
+                "Phrases with fewer words will be ignored.",
+                "Phrase extraction",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo maxPhraseLength = 
+            new AttributeInfo(
+                "PhraseExtractor.maxPhraseLength",
+                "org.carrot2.text.preprocessing.PhraseExtractor",
+                "maxPhraseLength",
+                "Maximum phrase length. Phrases with more words will be ignored. The cost of phrase\nextraction grows linearly with the difference between the maximum and minimum\nphrase length.",
+                "Maximum phrase length",
+                "Maximum phrase length",
+                "Phrases with more words will be ignored. The cost of phrase extraction grows linearly with the difference between the maximum and minimum phrase length.",
+                "Phrase extraction",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo maxPhraseCandidates = 
+            new AttributeInfo(
+                "PhraseExtractor.maxPhraseCandidates",
+                "org.carrot2.text.preprocessing.PhraseExtractor",
+                "maxPhraseCandidates",
+                "Maximum number of phrase candidates. If more candidates are discovered, the\nDocument Frequency threshold is raised until the number of candidates drops\nbelow this limit. This bounds the time and memory required by phrase extraction\nfor long repetitive documents.",
+                "Maximum number of phrase candidates",
+                "Maximum number of phrase candidates",
+                "If more candidates are discovered, the Document Frequency threshold is raised until the number of candidates drops below this limit. This bounds the time and memory required by phrase extraction for long repetitive documents.",
+                "Phrase extraction",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo prunedPhraseCandidates = 
+            new AttributeInfo(
+                "PhraseExtractor.prunedPhraseCandidates",
+                "org.carrot2.text.preprocessing.PhraseExtractor",
+                "prunedPhraseCandidates",
+                "Number of phrase candidates pruned because of the {@link org.carrot2.text.preprocessing.PhraseExtractor#maxPhraseCandidates}\nlimit.",
+                "Pruned phrase candidates",
+                "Number of phrase candidates pruned because of the <code>org.carrot2.text.preprocessing.PhraseExtractor.maxPhraseCandidates</code> limit",
+                null,
+                "Phrase extraction",
+                null,
+                null
+            );
+
+        /**
+         *          */
+        public final AttributeInfo suffixSorter = 
+            new AttributeInfo(
+                "PhraseExtractor.suffixSorter",
+                "org.carrot2.text.preprocessing.PhraseExtractor",
+                "suffixSorter",
+                "Suffix sorting algorithm. The algorithm used to build the suffix array and the\nLongest Common Prefix array from which frequent phrases are discovered.\n{@link SaisSuffixSorter} runs in linear time,\n{@link SuffixSorter} compares suffixes token by token and may be slow for large\ninputs with many repeated phrases.",
+                "Suffix sorting algorithm",
+                "Suffix sorting algorithm",
+                "The algorithm used to build the suffix array and the Longest Common Prefix array from which frequent phrases are discovered. <code>SaisSuffixSorter</code> runs in linear time, <code>SuffixSorter</code> compares suffixes token by token and may be slow for large inputs with many repeated phrases.",
+                "Phrase extraction",
+                org.carrot2.util.attribute.AttributeLevel.ADVANCED,
+                null
+            );
+
+
+    }
+
+    /**
+     * Attribute map builder for the  {@link org.carrot2.text.preprocessing.PhraseExtractor} component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     */
+    public static class AttributeBuilder 
+    {
+        /** The attribute map populated by this builder. */
+        public final Map<String, Object> map;
+
+        /**
+         * Creates a builder backed by the provided map.
+         */
+        protected AttributeBuilder(Map<String, Object> map)
+        {
+            
+            this.map = map;
+        }
+
+
+        
+        
+        /**
+         * Phrase Document Frequency threshold. Phrases appearing in fewer than
+<code>dfThreshold</code> documents will be ignored.
+         * 
+         * @see org.carrot2.text.preprocessing.PhraseExtractor#dfThreshold 
+         */
+        public AttributeBuilder dfThreshold(int value)
+        {
+            map.put("PhraseExtractor.dfThreshold", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * Minimum phrase length. Phrases with fewer words will be ignored.
+         * 
+         * @see org.carrot2.text.preprocessing.PhraseExtractor#minPhraseLength 
+         */
+        public AttributeBuilder minPhraseLength(int value)
+        {
+            map.put("PhraseExtractor.minPhraseLength", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * Maximum phrase length. Phrases with more words will be ignored. The cost of phrase
+extraction grows linearly with the difference between the maximum and minimum
+phrase length.
+         * 
+         * @see org.carrot2.text.preprocessing.PhraseExtractor#maxPhraseLength 
+         */
+        public AttributeBuilder maxPhraseLength(int value)
+        {
+            map.put("PhraseExtractor.maxPhraseLength", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * Maximum number of phrase candidates. If more candidates are discovered, the
+Document Frequency threshold is raised until the number of candidates drops
+below this limit. This bounds the time and memory required by phrase extraction
+for long repetitive documents.
+         * 
+         * @see org.carrot2.text.preprocessing.PhraseExtractor#maxPhraseCandidates 
+         */
+        public AttributeBuilder maxPhraseCandidates(int value)
+        {
+            map.put("PhraseExtractor.maxPhraseCandidates", value);
+            return this;
+        }
+        
+        
+        
+        
+        
+        
+        
+        
+        
+        
+        
+        /**
+         * Number of phrase candidates pruned because of the {@link org.carrot2.text.preprocessing.PhraseExtractor#maxPhraseCandidates}
+limit.
+         * 
+         * @see org.carrot2.text.preprocessing.PhraseExtractor#prunedPhraseCandidates 
+         */
+        public int prunedPhraseCandidates()
+        {
+            return (java.lang.Integer) map.get("PhraseExtractor.prunedPhraseCandidates");
+        }
+        
+        
+        
+        /**
+         * Suffix sorting algorithm. The algorithm used to build the suffix array and the
+Longest Common Prefix array from which frequent phrases are discovered.
+{@link SaisSuffixSorter} runs in linear time,
+{@link SuffixSorter} compares suffixes token by token and may be slow for large
+inputs with many repeated phrases.
+         * 
+         * @see org.carrot2.text.preprocessing.PhraseExtractor#suffixSorter 
+         */
+        public AttributeBuilder suffixSorter(org.carrot2.text.preprocessing.ISuffixSorter value)
+        {
+            map.put("PhraseExtractor.suffixSorter", value);
+            return this;
+        }
+        
+        
+        
+        /**
+         * Suffix sorting algorithm. The algorithm used to build the suffix array and the
+Longest Common Prefix array from which frequent phrases are discovered.
+{@link SaisSuffixSorter} runs in linear time,
+{@link SuffixSorter} compares suffixes token by token and may be slow for large
+inputs with many repeated phrases.
+         * 
+         * @see org.carrot2.text.preprocessing.PhraseExtractor#suffixSorter
+         */
+        public AttributeBuilder suffixSorter(Class<? extends org.carrot2.text.preprocessing.ISuffixSorter> clazz)
+        {
+            map.put("PhraseExtractor.suffixSorter", clazz);
+            return this;
+        }
+        
+        
+        
+    }
+
+    /**
+     * Creates an attribute map builder for the component. You can use this
+     * builder as a type-safe alternative to populating the attribute map using attribute keys.
+     * 
+     * @param attributeValues An existing map which should be used to collect attribute values. 
+     *        Attribute values set by this builder will be added to the provided map, overwriting
+     *        previously defined mappings, if any.
+     */
+    public static AttributeBuilder attributeBuilder(Map<String, Object> attributeValues)
+    {
+        return new AttributeBuilder(attributeValues);
+    }
+    
+    /* IBindableDescriptor */
+
+    @Override 
+    public String getPrefix()
+    {
+        return prefix;
+    }
+
+    @Override 
+    public String getTitle()
+    {
+        return title;
+    }
+    
+    @Override 
+    public String getLabel()      
+    { 
+        return label;
+    }
+    
+    @Override 
+    public String getDescription() 
+    { 
+        return description; 
+    }
+
+    @Override 
+    public Set<AttributeInfo> getOwnAttributes()
+    { 
+        return ownAttributes;
+    }
+
+    @Override 
+    public Set<AttributeInfo> getAttributes()
+    {
+        return allAttributes;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByKey()
+    {
+        return allAttributesByKey;
+    }
+
+    @Override 
+    public Map<String, AttributeInfo> getAttributesByFieldName()
+    {
+        return allAttributesByFieldName;
+    }
+}